@@ -0,0 +1,53 @@
+package com.stockmate.parts.api.analytics.controller;
+
+import com.stockmate.parts.api.analytics.dto.InventoryRollupResponseDto;
+import com.stockmate.parts.api.analytics.dto.PartShortageRowDto;
+import com.stockmate.parts.api.analytics.dto.StoreShortageRowDto;
+import com.stockmate.parts.api.analytics.service.InventorySnapshotService;
+import com.stockmate.parts.common.response.ApiResponse;
+import com.stockmate.parts.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Analytics", description = "본사 전 가맹점 재고 분석 API 입니다.")
+@RestController
+@RequestMapping("/api/v1/parts/analytics")
+@RequiredArgsConstructor
+public class InventoryAnalyticsController {
+
+    private final InventorySnapshotService inventorySnapshotService;
+
+    @Operation(summary = "부품별 부족 가맹점 집계", description = "재고 스냅샷 기준으로 부족 재고 가맹점 수가 많은 부품을 조회합니다.")
+    @GetMapping("/part-shortage")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<InventoryRollupResponseDto<PartShortageRowDto>>> getPartShortages(
+            @RequestParam(defaultValue = "1") int minShortStores,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        var data = inventorySnapshotService.getPartShortages(minShortStores, limit);
+        return ApiResponse.success(SuccessStatus.ANALYTICS_PART_SHORTAGE_SUCCESS, data);
+    }
+
+    @Operation(summary = "가맹점별 부족 부품 집계", description = "재고 스냅샷 기준으로 부족 부품 수가 많은 가맹점을 조회합니다.")
+    @GetMapping("/store-shortage")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<InventoryRollupResponseDto<StoreShortageRowDto>>> getStoreShortages(
+            @RequestParam(defaultValue = "1") int minShortParts,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        var data = inventorySnapshotService.getStoreShortages(minShortParts, limit);
+        return ApiResponse.success(SuccessStatus.ANALYTICS_STORE_SHORTAGE_SUCCESS, data);
+    }
+
+    @Operation(summary = "재고 스냅샷 수동 갱신")
+    @PostMapping("/snapshot/refresh")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> refreshSnapshot() {
+        inventorySnapshotService.refreshSnapshot();
+        return ApiResponse.success_only(SuccessStatus.ANALYTICS_SNAPSHOT_REFRESH_SUCCESS);
+    }
+}
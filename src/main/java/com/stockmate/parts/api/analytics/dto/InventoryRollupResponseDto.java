@@ -0,0 +1,20 @@
+package com.stockmate.parts.api.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryRollupResponseDto<T> {
+    private LocalDateTime snapshotAt; // 스냅샷 생성 시각
+    private int snapshotRows;         // 스냅샷 행 수 (StoreInventory 행 수)
+    private long elapsedMicros;       // 집계 소요 시간 (μs)
+    private List<T> rows;
+}
@@ -0,0 +1,19 @@
+package com.stockmate.parts.api.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartShortageRowDto {
+    private Long partId;
+    private String partName;
+    private Long totalStoreAmount;   // 전 가맹점 보유 수량 합계
+    private Integer storeCount;      // 보유 가맹점 수
+    private Integer shortStoreCount; // 부족 재고 가맹점 수
+    private Long shortageQuantity;   // 부족 수량 합계 (limitAmount - amount)
+}
@@ -0,0 +1,18 @@
+package com.stockmate.parts.api.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreShortageRowDto {
+    private Long userId;            // 가맹점 ID
+    private Integer partCount;      // 보유 부품 종류 수
+    private Long totalAmount;       // 보유 수량 합계
+    private Integer shortPartCount; // 부족 부품 종류 수
+    private Long shortageQuantity;  // 부족 수량 합계 (limitAmount - amount)
+}
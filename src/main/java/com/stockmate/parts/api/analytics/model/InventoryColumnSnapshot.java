@@ -0,0 +1,246 @@
+package com.stockmate.parts.api.analytics.model;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 가맹점 재고 컬럼형 스냅샷
+ *
+ * StoreInventory 행을 (partId, userId, amount, limitAmount) 원시 배열로 복사해 둔 읽기 전용 구조
+ * - partId / userId 는 정렬된 사전(long[])으로 압축하고, 행에는 사전 인덱스(int)만 저장
+ * - 행은 (부품 인덱스, 가맹점 인덱스) 순으로 정렬되어 부품별 구간이 연속 메모리에 위치
+ * - partOffsets[p] ~ partOffsets[p + 1] 구간이 부품 p 의 모든 가맹점 행 (CSR 형식)
+ *
+ * 집계 연산자는 분기 없는 단순 루프로 작성되어 JIT 자동 벡터화 대상이 된다.
+ * 부족 판단 기준은 기존 JPQL 과 동일하게 amount < limitAmount (limitAmount 없음 = 0)
+ */
+public final class InventoryColumnSnapshot {
+
+    private final long[] partIdDictionary;   // 정렬된 고유 부품 ID
+    private final long[] storeIdDictionary;  // 정렬된 고유 가맹점 ID
+    private final int[] partOffsets;         // 부품별 행 구간 시작 오프셋 (길이 = 부품 수 + 1)
+    private final int[] storeIndex;          // 행별 가맹점 사전 인덱스
+    private final int[] amount;              // 행별 현재 수량
+    private final int[] limitAmount;         // 행별 최소 필요 수량
+    private final LocalDateTime snapshotAt;
+
+    private InventoryColumnSnapshot(long[] partIdDictionary, long[] storeIdDictionary, int[] partOffsets,
+                                    int[] storeIndex, int[] amount, int[] limitAmount, LocalDateTime snapshotAt) {
+        this.partIdDictionary = partIdDictionary;
+        this.storeIdDictionary = storeIdDictionary;
+        this.partOffsets = partOffsets;
+        this.storeIndex = storeIndex;
+        this.amount = amount;
+        this.limitAmount = limitAmount;
+        this.snapshotAt = snapshotAt;
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    public int rowCount() {
+        return amount.length;
+    }
+
+    public int partCount() {
+        return partIdDictionary.length;
+    }
+
+    public int storeCount() {
+        return storeIdDictionary.length;
+    }
+
+    public long partIdAt(int partIndex) {
+        return partIdDictionary[partIndex];
+    }
+
+    public long storeIdAt(int storeIndex) {
+        return storeIdDictionary[storeIndex];
+    }
+
+    public LocalDateTime getSnapshotAt() {
+        return snapshotAt;
+    }
+
+    /**
+     * 부품별 집계 (group by part)
+     * 행이 부품 순으로 정렬되어 있으므로 구간별 순차 합산만 수행한다.
+     */
+    public Rollup rollupByPart() {
+        int groups = partIdDictionary.length;
+        long[] totalAmount = new long[groups];
+        int[] rowCount = new int[groups];
+        int[] shortCount = new int[groups];
+        long[] shortageQuantity = new long[groups];
+
+        for (int p = 0; p < groups; p++) {
+            int from = partOffsets[p];
+            int to = partOffsets[p + 1];
+            long total = 0;
+            int shorts = 0;
+            long shortage = 0;
+            for (int i = from; i < to; i++) {
+                int diff = limitAmount[i] - amount[i];
+                int isShort = (-diff) >>> 31;          // amount < limitAmount 이면 1
+                total += amount[i];
+                shorts += isShort;
+                shortage += diff & -isShort;           // 부족할 때만 (limit - amount) 누적
+            }
+            totalAmount[p] = total;
+            rowCount[p] = to - from;
+            shortCount[p] = shorts;
+            shortageQuantity[p] = shortage;
+        }
+        return new Rollup(totalAmount, rowCount, shortCount, shortageQuantity);
+    }
+
+    /**
+     * 가맹점별 집계 (group by store)
+     * 가맹점 인덱스로 누적 배열에 바로 더한다 (해시 조회 없음).
+     */
+    public Rollup rollupByStore() {
+        int groups = storeIdDictionary.length;
+        long[] totalAmount = new long[groups];
+        int[] rowCount = new int[groups];
+        int[] shortCount = new int[groups];
+        long[] shortageQuantity = new long[groups];
+
+        int rows = amount.length;
+        for (int i = 0; i < rows; i++) {
+            int s = storeIndex[i];
+            int diff = limitAmount[i] - amount[i];
+            int isShort = (-diff) >>> 31;
+            totalAmount[s] += amount[i];
+            rowCount[s]++;
+            shortCount[s] += isShort;
+            shortageQuantity[s] += diff & -isShort;
+        }
+        return new Rollup(totalAmount, rowCount, shortCount, shortageQuantity);
+    }
+
+    /**
+     * 그룹별 집계 결과 (인덱스 = 사전 인덱스)
+     * - totalAmount: 수량 합계
+     * - rowCount: 행 수 (부품별이면 보유 가맹점 수, 가맹점별이면 보유 부품 수)
+     * - shortCount: 부족 행 수
+     * - shortageQuantity: 부족 수량 합계 (limitAmount - amount)
+     */
+    public record Rollup(long[] totalAmount, int[] rowCount, int[] shortCount, long[] shortageQuantity) {
+
+        public int size() {
+            return totalAmount.length;
+        }
+
+        /**
+         * 부족 행 수 내림차순(동률이면 부족 수량 내림차순) 상위 그룹 인덱스
+         */
+        public int[] topByShortCount(int minShortCount, int limit) {
+            int n = shortCount.length;
+            int[] candidates = new int[n];
+            int size = 0;
+            for (int g = 0; g < n; g++) {
+                if (shortCount[g] >= minShortCount) {
+                    candidates[size++] = g;
+                }
+            }
+            Integer[] boxed = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                boxed[i] = candidates[i];
+            }
+            Arrays.sort(boxed, (a, b) -> {
+                int cmp = Integer.compare(shortCount[b], shortCount[a]);
+                return cmp != 0 ? cmp : Long.compare(shortageQuantity[b], shortageQuantity[a]);
+            });
+            int resultSize = Math.min(size, Math.max(limit, 0));
+            int[] result = new int[resultSize];
+            for (int i = 0; i < resultSize; i++) {
+                result[i] = boxed[i];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 스냅샷 빌더
+     * DB 조회 결과를 원시 배열에 적재한 뒤 build() 에서 사전 인코딩 + 정렬을 한 번에 수행한다.
+     */
+    public static final class Builder {
+        private long[] partIds;
+        private long[] storeIds;
+        private int[] amounts;
+        private int[] limits;
+        private int size;
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 16);
+            this.partIds = new long[capacity];
+            this.storeIds = new long[capacity];
+            this.amounts = new int[capacity];
+            this.limits = new int[capacity];
+        }
+
+        public Builder add(long partId, long storeId, Integer amount, Integer limitAmount) {
+            if (size == amounts.length) {
+                int capacity = size + (size >> 1);
+                partIds = Arrays.copyOf(partIds, capacity);
+                storeIds = Arrays.copyOf(storeIds, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                limits = Arrays.copyOf(limits, capacity);
+            }
+            partIds[size] = partId;
+            storeIds[size] = storeId;
+            amounts[size] = amount != null ? amount : 0;
+            limits[size] = limitAmount != null ? limitAmount : 0;
+            size++;
+            return this;
+        }
+
+        public InventoryColumnSnapshot build(LocalDateTime snapshotAt) {
+            long[] partDictionary = distinctSorted(partIds, size);
+            long[] storeDictionary = distinctSorted(storeIds, size);
+
+            // 행별 사전 인덱스 인코딩
+            int[] partIndex = new int[size];
+            int[] encodedStore = new int[size];
+            for (int i = 0; i < size; i++) {
+                partIndex[i] = Arrays.binarySearch(partDictionary, partIds[i]);
+                encodedStore[i] = Arrays.binarySearch(storeDictionary, storeIds[i]);
+            }
+
+            // 부품 인덱스 기준 계수 정렬 (안정 정렬이므로 입력 순서 유지)
+            int[] offsets = new int[partDictionary.length + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[partIndex[i] + 1]++;
+            }
+            for (int p = 0; p < partDictionary.length; p++) {
+                offsets[p + 1] += offsets[p];
+            }
+            int[] cursor = Arrays.copyOf(offsets, partDictionary.length);
+            int[] sortedStore = new int[size];
+            int[] sortedAmount = new int[size];
+            int[] sortedLimit = new int[size];
+            for (int i = 0; i < size; i++) {
+                int target = cursor[partIndex[i]]++;
+                sortedStore[target] = encodedStore[i];
+                sortedAmount[target] = amounts[i];
+                sortedLimit[target] = limits[i];
+            }
+
+            return new InventoryColumnSnapshot(partDictionary, storeDictionary, offsets,
+                    sortedStore, sortedAmount, sortedLimit, snapshotAt);
+        }
+
+        private static long[] distinctSorted(long[] values, int size) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
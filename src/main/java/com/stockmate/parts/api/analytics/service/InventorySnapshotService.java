@@ -0,0 +1,170 @@
+package com.stockmate.parts.api.analytics.service;
+
+import com.stockmate.parts.api.analytics.dto.InventoryRollupResponseDto;
+import com.stockmate.parts.api.analytics.dto.PartShortageRowDto;
+import com.stockmate.parts.api.analytics.dto.StoreShortageRowDto;
+import com.stockmate.parts.api.analytics.model.InventoryColumnSnapshot;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.api.parts.repository.StoreRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 본사용 전 가맹점 재고 분석 서비스
+ *
+ * 주기적으로 StoreInventory 를 컬럼형 스냅샷으로 복사해 두고,
+ * 부품별/가맹점별 집계는 MySQL 이 아닌 메모리 스냅샷에서 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventorySnapshotService {
+
+    private final StoreRepository storeRepository;
+    private final PartsRepository partsRepository;
+
+    @Value("${analytics.snapshot.chunk-size:5000}")
+    private int chunkSize; // 스냅샷 적재 시 한 번에 조회할 행 수
+
+    private volatile InventoryColumnSnapshot snapshot;
+
+    /**
+     * 스냅샷 갱신 (주기 실행)
+     * 키셋 페이지네이션으로 필요한 컬럼만 조회하므로 엔티티/영속성 컨텍스트 부담이 없다.
+     */
+    @Scheduled(
+            initialDelayString = "${analytics.snapshot.initial-delay-ms:30000}",
+            fixedDelayString = "${analytics.snapshot.refresh-interval-ms:300000}"
+    )
+    @Transactional(readOnly = true)
+    public synchronized void refreshSnapshot() {
+        long startTime = System.currentTimeMillis();
+        int pageSize = chunkSize > 0 ? chunkSize : 5000;
+        InventoryColumnSnapshot.Builder builder = InventoryColumnSnapshot.builder(pageSize);
+
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = storeRepository.findSnapshotColumns(lastId, PageRequest.of(0, pageSize));
+            for (Object[] row : rows) {
+                builder.add(((Number) row[1]).longValue(), ((Number) row[2]).longValue(),
+                        (Integer) row[3], (Integer) row[4]);
+            }
+            if (rows.size() < pageSize) {
+                break;
+            }
+            lastId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+
+        InventoryColumnSnapshot built = builder.build(LocalDateTime.now());
+        this.snapshot = built;
+
+        log.info("[InventorySnapshotService] 📸 재고 스냅샷 갱신 완료 | rows={}, parts={}, stores={}, elapsed={}ms",
+                built.rowCount(), built.partCount(), built.storeCount(), System.currentTimeMillis() - startTime);
+    }
+
+    // 부품별 부족 가맹점 수 집계 ("어떤 부품이 몇 개 가맹점에서 부족한가")
+    public InventoryRollupResponseDto<PartShortageRowDto> getPartShortages(int minShortStores, int limit) {
+        validateLimit(limit);
+        InventoryColumnSnapshot current = currentSnapshot();
+
+        long startNanos = System.nanoTime();
+        InventoryColumnSnapshot.Rollup rollup = current.rollupByPart();
+        int[] top = rollup.topByShortCount(Math.max(minShortStores, 0), limit);
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+
+        // 상위 결과에 대해서만 부품명 조회
+        List<Long> partIds = new ArrayList<>(top.length);
+        for (int index : top) {
+            partIds.add(current.partIdAt(index));
+        }
+        Map<Long, Parts> partMap = partsRepository.findAllById(partIds).stream()
+                .collect(Collectors.toMap(Parts::getId, Function.identity()));
+
+        List<PartShortageRowDto> rows = new ArrayList<>(top.length);
+        for (int index : top) {
+            long partId = current.partIdAt(index);
+            Parts part = partMap.get(partId);
+            rows.add(PartShortageRowDto.builder()
+                    .partId(partId)
+                    .partName(part == null ? null : (part.getKorName() != null ? part.getKorName() : part.getName()))
+                    .totalStoreAmount(rollup.totalAmount()[index])
+                    .storeCount(rollup.rowCount()[index])
+                    .shortStoreCount(rollup.shortCount()[index])
+                    .shortageQuantity(rollup.shortageQuantity()[index])
+                    .build());
+        }
+
+        log.info("[InventorySnapshotService] 🔍 부품별 부족 집계 | parts={}, result={}, elapsed={}μs",
+                rollup.size(), rows.size(), elapsedMicros);
+
+        return InventoryRollupResponseDto.<PartShortageRowDto>builder()
+                .snapshotAt(current.getSnapshotAt())
+                .snapshotRows(current.rowCount())
+                .elapsedMicros(elapsedMicros)
+                .rows(rows)
+                .build();
+    }
+
+    // 가맹점별 부족 부품 수 집계
+    public InventoryRollupResponseDto<StoreShortageRowDto> getStoreShortages(int minShortParts, int limit) {
+        validateLimit(limit);
+        InventoryColumnSnapshot current = currentSnapshot();
+
+        long startNanos = System.nanoTime();
+        InventoryColumnSnapshot.Rollup rollup = current.rollupByStore();
+        int[] top = rollup.topByShortCount(Math.max(minShortParts, 0), limit);
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+
+        List<StoreShortageRowDto> rows = new ArrayList<>(top.length);
+        for (int index : top) {
+            rows.add(StoreShortageRowDto.builder()
+                    .userId(current.storeIdAt(index))
+                    .partCount(rollup.rowCount()[index])
+                    .totalAmount(rollup.totalAmount()[index])
+                    .shortPartCount(rollup.shortCount()[index])
+                    .shortageQuantity(rollup.shortageQuantity()[index])
+                    .build());
+        }
+
+        log.info("[InventorySnapshotService] 🔍 가맹점별 부족 집계 | stores={}, result={}, elapsed={}μs",
+                rollup.size(), rows.size(), elapsedMicros);
+
+        return InventoryRollupResponseDto.<StoreShortageRowDto>builder()
+                .snapshotAt(current.getSnapshotAt())
+                .snapshotRows(current.rowCount())
+                .elapsedMicros(elapsedMicros)
+                .rows(rows)
+                .build();
+    }
+
+    // 스냅샷이 아직 없으면 (기동 직후) 즉시 생성
+    private InventoryColumnSnapshot currentSnapshot() {
+        InventoryColumnSnapshot current = snapshot;
+        if (current == null) {
+            log.info("[InventorySnapshotService] 스냅샷이 없어 즉시 생성합니다.");
+            refreshSnapshot();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit <= 0 || limit > 1000) {
+            throw new BadRequestException("조회 개수는 1 이상 1000 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.stockmate.parts.api.deadletter.controller;
+
+import com.stockmate.parts.api.deadletter.dto.DeadLetterReplayResponseDto;
+import com.stockmate.parts.api.deadletter.service.DeadLetterReplayService;
+import com.stockmate.parts.common.response.ApiResponse;
+import com.stockmate.parts.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Dead Letter", description = "Kafka DLT 재처리 API 입니다.")
+@RestController
+@RequestMapping("/api/v1/parts/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @Operation(summary = "DLT 메시지 재처리", description = "{topic}-dlt 에 쌓인 메시지를 원래 토픽으로 원본 헤더와 함께 다시 발행합니다. 최대 max 건까지 처리합니다.")
+    @PostMapping("/replay")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<DeadLetterReplayResponseDto>> replay(
+            @RequestParam String topic,
+            @RequestParam(defaultValue = "100") int max
+    ) {
+        var data = deadLetterReplayService.replay(topic, max);
+        return ApiResponse.success(SuccessStatus.DEAD_LETTER_REPLAY_SUCCESS, data);
+    }
+}
@@ -0,0 +1,19 @@
+package com.stockmate.parts.api.deadletter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterReplayResponseDto {
+    private String dltTopic;
+    private Integer replayed;                  // 원래 토픽으로 다시 보낸 건수
+    private Map<String, Integer> targetTopics; // 토픽별 재발행 건수
+    private Boolean remaining;                 // max 에 걸려 아직 남은 메시지가 있을 수 있음
+}
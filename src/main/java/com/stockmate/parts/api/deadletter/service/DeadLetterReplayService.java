@@ -0,0 +1,170 @@
+package com.stockmate.parts.api.deadletter.service;
+
+import com.stockmate.parts.api.deadletter.dto.DeadLetterReplayResponseDto;
+import com.stockmate.parts.common.config.kafka.KafkaConfig;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.InternalServerException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DLT 메시지 재처리
+ *
+ * 전용 컨슈머 그룹으로 DLT 를 읽어 원래 토픽(kafka_dlt-original-topic)으로 원본 바이트/헤더 그대로 다시 보낸다.
+ * 재발행에 성공한 오프셋까지만 커밋하므로 중간에 실패해도 다음 호출에서 이어서 처리된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterReplayService {
+
+    public static final String REPLAY_GROUP_ID = "parts-service-dlt-replay";
+    private static final String RETRY_HEADER_PREFIX = "retry_topic-";
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${parts.kafka.replay.max-records:1000}")
+    private int maxRecordsLimit;
+
+    @Value("${parts.kafka.replay.poll-timeout-ms:2000}")
+    private long pollTimeoutMs;
+
+    @Value("${parts.kafka.replay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public DeadLetterReplayResponseDto replay(String dltTopic, int maxRecords) {
+        if (dltTopic == null || !dltTopic.endsWith(KafkaConfig.DLT_SUFFIX)) {
+            throw new BadRequestException("DLT 토픽 이름은 '" + KafkaConfig.DLT_SUFFIX + "' 로 끝나야 합니다.");
+        }
+        if (maxRecords <= 0 || maxRecords > maxRecordsLimit) {
+            throw new BadRequestException("재처리 건수는 1 이상 " + maxRecordsLimit + " 이하여야 합니다.");
+        }
+        log.info("[DeadLetterReplayService] 🔁 DLT 재처리 시작 | topic={}, max={}", dltTopic, maxRecords);
+
+        int replayed = 0;
+        boolean remaining = false;
+        Map<String, Integer> targetTopics = new TreeMap<>();
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(replayConsumerProperties(maxRecords))) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(dltTopic);
+            if (partitions == null || partitions.isEmpty()) {
+                throw new BadRequestException("존재하지 않는 DLT 토픽입니다. topic=" + dltTopic);
+            }
+            // 그룹 리밸런스 없이 바로 읽도록 직접 할당 (커밋 오프셋 / 없으면 earliest 부터)
+            consumer.assign(partitions.stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList());
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(pollTimeoutMs));
+                if (records.isEmpty()) {
+                    break;
+                }
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                try {
+                    for (ConsumerRecord<String, byte[]> record : records) {
+                        if (replayed >= maxRecords) {
+                            remaining = true;
+                            break;
+                        }
+                        String target = originalTopic(record, dltTopic);
+                        kafkaTemplate.send(new ProducerRecord<>(target, null, record.key(), record.value(),
+                                        replayHeaders(record.headers())))
+                                .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                        offsets.put(new TopicPartition(record.topic(), record.partition()),
+                                new OffsetAndMetadata(record.offset() + 1));
+                        targetTopics.merge(target, 1, Integer::sum);
+                        replayed++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InternalServerException("DLT 재처리가 중단되었습니다.");
+                } catch (Exception e) {
+                    log.error("[DeadLetterReplayService] ❌ DLT 재발행 실패 | topic={}, replayed={}, error={}",
+                            dltTopic, replayed, e.getMessage());
+                    throw new InternalServerException("DLT 재발행 중 오류가 발생했습니다. (" + replayed + "건 처리됨)");
+                } finally {
+                    if (!offsets.isEmpty()) {
+                        consumer.commitSync(offsets);
+                    }
+                }
+            }
+        }
+
+        log.info("[DeadLetterReplayService] ✅ DLT 재처리 완료 | topic={}, replayed={}, targets={}",
+                dltTopic, replayed, targetTopics);
+        return DeadLetterReplayResponseDto.builder()
+                .dltTopic(dltTopic)
+                .replayed(replayed)
+                .targetTopics(targetTopics)
+                .remaining(remaining || replayed == maxRecords)
+                .build();
+    }
+
+    private Map<String, Object> replayConsumerProperties(int maxRecords) {
+        Map<String, Object> props = new HashMap<>(consumerFactory.getConfigurationProperties());
+        props.remove(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, REPLAY_GROUP_ID);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class); // 원본 바이트 그대로 재발행
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(maxRecords, 500));
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
+        return props;
+    }
+
+    // 재시도 토픽을 거쳤으면 kafka_dlt-original-topic 이 여러 개 붙어 있으므로 가장 처음 값을 사용
+    static String originalTopic(ConsumerRecord<String, byte[]> record, String dltTopic) {
+        for (Header header : record.headers().headers(KafkaHeaders.DLT_ORIGINAL_TOPIC)) {
+            if (header.value() != null) {
+                return stripRetrySuffix(new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        return dltTopic.substring(0, dltTopic.length() - KafkaConfig.DLT_SUFFIX.length());
+    }
+
+    private static String stripRetrySuffix(String topic) {
+        int index = topic.lastIndexOf(KafkaConfig.RETRY_TOPIC_SUFFIX);
+        return index > 0 ? topic.substring(0, index) : topic;
+    }
+
+    // 원본 헤더(JSON 타입 정보 등)는 유지하고 DLT / 재시도 진행 헤더만 제거
+    static Headers replayHeaders(Headers source) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : source) {
+            if (header.key().startsWith(KafkaHeaders.PREFIX + "dlt-") || header.key().startsWith(RETRY_HEADER_PREFIX)) {
+                continue;
+            }
+            headers.add(header);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,61 @@
+package com.stockmate.parts.api.ledger.controller;
+
+import com.stockmate.parts.api.ledger.dto.InventoryMovementDto;
+import com.stockmate.parts.api.ledger.dto.LedgerStockResponseDto;
+import com.stockmate.parts.api.ledger.service.InventoryLedgerService;
+import com.stockmate.parts.api.parts.dto.common.PageResponseDto;
+import com.stockmate.parts.common.response.ApiResponse;
+import com.stockmate.parts.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Inventory Ledger", description = "재고 변동 원장 조회 API 입니다.")
+@RestController
+@RequestMapping("/api/v1/parts/ledger")
+@RequiredArgsConstructor
+public class InventoryLedgerController {
+
+    private final InventoryLedgerService inventoryLedgerService;
+
+    @Operation(summary = "시점 재고 조회", description = "storeId=0 은 본사 재고입니다. at 이 없으면 현재 시각 기준으로 원장에서 계산합니다.")
+    @GetMapping("/stock-at")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<LedgerStockResponseDto>> getStockAt(
+            @RequestParam Long storeId,
+            @RequestParam Long partId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        var data = inventoryLedgerService.getStockAt(storeId, partId, at);
+        return ApiResponse.success(SuccessStatus.LEDGER_STOCK_AT_SUCCESS, data);
+    }
+
+    @Operation(summary = "재고 변동 이력 조회", description = "기간을 지정하지 않으면 최근 30일 이력을 조회합니다.")
+    @GetMapping("/movements")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<PageResponseDto<InventoryMovementDto>>> getMovements(
+            @RequestParam Long storeId,
+            @RequestParam Long partId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        var data = inventoryLedgerService.getMovements(storeId, partId, from, to, page, size);
+        return ApiResponse.success(SuccessStatus.LEDGER_MOVEMENTS_SUCCESS, data);
+    }
+
+    @Operation(summary = "원장 스냅샷 수동 생성")
+    @PostMapping("/snapshot")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> takeSnapshot() {
+        inventoryLedgerService.takeSnapshot();
+        return ApiResponse.success_only(SuccessStatus.LEDGER_SNAPSHOT_SUCCESS);
+    }
+}
@@ -0,0 +1,36 @@
+package com.stockmate.parts.api.ledger.dto;
+
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryMovementDto {
+    private Long id;
+    private Long storeId;
+    private Long partId;
+    private MovementType movementType;
+    private Integer delta;
+    private String reference;
+    private LocalDateTime occurredAt;
+
+    public static InventoryMovementDto of(InventoryMovement movement) {
+        return InventoryMovementDto.builder()
+                .id(movement.getId())
+                .storeId(movement.getStoreId())
+                .partId(movement.getPartId())
+                .movementType(movement.getMovementType())
+                .delta(movement.getDelta())
+                .reference(movement.getReference())
+                .occurredAt(movement.getOccurredAt())
+                .build();
+    }
+}
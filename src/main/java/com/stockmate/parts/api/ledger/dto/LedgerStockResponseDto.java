@@ -0,0 +1,21 @@
+package com.stockmate.parts.api.ledger.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerStockResponseDto {
+    private Long storeId;              // 0 = 본사
+    private Long partId;
+    private LocalDateTime at;          // 조회 기준 시각
+    private Integer amount;            // 기준 시각의 재고
+    private LocalDateTime snapshotAt;  // 사용한 스냅샷 시각
+    private Long replayedMovements;    // 스냅샷 이후 반영한 원장 건수
+}
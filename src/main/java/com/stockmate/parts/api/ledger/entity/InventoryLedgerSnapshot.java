@@ -0,0 +1,39 @@
+package com.stockmate.parts.api.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 스냅샷 - lastMovementId 까지의 변동을 반영한 (가맹점, 부품) 수량
+ * 특정 시점 재고 = 그 시점 이전 최신 스냅샷 + 이후 원장 tail 합계
+ */
+@Entity
+@Table(name = "inventory_ledger_snapshot", indexes = {
+        @Index(name = "idx_inventory_ledger_snapshot_key", columnList = "store_id, part_id, snapshot_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryLedgerSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "part_id", nullable = false)
+    private Long partId;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Column(name = "last_movement_id", nullable = false)
+    private Long lastMovementId;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
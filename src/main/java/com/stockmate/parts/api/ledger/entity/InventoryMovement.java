@@ -0,0 +1,46 @@
+package com.stockmate.parts.api.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변동 원장 (append-only)
+ * 행은 InventoryLedgerWriter 가 JdbcTemplate 배치로만 추가하며 수정/삭제하지 않는다.
+ */
+@Entity
+@Table(name = "inventory_movement", indexes = {
+        @Index(name = "idx_inventory_movement_key", columnList = "store_id, part_id, id"),
+        @Index(name = "idx_inventory_movement_occurred", columnList = "occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryMovement {
+    public static final long HQ_STORE_ID = 0L; // 본사 창고 (Parts.amount)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "part_id", nullable = false)
+    private Long partId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private MovementType movementType;
+
+    @Column(nullable = false)
+    private Integer delta; // 증감 수량 (차감/출고는 음수)
+
+    @Column(length = 64)
+    private String reference; // 주문 ID, 확보 토큰 등
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
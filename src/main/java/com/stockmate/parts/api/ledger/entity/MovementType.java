@@ -0,0 +1,8 @@
+package com.stockmate.parts.api.ledger.entity;
+
+public enum MovementType {
+    DEDUCT,   // 본사 재고 차감 (주문 승인/확보 확정)
+    RELEASE,  // 가맹점 출고
+    RECEIVE,  // 가맹점 입고
+    ADJUST    // 수동 보정
+}
@@ -0,0 +1,17 @@
+package com.stockmate.parts.api.ledger.repository;
+
+import com.stockmate.parts.api.ledger.entity.InventoryLedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface InventoryLedgerSnapshotRepository extends JpaRepository<InventoryLedgerSnapshot, Long> {
+
+    // 기준 시각 이전의 가장 최근 스냅샷
+    Optional<InventoryLedgerSnapshot> findFirstByStoreIdAndPartIdAndSnapshotAtLessThanEqualOrderByIdDesc(
+            Long storeId, Long partId, LocalDateTime at);
+
+    // 최초(기준) 스냅샷 - 원장 조회가 가능한 가장 이른 시각
+    Optional<InventoryLedgerSnapshot> findFirstByOrderByIdAsc();
+}
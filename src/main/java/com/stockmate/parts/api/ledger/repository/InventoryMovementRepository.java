@@ -0,0 +1,49 @@
+package com.stockmate.parts.api.ledger.repository;
+
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    // 스냅샷 이후 ~ 기준 시각까지의 증감 합계 (원장 tail replay)
+    @Query("""
+    select coalesce(sum(m.delta), 0)
+    from InventoryMovement m
+    where m.storeId = :storeId
+        and m.partId = :partId
+        and m.id > :afterId
+        and m.occurredAt <= :at
+    """)
+    Long sumDeltaAfter(@Param("storeId") Long storeId, @Param("partId") Long partId,
+                       @Param("afterId") Long afterId, @Param("at") LocalDateTime at);
+
+    @Query("""
+    select count(m)
+    from InventoryMovement m
+    where m.storeId = :storeId
+        and m.partId = :partId
+        and m.id > :afterId
+        and m.occurredAt <= :at
+    """)
+    long countAfter(@Param("storeId") Long storeId, @Param("partId") Long partId,
+                    @Param("afterId") Long afterId, @Param("at") LocalDateTime at);
+
+    // 기간별 변동 이력 (감사용)
+    @Query("""
+    select m
+    from InventoryMovement m
+    where m.storeId = :storeId
+        and m.partId = :partId
+        and m.occurredAt between :from and :to
+    order by m.id desc
+    """)
+    Page<InventoryMovement> findHistory(@Param("storeId") Long storeId, @Param("partId") Long partId,
+                                        @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        Pageable pageable);
+}
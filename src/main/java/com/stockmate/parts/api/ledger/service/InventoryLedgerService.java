@@ -0,0 +1,176 @@
+package com.stockmate.parts.api.ledger.service;
+
+import com.stockmate.parts.api.ledger.dto.InventoryMovementDto;
+import com.stockmate.parts.api.ledger.dto.LedgerStockResponseDto;
+import com.stockmate.parts.api.ledger.entity.InventoryLedgerSnapshot;
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import com.stockmate.parts.api.ledger.repository.InventoryLedgerSnapshotRepository;
+import com.stockmate.parts.api.ledger.repository.InventoryMovementRepository;
+import com.stockmate.parts.api.parts.dto.common.PageResponseDto;
+import com.stockmate.parts.common.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장 조회/스냅샷 서비스
+ *
+ * - 스냅샷: 직전 스냅샷 이후 원장 변동을 (가맹점, 부품) 별로 합산해 변경된 키만 새 스냅샷으로 남긴다.
+ *   워터마크는 발생 시각이 snapshot-lag 이전인 원장 최대 id 다. 원장 행은 재고 변경 트랜잭션의 커밋 직전에 들어가므로
+ *   lag 가 트랜잭션 최대 길이의 두 배 이상이면 워터마크 이하 id 는 모두 커밋(또는 롤백)이 끝나 있다.
+ *   따라서 재고 테이블을 잠그지 않고 워터마크까지의 원장 행만으로 스냅샷을 만든다.
+ *   첫 실행 시에는 현재 테이블 수량에서 워터마크 이후 원장 합계를 빼 기준 스냅샷으로 적재한다. (키별 한 문장 = 같은 읽기 시점)
+ * - 시점 조회: 기준 시각 이전 최신 스냅샷 + 그 이후 원장 tail 합계 (전체 이력을 스캔하지 않음)
+ *   기준 스냅샷 이후 생긴 키는 스냅샷이 없으므로 0 에서 시작해 원장 전체를 합산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerService {
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventoryLedgerSnapshotRepository inventoryLedgerSnapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${parts.ledger.snapshot-lag-seconds:300}")
+    private long snapshotLagSeconds = 300; // 워터마크 안전 지연 (재고 변경 트랜잭션 최대 길이의 2배 이상)
+
+    @Transactional(readOnly = true)
+    public LedgerStockResponseDto getStockAt(Long storeId, Long partId, LocalDateTime at) {
+        if (storeId == null || storeId < 0 || partId == null || partId <= 0) {
+            throw new BadRequestException("가맹점 ID 또는 부품 ID가 유효하지 않습니다.");
+        }
+        LocalDateTime target = at != null ? at : LocalDateTime.now();
+
+        InventoryLedgerSnapshot snapshot = inventoryLedgerSnapshotRepository
+                .findFirstByStoreIdAndPartIdAndSnapshotAtLessThanEqualOrderByIdDesc(storeId, partId, target)
+                .orElse(null);
+        if (snapshot == null) {
+            // 기준 스냅샷 이전 시점은 원장이 없어 계산 불가, 이후라면 기준 스냅샷 뒤에 생긴 키 (0 에서 시작)
+            LocalDateTime ledgerStart = inventoryLedgerSnapshotRepository.findFirstByOrderByIdAsc()
+                    .map(InventoryLedgerSnapshot::getSnapshotAt)
+                    .orElse(null);
+            if (ledgerStart == null || target.isBefore(ledgerStart)) {
+                throw new BadRequestException("해당 시점 이전의 원장 스냅샷이 없습니다.");
+            }
+        }
+        long afterId = snapshot != null ? snapshot.getLastMovementId() : 0L;
+        int baseAmount = snapshot != null ? snapshot.getAmount() : 0;
+
+        Long delta = inventoryMovementRepository.sumDeltaAfter(storeId, partId, afterId, target);
+        long replayed = inventoryMovementRepository.countAfter(storeId, partId, afterId, target);
+        int amount = baseAmount + (delta != null ? delta.intValue() : 0);
+
+        log.info("[InventoryLedgerService] 🔍 시점 재고 조회 | storeId={}, partId={}, at={}, amount={}, replayed={}",
+                storeId, partId, target, amount, replayed);
+
+        return LedgerStockResponseDto.builder()
+                .storeId(storeId)
+                .partId(partId)
+                .at(target)
+                .amount(amount)
+                .snapshotAt(snapshot != null ? snapshot.getSnapshotAt() : null)
+                .replayedMovements(replayed)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponseDto<InventoryMovementDto> getMovements(Long storeId, Long partId,
+                                                              LocalDateTime from, LocalDateTime to,
+                                                              int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new BadRequestException("페이지 번호나 사이즈가 유효하지 않습니다.");
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("조회 시작 시각이 종료 시각보다 늦습니다.");
+        }
+        var result = inventoryMovementRepository.findHistory(storeId, partId, start, end, PageRequest.of(page, size))
+                .map(InventoryMovementDto::of);
+        return PageResponseDto.from(result);
+    }
+
+    /**
+     * 원장 스냅샷 생성 (주기 실행)
+     * READ_COMMITTED: INSERT ... SELECT 가 원본(재고/원장) 행에 공유 잠금을 걸지 않도록 (재고 변경을 막지 않음)
+     */
+    @Scheduled(cron = "${parts.ledger.snapshot-cron:0 0 * * * *}")
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public synchronized void takeSnapshot() {
+        long startTime = System.currentTimeMillis();
+        // 스냅샷 시각 = 워터마크 기준 시각 (이 시각 이전에 발생한 원장까지 반영)
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(snapshotLagSeconds);
+
+        Long watermark = jdbcTemplate.queryForObject(
+                "select max(last_movement_id) from inventory_ledger_snapshot", Long.class);
+        long lastWatermark = watermark != null ? watermark : 0L;
+        Long maxMovementId = jdbcTemplate.queryForObject(
+                "select coalesce(max(id), ?) from inventory_movement where id > ? and occurred_at < ?",
+                Long.class, lastWatermark, lastWatermark, Timestamp.valueOf(cutoff));
+
+        if (watermark == null) {
+            int rows = bootstrap(maxMovementId, cutoff);
+            log.info("[InventoryLedgerService] 📸 기준 스냅샷 적재 | rows={}, lastMovementId={}, elapsed={}ms",
+                    rows, maxMovementId, System.currentTimeMillis() - startTime);
+            return;
+        }
+        if (maxMovementId <= watermark) {
+            return; // 변동 없음
+        }
+
+        // 직전 스냅샷 이후 변동 합계 (변경된 키만) + 키별 최신 스냅샷 수량
+        int rows = jdbcTemplate.update("""
+                insert into inventory_ledger_snapshot (store_id, part_id, amount, last_movement_id, snapshot_at)
+                select d.store_id, d.part_id, coalesce((
+                           select s.amount
+                           from inventory_ledger_snapshot s
+                           where s.store_id = d.store_id and s.part_id = d.part_id
+                           order by s.id desc
+                           limit 1
+                       ), 0) + d.delta, ?, ?
+                from (
+                    select store_id, part_id, sum(delta) as delta
+                    from inventory_movement
+                    where id > ? and id <= ?
+                    group by store_id, part_id
+                ) d
+                """, maxMovementId, Timestamp.valueOf(cutoff), watermark, maxMovementId);
+
+        log.info("[InventoryLedgerService] 📸 원장 스냅샷 생성 | keys={}, movements={}..{}, elapsed={}ms",
+                rows, watermark + 1, maxMovementId, System.currentTimeMillis() - startTime);
+    }
+
+    // 첫 스냅샷: 현재 테이블 수량 - 워터마크 이후 원장 합계 (재고 수량과 원장 행은 같은 커밋이라 한 문장 안에서 일치)
+    private int bootstrap(long lastMovementId, LocalDateTime cutoff) {
+        Timestamp snapshotAt = Timestamp.valueOf(cutoff);
+        int storeRows = jdbcTemplate.update("""
+                insert into inventory_ledger_snapshot (store_id, part_id, amount, last_movement_id, snapshot_at)
+                select si.user_id, si.part_id, si.amount - coalesce((
+                           select sum(m.delta)
+                           from inventory_movement m
+                           where m.store_id = si.user_id and m.part_id = si.part_id and m.id > ?
+                       ), 0), ?, ?
+                from store_inventory si
+                """, lastMovementId, lastMovementId, snapshotAt);
+        int hqRows = jdbcTemplate.update("""
+                insert into inventory_ledger_snapshot (store_id, part_id, amount, last_movement_id, snapshot_at)
+                select ?, p.id, coalesce(p.amount, 0) - coalesce((
+                           select sum(m.delta)
+                           from inventory_movement m
+                           where m.store_id = ? and m.part_id = p.id and m.id > ?
+                       ), 0), ?, ?
+                from parts p
+                """, InventoryMovement.HQ_STORE_ID, InventoryMovement.HQ_STORE_ID, lastMovementId, lastMovementId, snapshotAt);
+        return storeRows + hqRows;
+    }
+}
@@ -0,0 +1,104 @@
+package com.stockmate.parts.api.ledger.service;
+
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 변동 원장 배치 기록기
+ *
+ * 재고 변경 트랜잭션 안에서 모은 변동을 커밋 직전(beforeCommit)에 같은 커넥션으로 JdbcTemplate batch insert 한다.
+ * 원장 행은 재고 변경과 함께 커밋/롤백되므로 재시도/롤백된 시도는 남지 않고, 커밋된 변경은 유실되지 않는다.
+ * 트랜잭션 밖에서 호출되면 즉시 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerWriter {
+
+    private static final String INSERT_SQL = """
+            insert into inventory_movement (store_id, part_id, movement_type, delta, reference, occurred_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void record(MovementType type, long storeId, long partId, int delta, String reference) {
+        if (delta == 0) {
+            return;
+        }
+        PendingMovement movement = new PendingMovement(storeId, partId, type, delta, reference, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentBatch().movements.add(movement);
+        } else {
+            insert(List.of(movement));
+        }
+    }
+
+    // 현재 트랜잭션의 원장 배치 (트랜잭션당 하나, 첫 기록 시 등록)
+    private PendingBatch currentBatch() {
+        PendingBatch batch = (PendingBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new PendingBatch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        return batch;
+    }
+
+    private void insert(List<PendingMovement> movements) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, movements, movements.size(), (ps, m) -> {
+            ps.setLong(1, m.storeId());
+            ps.setLong(2, m.partId());
+            ps.setString(3, m.type().name());
+            ps.setInt(4, m.delta());
+            ps.setString(5, m.reference());
+            ps.setTimestamp(6, Timestamp.valueOf(m.occurredAt()));
+        });
+        if (log.isDebugEnabled()) {
+            log.debug("[InventoryLedgerWriter] 원장 기록 | rows={}", movements.size());
+        }
+    }
+
+    private final class PendingBatch implements TransactionSynchronization {
+        private final List<PendingMovement> movements = new ArrayList<>();
+
+        // 커밋 직전 같은 트랜잭션에서 기록 (실패하면 재고 변경도 함께 롤백)
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!movements.isEmpty()) {
+                insert(movements);
+            }
+        }
+
+        // REQUIRES_NEW 등으로 트랜잭션이 중단/재개되면 배치도 함께 분리
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(InventoryLedgerWriter.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(InventoryLedgerWriter.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InventoryLedgerWriter.this);
+        }
+    }
+
+    private record PendingMovement(long storeId, long partId, MovementType type, int delta,
+                                   String reference, LocalDateTime occurredAt) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Aisle Dynamic Programming (창고 통로 구조 기반 DP 휴리스틱)
+ * 시간복잡도: O(2^C × C² + n²) — C = 피킹이 있는 통로 수 (최대 10, 라인 5 × 윗줄/아랫줄)
+ *
+ * 같은 라인·같은 줄(통로) 안에서는 거리가 |dx| 이므로, 통로 하나는 한쪽 끝에서 들어가 반대쪽 끝으로 나가는
+ * 한 번의 스윕으로 모두 피킹할 수 있다. 통로 방문 순서와 방향을 비트마스크 DP 로 구한 뒤
+ * (부품 수와 무관하게 최대 2^10 × 20 상태), 실제 거리 함수 기준 2-opt / or-opt 로 통로를 넘나드는 개선을 적용한다.
+ *
+ * 최적해를 보장하지 않는 휴리스틱이다. 거리 모델의 라인 이동·블록 내 줄 전환 가산점 때문에 거리가 통로 단위로
+ * 분리되지 않아 Ratliff–Rosenthal 식 통로 그래프 DP 를 그대로 적용할 수 없다. DP 는 "통로당 한 번 스윕" 경로 중에서만
+ * 최적이고, 통로를 나눠 두 번 들어가는 경로가 더 짧은 경우는 국소 개선이 찾는 만큼만 반영된다.
+ */
+@Slf4j
+@Component
+public class AisleDynamicProgrammingAlgorithm implements AnytimePathOptimizationAlgorithm {
+
+    private static final int CORRIDOR_COUNT = Position.LINE_COUNT * 2;
+    private static final int INF = Integer.MAX_VALUE / 4;
+    private static final int MAX_IMPROVE_PASSES = 50;
+
+    @Override
+    public List<Position> findOptimalPath(Position start, Position end, List<Position> locations,
+                                          RouteListener listener) {
+        if (locations == null || locations.isEmpty()) {
+            List<Position> path = List.of(start, end);
+            listener.onImprovement(path, start.manhattanDistance(end));
+            return path;
+        }
+
+        // 1. 통로(라인 × 줄)별로 모아 x 순으로 정렬
+        List<List<Position>> corridors = new ArrayList<>();
+        int[] corridorIndex = new int[CORRIDOR_COUNT];
+        Arrays.fill(corridorIndex, -1);
+        for (Position location : locations) {
+            int corridor = location.getLine() * 2 + location.getY();
+            if (corridorIndex[corridor] < 0) {
+                corridorIndex[corridor] = corridors.size();
+                corridors.add(new ArrayList<>());
+            }
+            corridors.get(corridorIndex[corridor]).add(location);
+        }
+        Comparator<Position> byX = Comparator.comparingInt(Position::getX).thenComparingInt(Position::getOrdinal);
+        corridors.forEach(corridor -> corridor.sort(byX));
+
+        // 2. 통로 방문 순서/방향 DP
+        List<Position> path = sweepCorridors(start, end, corridors);
+        int sweepDistance = totalDistance(path);
+        listener.onImprovement(List.copyOf(path), sweepDistance); // 스윕 결과만으로도 바로 출발 가능
+
+        // 3. 실제 거리 기준 국소 개선 (패스마다 개선 결과 전달)
+        improve(path, listener);
+        if (log.isDebugEnabled()) {
+            log.debug("Aisle DP 완료 - 통로: {}개, 부품 위치: {}개, 스윕 거리: {}, 개선 후: {}",
+                    corridors.size(), locations.size(), sweepDistance, totalDistance(path));
+        }
+        return path;
+    }
+
+    // dp[mask][c * 2 + dir] : mask 통로를 모두 스윕하고 통로 c 를 dir 방향(0 = x 증가, 1 = x 감소)으로 마친 최소 거리
+    private List<Position> sweepCorridors(Position start, Position end, List<List<Position>> corridors) {
+        int k = corridors.size();
+        int states = k * 2;
+        Position[] entry = new Position[states];
+        Position[] exit = new Position[states];
+        int[] span = new int[k];
+        for (int c = 0; c < k; c++) {
+            List<Position> corridor = corridors.get(c);
+            Position low = corridor.get(0);
+            Position high = corridor.get(corridor.size() - 1);
+            entry[c * 2] = low;
+            exit[c * 2] = high;
+            entry[c * 2 + 1] = high;
+            exit[c * 2 + 1] = low;
+            span[c] = high.getX() - low.getX();
+        }
+        int[][] transition = new int[states][states];
+        for (int from = 0; from < states; from++) {
+            for (int to = 0; to < states; to++) {
+                transition[from][to] = exit[from].manhattanDistance(entry[to]);
+            }
+        }
+
+        int full = (1 << k) - 1;
+        int[][] dp = new int[1 << k][states];
+        int[][] parent = new int[1 << k][states];
+        for (int[] row : dp) {
+            Arrays.fill(row, INF);
+        }
+        for (int s = 0; s < states; s++) {
+            dp[1 << (s >> 1)][s] = start.manhattanDistance(entry[s]) + span[s >> 1];
+            parent[1 << (s >> 1)][s] = -1;
+        }
+        for (int mask = 1; mask <= full; mask++) {
+            for (int s = 0; s < states; s++) {
+                int current = dp[mask][s];
+                if (current >= INF || (mask & (1 << (s >> 1))) == 0) continue;
+                for (int next = 0; next < states; next++) {
+                    int bit = 1 << (next >> 1);
+                    if ((mask & bit) != 0) continue;
+                    int candidate = current + transition[s][next] + span[next >> 1];
+                    if (candidate < dp[mask | bit][next]) {
+                        dp[mask | bit][next] = candidate;
+                        parent[mask | bit][next] = s;
+                    }
+                }
+            }
+        }
+
+        int bestState = 0;
+        int best = INF;
+        for (int s = 0; s < states; s++) {
+            int candidate = dp[full][s] + exit[s].manhattanDistance(end);
+            if (candidate < best) {
+                best = candidate;
+                bestState = s;
+            }
+        }
+
+        // 역추적 (통로 순서) → 통로 내 스윕 순서대로 펼치기
+        int[] order = new int[k];
+        int mask = full;
+        for (int i = k - 1, s = bestState; i >= 0; i--) {
+            order[i] = s;
+            int previous = parent[mask][s];
+            mask ^= 1 << (s >> 1);
+            s = previous;
+        }
+        List<Position> path = new ArrayList<>();
+        path.add(start);
+        for (int s : order) {
+            List<Position> corridor = corridors.get(s >> 1);
+            if ((s & 1) == 0) {
+                path.addAll(corridor);
+            } else {
+                for (int i = corridor.size() - 1; i >= 0; i--) {
+                    path.add(corridor.get(i));
+                }
+            }
+        }
+        path.add(end);
+        return path;
+    }
+
+    static void improve(List<Position> path) {
+        improve(path, RouteListener.NONE);
+    }
+
+    // 2-opt(구간 뒤집기) + or-opt(한 지점 재배치)를 더 이상 줄지 않을 때까지 반복 (시작/종료 고정)
+    static void improve(List<Position> path, RouteListener listener) {
+        for (int pass = 0; pass < MAX_IMPROVE_PASSES; pass++) {
+            boolean improved = false;
+            int n = path.size();
+            for (int i = 1; i < n - 2; i++) {
+                for (int j = i + 1; j < n - 1; j++) {
+                    int delta = path.get(i - 1).manhattanDistance(path.get(j))
+                            + path.get(i).manhattanDistance(path.get(j + 1))
+                            - path.get(i - 1).manhattanDistance(path.get(i))
+                            - path.get(j).manhattanDistance(path.get(j + 1));
+                    if (delta < 0) { // 거리 함수가 대칭이라 구간 내부 간선 합은 그대로
+                        Collections.reverse(path.subList(i, j + 1));
+                        improved = true;
+                    }
+                }
+            }
+            for (int i = 1; i < path.size() - 1; i++) {
+                Position node = path.get(i);
+                int removeGain = path.get(i - 1).manhattanDistance(node) + node.manhattanDistance(path.get(i + 1))
+                        - path.get(i - 1).manhattanDistance(path.get(i + 1));
+                int bestInsert = -1;
+                int bestCost = removeGain;
+                for (int j = 1; j < path.size(); j++) {
+                    if (j == i || j == i + 1) continue;
+                    Position before = path.get(j - 1);
+                    Position after = path.get(j);
+                    int cost = before.manhattanDistance(node) + node.manhattanDistance(after) - before.manhattanDistance(after);
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestInsert = j;
+                    }
+                }
+                if (bestInsert > 0) {
+                    path.remove(i);
+                    path.add(bestInsert > i ? bestInsert - 1 : bestInsert, node);
+                    improved = true;
+                }
+            }
+            if (!improved) {
+                return;
+            }
+            listener.onImprovement(List.copyOf(path), totalDistance(path));
+        }
+    }
+
+    private static int totalDistance(List<Position> path) {
+        int distance = 0;
+        for (int i = 0; i < path.size() - 1; i++) {
+            distance += path.get(i).manhattanDistance(path.get(i + 1));
+        }
+        return distance;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Aisle Dynamic Programming";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(2^C × C² + n²), C ≤ 10";
+    }
+
+    @Override
+    public String getAccuracy() {
+        return "휴리스틱 (통로당 한 번 스윕 중 최적 + 국소 개선, 최적해 보장 없음)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "라인·줄 통로 구조를 이용한 DP 로 통로 방문 순서/방향을 정하고 2-opt/or-opt 로 다듬는 휴리스틱 (부품 개수 제한 없음)";
+    }
+}
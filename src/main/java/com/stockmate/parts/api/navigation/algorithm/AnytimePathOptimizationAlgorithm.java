@@ -0,0 +1,44 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+
+import java.util.List;
+
+/**
+ * 중간 결과를 내보내는 경로 최적화 알고리즘 (anytime)
+ *
+ * 처음 만든 경로부터 더 짧은 경로를 찾을 때마다 listener 로 전달한다.
+ * 전달되는 거리는 호출마다 엄격히 줄어들며, 마지막으로 전달된 경로가 반환값과 같다.
+ */
+public interface AnytimePathOptimizationAlgorithm extends PathOptimizationAlgorithm {
+
+    /**
+     * 최적 경로 계산 (개선될 때마다 listener 호출)
+     * @param start 시작 위치 (문)
+     * @param end 종료 위치 (포장대)
+     * @param locations 방문할 위치들
+     * @param listener 개선된 경로 수신자 (계산 스레드에서 호출, 예외를 던지면 계산 중단)
+     * @return 최종 경로 (시작 -> 중간 위치들 -> 종료)
+     */
+    List<Position> findOptimalPath(Position start, Position end, List<Position> locations, RouteListener listener);
+
+    @Override
+    default List<Position> findOptimalPath(Position start, Position end, List<Position> locations) {
+        return findOptimalPath(start, end, locations, RouteListener.NONE);
+    }
+
+    /**
+     * 개선된 경로 수신자
+     */
+    @FunctionalInterface
+    interface RouteListener {
+
+        RouteListener NONE = (path, totalDistance) -> { };
+
+        /**
+         * @param path 개선된 경로 (읽기 전용 복사본)
+         * @param totalDistance 경로 총 거리
+         */
+        void onImprovement(List<Position> path, int totalDistance);
+    }
+}
@@ -2,6 +2,7 @@ package com.stockmate.parts.api.navigation.algorithm;
 
 import com.stockmate.parts.api.navigation.model.Position;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -9,182 +10,363 @@ import java.util.*;
 /**
  * Divide and Conquer Algorithm: Branch and Bound (분기 한정법)
  * 시간복잡도: 최악 O(n!), 평균적으로 훨씬 빠름
- * 정확도: 100% (최적해)
- * 
- * 부품 개수가 15개 이하일 때 권장
+ * 정확도: 100% (시간 예산 내 탐색 완료 시 최적해)
+ *
+ * - 탐색 상태는 호출마다 새로 만드는 Search 에만 두므로 싱글톤 빈을 동시에 호출해도 안전하다.
+ * - 방문 집합은 int 비트마스크, 거리는 미리 계산한 행렬을 사용한다.
+ * - 하한: 현재 위치 → 미방문 최단 간선 + (미방문 ∪ 도착지) 최소 신장 트리 (마스크별 캐시)
+ * - (방문 집합, 현재 위치) 상태를 끝까지 탐색했을 때의 누적 거리를 기억해 더 나쁜 재방문을 잘라낸다.
+ * - MST 캐시와 상태 메모는 크기 고정 int 배열 해시 테이블이며 충돌 시 덮어쓴다 (호출당 메모리 약 1MB 상한).
+ *   덮어쓴 항목은 다시 계산/탐색할 뿐이라 결과의 최적성에는 영향이 없다.
+ * - 노드 예산을 두 배씩 늘리며 반복 탐색(iterative deepening)하고, 시간 예산을 넘기면 현재까지의 최선해를 반환한다.
+ * - 초기 상한 경로와 이후 더 나은 해를 찾을 때마다 listener 로 전달한다.
+ *
+ * 부품 개수가 25개 이하일 때 권장
  */
 @Slf4j
 @Component
-public class BranchAndBoundAlgorithm implements PathOptimizationAlgorithm {
-    
-    private static final int MAX_LOCATIONS = 15; // 성능을 위한 제한
-    
-    private int bestDistance;
-    private List<Position> bestPath;
-    private Position start;
-    private Position end;
-    private List<Position> locations;
-    
+public class BranchAndBoundAlgorithm implements AnytimePathOptimizationAlgorithm {
+
+    private static final int MAX_LOCATIONS = 25; // 비트마스크(int) 및 탐색 시간 제한
+    private static final int MEMO_BITS = 16; // 메모 테이블 크기 2^16 칸 (키+값 int 2개 = 512KB, MST 캐시/상태 메모 각각)
+    private static final int DEADLINE_CHECK_INTERVAL = 1024; // 노드 n개마다 시간 확인
+
+    private final TwoOptAlgorithm twoOptAlgorithm;
+
+    @Value("${navigation.branch-and-bound.time-budget-ms:2000}")
+    private long timeBudgetMs = 2000;
+
+    @Value("${navigation.branch-and-bound.initial-node-budget:50000}")
+    private long initialNodeBudget = 50_000;
+
+    public BranchAndBoundAlgorithm(TwoOptAlgorithm twoOptAlgorithm) {
+        this.twoOptAlgorithm = twoOptAlgorithm;
+    }
+
     @Override
-    public List<Position> findOptimalPath(Position start, Position end, List<Position> locations) {
+    public List<Position> findOptimalPath(Position start, Position end, List<Position> locations,
+                                          RouteListener listener) {
         if (locations == null || locations.isEmpty()) {
-            return List.of(start, end);
+            List<Position> path = List.of(start, end);
+            listener.onImprovement(path, start.manhattanDistance(end));
+            return path;
         }
-        
+
         // 너무 많은 위치는 처리하지 않음 (팩토리얼 복잡도)
         if (locations.size() > MAX_LOCATIONS) {
             log.warn("Branch and Bound: 위치 개수가 {}개로 제한을 초과하여 NN+2-opt로 대체합니다.", locations.size());
             // Fallback to 2-opt
-            TwoOptAlgorithm twoOpt = new TwoOptAlgorithm(new NearestNeighborAlgorithm());
-            return twoOpt.findOptimalPath(start, end, locations);
-        }
-        
-        this.start = start;
-        this.end = end;
-        this.locations = new ArrayList<>(locations);
-        this.bestDistance = Integer.MAX_VALUE;
-        this.bestPath = null;
-        
-        // 상한선 설정 (NN으로 초기 해 구하기)
-        NearestNeighborAlgorithm nn = new NearestNeighborAlgorithm();
-        List<Position> initialPath = nn.findOptimalPath(start, end, locations);
-        this.bestDistance = calculateTotalDistance(initialPath);
-        this.bestPath = initialPath;
-        
-        log.debug("Branch and Bound 초기 상한선: {}", bestDistance);
-        
-        // Branch and Bound 시작
-        List<Position> currentPath = new ArrayList<>();
-        currentPath.add(start);
-        Set<Position> visited = new HashSet<>();
-        
-        branchAndBound(currentPath, visited, 0);
-        
-        log.debug("Branch and Bound 최적 경로 찾기 완료 - 총 거리: {}", bestDistance);
-        return new ArrayList<>(bestPath);
+            List<Position> path = twoOptAlgorithm.findOptimalPath(start, end, locations);
+            listener.onImprovement(List.copyOf(path), calculateTotalDistance(path));
+            return path;
+        }
+
+        List<Position> nodes = new ArrayList<>(locations);
+        Search search = new Search(start, end, nodes, System.nanoTime() + timeBudgetMs * 1_000_000L, listener);
+
+        // 상한선 설정 (NN + 2-opt + 국소 개선으로 초기 해 구하기)
+        List<Position> initialPath = new ArrayList<>(twoOptAlgorithm.findOptimalPath(start, end, nodes));
+        AisleDynamicProgrammingAlgorithm.improve(initialPath);
+        search.setIncumbent(initialPath);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Branch and Bound 초기 상한선: {}", search.bestDistance);
+        }
+
+        // 노드 예산을 늘려 가며 반복 탐색 (상태 메모/최선해는 반복 간 유지)
+        long nodeBudget = Math.max(initialNodeBudget, 1);
+        boolean complete = false;
+        int iterations = 0;
+        while (true) {
+            iterations++;
+            complete = search.run(nodeBudget);
+            if (complete || search.timedOut) {
+                break;
+            }
+            nodeBudget *= 2;
+        }
+
+        if (complete) {
+            if (log.isDebugEnabled()) {
+                log.debug("Branch and Bound 최적 경로 찾기 완료 - 총 거리: {}, 반복: {}, 노드 예산: {}",
+                        search.bestDistance, iterations, nodeBudget);
+            }
+        } else {
+            log.warn("Branch and Bound: 시간 예산 {}ms 초과 (위치 {}개), 현재까지의 최선해를 반환합니다. 거리: {}",
+                    timeBudgetMs, nodes.size(), search.bestDistance);
+        }
+        return search.bestPath();
     }
-    
+
     /**
-     * Branch and Bound 재귀 함수
-     * @param currentPath 현재까지의 경로
-     * @param visited 방문한 위치들
-     * @param currentDistance 현재까지의 거리
+     * 한 번의 호출에서만 쓰는 탐색 상태
+     * 인덱스 0..n-1 은 피킹 위치, n 은 출발지, n+1 은 도착지
      */
-    private void branchAndBound(List<Position> currentPath, Set<Position> visited, int currentDistance) {
-        // 가지치기: 현재 거리가 이미 최선해보다 크면 중단
-        if (currentDistance >= bestDistance) {
-            return;
-        }
-        
-        // 모든 위치를 방문했으면 종료점으로 이동
-        if (visited.size() == locations.size()) {
-            Position last = currentPath.get(currentPath.size() - 1);
-            int totalDistance = currentDistance + last.manhattanDistance(end);
-            
-            if (totalDistance < bestDistance) {
-                bestDistance = totalDistance;
-                bestPath = new ArrayList<>(currentPath);
-                bestPath.add(end);
-                log.debug("Branch and Bound: 더 나은 해 발견 - 거리: {}", bestDistance);
-            }
-            return;
-        }
-        
-        // 하한선 계산 (현재 거리 + 미방문 위치들의 최소 거리 추정)
-        int lowerBound = currentDistance + calculateLowerBound(currentPath.get(currentPath.size() - 1), visited);
-        if (lowerBound >= bestDistance) {
-            return; // 가지치기
-        }
-        
-        // 다음 위치 선택
-        Position current = currentPath.get(currentPath.size() - 1);
-        
-        // 미방문 위치를 거리 순으로 정렬 (더 나은 가지치기를 위해)
-        List<Position> candidates = new ArrayList<>();
-        for (Position location : locations) {
-            if (!visited.contains(location)) {
-                candidates.add(location);
-            }
-        }
-        candidates.sort(Comparator.comparingInt(current::manhattanDistance));
-        
-        // 각 후보 위치 탐색
-        for (Position next : candidates) {
-            currentPath.add(next);
-            visited.add(next);
-            
-            int distance = current.manhattanDistance(next);
-            branchAndBound(currentPath, visited, currentDistance + distance);
-            
-            // 백트래킹
-            currentPath.remove(currentPath.size() - 1);
-            visited.remove(next);
+    private static final class Search {
+
+        private final Position start;
+        private final Position end;
+        private final List<Position> locations;
+        private final int n;
+        private final int startIndex;
+        private final int endIndex;
+        private final int fullMask;
+        private final int[][] dist;
+        private final long deadline;
+        private final RouteListener listener;
+
+        private final IntMemo mstCache = new IntMemo(MEMO_BITS); // 미방문 마스크 → MST 하한
+        private final IntMemo explored = new IntMemo(MEMO_BITS); // (마스크, 현재 위치) → 탐색 완료된 누적 거리
+
+        private final int[] currentOrder;
+        private final int[] primKey;
+        private int[] bestOrder;
+        private int bestDistance = Integer.MAX_VALUE;
+
+        private long visitedNodes;
+        private long nodeBudget;
+        private boolean timedOut;
+
+        private Search(Position start, Position end, List<Position> locations, long deadline, RouteListener listener) {
+            this.start = start;
+            this.end = end;
+            this.locations = locations;
+            this.n = locations.size();
+            this.startIndex = n;
+            this.endIndex = n + 1;
+            this.fullMask = (1 << n) - 1;
+            this.deadline = deadline;
+            this.listener = listener;
+            this.currentOrder = new int[n];
+            this.primKey = new int[n + 2];
+
+            this.dist = new int[n + 2][n + 2];
+            for (int i = 0; i < n + 2; i++) {
+                for (int j = i + 1; j < n + 2; j++) {
+                    int d = node(i).manhattanDistance(node(j));
+                    dist[i][j] = d;
+                    dist[j][i] = d;
+                }
+            }
+        }
+
+        private Position node(int index) {
+            if (index == startIndex) return start;
+            if (index == endIndex) return end;
+            return locations.get(index);
+        }
+
+        // 초기 상한 경로 (start, ..., end) 를 인덱스 순서로 등록
+        private void setIncumbent(List<Position> path) {
+            Map<Position, Deque<Integer>> indexByPosition = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                indexByPosition.computeIfAbsent(locations.get(i), k -> new ArrayDeque<>()).add(i);
+            }
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = indexByPosition.get(path.get(i + 1)).poll();
+            }
+            bestOrder = order;
+            bestDistance = orderDistance(order);
+            listener.onImprovement(Collections.unmodifiableList(bestPath()), bestDistance);
+        }
+
+        private int orderDistance(int[] order) {
+            int total = dist[startIndex][order[0]];
+            for (int i = 1; i < order.length; i++) {
+                total += dist[order[i - 1]][order[i]];
+            }
+            return total + dist[order[order.length - 1]][endIndex];
+        }
+
+        private List<Position> bestPath() {
+            List<Position> path = new ArrayList<>(n + 2);
+            path.add(start);
+            for (int index : bestOrder) {
+                path.add(locations.get(index));
+            }
+            path.add(end);
+            return path;
+        }
+
+        // 주어진 노드 예산으로 한 번 탐색, 끝까지 탐색했으면 true (최적해 보장)
+        private boolean run(long nodeBudget) {
+            this.nodeBudget = nodeBudget;
+            this.visitedNodes = 0;
+            return branchAndBound(0, startIndex, 0, 0);
+        }
+
+        /**
+         * Branch and Bound 재귀 함수
+         * @return 이 상태의 하위 트리를 예산 안에서 모두 탐색했으면 true
+         */
+        private boolean branchAndBound(int depth, int last, int mask, int currentDistance) {
+            // 모든 위치를 방문했으면 종료점으로 이동
+            if (mask == fullMask) {
+                int totalDistance = currentDistance + dist[last][endIndex];
+                if (totalDistance < bestDistance) {
+                    bestDistance = totalDistance;
+                    bestOrder = currentOrder.clone();
+                    listener.onImprovement(Collections.unmodifiableList(bestPath()), bestDistance);
+                }
+                return true;
+            }
+
+            if (++visitedNodes > nodeBudget) {
+                return false;
+            }
+            if (visitedNodes % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                timedOut = true;
+                return false;
+            }
+
+            // 같은 상태를 더 짧거나 같은 거리로 이미 끝까지 탐색했으면 중단
+            int stateKey = (mask << 5) | last; // 마스크 25비트 + 위치 5비트
+            int exploredDistance = explored.get(stateKey);
+            if (exploredDistance != IntMemo.MISSING && exploredDistance <= currentDistance) {
+                return true;
+            }
+
+            // 가지치기: 하한이 최선해 이상이면 중단
+            if (currentDistance + lowerBound(last, mask) >= bestDistance) {
+                return true;
+            }
+
+            // 미방문 위치를 거리 순으로 정렬 (더 나은 가지치기를 위해, n ≤ 25 이므로 삽입 정렬)
+            int[] candidates = new int[n - Integer.bitCount(mask)];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if ((mask & (1 << i)) != 0) continue;
+                int j = count++;
+                while (j > 0 && dist[last][candidates[j - 1]] > dist[last][i]) {
+                    candidates[j] = candidates[j - 1];
+                    j--;
+                }
+                candidates[j] = i;
+            }
+
+            for (int next : candidates) {
+                currentOrder[depth] = next;
+                if (!branchAndBound(depth + 1, next, mask | (1 << next), currentDistance + dist[last][next])) {
+                    return false; // 예산 소진 → 상태를 완료로 기록하지 않고 되돌아감
+                }
+            }
+
+            explored.put(stateKey, currentDistance);
+            return true;
+        }
+
+        /**
+         * 남은 경로 길이의 하한
+         * 남은 경로 = (현재 → 첫 미방문) + (미방문 전체를 지나 도착지로 가는 경로) 이고,
+         * 뒤쪽 경로는 (미방문 ∪ 도착지) 의 신장 트리이므로 MST 이상이다.
+         */
+        private int lowerBound(int last, int mask) {
+            int minEdge = Integer.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                if ((mask & (1 << i)) == 0) {
+                    minEdge = Math.min(minEdge, dist[last][i]);
+                }
+            }
+            int mst = mstCache.get(mask);
+            if (mst == IntMemo.MISSING) {
+                mst = minimumSpanningTree(mask);
+                mstCache.put(mask, mst);
+            }
+            return minEdge + mst;
+        }
+
+        // 미방문 위치와 도착지로 이루어진 완전 그래프의 MST 가중치 (Prim, O(k²))
+        private int minimumSpanningTree(int mask) {
+            int unvisited = ~mask & fullMask;
+            Arrays.fill(primKey, Integer.MAX_VALUE);
+            int current = endIndex;
+            int total = 0;
+            while (unvisited != 0) {
+                int nextNode = -1;
+                int nextKey = Integer.MAX_VALUE;
+                for (int rest = unvisited; rest != 0; rest &= rest - 1) {
+                    int i = Integer.numberOfTrailingZeros(rest);
+                    if (dist[current][i] < primKey[i]) {
+                        primKey[i] = dist[current][i];
+                    }
+                    if (primKey[i] < nextKey) {
+                        nextKey = primKey[i];
+                        nextNode = i;
+                    }
+                }
+                total += nextKey;
+                unvisited &= ~(1 << nextNode);
+                current = nextNode;
+            }
+            return total;
         }
     }
-    
+
     /**
-     * 하한선 계산 (Minimum Spanning Tree 근사)
-     * 현재 위치에서 미방문 위치들까지의 최소 거리의 합
+     * 음이 아닌 int 키 → 음이 아닌 int 값 메모 (크기 고정, 충돌 시 덮어쓰기)
+     * 키를 함께 저장하므로 다른 키의 값을 돌려주지 않고, 덮어쓰인 키는 MISSING 으로 보인다.
      */
-    private int calculateLowerBound(Position current, Set<Position> visited) {
-        int bound = 0;
-        
-        // 현재 위치에서 가장 가까운 미방문 위치까지의 거리
-        int minToUnvisited = Integer.MAX_VALUE;
-        for (Position location : locations) {
-            if (!visited.contains(location)) {
-                int dist = current.manhattanDistance(location);
-                minToUnvisited = Math.min(minToUnvisited, dist);
-            }
-        }
-        if (minToUnvisited != Integer.MAX_VALUE) {
-            bound += minToUnvisited;
-        }
-        
-        // 가장 가까운 미방문 위치에서 종료점까지의 최소 거리
-        int minToEnd = Integer.MAX_VALUE;
-        for (Position location : locations) {
-            if (!visited.contains(location)) {
-                int dist = location.manhattanDistance(end);
-                minToEnd = Math.min(minToEnd, dist);
-            }
-        }
-        if (minToEnd != Integer.MAX_VALUE) {
-            bound += minToEnd;
-        }
-        
-        return bound;
+    private static final class IntMemo {
+
+        private static final int MISSING = -1;
+
+        private final int[] keys;
+        private final int[] values;
+        private final int shift;
+
+        private IntMemo(int bits) {
+            this.keys = new int[1 << bits];
+            this.values = new int[1 << bits];
+            this.shift = 32 - bits;
+            Arrays.fill(keys, MISSING);
+        }
+
+        private int get(int key) {
+            int slot = slot(key);
+            return keys[slot] == key ? values[slot] : MISSING;
+        }
+
+        private void put(int key, int value) {
+            int slot = slot(key);
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        // 피보나치 해싱 (연속한 마스크가 한쪽에 몰리지 않도록 상위 비트 사용)
+        private int slot(int key) {
+            return (key * 0x9E3779B9) >>> shift;
+        }
     }
-    
+
     /**
      * 경로의 총 거리 계산
      */
-    private int calculateTotalDistance(List<Position> path) {
+    private static int calculateTotalDistance(List<Position> path) {
         int distance = 0;
         for (int i = 0; i < path.size() - 1; i++) {
             distance += path.get(i).manhattanDistance(path.get(i + 1));
         }
         return distance;
     }
-    
+
     @Override
     public String getAlgorithmName() {
         return "Branch and Bound (Divide and Conquer)";
     }
-    
+
     @Override
     public String getTimeComplexity() {
         return "O(n!) ~ 평균적으로 훨씬 빠름";
     }
-    
+
     @Override
     public String getAccuracy() {
-        return "100% (최적해)";
+        return "100% (시간 예산 내 최적해)";
     }
-    
+
     @Override
     public String getDescription() {
-        return "분기 한정법을 사용한 TSP 최적해 알고리즘 (부품 개수 ≤ 15개 권장)";
+        return "MST 하한 + 상태 메모 + 반복 심화를 사용한 분기 한정 TSP 최적해 알고리즘 (부품 개수 ≤ 25개 권장)";
     }
 }
-
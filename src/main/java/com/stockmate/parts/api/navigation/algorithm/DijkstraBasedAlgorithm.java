@@ -87,7 +87,9 @@ public class DijkstraBasedAlgorithm implements PathOptimizationAlgorithm {
         
         path.add(end);
         
-        log.debug("Dijkstra-based (Floyd-Warshall + NN) 경로 찾기 완료");
+        if (log.isDebugEnabled()) {
+            log.debug("Dijkstra-based (Floyd-Warshall + NN) 경로 찾기 완료");
+        }
         return path;
     }
     
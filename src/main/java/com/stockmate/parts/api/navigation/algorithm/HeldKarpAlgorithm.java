@@ -115,7 +115,9 @@ public class HeldKarpAlgorithm implements PathOptimizationAlgorithm {
         
         path.add(end);
         
-        log.debug("Held-Karp 최적 경로 찾기 완료 - 총 거리: {}", minDistance);
+        if (log.isDebugEnabled()) {
+            log.debug("Held-Karp 최적 경로 찾기 완료 - 총 거리: {}", minDistance);
+        }
         return path;
     }
     
@@ -100,10 +100,12 @@ public class NearestNeighborAlgorithm implements PathOptimizationAlgorithm {
                         optimizedPath.remove(j);
                         optimizedPath.add(i + 1, candidate);
                         
-                        log.debug("경로 최적화: {} → {} 사이에 {} 삽입", 
-                                from.getOriginalLocation(), 
-                                to.getOriginalLocation(), 
-                                candidate.getOriginalLocation());
+                        if (log.isDebugEnabled()) {
+                            log.debug("경로 최적화: {} → {} 사이에 {} 삽입",
+                                    from.getOriginalLocation(),
+                                    to.getOriginalLocation(),
+                                    candidate.getOriginalLocation());
+                        }
                         
                         improved = true;
                         break; // 한 번에 하나씩 최적화
@@ -136,13 +138,15 @@ public class NearestNeighborAlgorithm implements PathOptimizationAlgorithm {
         boolean onTheWay = (detourDistance - directDistance) <= 3;
         
         if (onTheWay) {
-            log.debug("경로 상 중간 노드 발견: {} → {} → {} (직행: {}칸, 경유: {}칸, 차이: {}칸)", 
-                    from.getOriginalLocation(), 
-                    candidate.getOriginalLocation(), 
-                    to.getOriginalLocation(),
-                    directDistance, 
-                    detourDistance, 
-                    detourDistance - directDistance);
+            if (log.isDebugEnabled()) {
+                log.debug("경로 상 중간 노드 발견: {} → {} → {} (직행: {}칸, 경유: {}칸, 차이: {}칸)",
+                        from.getOriginalLocation(),
+                        candidate.getOriginalLocation(),
+                        to.getOriginalLocation(),
+                        directDistance,
+                        detourDistance,
+                        detourDistance - directDistance);
+            }
         }
         
         return onTheWay;
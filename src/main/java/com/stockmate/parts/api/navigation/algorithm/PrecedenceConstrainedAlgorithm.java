@@ -0,0 +1,351 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 선후 제약 경로 최적화 (무거운 부품 먼저 등 그룹 순서를 지키는 TSP)
+ *
+ * 정차 지점마다 순위(rank)를 주면, 순위가 낮은 그룹을 모두 방문한 뒤에야 다음 그룹으로 넘어간다.
+ * - 모든 그룹이 EXACT_GROUP_LIMIT 이하이고 예상 연산량이 작으면:
+ *   그룹별 Held-Karp 를 앞 그룹의 종료 지점별 비용에 이어 붙이는 연쇄 DP (제약 하 최적해)
+ * - 그 외: 그룹별 Aisle DP 로 초기 경로를 만들고, 그룹 구간 안에서만 2-opt/or-opt (제약을 깨지 않는 국소 탐색)
+ * 국소 탐색은 시간 예산(navigation.precedence.time-budget-ms)을 넘기면 현재 해를 반환한다.
+ */
+@Slf4j
+@Component
+public class PrecedenceConstrainedAlgorithm implements PathOptimizationAlgorithm {
+
+    private static final int EXACT_GROUP_LIMIT = 13; // 그룹당 2^k 상태
+    private static final long EXACT_OPERATION_LIMIT = 50_000_000L; // 연쇄 DP 예상 연산량 상한
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    private final AisleDynamicProgrammingAlgorithm aisleDynamicProgrammingAlgorithm;
+
+    @Value("${navigation.precedence.time-budget-ms:500}")
+    private long timeBudgetMs = 500;
+
+    public PrecedenceConstrainedAlgorithm(AisleDynamicProgrammingAlgorithm aisleDynamicProgrammingAlgorithm) {
+        this.aisleDynamicProgrammingAlgorithm = aisleDynamicProgrammingAlgorithm;
+    }
+
+    // 제약 없음 = 모두 같은 그룹
+    @Override
+    public List<Position> findOptimalPath(Position start, Position end, List<Position> locations) {
+        return findOptimalPath(start, end, locations, new int[locations == null ? 0 : locations.size()]);
+    }
+
+    /**
+     * 선후 제약 최적 경로
+     * @param ranks 위치별 순위 (작을수록 먼저 방문)
+     */
+    public List<Position> findOptimalPath(Position start, Position end, List<Position> locations, int[] ranks) {
+        List<Position> path = new ArrayList<>();
+        path.add(start);
+        if (locations != null) {
+            for (int index : solveOrder(start, end, locations, ranks)) {
+                path.add(locations.get(index));
+            }
+        }
+        path.add(end);
+        return path;
+    }
+
+    /**
+     * 선후 제약 방문 순서 (locations 인덱스)
+     * 같은 위치가 서로 다른 그룹에 중복으로 들어 있어도 인덱스로 구분한다.
+     */
+    public int[] solveOrder(Position start, Position end, List<Position> locations, int[] ranks) {
+        if (locations == null || locations.isEmpty()) {
+            return new int[0];
+        }
+        if (ranks.length != locations.size()) {
+            throw new IllegalArgumentException("위치 수와 순위 수가 다릅니다.");
+        }
+
+        // 순위별 그룹 (오름차순)
+        TreeMap<Integer, List<Integer>> byRank = new TreeMap<>();
+        for (int i = 0; i < ranks.length; i++) {
+            byRank.computeIfAbsent(ranks[i], k -> new ArrayList<>()).add(i);
+        }
+        List<int[]> groups = new ArrayList<>(byRank.size());
+        for (List<Integer> members : byRank.values()) {
+            groups.add(members.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        int n = locations.size();
+        int[][] dist = distanceMatrix(start, end, locations);
+        long deadline = System.nanoTime() + timeBudgetMs * 1_000_000L;
+
+        int[] order;
+        if (canSolveExactly(groups)) {
+            order = chainedHeldKarp(groups, dist, n);
+            if (log.isDebugEnabled()) {
+                log.debug("선후 제약 연쇄 DP 완료 - 위치: {}개, 그룹: {}개, 거리: {}", n, groups.size(), routeDistance(order, dist, n));
+            }
+        } else {
+            order = initialOrder(start, end, locations, groups);
+            int before = routeDistance(order, dist, n);
+            boolean finished = improveWithinGroups(order, groups, dist, n, deadline);
+            if (!finished) {
+                log.warn("선후 제약 국소 탐색: 시간 예산 {}ms 초과 (위치 {}개), 현재 경로를 반환합니다.", timeBudgetMs, n);
+            } else if (log.isDebugEnabled()) {
+                log.debug("선후 제약 국소 탐색 완료 - 위치: {}개, 그룹: {}개, 초기 거리: {}, 개선 후: {}",
+                        n, groups.size(), before, routeDistance(order, dist, n));
+            }
+        }
+        return order;
+    }
+
+    private static boolean canSolveExactly(List<int[]> groups) {
+        long operations = 0;
+        int previous = 1;
+        for (int[] group : groups) {
+            int k = group.length;
+            if (k > EXACT_GROUP_LIMIT) {
+                return false;
+            }
+            operations += ((long) k * k << k) + (long) k * previous;
+            previous = k;
+        }
+        return operations <= EXACT_OPERATION_LIMIT;
+    }
+
+    // 인덱스 0..n-1 은 위치, n 은 출발지, n+1 은 도착지
+    private static int[][] distanceMatrix(Position start, Position end, List<Position> locations) {
+        int n = locations.size();
+        Position[] nodes = new Position[n + 2];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = locations.get(i);
+        }
+        nodes[n] = start;
+        nodes[n + 1] = end;
+        int[][] dist = new int[n + 2][n + 2];
+        for (int i = 0; i < n + 2; i++) {
+            for (int j = 0; j < n + 2; j++) {
+                dist[i][j] = i == j ? 0 : nodes[i].manhattanDistance(nodes[j]);
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * 연쇄 Held-Karp
+     * 그룹 g 의 시작 상태 = min(앞 그룹 종료 지점 e 의 비용 + e → i), 그룹 내부는 일반 Held-Karp.
+     * 그룹 경계에서 필요한 정보는 "어느 지점에서 끝났는가" 뿐이므로 그룹 크기에 대해서만 지수적이다.
+     */
+    private static int[] chainedHeldKarp(List<int[]> groups, int[][] dist, int n) {
+        int groupCount = groups.size();
+        int[][][] parents = new int[groupCount][][];
+        int[][] entryFrom = new int[groupCount][];
+
+        int[] previousNodes = {n}; // 출발지
+        int[] previousCost = {0};
+        for (int g = 0; g < groupCount; g++) {
+            int[] nodes = groups.get(g);
+            int k = nodes.length;
+            int full = (1 << k) - 1;
+            int[][] dp = new int[1 << k][k];
+            int[][] parent = new int[1 << k][k];
+            for (int[] row : dp) {
+                Arrays.fill(row, INF);
+            }
+            entryFrom[g] = new int[k];
+            for (int i = 0; i < k; i++) {
+                for (int p = 0; p < previousNodes.length; p++) {
+                    int cost = previousCost[p] + dist[previousNodes[p]][nodes[i]];
+                    if (cost < dp[1 << i][i]) {
+                        dp[1 << i][i] = cost;
+                        entryFrom[g][i] = p;
+                    }
+                }
+                parent[1 << i][i] = -1;
+            }
+            for (int mask = 1; mask <= full; mask++) {
+                for (int last = 0; last < k; last++) {
+                    int current = dp[mask][last];
+                    if (current >= INF || (mask & (1 << last)) == 0) continue;
+                    for (int next = 0; next < k; next++) {
+                        if ((mask & (1 << next)) != 0) continue;
+                        int candidate = current + dist[nodes[last]][nodes[next]];
+                        if (candidate < dp[mask | (1 << next)][next]) {
+                            dp[mask | (1 << next)][next] = candidate;
+                            parent[mask | (1 << next)][next] = last;
+                        }
+                    }
+                }
+            }
+            parents[g] = parent;
+            previousNodes = nodes;
+            previousCost = dp[full].clone();
+        }
+
+        // 마지막 그룹 종료 지점 → 도착지
+        int exit = 0;
+        int best = INF;
+        for (int i = 0; i < previousNodes.length; i++) {
+            int candidate = previousCost[i] + dist[previousNodes[i]][n + 1];
+            if (candidate < best) {
+                best = candidate;
+                exit = i;
+            }
+        }
+
+        // 뒤 그룹부터 역추적
+        int[] order = new int[n];
+        int position = n;
+        for (int g = groupCount - 1; g >= 0; g--) {
+            int[] nodes = groups.get(g);
+            int mask = (1 << nodes.length) - 1;
+            int current = exit;
+            int first = current;
+            while (current != -1) {
+                order[--position] = nodes[current];
+                first = current;
+                int previous = parents[g][mask][current];
+                mask ^= 1 << current;
+                current = previous;
+            }
+            exit = entryFrom[g][first];
+        }
+        return order;
+    }
+
+    // 그룹별 Aisle DP 경로를 이어 붙인 초기 해 (그룹 내부 종료점은 도착지 기준, 이후 국소 탐색으로 보정)
+    private int[] initialOrder(Position start, Position end, List<Position> locations, List<int[]> groups) {
+        int[] order = new int[locations.size()];
+        int position = 0;
+        Position from = start;
+        for (int[] group : groups) {
+            Map<Position, Deque<Integer>> indexByPosition = new HashMap<>();
+            List<Position> members = new ArrayList<>(group.length);
+            for (int index : group) {
+                indexByPosition.computeIfAbsent(locations.get(index), k -> new ArrayDeque<>()).add(index);
+                members.add(locations.get(index));
+            }
+            List<Position> path = aisleDynamicProgrammingAlgorithm.findOptimalPath(from, end, members);
+            for (int i = 1; i < path.size() - 1; i++) {
+                order[position++] = indexByPosition.get(path.get(i)).poll();
+            }
+            from = path.get(path.size() - 2);
+        }
+        return order;
+    }
+
+    /**
+     * 그룹 구간 안에서만 2-opt(구간 뒤집기) + or-opt(한 지점 재배치)
+     * 그룹 경계 밖으로 지점을 옮기지 않으므로 선후 제약이 유지된다.
+     * @return 더 이상 개선이 없어 끝났으면 true, 시간 예산으로 중단했으면 false
+     */
+    private static boolean improveWithinGroups(int[] order, List<int[]> groups, int[][] dist, int n, long deadline) {
+        int[] route = new int[n + 2];
+        route[0] = n;
+        System.arraycopy(order, 0, route, 1, n);
+        route[n + 1] = n + 1;
+
+        int[] blockStart = new int[groups.size()];
+        int[] blockEnd = new int[groups.size()];
+        int cursor = 1;
+        for (int g = 0; g < groups.size(); g++) {
+            blockStart[g] = cursor;
+            cursor += groups.get(g).length;
+            blockEnd[g] = cursor - 1;
+        }
+
+        boolean finished = false;
+        while (!finished) {
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+            boolean improved = false;
+            for (int g = 0; g < blockStart.length; g++) {
+                int from = blockStart[g];
+                int to = blockEnd[g];
+                for (int i = from; i < to; i++) {
+                    for (int j = i + 1; j <= to; j++) {
+                        int delta = dist[route[i - 1]][route[j]] + dist[route[i]][route[j + 1]]
+                                - dist[route[i - 1]][route[i]] - dist[route[j]][route[j + 1]];
+                        if (delta < 0) { // 거리 함수가 대칭이라 구간 내부 간선 합은 그대로
+                            reverse(route, i, j);
+                            improved = true;
+                        }
+                    }
+                }
+                for (int i = from; i <= to; i++) {
+                    int node = route[i];
+                    int removeGain = dist[route[i - 1]][node] + dist[node][route[i + 1]] - dist[route[i - 1]][route[i + 1]];
+                    int bestSlot = -1;
+                    int bestCost = removeGain;
+                    // 블록 안에서 (slot-1, slot) 사이에 넣기, slot ∈ [from, to + 1]
+                    for (int slot = from; slot <= to + 1; slot++) {
+                        if (slot == i || slot == i + 1) continue;
+                        int cost = dist[route[slot - 1]][node] + dist[node][route[slot]] - dist[route[slot - 1]][route[slot]];
+                        if (cost < bestCost) {
+                            bestCost = cost;
+                            bestSlot = slot;
+                        }
+                    }
+                    if (bestSlot > 0) {
+                        move(route, i, bestSlot);
+                        improved = true;
+                    }
+                }
+            }
+            finished = !improved;
+        }
+        System.arraycopy(route, 1, order, 0, n);
+        return finished;
+    }
+
+    private static void reverse(int[] route, int i, int j) {
+        while (i < j) {
+            int temp = route[i];
+            route[i++] = route[j];
+            route[j--] = temp;
+        }
+    }
+
+    // route[i] 를 (slot-1, slot) 사이로 옮김
+    private static void move(int[] route, int i, int slot) {
+        int node = route[i];
+        if (slot > i) {
+            System.arraycopy(route, i + 1, route, i, slot - 1 - i);
+            route[slot - 1] = node;
+        } else {
+            System.arraycopy(route, slot, route, slot + 1, i - slot);
+            route[slot] = node;
+        }
+    }
+
+    private static int routeDistance(int[] order, int[][] dist, int n) {
+        int total = dist[n][order[0]];
+        for (int i = 1; i < order.length; i++) {
+            total += dist[order[i - 1]][order[i]];
+        }
+        return total + dist[order[order.length - 1]][n + 1];
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Precedence Constrained";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(Σ 2^k × k²) (그룹 크기 k ≤ 13), 그 외 O(n²) 국소 탐색";
+    }
+
+    @Override
+    public String getAccuracy() {
+        return "그룹이 작으면 100% (제약 하 최적해), 그 외 준최적";
+    }
+
+    @Override
+    public String getDescription() {
+        return "무게/카테고리 그룹 순서를 지키는 경로 최적화 (작은 그룹은 연쇄 DP, 큰 그룹은 제약 유지 국소 탐색)";
+    }
+}
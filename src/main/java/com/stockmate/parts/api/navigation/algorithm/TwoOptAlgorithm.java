@@ -66,8 +66,10 @@ public class TwoOptAlgorithm implements PathOptimizationAlgorithm {
                     if (addedDistance < removedDistance) {
                         path = twoOptSwap(path, i, j);
                         improved = true;
-                        log.debug("2-opt 개선: 구간[{}, {}] swap, 거리 감소: {} → {}", 
-                                i, j, removedDistance, addedDistance);
+                        if (log.isDebugEnabled()) {
+                            log.debug("2-opt 개선: 구간[{}, {}] swap, 거리 감소: {} → {}",
+                                    i, j, removedDistance, addedDistance);
+                        }
                     }
                 }
             }
@@ -115,10 +117,12 @@ public class TwoOptAlgorithm implements PathOptimizationAlgorithm {
                         optimizedPath.remove(j);
                         optimizedPath.add(i + 1, candidate);
                         
-                        log.debug("경로 최적화: {} → {} 사이에 {} 삽입", 
-                                from.getOriginalLocation(), 
-                                to.getOriginalLocation(), 
-                                candidate.getOriginalLocation());
+                        if (log.isDebugEnabled()) {
+                            log.debug("경로 최적화: {} → {} 사이에 {} 삽입",
+                                    from.getOriginalLocation(),
+                                    to.getOriginalLocation(),
+                                    candidate.getOriginalLocation());
+                        }
                         
                         improved = true;
                         break; // 한 번에 하나씩 최적화
@@ -151,13 +155,15 @@ public class TwoOptAlgorithm implements PathOptimizationAlgorithm {
         boolean onTheWay = (detourDistance - directDistance) <= 3;
         
         if (onTheWay) {
-            log.debug("경로 상 중간 노드 발견: {} → {} → {} (직행: {}칸, 경유: {}칸, 차이: {}칸)", 
-                    from.getOriginalLocation(), 
-                    candidate.getOriginalLocation(), 
-                    to.getOriginalLocation(),
-                    directDistance, 
-                    detourDistance, 
-                    detourDistance - directDistance);
+            if (log.isDebugEnabled()) {
+                log.debug("경로 상 중간 노드 발견: {} → {} → {} (직행: {}칸, 경유: {}칸, 차이: {}칸)",
+                        from.getOriginalLocation(),
+                        candidate.getOriginalLocation(),
+                        to.getOriginalLocation(),
+                        directDistance,
+                        detourDistance,
+                        detourDistance - directDistance);
+            }
         }
         
         return onTheWay;
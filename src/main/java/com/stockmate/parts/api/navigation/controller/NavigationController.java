@@ -1,18 +1,31 @@
 package com.stockmate.parts.api.navigation.controller;
 
 import com.stockmate.parts.api.navigation.dto.AlgorithmComparisonDTO;
+import com.stockmate.parts.api.navigation.dto.CapacitatedNavigationRequestDTO;
+import com.stockmate.parts.api.navigation.dto.CapacitatedNavigationResponseDTO;
+import com.stockmate.parts.api.navigation.dto.CostModelCalibrationRequestDTO;
+import com.stockmate.parts.api.navigation.dto.CostModelResponseDTO;
 import com.stockmate.parts.api.navigation.dto.NavigationRequestDTO;
 import com.stockmate.parts.api.navigation.dto.NavigationResponseDTO;
+import com.stockmate.parts.api.navigation.dto.PrecedenceNavigationRequestDTO;
 import com.stockmate.parts.api.navigation.service.NavigationService;
+import com.stockmate.parts.api.navigation.service.RouteCostModelService;
 import com.stockmate.parts.common.response.ApiResponse;
 import com.stockmate.parts.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 
 @Tag(name = "Navigation", description = "창고 네비게이션 관련 API입니다.")
 @RestController
@@ -22,6 +35,10 @@ import org.springframework.web.bind.annotation.*;
 public class NavigationController {
     
     private final NavigationService navigationService;
+    private final RouteCostModelService routeCostModelService;
+
+    @Value("${navigation.stream.timeout-ms:30000}")
+    private long streamTimeoutMs; // SSE 연결 유지 시간
     
     @Operation(summary = "최적 경로 계산 API", description = "주문 번호를 기반으로 최적의 피킹 경로를 계산합니다.")
     @PostMapping("/optimal")
@@ -39,6 +56,115 @@ public class NavigationController {
         return ApiResponse.success(SuccessStatus.NAVIGATION_OPTIMAL_ROUTE_SUCCESS, response);
     }
     
+    @Operation(summary = "최적 경로 스트리밍 API",
+            description = "최적 경로를 Server-Sent Events 로 전송합니다. 첫 경로를 바로 보내고(route), 더 짧은 경로를 찾을 때마다 "
+                    + "다시 보내며, 마지막에 최종 경로(complete)를 보냅니다. 실패 시 error 이벤트에 메시지를 담아 종료합니다.")
+    @PostMapping(value = "/optimal/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('WAREHOUSE', 'ADMIN', 'SUPER_ADMIN')")
+    public SseEmitter streamOptimalRoute(@RequestBody NavigationRequestDTO requestDTO) {
+        
+        log.info("최적 경로 스트리밍 요청 - 주문 번호 수: {}", requestDTO.getOrderNumbers().size());
+        
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        navigationService.streamOptimalRoute(requestDTO, route -> send(emitter, "route", route))
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        try {
+                            emitter.send(SseEmitter.event().name("complete").data(response));
+                            emitter.complete();
+                        } catch (IOException | IllegalStateException e) {
+                            log.info("최적 경로 스트리밍 - 클라이언트 연결 종료로 최종 경로 전송 생략");
+                        }
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof CancellationException) {
+                        log.info("최적 경로 스트리밍 - 클라이언트 연결 종료로 계산 중단");
+                        return;
+                    }
+                    log.error("최적 경로 스트리밍 실패: {}", cause.getMessage(), cause);
+                    try {
+                        emitter.send(SseEmitter.event().name("error").data(String.valueOf(cause.getMessage())));
+                        emitter.complete();
+                    } catch (IOException | IllegalStateException e) {
+                        emitter.completeWithError(cause);
+                    }
+                });
+        return emitter;
+    }
+    
+    // 중간 경로 전송 (연결이 끊겼거나 시간 초과로 닫혔으면 예외로 계산 스레드를 중단시킴)
+    private static void send(SseEmitter emitter, String eventName, NavigationResponseDTO route) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(route));
+        } catch (IOException | IllegalStateException e) {
+            throw new CancellationException("클라이언트 연결 종료: " + e.getMessage());
+        }
+    }
+    
+    @Operation(summary = "카트 용량 기반 경로 계산 API",
+            description = "부품 무게 기준으로 카트 적재 한도를 넘지 않도록 피킹을 최소 트립으로 나누고, 트립별 최적 경로를 계산합니다.")
+    @PostMapping("/optimal/capacitated")
+    @PreAuthorize("hasAnyRole('WAREHOUSE', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<CapacitatedNavigationResponseDTO>> calculateCapacitatedRoute(
+            @RequestBody CapacitatedNavigationRequestDTO requestDTO) {
+        
+        log.info("카트 용량 기반 경로 계산 요청 - 주문 번호 수: {}, 적재 한도: {}",
+                requestDTO.getOrderNumbers().size(), requestDTO.getCartCapacity());
+        
+        CapacitatedNavigationResponseDTO response = navigationService.calculateCapacitatedRoute(requestDTO);
+        
+        log.info("카트 용량 기반 경로 계산 완료 - 트립: {}개, 총 거리: {}, 실행 시간: {}ms",
+                response.getTripCount(), response.getTotalDistance(), response.getExecutionTimeMs());
+        
+        return ApiResponse.success(SuccessStatus.NAVIGATION_CAPACITATED_ROUTE_SUCCESS, response);
+    }
+    
+    @Operation(summary = "선후 제약 경로 계산 API",
+            description = "무거운 부품 먼저(WEIGHT) 또는 카테고리 순서(CATEGORY)를 지키면서 최단 피킹 경로를 계산합니다.")
+    @PostMapping("/optimal/precedence")
+    @PreAuthorize("hasAnyRole('WAREHOUSE', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<NavigationResponseDTO>> calculatePrecedenceRoute(
+            @RequestBody PrecedenceNavigationRequestDTO requestDTO) {
+        
+        log.info("선후 제약 경로 계산 요청 - 주문 번호 수: {}, 기준: {}",
+                requestDTO.getOrderNumbers().size(), requestDTO.getPrecedence());
+        
+        NavigationResponseDTO response = navigationService.calculatePrecedenceRoute(requestDTO);
+        
+        log.info("선후 제약 경로 계산 완료 - 총 거리: {}, 실행 시간: {}ms",
+                response.getTotalDistance(), response.getExecutionTimeMs());
+        
+        return ApiResponse.success(SuccessStatus.NAVIGATION_PRECEDENCE_ROUTE_SUCCESS, response);
+    }
+    
+    @Operation(summary = "경로 비용 모델 조회 API", description = "예상 시간 계산에 쓰는 거리/정차/부품/선반 층별 시간 계수를 조회합니다.")
+    @GetMapping("/cost-model")
+    @PreAuthorize("hasAnyRole('WAREHOUSE', 'ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<CostModelResponseDTO>> getCostModel() {
+        return ApiResponse.success(SuccessStatus.NAVIGATION_COST_MODEL_SUCCESS, routeCostModelService.getCostModel());
+    }
+    
+    @Operation(summary = "경로 비용 모델 보정 API",
+            description = "실제 피킹 기록(방문 위치 + 소요 시간)으로 시간 계수를 최소제곱 보정합니다. 보정값은 재시작 시 설정값으로 돌아갑니다.")
+    @PostMapping("/cost-model/calibrate")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<CostModelResponseDTO>> calibrateCostModel(
+            @RequestBody CostModelCalibrationRequestDTO requestDTO) {
+        
+        log.info("경로 비용 모델 보정 요청 - 기록 수: {}", requestDTO.getTimings() == null ? 0 : requestDTO.getTimings().size());
+        
+        CostModelResponseDTO response = routeCostModelService.calibrate(requestDTO);
+        return ApiResponse.success(SuccessStatus.NAVIGATION_COST_MODEL_CALIBRATE_SUCCESS, response);
+    }
+    
+    @Operation(summary = "경로 비용 모델 보정 해제 API", description = "보정된 계수를 버리고 설정값으로 되돌립니다.")
+    @DeleteMapping("/cost-model/calibration")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<CostModelResponseDTO>> resetCostModel() {
+        return ApiResponse.success(SuccessStatus.NAVIGATION_COST_MODEL_RESET_SUCCESS, routeCostModelService.reset());
+    }
+    
     @Operation(summary = "알고리즘 비교 API", description = "모든 알고리즘을 실행하여 성능을 비교합니다.")
     @PostMapping("/compare")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
@@ -0,0 +1,21 @@
+package com.stockmate.parts.api.navigation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카트 용량 기반 네비게이션 요청 DTO")
+public class CapacitatedNavigationRequestDTO {
+    
+    @Schema(description = "주문 번호 리스트", example = "[\"SMO-1\", \"SMO-2\"]")
+    private List<String> orderNumbers;
+    
+    @Schema(description = "카트 적재 한도 (부품 weight 와 같은 단위, 미입력 시 서버 기본값)", example = "50.0")
+    private Double cartCapacity;
+}
@@ -0,0 +1,57 @@
+package com.stockmate.parts.api.navigation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "카트 용량 기반 네비게이션 응답 DTO")
+public class CapacitatedNavigationResponseDTO {
+    
+    @Schema(description = "카트 적재 한도", example = "50.0")
+    private double cartCapacity;
+    
+    @Schema(description = "전체 적재 무게", example = "132.5")
+    private double totalWeight;
+    
+    @Schema(description = "트립 수", example = "3")
+    private int tripCount;
+    
+    @Schema(description = "트립 수 하한 (⌈전체 무게 / 적재 한도⌉, 같으면 최소 트립 수)", example = "3")
+    private int minimumTripCount;
+    
+    @Schema(description = "전체 이동 거리 (트립 합계)", example = "310")
+    private int totalDistance;
+    
+    @Schema(description = "전체 예상 소요 시간 (초, 트립 합계)", example = "620")
+    private int estimatedTimeSeconds;
+    
+    @Schema(description = "분할 + 경로 계산 실행 시간 (ms)", example = "12")
+    private long executionTimeMs;
+    
+    @Schema(description = "트립 목록 (진행 순서)")
+    private List<CartTrip> trips;
+    
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "카트 트립")
+    public static class CartTrip {
+        @Schema(description = "트립 순번 (1부터)", example = "1")
+        private int tripNumber;
+        
+        @Schema(description = "트립 적재 무게", example = "48.0")
+        private double loadWeight;
+        
+        @Schema(description = "트립 경로 (첫 트립은 문, 이후 트립은 포장대에서 출발해 포장대에서 종료)")
+        private NavigationResponseDTO route;
+    }
+}
@@ -0,0 +1,30 @@
+package com.stockmate.parts.api.navigation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "경로 비용 모델 보정 요청 DTO")
+public class CostModelCalibrationRequestDTO {
+    
+    @Schema(description = "실제 피킹 기록 리스트 (최소 10건)")
+    private List<PickTiming> timings;
+    
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "피킹 기록 1건 (문에서 출발해 포장대에서 종료)")
+    public static class PickTiming {
+        @Schema(description = "피킹한 부품 위치 (방문 순서, 부품마다 1개)", example = "[\"A3-1\", \"A3-4\", \"B12-2\"]")
+        private List<String> pickedLocations;
+        
+        @Schema(description = "실제 소요 시간 (초)", example = "95.0")
+        private Double actualSeconds;
+    }
+}
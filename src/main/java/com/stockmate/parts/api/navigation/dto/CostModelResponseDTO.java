@@ -0,0 +1,45 @@
+package com.stockmate.parts.api.navigation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "경로 비용 모델 응답 DTO")
+public class CostModelResponseDTO {
+    
+    @Schema(description = "고정 시간 (시작/종료 버퍼, 초)", example = "10.0")
+    private double fixedSeconds;
+    
+    @Schema(description = "1 거리당 걷기 시간 (초)", example = "1.5")
+    private double secondsPerUnitDistance;
+    
+    @Schema(description = "정차 1회당 시간 (초)", example = "0.0")
+    private double secondsPerStop;
+    
+    @Schema(description = "부품 1개당 피킹 시간 (초)", example = "8.0")
+    private double secondsPerPart;
+    
+    @Schema(description = "1~4층 부품 1개당 추가 시간 (초)", example = "[0.0, 0.0, 0.0, 0.0]")
+    private List<Double> shelfSeconds;
+    
+    @Schema(description = "보정 시각 (설정값 사용 중이면 null)")
+    private LocalDateTime calibratedAt;
+    
+    @Schema(description = "보정에 사용한 기록 수 (보정 응답에만 포함)", example = "120")
+    private Integer sampleCount;
+    
+    @Schema(description = "보정 전 모델의 예측 오차 (RMSE, 초, 보정 응답에만 포함)", example = "31.2")
+    private Double previousRmseSeconds;
+    
+    @Schema(description = "보정 후 모델의 예측 오차 (RMSE, 초, 보정 응답에만 포함)", example = "9.8")
+    private Double rmseSeconds;
+}
@@ -65,6 +65,31 @@ public class NavigationResponseDTO {
         
         @Schema(description = "부품 ID", example = "1")
         private Long partId;
+
+        @Schema(description = "이 위치에서 피킹할 전체 부품 (같은 칸의 다른 층/주문 포함)")
+        private List<PickedPart> parts;
+
+        @Schema(description = "선후 제약 그룹 순위 (작을수록 먼저, 제약 없는 경로는 null)", example = "0")
+        private Integer precedenceRank;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "피킹 부품")
+    public static class PickedPart {
+        @Schema(description = "부품 ID", example = "1")
+        private Long partId;
+
+        @Schema(description = "부품명", example = "브레이크 패드")
+        private String partName;
+
+        @Schema(description = "주문 번호", example = "SMO-1")
+        private String orderNumber;
+
+        @Schema(description = "부품 위치 (선반 층 포함)", example = "A5-2")
+        private String location;
     }
 }
 
@@ -0,0 +1,22 @@
+package com.stockmate.parts.api.navigation.dto;
+
+import com.stockmate.parts.api.navigation.model.PrecedenceMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "선후 제약 네비게이션 요청 DTO")
+public class PrecedenceNavigationRequestDTO {
+    
+    @Schema(description = "주문 번호 리스트", example = "[\"SMO-1\", \"SMO-2\"]")
+    private List<String> orderNumbers;
+    
+    @Schema(description = "그룹 기준 (WEIGHT: 무거운 부품 먼저, CATEGORY: 설정된 카테고리 순서), 미입력 시 WEIGHT", example = "WEIGHT")
+    private PrecedenceMode precedence;
+}
@@ -0,0 +1,160 @@
+package com.stockmate.parts.api.navigation.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 카트 적재 한도 기반 트립 분할
+ *
+ * 피킹 항목(위치, 무게)을 한도 이하의 카트 트립으로 나눈다. 트립 수를 먼저 최소화하고, 같은 트립 수라면 이동 거리를 줄인다.
+ * - 하한: ⌈총 무게 / 한도⌉
+ * - First Fit Decreasing: 트립 수 기준 (최적의 11/9 배 + 1 이내)
+ * - 전체 투어 분할(route-first, cluster-second): 한 번에 도는 전체 경로를 연속 구간으로 자르는 DP 로,
+ *   (트립 수, 소요 시간) 사전식 최소. 공간적으로 묶인 트립이 나오므로 FFD 보다 트립 수가 많지 않으면 이쪽을 쓴다.
+ *   소요 시간은 {@link RouteCostModel} 기준 이동 시간 + 정차 시간이라, 같은 칸의 부품을 두 트립으로 나누면 정차 비용이 한 번 더 든다.
+ * 첫 트립은 출발지(문)에서, 이후 트립은 포장대에서 출발하며 모든 트립은 포장대에서 끝난다.
+ */
+public final class CartTripPlanner {
+
+    private static final double EPSILON = 1e-9;
+
+    private CartTripPlanner() {
+    }
+
+    /**
+     * @param trips 트립별 항목 인덱스 (트립 내 순서는 전체 투어 순서)
+     * @param lowerBound 필요한 최소 트립 수 하한
+     */
+    public record Plan(List<List<Integer>> trips, int lowerBound) {
+    }
+
+    /**
+     * @param positions 항목별 위치
+     * @param weights 항목별 무게 (모두 capacity 이하여야 함)
+     * @param capacity 카트 적재 한도
+     * @param tour 전체 정차 지점을 한 번에 도는 경로 (항목 순서 기준, 시작/종료 포함 가능)
+     */
+    public static Plan plan(List<Position> positions, double[] weights, double capacity, List<Position> tour) {
+        return plan(positions, weights, capacity, tour, RouteCostModel.DISTANCE_ONLY);
+    }
+
+    /**
+     * @param costModel 트립 수가 같을 때 비교할 소요 시간 모델
+     */
+    public static Plan plan(List<Position> positions, double[] weights, double capacity, List<Position> tour,
+                            RouteCostModel costModel) {
+        int m = positions.size();
+        if (m == 0) {
+            return new Plan(List.of(), 0);
+        }
+        double total = 0;
+        for (int i = 0; i < m; i++) {
+            if (weights[i] > capacity + EPSILON) {
+                throw new IllegalArgumentException("적재 한도를 넘는 항목: index=" + i + ", weight=" + weights[i]);
+            }
+            total += weights[i];
+        }
+        int lowerBound = Math.max(1, (int) Math.ceil(total / capacity - EPSILON));
+
+        List<List<Integer>> firstFit = firstFitDecreasing(weights, capacity);
+        List<List<Integer>> split = splitTour(positions, weights, capacity, tour, costModel);
+        return new Plan(split.size() <= firstFit.size() ? split : firstFit, lowerBound);
+    }
+
+    // 무거운 항목부터 들어갈 수 있는 첫 트립에 배정
+    static List<List<Integer>> firstFitDecreasing(double[] weights, double capacity) {
+        Integer[] order = new Integer[weights.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> weights[i]).reversed());
+
+        List<List<Integer>> trips = new ArrayList<>();
+        List<Double> loads = new ArrayList<>();
+        for (int item : order) {
+            int target = -1;
+            for (int t = 0; t < trips.size(); t++) {
+                if (loads.get(t) + weights[item] <= capacity + EPSILON) {
+                    target = t;
+                    break;
+                }
+            }
+            if (target < 0) {
+                trips.add(new ArrayList<>());
+                loads.add(0.0);
+                target = trips.size() - 1;
+            }
+            trips.get(target).add(item);
+            loads.set(target, loads.get(target) + weights[item]);
+        }
+        return trips;
+    }
+
+    // 항목을 전체 투어 순서로 놓고 연속 구간으로 자르는 DP: best[j] = 앞 j 개 항목을 처리하는 (트립 수, 소요 시간) 최소
+    static List<List<Integer>> splitTour(List<Position> positions, double[] weights, double capacity, List<Position> tour,
+                                         RouteCostModel costModel) {
+        int m = positions.size();
+        int[] rankBySlot = new int[Position.SLOT_COUNT];
+        Arrays.fill(rankBySlot, Integer.MAX_VALUE);
+        for (int i = 0; i < tour.size(); i++) {
+            int slotId = tour.get(i).getSlotId();
+            rankBySlot[slotId] = Math.min(rankBySlot[slotId], i);
+        }
+        Integer[] boxed = new Integer[m];
+        for (int i = 0; i < m; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, Comparator.comparingInt((Integer i) -> rankBySlot[positions.get(i).getSlotId()]));
+        int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            order[i] = boxed[i];
+        }
+
+        Position depot = Position.end();
+        int[] trips = new int[m + 1];
+        double[] seconds = new double[m + 1];
+        int[] cut = new int[m + 1];
+        Arrays.fill(trips, Integer.MAX_VALUE);
+        trips[0] = 0;
+        for (int i = 0; i < m; i++) {
+            if (trips[i] == Integer.MAX_VALUE) continue;
+            Position from = i == 0 ? Position.start() : depot;
+            double load = 0;
+            int inner = 0;
+            int stops = 0;
+            for (int j = i; j < m; j++) {
+                load += weights[order[j]];
+                if (load > capacity + EPSILON) break;
+                if (j > i) {
+                    inner += positions.get(order[j - 1]).manhattanDistance(positions.get(order[j]));
+                }
+                if (j == i || !positions.get(order[j - 1]).isSameSlot(positions.get(order[j]))) {
+                    stops++;
+                }
+                int tripDistance = from.manhattanDistance(positions.get(order[i])) + inner
+                        + positions.get(order[j]).manhattanDistance(depot);
+                int candidateTrips = trips[i] + 1;
+                double candidateSeconds = seconds[i] + costModel.travelSeconds(tripDistance)
+                        + stops * costModel.getSecondsPerStop();
+                if (candidateTrips < trips[j + 1]
+                        || (candidateTrips == trips[j + 1] && candidateSeconds < seconds[j + 1] - EPSILON)) {
+                    trips[j + 1] = candidateTrips;
+                    seconds[j + 1] = candidateSeconds;
+                    cut[j + 1] = i;
+                }
+            }
+        }
+
+        List<List<Integer>> result = new ArrayList<>();
+        for (int j = m; j > 0; j = cut[j]) {
+            List<Integer> trip = new ArrayList<>(j - cut[j]);
+            for (int k = cut[j]; k < j; k++) {
+                trip.add(order[k]);
+            }
+            result.add(0, trip);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+package com.stockmate.parts.api.navigation.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 웨이브 피킹 목록 (칸 slotId 로 인덱싱한 멀티맵)
+ *
+ * 같은 칸(선반 층 무관)에 있는 부품/주문은 하나의 정차 지점으로 묶고, 부품 정보는 모두 보관한다.
+ * 정차 지점은 처음 등장한 순서를 유지하며, 조회는 배열 인덱스라 경로 조립이 정차 지점 수에 선형이다.
+ */
+public final class PickList {
+
+    private final List<Position> stops = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final List<PickItem>[] itemsBySlot = new List[Position.SLOT_COUNT];
+    private int itemCount;
+
+    public void add(Position position, Long partId, String partName, String orderNumber) {
+        int slotId = position.getSlotId();
+        List<PickItem> items = itemsBySlot[slotId];
+        if (items == null) {
+            items = new ArrayList<>(2);
+            itemsBySlot[slotId] = items;
+            stops.add(position); // 칸의 대표 위치 = 처음 등장한 위치
+        }
+        items.add(new PickItem(partId, partName, orderNumber, position));
+        itemCount++;
+    }
+
+    // 솔버에 넘길 정차 지점 (칸당 하나)
+    public List<Position> stops() {
+        return Collections.unmodifiableList(stops);
+    }
+
+    // 해당 칸에서 집을 부품 (등록 순서, 없으면 빈 목록)
+    public List<PickItem> itemsAt(Position position) {
+        List<PickItem> items = itemsBySlot[position.getSlotId()];
+        return items == null ? Collections.emptyList() : Collections.unmodifiableList(items);
+    }
+
+    public int stopCount() {
+        return stops.size();
+    }
+
+    public int itemCount() {
+        return itemCount;
+    }
+
+    public record PickItem(Long partId, String partName, String orderNumber, Position position) {
+    }
+}
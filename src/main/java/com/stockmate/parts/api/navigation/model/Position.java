@@ -1,6 +1,6 @@
 package com.stockmate.parts.api.navigation.model;
 
-import lombok.*;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -22,139 +22,225 @@ import lombok.extern.slf4j.Slf4j;
  * A5  → 블록0, 아랫줄 0번 → 물리적 좌표 (0, 1)
  * A10 → 블록1, 윗줄 0번 → 물리적 좌표 (6, 0)
  * A16 → 블록1, 아랫줄 1번 → 물리적 좌표 (7, 1)
+ *
+ * 위치는 5라인 × 40칸 × (층 미지정 + 1~4층) + 문/포장대로 고정되어 있어 미리 만든 정규 인스턴스만 사용한다. (flyweight)
  */
 @Getter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-@EqualsAndHashCode
 @Slf4j
-public class Position {
-    
-    private String originalLocation; // 원본 위치 (예: "A16-2")
-    private int line;     // 라인 (A=0, B=1, C=2, D=3, E=4)
-    private int position; // 논리적 위치 (0~39)
-    private Integer shelf; // 선반 층 (1~4, nullable for 문/포장대)
-    
-    private boolean isStart;  // 시작점 (문)
-    private boolean isEnd;    // 종료점 (포장대)
-    
+public final class Position {
+
+    public static final int LINE_COUNT = 5;          // A~E
+    public static final int POSITIONS_PER_LINE = 40; // 0~39
+    public static final int MAX_SHELF = 4;
+
+    // 선반 층을 무시한 칸 ID (0~199 = 라인×40+위치, 200 = 문, 201 = 포장대)
+    public static final int SLOT_COUNT = LINE_COUNT * POSITIONS_PER_LINE + 2;
+    public static final int START_SLOT = SLOT_COUNT - 2;
+    public static final int END_SLOT = SLOT_COUNT - 1;
+
+    // 선반 층까지 구분한 ordinal (0 = 문, 1 = 포장대, 2~ = 칸×5 + 층(0 = 층 미지정))
+    public static final int ORDINAL_COUNT = 2 + LINE_COUNT * POSITIONS_PER_LINE * (MAX_SHELF + 1);
+
+    private static final Position[] CANONICAL = new Position[ORDINAL_COUNT];
+
+    static {
+        CANONICAL[0] = new Position(0, START_SLOT, "문", 0, 0, null, true, false, 0, 0, 0, 0); // A0 위치, 윗줄
+        CANONICAL[1] = new Position(1, END_SLOT, "포장대", 4, 37, null, false, true, 23, 1, 3, 1); // E35~E39 중간, 아랫줄
+        for (int line = 0; line < LINE_COUNT; line++) {
+            for (int position = 0; position < POSITIONS_PER_LINE; position++) {
+                for (int shelf = 0; shelf <= MAX_SHELF; shelf++) {
+                    int ordinal = ordinalOf(line, position, shelf);
+                    CANONICAL[ordinal] = slot(ordinal, line, position, shelf == 0 ? null : shelf);
+                }
+            }
+        }
+    }
+
+    private final int ordinal;
+    private final int slotId;
+    private final String originalLocation; // 정규화된 위치 (예: "A16-2", 소문자/공백/별칭 입력도 같은 인스턴스)
+    private final int line;     // 라인 (A=0, B=1, C=2, D=3, E=4)
+    private final int position; // 논리적 위치 (0~39)
+    private final Integer shelf; // 선반 층 (1~4, nullable for 문/포장대)
+
+    private final boolean isStart;  // 시작점 (문)
+    private final boolean isEnd;    // 종료점 (포장대)
+
     // 물리적 좌표 (실제 창고 레이아웃 반영)
-    private int x; // 물리적 가로 좌표 (블록 통로 포함, 모든 라인 공통)
-    private int y; // 물리적 세로 좌표 (0: 윗줄, 1: 아랫줄, 라인 무관!)
-    private int blockNumber; // 블록 번호 (0~3)
-    private int row; // 줄 (0: 윗줄, 1: 아랫줄)
-    
+    private final int x; // 물리적 가로 좌표 (블록 통로 포함, 모든 라인 공통)
+    private final int y; // 물리적 세로 좌표 (0: 윗줄, 1: 아랫줄, 라인 무관!)
+    private final int blockNumber; // 블록 번호 (0~3)
+    private final int row; // 줄 (0: 윗줄, 1: 아랫줄)
+
+    private final String simpleString;
+
+    private Position(int ordinal, int slotId, String originalLocation, int line, int position, Integer shelf,
+                     boolean isStart, boolean isEnd, int x, int y, int blockNumber, int row) {
+        this.ordinal = ordinal;
+        this.slotId = slotId;
+        this.originalLocation = originalLocation;
+        this.line = line;
+        this.position = position;
+        this.shelf = shelf;
+        this.isStart = isStart;
+        this.isEnd = isEnd;
+        this.x = x;
+        this.y = y;
+        this.blockNumber = blockNumber;
+        this.row = row;
+        this.simpleString = isStart || isEnd ? originalLocation : (char) ('A' + line) + String.valueOf(position);
+    }
+
+    // 블록 기반 물리적 좌표 계산
+    private static Position slot(int ordinal, int line, int position, Integer shelf) {
+        int blockNum = position / 10; // 블록 번호 (0~3)
+        int inBlockPos = position % 10; // 블록 내 위치 (0~9)
+        int row = (inBlockPos >= 5) ? 1 : 0; // 0: 윗줄 (0~4), 1: 아랫줄 (5~9)
+        int col = inBlockPos % 5; // 블록 내 열 (0~4)
+
+        String location = (char) ('A' + line) + String.valueOf(position) + (shelf == null ? "" : "-" + shelf);
+        // 물리적 x 좌표 = 블록번호 × 6 + 열 (모든 라인 공통), y 좌표 = 줄 (라인 무관)
+        return new Position(ordinal, line * POSITIONS_PER_LINE + position, location, line, position, shelf,
+                false, false, blockNum * 6 + col, row, blockNum, row);
+    }
+
+    private static int ordinalOf(int line, int position, int shelf) {
+        return 2 + (line * POSITIONS_PER_LINE + position) * (MAX_SHELF + 1) + shelf;
+    }
+
+    public static Position start() {
+        return CANONICAL[0];
+    }
+
+    public static Position end() {
+        return CANONICAL[1];
+    }
+
+    public static Position byOrdinal(int ordinal) {
+        return CANONICAL[ordinal];
+    }
+
+    /**
+     * 라인/위치/층으로 정규 인스턴스 조회
+     * @param shelf 선반 층 (null = 층 미지정)
+     */
+    public static Position of(int line, int position, Integer shelf) {
+        if (line < 0 || line >= LINE_COUNT) {
+            throw new IllegalArgumentException("유효하지 않은 라인입니다: " + line + " (A~E만 가능)");
+        }
+        if (position < 0 || position >= POSITIONS_PER_LINE) {
+            throw new IllegalArgumentException("유효하지 않은 위치입니다: " + position + " (0~39만 가능)");
+        }
+        if (shelf != null && (shelf < 1 || shelf > MAX_SHELF)) {
+            throw new IllegalArgumentException("유효하지 않은 선반 층입니다: " + shelf + " (1~4만 가능)");
+        }
+        return CANONICAL[ordinalOf(line, position, shelf == null ? 0 : shelf)];
+    }
+
     /**
-     * 위치 문자열을 파싱하여 Position 객체 생성
-     * @param location 위치 문자열 (예: "A16-2", "문", "포장대")
+     * 위치 문자열을 파싱하여 정규(flyweight) Position 인스턴스 반환
+     *
+     * 가능한 위치는 1,002개뿐이라 미리 만들어 둔 인스턴스를 돌려주며,
+     * 문자 단위로 직접 파싱하므로 정상 입력에서는 trim/substring/split 등 중간 객체를 만들지 않는다.
+     * 같은 위치는 항상 같은 인스턴스이므로 == 또는 ordinal/slotId 로 비교할 수 있다.
+     *
+     * @param location 위치 문자열 (예: "A16-2", "a16", "문", "포장대")
      * @return Position 객체
      */
     public static Position parse(String location) {
-        if (location == null || location.trim().isEmpty()) {
+        if (location == null) {
             throw new IllegalArgumentException("위치 정보가 비어있습니다.");
         }
-        
-        location = location.trim();
-        
-        // 시작점 (문) - A구역 첫 번째 라인 바로 윗줄
-        if (location.equals("문") || location.equalsIgnoreCase("door") || location.equalsIgnoreCase("start")) {
-            return Position.builder()
-                    .originalLocation(location)
-                    .line(0) // A 라인
-                    .position(0)
-                    .shelf(null)
-                    .isStart(true)
-                    .isEnd(false)
-                    .x(0) // A0 위치
-                    .y(0) // 윗줄
-                    .blockNumber(0) // 블록0 (A0~A9)
-                    .row(0)
-                    .build();
+        int begin = 0;
+        int end = location.length();
+        while (begin < end && Character.isWhitespace(location.charAt(begin))) begin++;
+        while (end > begin && Character.isWhitespace(location.charAt(end - 1))) end--;
+        if (begin == end) {
+            throw new IllegalArgumentException("위치 정보가 비어있습니다.");
         }
-        
-        // 종료점 (포장대) - E35~E39 라인 바로 아랫줄
-        if (location.equals("포장대") || location.equalsIgnoreCase("packing") || location.equalsIgnoreCase("end")) {
-            return Position.builder()
-                    .originalLocation(location)
-                    .line(4) // E 라인
-                    .position(37) // E35~E39 중간 (E37)
-                    .shelf(null)
-                    .isStart(false)
-                    .isEnd(true)
-                    .x(23) // 블록3 중간 (3 × 6 + 5 = 23)
-                    .y(1) // 아랫줄
-                    .blockNumber(3) // 블록3 (E30~E39)
-                    .row(1)
-                    .build();
+
+        // 시작점 (문) / 종료점 (포장대)
+        if (matches(location, begin, end, "문") || matchesIgnoreCase(location, begin, end, "door")
+                || matchesIgnoreCase(location, begin, end, "start")) {
+            return CANONICAL[0];
         }
-        
-        // 일반 위치 파싱 (예: "A16-2")
-        try {
-            // 라인 추출 (첫 번째 문자)
-            char lineChar = location.toUpperCase().charAt(0);
-            if (lineChar < 'A' || lineChar > 'E') {
-                throw new IllegalArgumentException("유효하지 않은 라인입니다: " + lineChar + " (A~E만 가능)");
-            }
-            int line = lineChar - 'A'; // A=0, B=1, ..., E=4
-            
-            // 나머지 부분 분리
-            String remaining = location.substring(1);
-            String[] parts = remaining.split("-");
-            
-            if (parts.length < 1) {
-                throw new IllegalArgumentException("위치 형식이 올바르지 않습니다: " + location);
+        if (matches(location, begin, end, "포장대") || matchesIgnoreCase(location, begin, end, "packing")
+                || matchesIgnoreCase(location, begin, end, "end")) {
+            return CANONICAL[1];
+        }
+
+        // 일반 위치 파싱 (예: "A16-2"): 라인 문자 + 위치 숫자 + [ '-' 선반 층 ]
+        char lineChar = location.charAt(begin);
+        if (lineChar >= 'a' && lineChar <= 'z') {
+            lineChar -= 'a' - 'A';
+        }
+        if (lineChar < 'A' || lineChar > 'E') {
+            throw new IllegalArgumentException("유효하지 않은 라인입니다: " + lineChar + " (A~E만 가능)");
+        }
+
+        int i = begin + 1;
+        int position = 0;
+        int digits = 0;
+        while (i < end && isDigit(location.charAt(i))) {
+            position = position * 10 + (location.charAt(i++) - '0');
+            if (++digits > 3) {
+                throw invalidFormat(location);
             }
-            
-            // 위치 추출
-            int position = Integer.parseInt(parts[0]);
-            if (position < 0 || position > 39) {
-                throw new IllegalArgumentException("유효하지 않은 위치입니다: " + position + " (0~39만 가능)");
+        }
+        if (digits == 0) {
+            throw invalidFormat(location);
+        }
+        if (position >= POSITIONS_PER_LINE) {
+            throw new IllegalArgumentException("유효하지 않은 위치입니다: " + position + " (0~39만 가능)");
+        }
+
+        int shelf = 0; // 0 = 층 미지정
+        if (i < end) {
+            if (location.charAt(i) != '-' || i + 1 >= end) {
+                throw invalidFormat(location);
             }
-            
-            // 선반 층 추출 (선택사항)
-            Integer shelf = null;
-            if (parts.length >= 2) {
-                shelf = Integer.parseInt(parts[1]);
-                if (shelf < 1 || shelf > 4) {
-                    throw new IllegalArgumentException("유효하지 않은 선반 층입니다: " + shelf + " (1~4만 가능)");
+            i++;
+            digits = 0;
+            while (i < end && isDigit(location.charAt(i))) {
+                shelf = shelf * 10 + (location.charAt(i++) - '0');
+                if (++digits > 2) {
+                    throw invalidFormat(location);
                 }
             }
-            
-            // 블록 기반 물리적 좌표 계산
-            int blockNum = position / 10; // 블록 번호 (0~3)
-            int inBlockPos = position % 10; // 블록 내 위치 (0~9)
-            int row = (inBlockPos >= 5) ? 1 : 0; // 0: 윗줄 (0~4), 1: 아랫줄 (5~9)
-            int col = inBlockPos % 5; // 블록 내 열 (0~4)
-            
-            // 물리적 x 좌표 = 블록번호 × 6 + 열 (모든 라인 공통)
-            int physicalX = blockNum * 6 + col;
-            // 물리적 y 좌표 = 줄 (0 또는 1, 라인 무관!)
-            int physicalY = row;
-            
-            log.debug("위치 파싱: {} → 라인={}, 블록={}, 줄={}, 열={}, 물리좌표=({}, {})", 
-                    location, (char)('A' + line), blockNum, row, col, physicalX, physicalY);
-            
-            return Position.builder()
-                    .originalLocation(location)
-                    .line(line)
-                    .position(position)
-                    .shelf(shelf)
-                    .isStart(false)
-                    .isEnd(false)
-                    .x(physicalX)
-                    .y(physicalY)
-                    .blockNumber(blockNum)
-                    .row(row)
-                    .build();
-            
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("위치 형식이 올바르지 않습니다: " + location, e);
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new IllegalArgumentException("위치 형식이 올바르지 않습니다: " + location, e);
+            if (digits == 0 || i < end) {
+                throw invalidFormat(location);
+            }
+            if (shelf < 1 || shelf > MAX_SHELF) {
+                throw new IllegalArgumentException("유효하지 않은 선반 층입니다: " + shelf + " (1~4만 가능)");
+            }
         }
+
+        return CANONICAL[ordinalOf(lineChar - 'A', position, shelf)];
     }
-    
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean matches(String source, int begin, int end, String keyword) {
+        return end - begin == keyword.length() && source.startsWith(keyword, begin);
+    }
+
+    private static boolean matchesIgnoreCase(String source, int begin, int end, String keyword) {
+        return end - begin == keyword.length() && source.regionMatches(true, begin, keyword, 0, keyword.length());
+    }
+
+    private static IllegalArgumentException invalidFormat(String location) {
+        return new IllegalArgumentException("위치 형식이 올바르지 않습니다: " + location.trim());
+    }
+
+    /**
+     * 같은 칸인지 (선반 층 무시)
+     */
+    public boolean isSameSlot(Position other) {
+        return this.slotId == other.slotId;
+    }
+
     /**
      * 실제 창고 레이아웃을 반영한 거리 계산
      * 
@@ -179,6 +265,15 @@ public class Position {
      * @return 실제 이동 거리
      */
     public int manhattanDistance(Position other) {
+        int totalDistance = computeDistance(other);
+        // 솔버 내부 루프에서 수없이 호출되므로 TRACE 가 꺼져 있으면 인자 배열/박싱을 만들지 않는다
+        if (log.isTraceEnabled()) {
+            log.trace("거리 계산: {} → {}, 거리={}", this.originalLocation, other.originalLocation, totalDistance);
+        }
+        return totalDistance;
+    }
+
+    private int computeDistance(Position other) {
         // 기본 Manhattan Distance (x, y 좌표)
         int baseDistance = Math.abs(other.x - this.x) + Math.abs(other.y - this.y);
         
@@ -188,101 +283,66 @@ public class Position {
         
         // ===== 케이스 1: 같은 라인, 같은 줄 =====
         if (this.line == other.line && this.y == other.y) {
-            int totalDistance = baseDistance;
-            log.debug("같은 라인, 같은 줄: {} → {}, 거리={}", 
-                    this.originalLocation, other.originalLocation, totalDistance);
-            return totalDistance;
+            return baseDistance;
         }
         
         // ===== 케이스 2: 같은 라인, 다른 줄 (A3 → A16) =====
-        if (this.line == other.line && this.y != other.y) {
-            if (this.blockNumber == other.blockNumber) {
-                // 같은 블록 내 줄 전환: 블록 끝까지 가서 돌아와야 함 (+4)
-                int totalDistance = baseDistance + 4;
-                log.debug("같은 라인, 같은 블록, 다른 줄: {} → {}, 거리={}", 
-                        this.originalLocation, other.originalLocation, totalDistance);
-                return totalDistance;
-            } else {
-                // 다른 블록 줄 전환: 통로에서 전환 (+2)
-                int totalDistance = baseDistance + 2;
-                log.debug("같은 라인, 다른 블록, 다른 줄: {} → {}, 거리={}", 
-                        this.originalLocation, other.originalLocation, totalDistance);
-                return totalDistance;
-            }
+        if (this.line == other.line) {
+            // 같은 블록 내 줄 전환: 블록 끝까지 가서 돌아와야 함 (+4)
+            // 다른 블록 줄 전환: 통로에서 전환 (+2)
+            return this.blockNumber == other.blockNumber ? baseDistance + 4 : baseDistance + 2;
         }
         
         // ===== 케이스 3: 통로 공유 (A5~A9 ↔ B0~B4, A15~A19 ↔ B10~B14...) =====
         // 조건: 같은 블록 + 다른 줄 + 라인이 정확히 1 차이 + 한쪽은 아랫줄, 한쪽은 윗줄
         boolean isSharedAisle = (this.blockNumber == other.blockNumber) 
                 && (this.y != other.y) 
-                && (Math.abs(this.line - other.line) == 1)
+                && (lineDiff == 1)
                 && ((this.y == 1 && other.y == 0 && this.line + 1 == other.line) 
                     || (this.y == 0 && other.y == 1 && other.line + 1 == this.line));
         
         if (isSharedAisle) {
             // 통로를 공유하므로 라인 비용 없음!
-            int totalDistance = baseDistance;
-            log.debug("통로 공유: {} ({}라인, 블록{}, {}줄) ↔ {} ({}라인, 블록{}, {}줄), 거리={}", 
-                    this.originalLocation, (char)('A' + this.line), this.blockNumber, this.y == 0 ? "윗" : "아랫",
-                    other.originalLocation, (char)('A' + other.line), other.blockNumber, other.y == 0 ? "윗" : "아랫",
-                    totalDistance);
-            return totalDistance;
+            return baseDistance;
         }
         
         // ===== 케이스 4: 다른 라인, 같은 줄 (A3 → B10) =====
-        if (this.line != other.line && this.y == other.y) {
-            int totalDistance = baseDistance + lineDistance;
-            log.debug("다른 라인, 같은 줄: {} ({}라인) → {} ({}라인), 기본={}, 라인={}, 최종={}", 
-                    this.originalLocation, (char)('A' + this.line),
-                    other.originalLocation, (char)('A' + other.line),
-                    baseDistance, lineDistance, totalDistance);
-            return totalDistance;
+        if (this.y == other.y) {
+            return baseDistance + lineDistance;
         }
         
         // ===== 케이스 5: 다른 라인, 다른 줄 (일반적인 라인 + 줄 전환) =====
-        if (this.blockNumber == other.blockNumber) {
-            // 같은 블록 내 라인+줄 전환
-            int totalDistance = baseDistance + lineDistance + 4;
-            log.debug("다른 라인, 같은 블록, 다른 줄: {} → {}, 기본={}, 라인={}, 최종={}", 
-                    this.originalLocation, other.originalLocation,
-                    baseDistance, lineDistance, totalDistance);
-            return totalDistance;
-        } else {
-            // 다른 블록 라인+줄 전환
-            int totalDistance = baseDistance + lineDistance + 2;
-            log.debug("다른 라인, 다른 블록, 다른 줄: {} → {}, 기본={}, 라인={}, 최종={}", 
-                    this.originalLocation, other.originalLocation,
-                    baseDistance, lineDistance, totalDistance);
-            return totalDistance;
-        }
+        // 같은 블록 내 라인+줄 전환 (+4), 다른 블록 라인+줄 전환 (+2)
+        return this.blockNumber == other.blockNumber
+                ? baseDistance + lineDistance + 4
+                : baseDistance + lineDistance + 2;
     }
     
+    // 정규 인스턴스만 존재하므로 ordinal 이 같으면 같은 위치
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Position other && other.ordinal == this.ordinal);
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
     /**
      * 위치를 문자열로 표현
      * @return 위치 문자열
      */
     @Override
     public String toString() {
-        if (isStart) return "문";
-        if (isEnd) return "포장대";
-        
-        char lineChar = (char) ('A' + line);
-        if (shelf != null) {
-            return lineChar + String.valueOf(position) + "-" + shelf;
-        } else {
-            return lineChar + String.valueOf(position);
-        }
+        return originalLocation;
     }
-    
+
     /**
      * 간략한 위치 표현 (선반 층 제외)
      * @return 간략한 위치 문자열
      */
     public String toSimpleString() {
-        if (isStart) return "문";
-        if (isEnd) return "포장대";
-        
-        char lineChar = (char) ('A' + line);
-        return lineChar + String.valueOf(position);
+        return simpleString;
     }
 }
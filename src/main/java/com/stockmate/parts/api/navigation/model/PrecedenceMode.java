@@ -0,0 +1,10 @@
+package com.stockmate.parts.api.navigation.model;
+
+/**
+ * 선후 제약 그룹 기준
+ * WEIGHT: 부품 무게 구간 (무거운 구간 먼저), CATEGORY: 설정된 카테고리 순서 (목록에 없는 카테고리는 마지막)
+ */
+public enum PrecedenceMode {
+    WEIGHT,
+    CATEGORY
+}
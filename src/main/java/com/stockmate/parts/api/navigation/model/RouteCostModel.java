@@ -0,0 +1,267 @@
+package com.stockmate.parts.api.navigation.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 피킹 경로 소요 시간 모델 (초)
+ *
+ * 예상 시간 = 고정 시간 + 이동 거리 × 단위 거리당 시간 + Σ 정차 지점 처리 시간
+ * - 정차 지점 처리 시간 = 정차 시간 + Σ 부품별 (피킹 시간 + 선반 층별 추가 시간)
+ * - 선반 층이 없는 위치(층 미지정)는 추가 시간 없음
+ *
+ * 처리 시간은 정차 지점(노드)에 붙는 비용이라, 같은 정차 집합을 도는 순서만 바꾸는 솔버에서는 모든 순서에 같은 값이 더해진다.
+ * 따라서 경로 순서는 이동 거리로 정하고, 정차 횟수 자체가 달라지는 선택(트립 분할 등)에서는 처리 시간까지 비교한다.
+ *
+ * 계수는 실제 피킹 기록(경로 + 소요 시간)으로 보정할 수 있다. ({@link #fit(List)})
+ */
+public final class RouteCostModel {
+
+    public static final int MIN_OBSERVATIONS = 10;
+
+    // 피처 순서: 고정, 이동 거리, 정차 횟수, 부품 수, 1~4층 부품 수
+    private static final int FEATURE_COUNT = 4 + Position.MAX_SHELF;
+    private static final double DEPENDENT_PIVOT = 1e-9;
+
+    /** 이동 거리만 비용으로 보는 모델 (거리 최소화와 같은 결과) */
+    public static final RouteCostModel DISTANCE_ONLY = new RouteCostModel(0, 1, 0, 0, new double[Position.MAX_SHELF]);
+
+    @Getter
+    private final double fixedSeconds;           // 시작/종료 버퍼
+    @Getter
+    private final double secondsPerUnitDistance; // 1 거리당 걷기 시간
+    @Getter
+    private final double secondsPerStop;         // 정차 1회당 시간 (카트 정지/위치 확인)
+    @Getter
+    private final double secondsPerPart;         // 부품 1개당 피킹 시간
+    private final double[] shelfSeconds;         // 선반 층별 부품 1개당 추가 시간 (index 0 = 1층)
+
+    /**
+     * @param shelfSeconds 1~4층 부품 1개당 추가 시간
+     */
+    public RouteCostModel(double fixedSeconds, double secondsPerUnitDistance, double secondsPerStop,
+                          double secondsPerPart, double[] shelfSeconds) {
+        if (shelfSeconds.length != Position.MAX_SHELF) {
+            throw new IllegalArgumentException("선반 층별 추가 시간은 " + Position.MAX_SHELF + "개여야 합니다.");
+        }
+        this.fixedSeconds = fixedSeconds;
+        this.secondsPerUnitDistance = secondsPerUnitDistance;
+        this.secondsPerStop = secondsPerStop;
+        this.secondsPerPart = secondsPerPart;
+        this.shelfSeconds = shelfSeconds.clone();
+    }
+
+    /**
+     * 선반 층별 부품 1개당 추가 시간
+     * @param shelf 선반 층 (1~4)
+     */
+    public double getShelfSeconds(int shelf) {
+        return shelfSeconds[shelf - 1];
+    }
+
+    public double travelSeconds(int distance) {
+        return distance * secondsPerUnitDistance;
+    }
+
+    // 부품 1개 피킹 시간 (선반 층 반영)
+    public double partSeconds(Position position) {
+        Integer shelf = position.getShelf();
+        return secondsPerPart + (shelf == null ? 0 : shelfSeconds[shelf - 1]);
+    }
+
+    /**
+     * 정차 지점 1곳의 처리 시간 (정차 + 부품별 피킹)
+     * @param items 이 정차 지점에서 피킹하는 부품 (비어 있으면 정차하지 않은 것으로 보고 0)
+     */
+    public double stopSeconds(List<PickList.PickItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        double seconds = secondsPerStop;
+        for (PickList.PickItem item : items) {
+            seconds += partSeconds(item.position());
+        }
+        return seconds;
+    }
+
+    public double predict(Observation observation) {
+        double[] features = observation.features();
+        double[] coefficients = coefficients();
+        double seconds = 0;
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            seconds += features[i] * coefficients[i];
+        }
+        return seconds;
+    }
+
+    // 예측 오차 (RMSE, 초)
+    public double rootMeanSquaredError(List<Observation> observations) {
+        double sum = 0;
+        for (Observation observation : observations) {
+            double error = predict(observation) - observation.seconds();
+            sum += error * error;
+        }
+        return observations.isEmpty() ? 0 : Math.sqrt(sum / observations.size());
+    }
+
+    private double[] coefficients() {
+        double[] coefficients = new double[FEATURE_COUNT];
+        coefficients[0] = fixedSeconds;
+        coefficients[1] = secondsPerUnitDistance;
+        coefficients[2] = secondsPerStop;
+        coefficients[3] = secondsPerPart;
+        System.arraycopy(shelfSeconds, 0, coefficients, 4, Position.MAX_SHELF);
+        return coefficients;
+    }
+
+    /**
+     * 실제 피킹 기록 1건
+     * @param partsByShelf 층별 부품 수 (index 0 = 층 미지정, 1~4 = 층)
+     * @param seconds 실제 소요 시간 (초)
+     */
+    public record Observation(int distance, int stops, int[] partsByShelf, double seconds) {
+
+        /**
+         * 피킹한 부품 위치(방문 순서, 부품마다 1개)로 기록 생성
+         * 문에서 출발해 포장대에서 끝나며, 연속된 같은 칸은 한 번의 정차로 본다.
+         */
+        public static Observation of(List<Position> picks, double seconds) {
+            int[] partsByShelf = new int[Position.MAX_SHELF + 1];
+            int distance = 0;
+            int stops = 0;
+            Position previous = Position.start();
+            for (Position pick : picks) {
+                if (!pick.isSameSlot(previous)) {
+                    distance += previous.manhattanDistance(pick);
+                    stops++;
+                    previous = pick;
+                }
+                partsByShelf[pick.getShelf() == null ? 0 : pick.getShelf()]++;
+            }
+            distance += previous.manhattanDistance(Position.end());
+            return new Observation(distance, stops, partsByShelf, seconds);
+        }
+
+        double[] features() {
+            double[] features = new double[FEATURE_COUNT];
+            features[0] = 1;
+            features[1] = distance;
+            features[2] = stops;
+            for (int shelf = 0; shelf <= Position.MAX_SHELF; shelf++) {
+                features[3] += partsByShelf[shelf];
+                if (shelf > 0) {
+                    features[3 + shelf] = partsByShelf[shelf];
+                }
+            }
+            return features;
+        }
+    }
+
+    /**
+     * 최소제곱 보정 (계수는 모두 0 이상)
+     *
+     * 정규 방정식을 열 노름으로 스케일링해 소거하고, 앞선 피처로 설명되는(선형 종속) 피처는 0으로 둔다.
+     * (예: 모든 부품에 층이 있으면 부품 수 = 1~4층 합이라 마지막 층이 기준이 된다)
+     * 음수 계수가 나오면 가장 작은 피처를 빼고 다시 푼다.
+     */
+    public static RouteCostModel fit(List<Observation> observations) {
+        if (observations.size() < MIN_OBSERVATIONS) {
+            throw new IllegalArgumentException("보정에는 최소 " + MIN_OBSERVATIONS + "건의 기록이 필요합니다. (현재 "
+                    + observations.size() + "건)");
+        }
+        int n = observations.size();
+        double[][] x = new double[n][];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            Observation observation = observations.get(i);
+            if (!(observation.seconds() >= 0) || Double.isInfinite(observation.seconds())) {
+                throw new IllegalArgumentException("소요 시간이 올바르지 않습니다: " + observation.seconds());
+            }
+            x[i] = observation.features();
+            y[i] = observation.seconds();
+        }
+
+        boolean[] active = new boolean[FEATURE_COUNT];
+        Arrays.fill(active, true);
+        while (true) {
+            double[] coefficients = solveLeastSquares(x, y, active);
+            int mostNegative = -1;
+            for (int j = 0; j < FEATURE_COUNT; j++) {
+                if (coefficients[j] < 0 && (mostNegative < 0 || coefficients[j] < coefficients[mostNegative])) {
+                    mostNegative = j;
+                }
+            }
+            if (mostNegative < 0) {
+                return new RouteCostModel(coefficients[0], coefficients[1], coefficients[2], coefficients[3],
+                        Arrays.copyOfRange(coefficients, 4, FEATURE_COUNT));
+            }
+            active[mostNegative] = false;
+        }
+    }
+
+    // active 피처만 사용한 최소제곱 해 (비활성/종속 피처는 0)
+    private static double[] solveLeastSquares(double[][] x, double[] y, boolean[] active) {
+        double[] scale = new double[FEATURE_COUNT];
+        for (double[] row : x) {
+            for (int j = 0; j < FEATURE_COUNT; j++) {
+                scale[j] += row[j] * row[j];
+            }
+        }
+        int[] columns = new int[FEATURE_COUNT];
+        int k = 0;
+        for (int j = 0; j < FEATURE_COUNT; j++) {
+            if (active[j] && scale[j] > 0) {
+                scale[j] = Math.sqrt(scale[j]);
+                columns[k++] = j;
+            }
+        }
+
+        // 스케일링된 정규 방정식 (대각 = 1)
+        double[][] a = new double[k][k];
+        double[] b = new double[k];
+        for (int i = 0; i < x.length; i++) {
+            for (int p = 0; p < k; p++) {
+                double xp = x[i][columns[p]] / scale[columns[p]];
+                b[p] += xp * y[i];
+                for (int q = 0; q < k; q++) {
+                    a[p][q] += xp * x[i][columns[q]] / scale[columns[q]];
+                }
+            }
+        }
+
+        // 피벗(남은 분산)이 0에 가까우면 앞선 피처의 선형 결합 → 0으로 둠
+        boolean[] dependent = new boolean[k];
+        for (int p = 0; p < k; p++) {
+            if (a[p][p] <= DEPENDENT_PIVOT) {
+                dependent[p] = true;
+                continue;
+            }
+            for (int r = p + 1; r < k; r++) {
+                double factor = a[r][p] / a[p][p];
+                for (int c = p; c < k; c++) {
+                    a[r][c] -= factor * a[p][c];
+                }
+                b[r] -= factor * b[p];
+            }
+        }
+        double[] solution = new double[k];
+        for (int p = k - 1; p >= 0; p--) {
+            if (dependent[p]) continue;
+            double sum = b[p];
+            for (int c = p + 1; c < k; c++) {
+                if (!dependent[c]) {
+                    sum -= a[p][c] * solution[c];
+                }
+            }
+            solution[p] = sum / a[p][p];
+        }
+
+        double[] coefficients = new double[FEATURE_COUNT];
+        for (int p = 0; p < k; p++) {
+            coefficients[columns[p]] = solution[p] / scale[columns[p]];
+        }
+        return coefficients;
+    }
+}
@@ -0,0 +1,226 @@
+package com.stockmate.parts.api.navigation.service;
+
+import com.stockmate.parts.api.navigation.algorithm.PathOptimizationAlgorithm;
+import com.stockmate.parts.api.navigation.model.Position;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 경로 알고리즘 적응형 선택기
+ *
+ * 입력 특징(정차 지점 수 구간, 블록 분포, 라인 분포)별로 알고리즘의 실행 시간과 최적 갭(최선 거리 대비 초과 비율)을
+ * 지수 이동 평균(EWMA)으로 학습하고, 목표 갭 이하인 알고리즘 중 가장 빠른 하나만 실행하도록 고른다.
+ * - 전체 알고리즘 평가(탐색) 결과로 갭과 시간을, 단일 실행 결과로 시간만 갱신한다.
+ * - 같은 특징의 표본이 부족하면 정차 지점 수 구간 단위 통계로, 그것도 부족하면 탐색(전체 평가)으로 넘긴다.
+ * - 학습이 끝난 뒤에도 exploration-rate 비율만큼은 탐색해 통계를 최신으로 유지한다.
+ */
+@Slf4j
+@Component
+public class AdaptiveAlgorithmSelector {
+
+    // 정차 지점 수 구간 상한 (Held-Karp 20개, Branch and Bound 25개 제한 경계 포함)
+    private static final int[] SIZE_BUCKET_UPPER = {5, 8, 12, 16, 20, 25, 40, 80};
+    private static final double FAILURE_GAP = 1.0; // 실행 실패는 갭 100% 로 기록
+
+    @Value("${navigation.selector.target-gap:0.01}")
+    private double targetGap = 0.01; // 허용 최적 갭 (0.01 = 최선 거리보다 1% 이내)
+
+    @Value("${navigation.selector.exploration-rate:0.05}")
+    private double explorationRate = 0.05; // 학습 후에도 전체 평가를 수행할 비율
+
+    @Value("${navigation.selector.min-samples:5}")
+    private int minSamples = 5; // 선택에 필요한 알고리즘별 최소 평가 횟수
+
+    @Value("${navigation.selector.smoothing:0.2}")
+    private double smoothing = 0.2; // EWMA 가중치 (클수록 최근 결과 반영이 빠름)
+
+    // "특징 키|알고리즘 이름" → 통계 (특징 키 = 구간/블록/라인 또는 구간만)
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 입력 특징
+     * @param blockSpread 정차 지점이 걸친 블록 수 (1~4)
+     * @param lineSpread 정차 지점이 걸친 라인 수 (1~5)
+     */
+    public record Features(int stopCount, int blockSpread, int lineSpread) {
+
+        public static Features of(List<Position> locations) {
+            int blocks = 0;
+            int lines = 0;
+            for (Position location : locations) {
+                blocks |= 1 << location.getBlockNumber();
+                lines |= 1 << location.getLine();
+            }
+            return new Features(locations.size(), Integer.bitCount(blocks), Integer.bitCount(lines));
+        }
+
+        String sizeKey() {
+            for (int upper : SIZE_BUCKET_UPPER) {
+                if (stopCount <= upper) {
+                    return "n" + upper;
+                }
+            }
+            return "n" + SIZE_BUCKET_UPPER[SIZE_BUCKET_UPPER.length - 1] + "+";
+        }
+
+        String contextKey() {
+            return sizeKey() + "/b" + blockSpread + "/l" + lineSpread;
+        }
+    }
+
+    /**
+     * 전체 평가에서 알고리즘 하나의 실행 결과
+     * @param totalDistance 경로 거리 (실패 시 -1)
+     */
+    public record Run(PathOptimizationAlgorithm algorithm, int totalDistance, long elapsedNanos) {
+    }
+
+    /**
+     * 이번 요청에서 단독 실행할 알고리즘
+     * @return 학습된 선택 (탐색 차례이거나 표본이 부족하면 empty → 전체 평가)
+     */
+    public Optional<PathOptimizationAlgorithm> select(Features features, List<PathOptimizationAlgorithm> candidates) {
+        if (ThreadLocalRandom.current().nextDouble() < explorationRate) {
+            return Optional.empty();
+        }
+        return recommend(features, candidates);
+    }
+
+    /**
+     * 학습된 통계 기준 추천 (탐색 없음)
+     * 목표 갭 이하 중 평균 실행 시간이 가장 짧은 알고리즘, 목표를 만족하는 알고리즘이 없으면 갭이 가장 작은 알고리즘
+     */
+    public Optional<PathOptimizationAlgorithm> recommend(Features features, List<PathOptimizationAlgorithm> candidates) {
+        for (String featureKey : List.of(features.contextKey(), features.sizeKey())) {
+            Stats[] candidateStats = new Stats[candidates.size()];
+            boolean sufficient = true;
+            for (int i = 0; i < candidates.size() && sufficient; i++) {
+                candidateStats[i] = stats.get(statsKey(featureKey, candidates.get(i)));
+                sufficient = candidateStats[i] != null && candidateStats[i].gapSamples() >= minSamples;
+            }
+            if (sufficient) {
+                return Optional.ofNullable(choose(candidates, candidateStats));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private PathOptimizationAlgorithm choose(List<PathOptimizationAlgorithm> candidates, Stats[] candidateStats) {
+        PathOptimizationAlgorithm fastest = null;
+        double fastestMillis = Double.MAX_VALUE;
+        PathOptimizationAlgorithm closest = null;
+        double closestGap = Double.MAX_VALUE;
+        double closestMillis = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            double gap = candidateStats[i].gap();
+            double millis = candidateStats[i].millis();
+            if (gap <= targetGap && millis < fastestMillis) {
+                fastest = candidates.get(i);
+                fastestMillis = millis;
+            }
+            if (gap < closestGap || (gap == closestGap && millis < closestMillis)) {
+                closest = candidates.get(i);
+                closestGap = gap;
+                closestMillis = millis;
+            }
+        }
+        return fastest != null ? fastest : closest;
+    }
+
+    /**
+     * 전체 평가 결과 기록 (최선 거리 대비 갭 + 실행 시간)
+     */
+    public void recordEvaluation(Features features, List<Run> runs) {
+        int bestDistance = Integer.MAX_VALUE;
+        for (Run run : runs) {
+            if (run.totalDistance() >= 0) {
+                bestDistance = Math.min(bestDistance, run.totalDistance());
+            }
+        }
+        if (bestDistance == Integer.MAX_VALUE) {
+            return;
+        }
+        for (Run run : runs) {
+            double gap = run.totalDistance() < 0 ? FAILURE_GAP
+                    : bestDistance == 0 ? 0 : (double) (run.totalDistance() - bestDistance) / bestDistance;
+            double millis = run.elapsedNanos() / 1_000_000.0;
+            for (String featureKey : List.of(features.contextKey(), features.sizeKey())) {
+                stats.computeIfAbsent(statsKey(featureKey, run.algorithm()), key -> new Stats())
+                        .record(gap, millis, smoothing);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("알고리즘 선택 통계 갱신 - 특징: {}, 실행: {}개, 최선 거리: {}", features.contextKey(), runs.size(), bestDistance);
+        }
+    }
+
+    /**
+     * 단독 실행 결과 기록 (최선 거리를 모르므로 실행 시간만)
+     */
+    public void recordSolve(Features features, PathOptimizationAlgorithm algorithm, long elapsedNanos) {
+        double millis = elapsedNanos / 1_000_000.0;
+        for (String featureKey : List.of(features.contextKey(), features.sizeKey())) {
+            Stats algorithmStats = stats.get(statsKey(featureKey, algorithm));
+            if (algorithmStats != null) {
+                algorithmStats.recordTime(millis, smoothing);
+            }
+        }
+    }
+
+    /**
+     * 단독 실행 실패 기록 (갭 100% 로 반영해 다음 선택에서 밀려나게 함)
+     */
+    public void recordFailure(Features features, PathOptimizationAlgorithm algorithm) {
+        for (String featureKey : List.of(features.contextKey(), features.sizeKey())) {
+            Stats algorithmStats = stats.get(statsKey(featureKey, algorithm));
+            if (algorithmStats != null) {
+                algorithmStats.recordGap(FAILURE_GAP, smoothing);
+            }
+        }
+    }
+
+    private static String statsKey(String featureKey, PathOptimizationAlgorithm algorithm) {
+        return featureKey + "|" + algorithm.getAlgorithmName();
+    }
+
+    // 알고리즘 × 특징별 EWMA 통계
+    private static final class Stats {
+        private int gapSamples;
+        private double gap;
+        private double millis;
+
+        synchronized void record(double gap, double millis, double smoothing) {
+            recordTime(millis, smoothing);
+            recordGap(gap, smoothing);
+        }
+
+        synchronized void recordGap(double value, double smoothing) {
+            gap = gapSamples == 0 ? value : gap + smoothing * (value - gap);
+            gapSamples++;
+        }
+
+        // 첫 평가 전에는 그대로, 이후 EWMA (단독 실행 기록은 평가 통계가 있는 경우에만 들어옴)
+        synchronized void recordTime(double value, double smoothing) {
+            millis = gapSamples == 0 ? value : millis + smoothing * (value - millis);
+        }
+
+        synchronized int gapSamples() {
+            return gapSamples;
+        }
+
+        synchronized double gap() {
+            return gap;
+        }
+
+        synchronized double millis() {
+            return millis;
+        }
+    }
+}
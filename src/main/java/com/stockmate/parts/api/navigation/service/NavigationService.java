@@ -2,9 +2,25 @@ package com.stockmate.parts.api.navigation.service;
 
 import com.stockmate.parts.api.navigation.algorithm.*;
 import com.stockmate.parts.api.navigation.dto.AlgorithmComparisonDTO;
+import com.stockmate.parts.api.navigation.dto.CapacitatedNavigationRequestDTO;
+import com.stockmate.parts.api.navigation.dto.CapacitatedNavigationResponseDTO;
 import com.stockmate.parts.api.navigation.dto.NavigationRequestDTO;
 import com.stockmate.parts.api.navigation.dto.NavigationResponseDTO;
+import com.stockmate.parts.api.navigation.dto.PrecedenceNavigationRequestDTO;
+import com.stockmate.parts.api.navigation.model.CartTripPlanner;
+import com.stockmate.parts.api.navigation.model.PickList;
 import com.stockmate.parts.api.navigation.model.Position;
+import com.stockmate.parts.api.navigation.model.PrecedenceMode;
+import com.stockmate.parts.api.navigation.model.RouteCostModel;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.ServiceUnavailableException;
+import com.stockmate.parts.common.response.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,6 +28,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,106 +46,221 @@ public class NavigationService {
     private final HeldKarpAlgorithm heldKarpAlgorithm;
     private final DijkstraBasedAlgorithm dijkstraBasedAlgorithm;
     private final BranchAndBoundAlgorithm branchAndBoundAlgorithm;
+    private final AisleDynamicProgrammingAlgorithm aisleDynamicProgrammingAlgorithm;
+    private final PrecedenceConstrainedAlgorithm precedenceConstrainedAlgorithm;
+
+    private final AdaptiveAlgorithmSelector adaptiveAlgorithmSelector;
+    private final RouteCostModelService routeCostModelService; // 예상 시간 (navigation.time.* + 보정)
+    private final PartsRepository partsRepository;
+    private final MeterRegistry meterRegistry;
     
     @Value("${order.server.url}")
     private String orderServerUrl;
     
-    // 시간 예측 설정 (application.yml에서 주입)
-    @Value("${navigation.time.seconds-per-unit:1.5}")
-    private double secondsPerUnitDistance; // 1 Manhattan Distance당 걷기 시간 (초)
-    
-    @Value("${navigation.time.picking-per-part:8}")
-    private int pickingTimePerPart; // 부품 1개당 피킹 시간 (초)
-    
-    @Value("${navigation.time.buffer:10}")
-    private int startEndBufferTime; // 시작/종료 버퍼 시간 (초)
+    // 경로 스트리밍 설정
+    @Value("${navigation.stream.threads:4}")
+    private int streamThreads; // 동시에 계산할 수 있는 스트리밍 요청 수
+
+    @Value("${navigation.stream.queue-capacity:50}")
+    private int streamQueueCapacity; // 대기 가능한 스트리밍 요청 수 (초과 시 거절)
+
+    @Value("${navigation.stream.min-interval-ms:200}")
+    private long streamMinIntervalMs; // 중간 경로 전송 최소 간격 (최종 경로는 항상 전송)
+
+    // 카트 용량 기반 경로 설정
+    @Value("${navigation.cart.capacity:50}")
+    private double defaultCartCapacity; // 요청에 적재 한도가 없을 때 사용 (부품 weight 와 같은 단위)
+
+    @Value("${navigation.cart.default-part-weight:1.0}")
+    private double defaultPartWeight; // weight 가 등록되지 않은 부품의 무게
+
+    @Value("${navigation.cart.solve-threads:0}")
+    private int tripSolveThreads; // 트립 경로 병렬 계산 스레드 수 (0 이면 CPU 코어 수)
+
+    // 선후 제약 경로 설정
+    @Value("${navigation.precedence.weight-thresholds:20,5}")
+    private String precedenceWeightThresholds; // 무게 구간 경계 (이상이면 해당 구간, 무거운 구간부터 방문)
+
+    @Value("${navigation.precedence.category-order:}")
+    private String precedenceCategoryOrder; // 카테고리 방문 순서 (콤마 구분, 목록에 없는 카테고리는 마지막)
+
+    private ExecutorService streamExecutor;
+    private ExecutorService tripExecutor;
+
+    @PostConstruct
+    void startExecutors() {
+        int threads = Math.max(streamThreads, 1);
+        streamExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(streamQueueCapacity, 1)), daemonThreads("navigation-stream-"));
+        int tripThreads = tripSolveThreads > 0 ? tripSolveThreads : Runtime.getRuntime().availableProcessors();
+        tripExecutor = Executors.newFixedThreadPool(tripThreads, daemonThreads("navigation-trip-"));
+    }
+
+    @PreDestroy
+    void stopExecutors() {
+        streamExecutor.shutdownNow();
+        tripExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
     
     /**
-     * 최적 경로 계산 (부품 개수에 따라 자동으로 알고리즘 선택)
+     * 최적 경로 계산 (입력 특징별 학습 결과로 알고리즘 하나를 선택, 학습 전/탐색 차례에는 전체 평가)
      */
     public NavigationResponseDTO calculateOptimalRoute(NavigationRequestDTO requestDTO) {
         log.info("최적 경로 계산 시작 - 주문 번호 수: {}", requestDTO.getOrderNumbers().size());
         
         // 1. Order 서버로부터 부품 위치 정보 가져오기
-        Map<String, Object> orderRequest = new HashMap<>();
-        orderRequest.put("orderNumbers", requestDTO.getOrderNumbers());
-        
-        Map<String, Object> orderResponse = webClientBuilder.build()
-                .post()
-                .uri(orderServerUrl + "/api/v1/order/navigation/parts")
-                .bodyValue(orderRequest)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+        List<Map<String, Object>> partLocations = fetchPartLocations(requestDTO.getOrderNumbers());
+        log.info("Order 서버로부터 부품 위치 정보 가져오기 완료 - 부품 수: {}", partLocations.size());
         
-        if (orderResponse == null || !orderResponse.containsKey("data")) {
-            throw new RuntimeException("Order 서버로부터 부품 정보를 가져오지 못했습니다.");
-        }
+        // 2. 칸 단위로 묶기 (같은 칸의 부품/주문은 모두 보관)
+        Position start = Position.start();
+        Position end = Position.end();
+        PickList pickList = toPickList(partLocations);
+        List<Position> locations = pickList.stops();
         
-        Map<String, Object> data = (Map<String, Object>) orderResponse.get("data");
-        List<Map<String, Object>> partLocations = (List<Map<String, Object>>) data.get("partLocations");
+        log.info("중복 제거 완료 - 전체 부품: {}개, 고유 위치: {}개", pickList.itemCount(), locations.size());
         
-        if (partLocations == null || partLocations.isEmpty()) {
-            throw new RuntimeException("해당 주문에 부품이 없습니다.");
-        }
+        // 3. 학습된 알고리즘 하나만 실행 (표본 부족/탐색 차례면 모든 알고리즘을 평가하여 선택 + 학습)
+        AdaptiveAlgorithmSelector.Features features = AdaptiveAlgorithmSelector.Features.of(locations);
+        Optional<PathOptimizationAlgorithm> learned = adaptiveAlgorithmSelector.select(features, candidateAlgorithms());
         
-        log.info("Order 서버로부터 부품 위치 정보 가져오기 완료 - 부품 수: {}", partLocations.size());
-        
-        // 2. Position 객체로 변환 (중복 제거)
-        Position start = Position.parse("문");
-        Position end = Position.parse("포장대");
+        PathOptimizationAlgorithm selectedAlgorithm = null;
+        List<Position> optimalPath = null;
+        long executionTimeMs = 0;
         
-        // 중복 위치 제거 (같은 위치에 여러 부품이 있을 수 있음)
-        Map<String, PartLocationWithInfo> uniqueLocationMap = new LinkedHashMap<>();
-        for (Map<String, Object> part : partLocations) {
-            String locationString = (String) part.get("location");
-            if (!uniqueLocationMap.containsKey(locationString)) {
-                uniqueLocationMap.put(locationString, new PartLocationWithInfo(
-                        Position.parse(locationString),
-                        (String) part.get("partName"),
-                        (String) part.get("orderNumber"),
-                        ((Number) part.get("partId")).longValue()
-                ));
+        if (learned.isPresent()) {
+            long startNanos = System.nanoTime();
+            try {
+                optimalPath = solveWithMetrics(learned.get(), start, end, locations);
+                long elapsedNanos = System.nanoTime() - startNanos;
+                adaptiveAlgorithmSelector.recordSolve(features, learned.get(), elapsedNanos);
+                selectedAlgorithm = learned.get();
+                executionTimeMs = elapsedNanos / 1_000_000;
+            } catch (RuntimeException e) {
+                log.error("학습 선택 알고리즘 실행 실패 - {}: {}, 전체 평가로 전환합니다.",
+                        learned.get().getAlgorithmName(), e.getMessage(), e);
+                adaptiveAlgorithmSelector.recordFailure(features, learned.get());
             }
         }
         
-        List<PartLocationWithInfo> partInfoList = new ArrayList<>(uniqueLocationMap.values());
-        List<Position> locations = partInfoList.stream()
-                .map(PartLocationWithInfo::getPosition)
-                .collect(Collectors.toList());
-        
-        log.info("중복 제거 완료 - 전체 부품: {}개, 고유 위치: {}개", partLocations.size(), locations.size());
-        
-        // 3. 모든 알고리즘을 평가하여 최적 알고리즘 선택
-        AlgorithmEvaluation evaluation = evaluateAlgorithms(start, end, locations);
-        RawAlgorithmResult recommendedResult = evaluation.recommendedResult();
-        
-        PathOptimizationAlgorithm selectedAlgorithm;
-        List<Position> optimalPath;
-        long executionTimeMs;
-        
-        if (recommendedResult != null && recommendedResult.success()) {
-            selectedAlgorithm = recommendedResult.algorithm();
-            optimalPath = recommendedResult.path();
-            executionTimeMs = recommendedResult.executionTimeMs();
+        if (optimalPath != null) {
+            log.info("학습 기반 알고리즘 선택 - {} (고유 위치: {}개, 블록: {}, 라인: {})", selectedAlgorithm.getAlgorithmName(),
+                    features.stopCount(), features.blockSpread(), features.lineSpread());
         } else {
-            selectedAlgorithm = selectAlgorithmByPolicy(locations.size());
-            log.warn("추천 가능한 알고리즘을 찾지 못해 정책 기반 알고리즘({})을 사용합니다.", selectedAlgorithm.getAlgorithmName());
-            long startTime = System.currentTimeMillis();
-            optimalPath = selectedAlgorithm.findOptimalPath(start, end, locations);
-            executionTimeMs = System.currentTimeMillis() - startTime;
+            RawAlgorithmResult recommendedResult = evaluateAlgorithms(start, end, locations).recommendedResult();
+            if (recommendedResult != null && recommendedResult.success()) {
+                selectedAlgorithm = recommendedResult.algorithm();
+                optimalPath = recommendedResult.path();
+                executionTimeMs = recommendedResult.executionTimeMs();
+            } else {
+                selectedAlgorithm = selectAlgorithmByPolicy(locations.size());
+                log.warn("추천 가능한 알고리즘을 찾지 못해 정책 기반 알고리즘({})을 사용합니다.", selectedAlgorithm.getAlgorithmName());
+                long startTime = System.currentTimeMillis();
+                optimalPath = solveWithMetrics(selectedAlgorithm, start, end, locations);
+                executionTimeMs = System.currentTimeMillis() - startTime;
+            }
         }
         
         log.info("선택된 알고리즘: {} (부품 개수: {}), 실행 시간: {}ms", selectedAlgorithm.getAlgorithmName(), locations.size(), executionTimeMs);
         
         // 4. 응답 DTO 생성
+        NavigationResponseDTO response = buildResponse(selectedAlgorithm, optimalPath, pickList, executionTimeMs);
+        
+        log.info("최적 경로 계산 완료 - 알고리즘: {}, 총 거리: {}, 걷기: {}초, 피킹: {}초, 버퍼: {}초, 총 시간: {}초, 실행 시간: {}ms",
+                selectedAlgorithm.getAlgorithmName(), response.getTotalDistance(), response.getWalkingTimeSeconds(),
+                response.getPickingTimeSeconds(), response.getBufferTimeSeconds(), response.getEstimatedTimeSeconds(), executionTimeMs);
+        
+        return response;
+    }
+    
+    /**
+     * 최적 경로 스트리밍 계산
+     * 정책 기반으로 고른 알고리즘이 더 짧은 경로를 찾을 때마다 onImprovement 로 중간 응답을 전달하고,
+     * 최종 응답으로 완료되는 future 를 반환한다. 계산은 전용 스레드에서 수행한다.
+     */
+    public CompletableFuture<NavigationResponseDTO> streamOptimalRoute(NavigationRequestDTO requestDTO,
+                                                                       Consumer<NavigationResponseDTO> onImprovement) {
+        log.info("최적 경로 스트리밍 시작 - 주문 번호 수: {}", requestDTO.getOrderNumbers().size());
+        try {
+            return CompletableFuture.supplyAsync(() -> computeStreamingRoute(requestDTO, onImprovement), streamExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("경로 스트리밍 요청 거절 - 대기열 포화 (threads={}, queue={})", streamThreads, streamQueueCapacity);
+            throw new ServiceUnavailableException(ErrorStatus.NAVIGATION_STREAM_BUSY_EXCEPTION.getMessage());
+        }
+    }
+    
+    private NavigationResponseDTO computeStreamingRoute(NavigationRequestDTO requestDTO,
+                                                        Consumer<NavigationResponseDTO> onImprovement) {
+        List<Map<String, Object>> partLocations = fetchPartLocations(requestDTO.getOrderNumbers());
+        PickList pickList = toPickList(partLocations);
+        List<Position> locations = pickList.stops();
+        PathOptimizationAlgorithm algorithm = selectAlgorithmByPolicy(locations.size());
+        
+        long startTime = System.currentTimeMillis();
+        long[] lastSentAt = {Long.MIN_VALUE};
+        int[] sentCount = {0};
+        AnytimePathOptimizationAlgorithm.RouteListener listener = (path, totalDistance) -> {
+            long now = System.currentTimeMillis();
+            // 첫 경로는 즉시, 이후 개선은 최소 간격마다 전송 (단말 렌더링/네트워크 부담 제한)
+            if (lastSentAt[0] != Long.MIN_VALUE && now - lastSentAt[0] < streamMinIntervalMs) {
+                return;
+            }
+            lastSentAt[0] = now;
+            sentCount[0]++;
+            onImprovement.accept(buildResponse(algorithm, path, pickList, now - startTime));
+        };
+        
+        List<Position> optimalPath = solveWithMetrics(algorithm, Position.start(), Position.end(), locations, listener);
+        long executionTimeMs = System.currentTimeMillis() - startTime;
+        NavigationResponseDTO response = buildResponse(algorithm, optimalPath, pickList, executionTimeMs);
+        
+        log.info("최적 경로 스트리밍 완료 - 알고리즘: {}, 고유 위치: {}개, 중간 전송: {}회, 총 거리: {}, 실행 시간: {}ms",
+                algorithm.getAlgorithmName(), locations.size(), sentCount[0], response.getTotalDistance(), executionTimeMs);
+        return response;
+    }
+    
+    /**
+     * 경로 → 응답 DTO (단계별 부품 정보, 예상 시간 포함)
+     */
+    private NavigationResponseDTO buildResponse(PathOptimizationAlgorithm algorithm, List<Position> optimalPath,
+                                                PickList pickList, long executionTimeMs) {
+        List<List<PickList.PickItem>> stepItems = new ArrayList<>(optimalPath.size());
+        for (int i = 0; i < optimalPath.size(); i++) {
+            boolean endpoint = i == 0 || i == optimalPath.size() - 1;
+            stepItems.add(endpoint ? Collections.emptyList() : pickList.itemsAt(optimalPath.get(i)));
+        }
+        return buildResponse(algorithm, optimalPath, stepItems, null, executionTimeMs);
+    }
+    
+    /**
+     * 경로 → 응답 DTO (단계별 피킹 부품을 직접 지정, 같은 칸을 여러 번 들르는 경로용)
+     * @param stepRanks 단계별 선후 제약 순위 (없으면 null)
+     */
+    private NavigationResponseDTO buildResponse(PathOptimizationAlgorithm algorithm, List<Position> optimalPath,
+                                                List<List<PickList.PickItem>> stepItems, int[] stepRanks,
+                                                long executionTimeMs) {
         int totalDistance = calculateTotalDistance(optimalPath);
         
-        // 예상 시간 계산 (application.yml 설정 기반)
-        // = (이동 거리 × 걷기시간) + (부품 개수 × 피킹시간) + (버퍼시간)
-        int walkingTime = (int) (totalDistance * secondsPerUnitDistance);
-        int pickingTime = locations.size() * pickingTimePerPart;
-        int estimatedTime = walkingTime + pickingTime + startEndBufferTime;
+        // 예상 시간 계산 (RouteCostModel)
+        // = (이동 거리 × 걷기시간) + Σ 정차 지점 (정차 시간 + 부품별 피킹시간 + 선반 층 추가시간) + (버퍼시간)
+        RouteCostModel costModel = routeCostModelService.current();
+        double pickingSeconds = 0;
+        for (List<PickList.PickItem> items : stepItems) {
+            pickingSeconds += costModel.stopSeconds(items); // 같은 칸의 부품도 각각 피킹
+        }
+        int walkingTime = (int) costModel.travelSeconds(totalDistance);
+        int pickingTime = (int) Math.round(pickingSeconds);
+        int bufferTime = (int) Math.round(costModel.getFixedSeconds());
+        int estimatedTime = walkingTime + pickingTime + bufferTime;
         
         List<NavigationResponseDTO.RouteStep> routeSteps = new ArrayList<>();
         int cumulativeDistance = 0;
@@ -139,24 +274,33 @@ public class NavigationService {
                 cumulativeDistance += distanceFromPrevious;
             }
             
-            // 부품 정보 찾기
+            // 부품 정보 (slotId 인덱스 조회)
             String description = null;
             String orderNumber = null;
             Long partId = null;
+            List<NavigationResponseDTO.PickedPart> parts = Collections.emptyList();
             
-            if (!pos.isStart() && !pos.isEnd()) {
-                for (PartLocationWithInfo info : partInfoList) {
-                    if (info.getPosition().equals(pos)) {
-                        description = info.getPartName();
-                        orderNumber = info.getOrderNumber();
-                        partId = info.getPartId();
-                        break;
-                    }
-                }
-            } else if (pos.isStart()) {
-                description = "시작점";
-            } else if (pos.isEnd()) {
+            if (i == 0) {
+                description = "시작점"; // 두 번째 이후 카트 트립은 포장대에서 출발
+            } else if (i == optimalPath.size() - 1) {
                 description = "종료점";
+            } else {
+                List<PickList.PickItem> items = stepItems.get(i);
+                if (!items.isEmpty()) {
+                    PickList.PickItem first = items.get(0);
+                    description = first.partName();
+                    orderNumber = first.orderNumber();
+                    partId = first.partId();
+                }
+                parts = new ArrayList<>(items.size());
+                for (PickList.PickItem item : items) {
+                    parts.add(NavigationResponseDTO.PickedPart.builder()
+                            .partId(item.partId())
+                            .partName(item.partName())
+                            .orderNumber(item.orderNumber())
+                            .location(item.position().toString())
+                            .build());
+                }
             }
             
             routeSteps.add(NavigationResponseDTO.RouteStep.builder()
@@ -167,68 +311,266 @@ public class NavigationService {
                     .distanceFromPrevious(distanceFromPrevious)
                     .orderNumber(orderNumber)
                     .partId(partId)
+                    .parts(parts)
+                    .precedenceRank(stepRanks == null || i == 0 || i == optimalPath.size() - 1 ? null : stepRanks[i - 1])
                     .build());
         }
         
-        log.info("최적 경로 계산 완료 - 알고리즘: {}, 총 거리: {}, 걷기: {}초, 피킹: {}초, 버퍼: {}초, 총 시간: {}초, 실행 시간: {}ms",
-                selectedAlgorithm.getAlgorithmName(), totalDistance, walkingTime, pickingTime, startEndBufferTime, estimatedTime, executionTimeMs);
-        
         return NavigationResponseDTO.builder()
-                .algorithmType(selectedAlgorithm.getAlgorithmName())
+                .algorithmType(algorithm.getAlgorithmName())
                 .optimizedRoute(routeSteps)
                 .totalDistance(totalDistance)
                 .estimatedTimeSeconds(estimatedTime)
                 .walkingTimeSeconds(walkingTime)
                 .pickingTimeSeconds(pickingTime)
-                .bufferTimeSeconds(startEndBufferTime)
+                .bufferTimeSeconds(bufferTime)
                 .executionTimeMs(executionTimeMs)
                 .build();
     }
     
     /**
-     * 모든 알고리즘 비교 (성능 분석용)
+     * 카트 용량 기반 경로 계산
+     * 부품 무게(Parts.weight × 수량)로 피킹 항목을 적재 한도 이하의 트립으로 나누고 (트립 수 최소화),
+     * 트립별 경로는 전용 스레드에서 병렬로 계산한다. 첫 트립은 문, 이후 트립은 포장대에서 출발한다.
      */
-    public AlgorithmComparisonDTO compareAllAlgorithms(NavigationRequestDTO requestDTO) {
-        log.info("모든 알고리즘 비교 시작 - 주문 번호 수: {}", requestDTO.getOrderNumbers().size());
-        
-        // 1. Order 서버로부터 부품 위치 정보 가져오기
-        Map<String, Object> orderRequest = new HashMap<>();
-        orderRequest.put("orderNumbers", requestDTO.getOrderNumbers());
-        
-        Map<String, Object> orderResponse = webClientBuilder.build()
-                .post()
-                .uri(orderServerUrl + "/api/v1/order/navigation/parts")
-                .bodyValue(orderRequest)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-        
-        if (orderResponse == null || !orderResponse.containsKey("data")) {
-            throw new RuntimeException("Order 서버로부터 부품 정보를 가져오지 못했습니다.");
+    public CapacitatedNavigationResponseDTO calculateCapacitatedRoute(CapacitatedNavigationRequestDTO requestDTO) {
+        double capacity = requestDTO.getCartCapacity() != null ? requestDTO.getCartCapacity() : defaultCartCapacity;
+        if (!(capacity > 0)) {
+            throw new BadRequestException("카트 적재 한도는 0보다 커야 합니다.");
+        }
+        log.info("카트 용량 기반 경로 계산 시작 - 주문 번호 수: {}, 적재 한도: {}", requestDTO.getOrderNumbers().size(), capacity);
+        
+        // 1. Order 서버로부터 부품 위치 정보 가져오기 + 항목별 무게
+        List<Map<String, Object>> partLocations = fetchPartLocations(requestDTO.getOrderNumbers());
+        long startTime = System.currentTimeMillis();
+        Map<Long, Parts> partsById = loadParts(partLocations);
+        
+        int itemCount = partLocations.size();
+        List<Position> positions = new ArrayList<>(itemCount);
+        double[] weights = new double[itemCount];
+        double totalWeight = 0;
+        int missingWeights = 0;
+        for (int i = 0; i < itemCount; i++) {
+            Map<String, Object> part = partLocations.get(i);
+            positions.add(Position.parse((String) part.get("location")));
+            Object partId = part.get("partId");
+            Parts catalog = partId == null ? null : partsById.get(((Number) partId).longValue());
+            Double unitWeight = catalog == null ? null : catalog.getWeight();
+            if (unitWeight == null) {
+                unitWeight = defaultPartWeight;
+                missingWeights++;
+            }
+            weights[i] = unitWeight * quantityOf(part);
+            if (weights[i] > capacity) {
+                throw new BadRequestException("카트 적재 한도(" + capacity + ")보다 무거운 부품이 있습니다: "
+                        + part.get("partName") + " (" + weights[i] + ")");
+            }
+            totalWeight += weights[i];
+        }
+        if (missingWeights > 0) {
+            log.warn("무게 정보가 없는 부품 {}개는 기본 무게({})로 계산합니다.", missingWeights, defaultPartWeight);
         }
         
-        Map<String, Object> data = (Map<String, Object>) orderResponse.get("data");
-        List<Map<String, Object>> partLocations = (List<Map<String, Object>>) data.get("partLocations");
+        // 2. 전체 경로 기준으로 트립 분할 (트립 수 최소 → 이동 + 정차 시간 최소)
+        List<Position> tour = solveWithMetrics(aisleDynamicProgrammingAlgorithm, Position.start(), Position.end(),
+                toPickList(partLocations).stops());
+        CartTripPlanner.Plan plan = CartTripPlanner.plan(positions, weights, capacity, tour, routeCostModelService.current());
+        
+        // 3. 트립별 경로 병렬 계산
+        List<CompletableFuture<CapacitatedNavigationResponseDTO.CartTrip>> futures = new ArrayList<>();
+        for (int t = 0; t < plan.trips().size(); t++) {
+            List<Map<String, Object>> tripParts = new ArrayList<>();
+            double load = 0;
+            for (int index : plan.trips().get(t)) {
+                tripParts.add(partLocations.get(index));
+                load += weights[index];
+            }
+            int tripNumber = t + 1;
+            double loadWeight = load;
+            Position tripStart = t == 0 ? Position.start() : Position.end();
+            futures.add(CompletableFuture.supplyAsync(() -> CapacitatedNavigationResponseDTO.CartTrip.builder()
+                    .tripNumber(tripNumber)
+                    .loadWeight(loadWeight)
+                    .route(solveTrip(tripStart, toPickList(tripParts)))
+                    .build(), tripExecutor));
+        }
         
-        if (partLocations == null || partLocations.isEmpty()) {
-            throw new RuntimeException("해당 주문에 부품이 없습니다.");
+        List<CapacitatedNavigationResponseDTO.CartTrip> trips = new ArrayList<>(futures.size());
+        int totalDistance = 0;
+        int estimatedTime = 0;
+        try {
+            for (CompletableFuture<CapacitatedNavigationResponseDTO.CartTrip> future : futures) {
+                CapacitatedNavigationResponseDTO.CartTrip trip = future.join();
+                trips.add(trip);
+                totalDistance += trip.getRoute().getTotalDistance();
+                estimatedTime += trip.getRoute().getEstimatedTimeSeconds();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
+        long executionTimeMs = System.currentTimeMillis() - startTime;
         
-        // 2. Position 객체로 변환 (중복 제거)
-        Position start = Position.parse("문");
-        Position end = Position.parse("포장대");
+        log.info("카트 용량 기반 경로 계산 완료 - 항목: {}개, 전체 무게: {}, 트립: {}개 (하한 {}), 총 거리: {}, 총 시간: {}초, 실행 시간: {}ms",
+                itemCount, totalWeight, trips.size(), plan.lowerBound(), totalDistance, estimatedTime, executionTimeMs);
         
-        // 중복된 위치 제거 (같은 위치에 여러 부품이 있을 수 있음)
-        Map<String, Position> uniqueLocationsMap = new LinkedHashMap<>();
+        return CapacitatedNavigationResponseDTO.builder()
+                .cartCapacity(capacity)
+                .totalWeight(totalWeight)
+                .tripCount(trips.size())
+                .minimumTripCount(plan.lowerBound())
+                .totalDistance(totalDistance)
+                .estimatedTimeSeconds(estimatedTime)
+                .executionTimeMs(executionTimeMs)
+                .trips(trips)
+                .build();
+    }
+    
+    // 트립 하나의 경로 계산 (학습된 알고리즘, 없으면 정책 기반 / 포장대에서 종료)
+    private NavigationResponseDTO solveTrip(Position tripStart, PickList tripPickList) {
+        List<Position> stops = tripPickList.stops();
+        AdaptiveAlgorithmSelector.Features features = AdaptiveAlgorithmSelector.Features.of(stops);
+        PathOptimizationAlgorithm algorithm = adaptiveAlgorithmSelector.recommend(features, candidateAlgorithms())
+                .orElseGet(() -> selectAlgorithmByPolicy(stops.size()));
+        long startNanos = System.nanoTime();
+        List<Position> path = solveWithMetrics(algorithm, tripStart, Position.end(), stops);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        adaptiveAlgorithmSelector.recordSolve(features, algorithm, elapsedNanos);
+        return buildResponse(algorithm, path, tripPickList, elapsedNanos / 1_000_000);
+    }
+    
+    // 피킹 대상 부품 카탈로그 (무게/카테고리 조회용)
+    private Map<Long, Parts> loadParts(List<Map<String, Object>> partLocations) {
+        Set<Long> partIds = new HashSet<>();
+        for (Map<String, Object> part : partLocations) {
+            Object partId = part.get("partId");
+            if (partId != null) {
+                partIds.add(((Number) partId).longValue());
+            }
+        }
+        Map<Long, Parts> partsById = new HashMap<>();
+        for (Parts part : partsRepository.findAllById(partIds)) {
+            partsById.put(part.getId(), part);
+        }
+        return partsById;
+    }
+    
+    // 부품별 선후 제약 순위 (작을수록 먼저 방문)
+    private int precedenceRank(Parts part, PrecedenceMode mode, double[] weightThresholds, List<String> categoryOrder) {
+        if (mode == PrecedenceMode.CATEGORY) {
+            int index = part == null ? -1 : categoryOrder.indexOf(part.getCategoryName());
+            return index >= 0 ? index : categoryOrder.size();
+        }
+        double weight = part != null && part.getWeight() != null ? part.getWeight() : defaultPartWeight;
+        for (int i = 0; i < weightThresholds.length; i++) {
+            if (weight >= weightThresholds[i]) {
+                return i;
+            }
+        }
+        return weightThresholds.length;
+    }
+    
+    // "20,5" → 내림차순 무게 구간 경계
+    private static double[] parseWeightThresholds(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .mapToDouble(Double::parseDouble)
+                .map(weight -> -weight).sorted().map(weight -> -weight)
+                .toArray();
+    }
+    
+    // Order 서버 응답에 수량이 있으면 반영 (없으면 1개)
+    private static int quantityOf(Map<String, Object> part) {
+        Object quantity = part.get("quantity");
+        return quantity instanceof Number number ? Math.max(number.intValue(), 1) : 1;
+    }
+    
+    /**
+     * 선후 제약 경로 계산
+     * 부품을 무게 구간(또는 카테고리 순서)별 그룹으로 나누고, 앞 그룹을 모두 피킹한 뒤 다음 그룹으로 넘어가는 경로를 계산한다.
+     * 같은 칸에 다른 그룹의 부품이 있으면 그룹마다 따로 들른다 (칸 단위 묶음은 그룹 안에서만).
+     */
+    public NavigationResponseDTO calculatePrecedenceRoute(PrecedenceNavigationRequestDTO requestDTO) {
+        PrecedenceMode mode = requestDTO.getPrecedence() != null ? requestDTO.getPrecedence() : PrecedenceMode.WEIGHT;
+        log.info("선후 제약 경로 계산 시작 - 주문 번호 수: {}, 기준: {}", requestDTO.getOrderNumbers().size(), mode);
+        
+        // 1. Order 서버로부터 부품 위치 정보 가져오기 + 그룹 순위
+        List<Map<String, Object>> partLocations = fetchPartLocations(requestDTO.getOrderNumbers());
+        Map<Long, Parts> partsById = loadParts(partLocations);
+        double[] weightThresholds = parseWeightThresholds(precedenceWeightThresholds);
+        List<String> categoryOrder = Arrays.stream(precedenceCategoryOrder.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .toList();
+        
+        // 2. 그룹별로 칸 단위 묶기
+        TreeMap<Integer, List<Map<String, Object>>> partsByRank = new TreeMap<>();
         for (Map<String, Object> part : partLocations) {
-            String locationString = (String) part.get("location");
-            if (!uniqueLocationsMap.containsKey(locationString)) {
-                uniqueLocationsMap.put(locationString, Position.parse(locationString));
+            Object partId = part.get("partId");
+            Parts catalog = partId == null ? null : partsById.get(((Number) partId).longValue());
+            partsByRank.computeIfAbsent(precedenceRank(catalog, mode, weightThresholds, categoryOrder), k -> new ArrayList<>())
+                    .add(part);
+        }
+        List<Position> stops = new ArrayList<>();
+        List<Integer> stopRanks = new ArrayList<>();
+        Map<Integer, PickList> pickListByRank = new HashMap<>();
+        for (Map.Entry<Integer, List<Map<String, Object>>> entry : partsByRank.entrySet()) {
+            PickList pickList = toPickList(entry.getValue());
+            pickListByRank.put(entry.getKey(), pickList);
+            for (Position stop : pickList.stops()) {
+                stops.add(stop);
+                stopRanks.add(entry.getKey());
             }
         }
-        List<Position> locations = new ArrayList<>(uniqueLocationsMap.values());
+        int[] ranks = stopRanks.stream().mapToInt(Integer::intValue).toArray();
+        
+        // 3. 제약 경로 계산
+        long startTime = System.currentTimeMillis();
+        int[] order = recordSolve(precedenceConstrainedAlgorithm, stops.size(),
+                () -> precedenceConstrainedAlgorithm.solveOrder(Position.start(), Position.end(), stops, ranks));
+        long executionTimeMs = System.currentTimeMillis() - startTime;
+        
+        // 4. 응답 DTO 생성 (같은 칸이라도 그룹별 피킹 부품만)
+        List<Position> path = new ArrayList<>(order.length + 2);
+        List<List<PickList.PickItem>> stepItems = new ArrayList<>(order.length + 2);
+        int[] stepRanks = new int[order.length];
+        path.add(Position.start());
+        stepItems.add(Collections.emptyList());
+        for (int i = 0; i < order.length; i++) {
+            Position stop = stops.get(order[i]);
+            path.add(stop);
+            stepItems.add(pickListByRank.get(ranks[order[i]]).itemsAt(stop));
+            stepRanks[i] = ranks[order[i]];
+        }
+        path.add(Position.end());
+        stepItems.add(Collections.emptyList());
+        
+        NavigationResponseDTO response = buildResponse(precedenceConstrainedAlgorithm, path, stepItems, stepRanks,
+                executionTimeMs);
+        log.info("선후 제약 경로 계산 완료 - 기준: {}, 그룹: {}개, 정차: {}곳, 총 거리: {}, 실행 시간: {}ms",
+                mode, partsByRank.size(), stops.size(), response.getTotalDistance(), executionTimeMs);
+        return response;
+    }
+    
+    /**
+     * 모든 알고리즘 비교 (성능 분석용)
+     */
+    public AlgorithmComparisonDTO compareAllAlgorithms(NavigationRequestDTO requestDTO) {
+        log.info("모든 알고리즘 비교 시작 - 주문 번호 수: {}", requestDTO.getOrderNumbers().size());
+        
+        // 1. Order 서버로부터 부품 위치 정보 가져오기
+        List<Map<String, Object>> partLocations = fetchPartLocations(requestDTO.getOrderNumbers());
         
-        log.info("중복 제거 완료 - 전체 부품: {}개, 고유 위치: {}개", partLocations.size(), locations.size());
+        // 2. 칸 단위로 묶기
+        Position start = Position.start();
+        Position end = Position.end();
+        PickList pickList = toPickList(partLocations);
+        List<Position> locations = pickList.stops();
+        
+        log.info("중복 제거 완료 - 전체 부품: {}개, 고유 위치: {}개", pickList.itemCount(), locations.size());
         
         // 3. 모든 알고리즘 실행 및 평가
         AlgorithmEvaluation evaluation = evaluateAlgorithms(start, end, locations);
@@ -292,16 +634,65 @@ public class NavigationService {
     }
     
     /**
-     * 모든 알고리즘을 실행하여 평가한다.
+     * 알고리즘 실행 + 알고리즘별 실행 시간 기록 (navigation.algorithm.solve)
      */
-    private AlgorithmEvaluation evaluateAlgorithms(Position start, Position end, List<Position> locations) {
-        List<PathOptimizationAlgorithm> algorithms = Arrays.asList(
+    private List<Position> solveWithMetrics(PathOptimizationAlgorithm algorithm, Position start, Position end,
+                                            List<Position> locations) {
+        return solveWithMetrics(algorithm, start, end, locations, AnytimePathOptimizationAlgorithm.RouteListener.NONE);
+    }
+
+    // anytime 알고리즘이면 개선 경로를 listener 로 전달 (그 외는 최종 경로만 반환)
+    private List<Position> solveWithMetrics(PathOptimizationAlgorithm algorithm, Position start, Position end,
+                                            List<Position> locations,
+                                            AnytimePathOptimizationAlgorithm.RouteListener listener) {
+        return recordSolve(algorithm, locations.size(), () -> algorithm instanceof AnytimePathOptimizationAlgorithm anytime
+                ? anytime.findOptimalPath(start, end, locations, listener)
+                : algorithm.findOptimalPath(start, end, locations));
+    }
+
+    private <T> T recordSolve(PathOptimizationAlgorithm algorithm, int size, Supplier<T> solver) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = solver.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("navigation.algorithm.solve")
+                    .description("경로 최적화 알고리즘 실행 시간")
+                    .tag("algorithm", algorithm.getAlgorithmName())
+                    .tag("size", sizeBucket(size))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 부품 개수 구간 (태그 카디널리티 제한용, 대량 구간은 31개 기준으로 나눠 추적)
+    private static String sizeBucket(int size) {
+        if (size <= 8) return "1-8";
+        if (size <= 15) return "9-15";
+        if (size <= 30) return "16-30";
+        return "31+";
+    }
+
+    // 학습/평가 대상 알고리즘 (문 → 포장대 단일 경로용)
+    private List<PathOptimizationAlgorithm> candidateAlgorithms() {
+        return Arrays.asList(
                 nearestNeighborAlgorithm,
                 twoOptAlgorithm,
                 heldKarpAlgorithm,
                 dijkstraBasedAlgorithm,
-                branchAndBoundAlgorithm
+                branchAndBoundAlgorithm,
+                aisleDynamicProgrammingAlgorithm
         );
+    }
+    
+    /**
+     * 모든 알고리즘을 실행하여 평가한다. (결과는 적응형 선택기 학습에 사용)
+     */
+    private AlgorithmEvaluation evaluateAlgorithms(Position start, Position end, List<Position> locations) {
+        List<PathOptimizationAlgorithm> algorithms = candidateAlgorithms();
+        List<AdaptiveAlgorithmSelector.Run> runs = new ArrayList<>(algorithms.size());
         
         Map<String, RawAlgorithmResult> results = new LinkedHashMap<>();
         int minDistance = Integer.MAX_VALUE;
@@ -309,11 +700,13 @@ public class NavigationService {
         RawAlgorithmResult bestResult = null;
         
         for (PathOptimizationAlgorithm algorithm : algorithms) {
+            long startNanos = System.nanoTime();
             try {
-                long startTime = System.currentTimeMillis();
-                List<Position> path = algorithm.findOptimalPath(start, end, locations);
-                long executionTime = System.currentTimeMillis() - startTime;
+                List<Position> path = solveWithMetrics(algorithm, start, end, locations);
+                long elapsedNanos = System.nanoTime() - startNanos;
+                long executionTime = elapsedNanos / 1_000_000;
                 int totalDistance = calculateTotalDistance(path);
+                runs.add(new AdaptiveAlgorithmSelector.Run(algorithm, totalDistance, elapsedNanos));
                 
                 RawAlgorithmResult rawResult = new RawAlgorithmResult(algorithm, path, totalDistance, executionTime, true);
                 results.put(algorithm.getAlgorithmName(), rawResult);
@@ -332,11 +725,14 @@ public class NavigationService {
                         algorithm.getAlgorithmName(), totalDistance, executionTime);
             } catch (Exception e) {
                 log.error("알고리즘 실행 실패 - {}: {}", algorithm.getAlgorithmName(), e.getMessage(), e);
+                runs.add(new AdaptiveAlgorithmSelector.Run(algorithm, -1, System.nanoTime() - startNanos));
                 results.put(algorithm.getAlgorithmName(),
                         new RawAlgorithmResult(algorithm, Collections.emptyList(), -1, -1, false));
             }
         }
         
+        adaptiveAlgorithmSelector.recordEvaluation(AdaptiveAlgorithmSelector.Features.of(locations), runs);
+        
         if (bestResult == null) {
             bestResult = results.values().stream()
                     .filter(RawAlgorithmResult::success)
@@ -368,27 +764,23 @@ public class NavigationService {
     }
     
     /**
-     * 부품 개수에 따라 최적 알고리즘 선택
+     * 부품 개수에 따라 최적 알고리즘 선택 (스트리밍, 또는 학습 통계가 없을 때의 기본 정책)
      * 
      * 선택 기준:
      * - 1~8개: Held-Karp (DP) - 빠르고 100% 최적
-     * - 9~15개: Branch and Bound - 가지치기로 최적해 보장
-     * - 16~30개: 2-opt - 실전에서 거의 최적해, 빠름 (수십 ms 이내)
-     * - 31개 이상: Nearest Neighbor - 대량 처리, 속도 우선
+     * - 9~25개: Branch and Bound - MST 하한 + 상태 메모, 시간 예산 내 최적해 (예산 초과 시 최선해)
+     * - 26개 이상: Aisle DP - 통로 단위 순회 DP + 국소 개선 휴리스틱, 최적해 보장 없음 (200개 기준 수 ms)
      */
     private PathOptimizationAlgorithm selectAlgorithmByPolicy(int partCount) {
         if (partCount <= 8) {
             // 소량: 정확한 해 (Held-Karp DP)
             return heldKarpAlgorithm;
-        } else if (partCount <= 15) {
-            // 중량: 정확한 해 (Branch and Bound, 가지치기)
+        } else if (partCount <= 25) {
+            // 중량: 정확한 해 (Branch and Bound, MST 하한 가지치기)
             return branchAndBoundAlgorithm;
-        } else if (partCount <= 30) {
-            // 중대량: 준최적해 (2-opt, 85~100% 정확, 빠름)
-            return twoOptAlgorithm;
         } else {
-            // 대량: 빠른 해 (Nearest Neighbor, 60~80% 정확, 즉각 응답)
-            return nearestNeighborAlgorithm;
+            // 중대량 이상: 통로 구조 기반 DP 휴리스틱 (정확한 해 아님, 테스트에서 평균적으로 2-opt 보다 짧은 경로, 수 ms)
+            return aisleDynamicProgrammingAlgorithm;
         }
     }
     
@@ -404,36 +796,46 @@ public class NavigationService {
     }
     
     /**
-     * 부품 위치와 정보를 함께 저장하는 내부 클래스
+     * Order 서버에서 주문별 부품 위치 조회
      */
-    private static class PartLocationWithInfo {
-        private final Position position;
-        private final String partName;
-        private final String orderNumber;
-        private final Long partId;
-        
-        public PartLocationWithInfo(Position position, String partName, String orderNumber, Long partId) {
-            this.position = position;
-            this.partName = partName;
-            this.orderNumber = orderNumber;
-            this.partId = partId;
-        }
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> fetchPartLocations(List<String> orderNumbers) {
+        Map<String, Object> orderRequest = new HashMap<>();
+        orderRequest.put("orderNumbers", orderNumbers);
         
-        public Position getPosition() {
-            return position;
-        }
+        Map<String, Object> orderResponse = webClientBuilder.build()
+                .post()
+                .uri(orderServerUrl + "/api/v1/order/navigation/parts")
+                .bodyValue(orderRequest)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
         
-        public String getPartName() {
-            return partName;
+        if (orderResponse == null || !orderResponse.containsKey("data")) {
+            throw new RuntimeException("Order 서버로부터 부품 정보를 가져오지 못했습니다.");
         }
         
-        public String getOrderNumber() {
-            return orderNumber;
-        }
+        Map<String, Object> data = (Map<String, Object>) orderResponse.get("data");
+        List<Map<String, Object>> partLocations = (List<Map<String, Object>>) data.get("partLocations");
         
-        public Long getPartId() {
-            return partId;
+        if (partLocations == null || partLocations.isEmpty()) {
+            throw new RuntimeException("해당 주문에 부품이 없습니다.");
         }
+        return partLocations;
+    }
+    
+    /**
+     * 부품 위치 목록 → 칸 단위 피킹 목록
+     */
+    static PickList toPickList(List<Map<String, Object>> partLocations) {
+        PickList pickList = new PickList();
+        for (Map<String, Object> part : partLocations) {
+            Object partId = part.get("partId");
+            pickList.add(Position.parse((String) part.get("location")),
+                    partId == null ? null : ((Number) partId).longValue(),
+                    (String) part.get("partName"),
+                    (String) part.get("orderNumber"));
+        }
+        return pickList;
     }
 }
-
@@ -0,0 +1,151 @@
+package com.stockmate.parts.api.navigation.service;
+
+import com.stockmate.parts.api.navigation.dto.CostModelCalibrationRequestDTO;
+import com.stockmate.parts.api.navigation.dto.CostModelResponseDTO;
+import com.stockmate.parts.api.navigation.model.Position;
+import com.stockmate.parts.api.navigation.model.RouteCostModel;
+import com.stockmate.parts.common.exception.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로 소요 시간 모델 관리
+ *
+ * 기본값은 navigation.time.* 설정이며, 실제 피킹 기록으로 보정하면 보정된 모델로 교체한다.
+ * 보정 결과는 메모리에만 유지되므로 (재시작 시 설정값으로 복귀) 응답의 계수를 설정에 반영해 둔다.
+ */
+@Service
+@Slf4j
+public class RouteCostModelService {
+
+    @Value("${navigation.time.buffer:10}")
+    private double fixedSeconds; // 시작/종료 버퍼 시간 (초)
+
+    @Value("${navigation.time.seconds-per-unit:1.5}")
+    private double secondsPerUnitDistance; // 1 Manhattan Distance당 걷기 시간 (초)
+
+    @Value("${navigation.time.per-stop:0}")
+    private double secondsPerStop; // 정차 1회당 시간 (초)
+
+    @Value("${navigation.time.picking-per-part:8}")
+    private double secondsPerPart; // 부품 1개당 피킹 시간 (초)
+
+    @Value("${navigation.time.shelf-extra:0,0,0,0}")
+    private String shelfExtraSeconds; // 1~4층 부품 1개당 추가 시간 (초, 콤마 구분)
+
+    private volatile RouteCostModel costModel;
+    private volatile LocalDateTime calibratedAt; // null = 설정값 사용 중
+
+    @PostConstruct
+    void init() {
+        costModel = configuredModel();
+    }
+
+    public RouteCostModel current() {
+        return costModel;
+    }
+
+    public CostModelResponseDTO getCostModel() {
+        return toResponse(costModel, calibratedAt).build();
+    }
+
+    /**
+     * 실제 피킹 기록으로 계수 보정 (최소제곱, 계수 0 이상)
+     */
+    public synchronized CostModelResponseDTO calibrate(CostModelCalibrationRequestDTO requestDTO) {
+        if (requestDTO.getTimings() == null) {
+            throw new BadRequestException("피킹 기록이 비어있습니다.");
+        }
+        List<RouteCostModel.Observation> observations = new ArrayList<>(requestDTO.getTimings().size());
+        for (CostModelCalibrationRequestDTO.PickTiming timing : requestDTO.getTimings()) {
+            if (timing.getPickedLocations() == null || timing.getPickedLocations().isEmpty()
+                    || timing.getActualSeconds() == null) {
+                throw new BadRequestException("피킹 위치와 실제 소요 시간은 필수입니다.");
+            }
+            List<Position> picks = new ArrayList<>(timing.getPickedLocations().size());
+            try {
+                for (String location : timing.getPickedLocations()) {
+                    picks.add(Position.parse(location));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e.getMessage());
+            }
+            observations.add(RouteCostModel.Observation.of(picks, timing.getActualSeconds()));
+        }
+
+        RouteCostModel fitted;
+        try {
+            fitted = RouteCostModel.fit(observations);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        double previousRmse = costModel.rootMeanSquaredError(observations);
+        double rmse = fitted.rootMeanSquaredError(observations);
+        costModel = fitted;
+        calibratedAt = LocalDateTime.now();
+
+        log.info("경로 비용 모델 보정 완료 - 기록: {}건, RMSE: {}초 → {}초, 계수: 고정={}, 거리={}, 정차={}, 부품={}, 층={}",
+                observations.size(), round(previousRmse), round(rmse), round(fitted.getFixedSeconds()),
+                round(fitted.getSecondsPerUnitDistance()), round(fitted.getSecondsPerStop()),
+                round(fitted.getSecondsPerPart()), shelfSeconds(fitted));
+
+        return toResponse(fitted, calibratedAt)
+                .sampleCount(observations.size())
+                .previousRmseSeconds(round(previousRmse))
+                .rmseSeconds(round(rmse))
+                .build();
+    }
+
+    /**
+     * 보정 해제 (설정값 모델로 복귀)
+     */
+    public synchronized CostModelResponseDTO reset() {
+        costModel = configuredModel();
+        calibratedAt = null;
+        log.info("경로 비용 모델 보정 해제 - 설정값 사용");
+        return toResponse(costModel, null).build();
+    }
+
+    private RouteCostModel configuredModel() {
+        double[] shelfSeconds = Arrays.stream(shelfExtraSeconds.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .mapToDouble(Double::parseDouble)
+                .toArray();
+        if (shelfSeconds.length != Position.MAX_SHELF) {
+            throw new IllegalStateException("navigation.time.shelf-extra 는 " + Position.MAX_SHELF
+                    + "개 값이어야 합니다: " + shelfExtraSeconds);
+        }
+        return new RouteCostModel(fixedSeconds, secondsPerUnitDistance, secondsPerStop, secondsPerPart, shelfSeconds);
+    }
+
+    private static CostModelResponseDTO.CostModelResponseDTOBuilder toResponse(RouteCostModel model,
+                                                                             LocalDateTime calibratedAt) {
+        return CostModelResponseDTO.builder()
+                .fixedSeconds(round(model.getFixedSeconds()))
+                .secondsPerUnitDistance(round(model.getSecondsPerUnitDistance()))
+                .secondsPerStop(round(model.getSecondsPerStop()))
+                .secondsPerPart(round(model.getSecondsPerPart()))
+                .shelfSeconds(shelfSeconds(model))
+                .calibratedAt(calibratedAt);
+    }
+
+    private static List<Double> shelfSeconds(RouteCostModel model) {
+        List<Double> shelfSeconds = new ArrayList<>(Position.MAX_SHELF);
+        for (int shelf = 1; shelf <= Position.MAX_SHELF; shelf++) {
+            shelfSeconds.add(round(model.getShelfSeconds(shelf)));
+        }
+        return shelfSeconds;
+    }
+
+    private static double round(double seconds) {
+        return Math.round(seconds * 1000) / 1000.0;
+    }
+}
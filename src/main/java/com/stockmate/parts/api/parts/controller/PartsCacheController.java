@@ -0,0 +1,41 @@
+package com.stockmate.parts.api.parts.controller;
+
+import com.stockmate.parts.api.parts.dto.parts.PartsCacheStatsDto;
+import com.stockmate.parts.api.parts.service.PartsCacheService;
+import com.stockmate.parts.common.response.ApiResponse;
+import com.stockmate.parts.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Parts Cache", description = "부품 카탈로그 2차 캐시 관리 API 입니다.")
+@RestController
+@RequestMapping("/api/v1/parts/cache")
+@RequiredArgsConstructor
+public class PartsCacheController {
+
+    private final PartsCacheService partsCacheService;
+
+    @Operation(summary = "부품 캐시 통계 조회")
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<PartsCacheStatsDto>> getStatistics() {
+        var data = partsCacheService.getStatistics();
+        return ApiResponse.success(SuccessStatus.PARTS_CACHE_STATS_SUCCESS, data);
+    }
+
+    @Operation(summary = "부품 캐시 무효화", description = "partId 가 없으면 부품 카탈로그 캐시 전체를 무효화합니다.")
+    @DeleteMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> evict(@RequestParam(required = false) Long partId) {
+        if (partId == null) {
+            partsCacheService.evictAll();
+        } else {
+            partsCacheService.evictPart(partId);
+        }
+        return ApiResponse.success_only(SuccessStatus.PARTS_CACHE_EVICT_SUCCESS);
+    }
+}
@@ -4,6 +4,8 @@ import com.stockmate.parts.api.parts.dto.common.CategoryAmountDto;
 import com.stockmate.parts.api.parts.dto.common.PageResponseDto;
 import com.stockmate.parts.api.parts.dto.parts.*;
 import com.stockmate.parts.api.parts.service.PartsService;
+import com.stockmate.parts.api.parts.service.StockDeductionCoalescer;
+import com.stockmate.parts.common.idempotency.IdempotencyStore;
 import com.stockmate.parts.common.response.ApiResponse;
 import com.stockmate.parts.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,13 +22,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PartsController {
     private final PartsService partsService;
+    private final StockDeductionCoalescer stockDeductionCoalescer;
+    private final IdempotencyStore idempotencyStore;
 
-    @Operation(summary = "부품 상세 조회")
+    @Operation(summary = "부품 상세 조회", description = "includeCodes=true 이면 대체 부품 코드 목록을 함께 반환합니다.")
     @PostMapping("/detail")
     public ResponseEntity<ApiResponse<List<PartsDto>>> getPartDetail(
-            @RequestBody List<Long> partIds
+            @RequestBody List<Long> partIds,
+            @RequestParam(defaultValue = "false") boolean includeCodes
     ) {
-        var data = partsService.getPartDetail(partIds);
+        var data = partsService.getPartDetail(partIds, includeCodes);
         return ApiResponse.success(SuccessStatus.PARTS_DETAIL_SUCCESS, data);
     }
 
@@ -34,9 +39,10 @@ public class PartsController {
     @GetMapping("/list")
     public ResponseEntity<ApiResponse<PageResponseDto<PartsDto>>> getPartsList(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCodes
     ) {
-        var data = partsService.getAllParts(page, size);
+        var data = partsService.getAllParts(page, size, includeCodes);
         return ApiResponse.success(SuccessStatus.PARTS_LIST_SUCCESS, data);
     }
 
@@ -58,9 +64,10 @@ public class PartsController {
             @RequestParam(required = false) List<String> trim,
             @RequestParam(required = false) List<String> model,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCodes
     ) {
-        var data = partsService.getModelCategory(categoryName, trim, model, page, size);
+        var data = partsService.getModelCategory(categoryName, trim, model, page, size, includeCodes);
         return ApiResponse.success(SuccessStatus.PARTS_MODEL_CATEGORY_SUCCESS, data);
     }
 
@@ -69,9 +76,10 @@ public class PartsController {
     public ResponseEntity<ApiResponse<PageResponseDto<PartsDto>>> getLackStock(
             @RequestParam(required = false, defaultValue = "5") int amount,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCodes
     ) {
-        var data = partsService.getLackStock(amount, page, size);
+        var data = partsService.getLackStock(amount, page, size, includeCodes);
         return ApiResponse.success(SuccessStatus.PARTS_LACK_STOCK, data);
     }
 
@@ -100,20 +108,30 @@ public class PartsController {
         return ApiResponse.success(SuccessStatus.PARTS_LOCATION_SUCCESS, data);
     }
 
-    @Operation(summary = "재고 차감 API (주문 승인용)")
+    @Operation(summary = "재고 차감 API (주문 승인용)",
+            description = "Idempotency-Key 헤더가 같은 재요청은 재고를 다시 차감하지 않고 첫 응답을 반환합니다.")
     @PostMapping("/deduct-stock")
     public ResponseEntity<ApiResponse<StockDeductionResponseDto>> deductStock(
-            @RequestBody StockDeductionRequestDto requestDto
+            @RequestBody StockDeductionRequestDto requestDto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey
     ) {
-        partsService.deductStockApi(requestDto);
-        
-        StockDeductionResponseDto response = StockDeductionResponseDto.builder()
-                .orderId(requestDto.getOrderId())
-                .orderNumber(requestDto.getOrderNumber())
-                .message("재고 차감 성공")
-                .success(true)
-                .build();
-        
+        StockDeductionResponseDto response = idempotencyStore.execute("deduct-stock", idempotencyKey, requestDto,
+                StockDeductionResponseDto.class, () -> {
+            // 동시 차감 요청은 부품별 스트라이프에서 병합 처리 (비활성 시 요청별 트랜잭션)
+            if (stockDeductionCoalescer.isEnabled()) {
+                stockDeductionCoalescer.deduct(requestDto);
+            } else {
+                partsService.deductStockApi(requestDto);
+            }
+
+            return StockDeductionResponseDto.builder()
+                    .orderId(requestDto.getOrderId())
+                    .orderNumber(requestDto.getOrderNumber())
+                    .message("재고 차감 성공")
+                    .success(true)
+                    .build();
+        });
+
         return ApiResponse.success(SuccessStatus.PARTS_STOCK_DEDUCTION_SUCCESS, response);
     }
 
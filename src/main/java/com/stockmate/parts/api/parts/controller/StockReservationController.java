@@ -0,0 +1,57 @@
+package com.stockmate.parts.api.parts.controller;
+
+import com.stockmate.parts.api.parts.dto.parts.StockReservationRequestDto;
+import com.stockmate.parts.api.parts.dto.parts.StockReservationResponseDto;
+import com.stockmate.parts.api.parts.service.StockReservationService;
+import com.stockmate.parts.common.response.ApiResponse;
+import com.stockmate.parts.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Stock Reservation", description = "본사 재고 확보(주문 확정 전 임시 확보) API 입니다.")
+@RestController
+@RequestMapping("/api/v1/parts/reservations")
+@RequiredArgsConstructor
+public class StockReservationController {
+
+    private final StockReservationService stockReservationService;
+
+    @Operation(summary = "재고 확보", description = "가용 재고(실재고 - 활성 확보 수량) 안에서 ttlSeconds 동안 재고를 확보합니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<StockReservationResponseDto>> reserve(
+            @RequestBody StockReservationRequestDto requestDto
+    ) {
+        var data = stockReservationService.reserve(requestDto);
+        return ApiResponse.success(SuccessStatus.STOCK_RESERVATION_CREATE_SUCCESS, data);
+    }
+
+    @Operation(summary = "재고 확보 조회")
+    @GetMapping("/{reservationToken}")
+    public ResponseEntity<ApiResponse<StockReservationResponseDto>> getReservation(
+            @PathVariable String reservationToken
+    ) {
+        var data = stockReservationService.getReservation(reservationToken);
+        return ApiResponse.success(SuccessStatus.STOCK_RESERVATION_GET_SUCCESS, data);
+    }
+
+    @Operation(summary = "재고 확보 확정", description = "확보한 수량만큼 실재고를 차감합니다.")
+    @PostMapping("/{reservationToken}/confirm")
+    public ResponseEntity<ApiResponse<StockReservationResponseDto>> confirm(
+            @PathVariable String reservationToken
+    ) {
+        var data = stockReservationService.confirm(reservationToken);
+        return ApiResponse.success(SuccessStatus.STOCK_RESERVATION_CONFIRM_SUCCESS, data);
+    }
+
+    @Operation(summary = "재고 확보 해제")
+    @PostMapping("/{reservationToken}/release")
+    public ResponseEntity<ApiResponse<StockReservationResponseDto>> release(
+            @PathVariable String reservationToken
+    ) {
+        var data = stockReservationService.release(reservationToken);
+        return ApiResponse.success(SuccessStatus.STOCK_RESERVATION_RELEASE_SUCCESS, data);
+    }
+}
@@ -6,6 +6,7 @@ import com.stockmate.parts.api.parts.dto.store.StockReleaseRequestDTO;
 import com.stockmate.parts.api.parts.dto.store.StorePartsDto;
 import com.stockmate.parts.api.parts.service.StoreService;
 import com.stockmate.parts.common.config.swagger.security.SecurityUser;
+import com.stockmate.parts.common.idempotency.IdempotencyStore;
 import com.stockmate.parts.common.response.ApiResponse;
 import com.stockmate.parts.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +27,7 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final IdempotencyStore idempotencyStore;
 
     @Operation(summary = "지점 재고 조회")
     @GetMapping("/search")
@@ -90,22 +92,27 @@ public class StoreController {
         return ApiResponse.success(SuccessStatus.STORE_LIMIT_UPDATE_SUCCESS, null);
     }
 
-    @Operation(summary = "가맹점 부품 재고 등록/수정 API", description = "가맹점의 부품 재고를 등록하거나 수정합니다.")
+    @Operation(summary = "가맹점 부품 재고 등록/수정 API",
+            description = "가맹점의 부품 재고를 등록하거나 수정합니다. Idempotency-Key 헤더가 같은 재요청은 첫 응답을 반환합니다.")
     @PostMapping("/inventory/update")
     public ResponseEntity<ApiResponse<com.stockmate.parts.api.parts.dto.StoreInventoryUpdateResponseDTO>> updateStoreInventory(
-            @RequestBody com.stockmate.parts.api.parts.dto.StoreInventoryUpdateRequestDTO requestDTO) {
+            @RequestBody com.stockmate.parts.api.parts.dto.StoreInventoryUpdateRequestDTO requestDTO,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
 
         log.info("가맹점 부품 재고 업데이트 요청 - 가맹점 ID: {}, 아이템 수: {}", 
                 requestDTO.getMemberId(), requestDTO.getItems().size());
 
-        storeService.updateStoreInventory(requestDTO.getMemberId(), requestDTO.getItems());
+        com.stockmate.parts.api.parts.dto.StoreInventoryUpdateResponseDTO response = idempotencyStore.execute(
+                "store-inventory-update:" + requestDTO.getMemberId(), idempotencyKey, requestDTO,
+                com.stockmate.parts.api.parts.dto.StoreInventoryUpdateResponseDTO.class, () -> {
+                    storeService.updateStoreInventory(requestDTO.getMemberId(), requestDTO.getItems());
 
-        com.stockmate.parts.api.parts.dto.StoreInventoryUpdateResponseDTO response = 
-                com.stockmate.parts.api.parts.dto.StoreInventoryUpdateResponseDTO.builder()
-                .memberId(requestDTO.getMemberId())
-                .message("재고 업데이트 성공")
-                .updatedItemCount(requestDTO.getItems().size())
-                .build();
+                    return com.stockmate.parts.api.parts.dto.StoreInventoryUpdateResponseDTO.builder()
+                            .memberId(requestDTO.getMemberId())
+                            .message("재고 업데이트 성공")
+                            .updatedItemCount(requestDTO.getItems().size())
+                            .build();
+                });
 
         log.info("가맹점 부품 재고 업데이트 완료 - 가맹점 ID: {}, 업데이트된 아이템 수: {}", 
                 requestDTO.getMemberId(), requestDTO.getItems().size());
@@ -113,14 +120,22 @@ public class StoreController {
         return ApiResponse.success(SuccessStatus.UPDATE_STORE_INVENTORY_SUCCESS, response);
     }
 
-    @Operation(summary = "가맹점 부품 출고 처리 API", description = "가맹점의 부품을 출고 처리합니다. 부품 ID로 조회하여 재고를 차감합니다.")
+    @Operation(summary = "가맹점 부품 출고 처리 API",
+            description = "가맹점의 부품을 출고 처리합니다. 부품 ID로 조회하여 재고를 차감합니다. Idempotency-Key 헤더가 같은 재요청은 다시 차감하지 않습니다.")
     @PostMapping("/release")
-    public ResponseEntity<ApiResponse<Void>> releaseStock(@RequestBody StockReleaseRequestDTO requestDTO, @AuthenticationPrincipal SecurityUser securityUser) {
+    public ResponseEntity<ApiResponse<Void>> releaseStock(
+            @RequestBody StockReleaseRequestDTO requestDTO,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal SecurityUser securityUser) {
 
         log.info("가맹점 부품 출고 처리 요청 - 요청자 ID: {}, 출고 아이템 수: {}",
                 securityUser.getMemberId(), requestDTO.getItems().size());
 
-        storeService.releaseStock(requestDTO, securityUser.getMemberId());
+        // 키는 가맹점별로 구분 (다른 가맹점이 같은 키를 써도 충돌하지 않도록)
+        idempotencyStore.execute("store-release:" + securityUser.getMemberId(), idempotencyKey, requestDTO, Void.class, () -> {
+            storeService.releaseStock(requestDTO, securityUser.getMemberId());
+            return null;
+        });
 
         log.info("가맹점 부품 출고 처리 완료 - 가맹점 ID: {}", securityUser.getMemberId());
         return ApiResponse.success_only(SuccessStatus.RELEASE_STOCK_SUCCESS);
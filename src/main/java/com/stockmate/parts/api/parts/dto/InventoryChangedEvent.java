@@ -0,0 +1,42 @@
+package com.stockmate.parts.api.parts.dto;
+
+import com.stockmate.parts.api.parts.entity.InventoryOutbox;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 재고 변경 이벤트 (key: 본사 = partId, 가맹점 = userId:partId)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryChangedEvent {
+    private Long eventId;    // outbox ID (소비 측 중복 제거용, 키 내에서 단조 증가)
+    private Long storeId;    // 0 = 본사
+    private Long partId;
+    private Integer amount;  // 변경 후 수량
+    private Integer delta;
+    private String type;     // DEDUCT, RELEASE, RECEIVE, ADJUST
+    private String reference;
+    private LocalDateTime occurredAt;
+
+    public static InventoryChangedEvent of(InventoryOutbox outbox) {
+        return InventoryChangedEvent.builder()
+                .eventId(outbox.getId())
+                .storeId(outbox.getStoreId())
+                .partId(outbox.getPartId())
+                .amount(outbox.getAmount())
+                .delta(outbox.getDelta())
+                .type(outbox.getMovementType().name())
+                .reference(outbox.getReference())
+                .occurredAt(outbox.getOccurredAt())
+                .build();
+    }
+
+    public static String keyOf(Long storeId, Long partId) {
+        return storeId == null || storeId == 0L ? String.valueOf(partId) : storeId + ":" + partId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.stockmate.parts.api.parts.dto.parts;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartsCacheStatsDto {
+    private boolean secondLevelCacheEnabled;
+    private boolean statisticsEnabled;
+    private long secondLevelCacheHitCount;
+    private long secondLevelCacheMissCount;
+    private long queryCacheHitCount;
+    private long queryCacheMissCount;
+    private List<RegionStats> regions;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RegionStats {
+        private String region;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private long elementCountInMemory;
+    }
+}
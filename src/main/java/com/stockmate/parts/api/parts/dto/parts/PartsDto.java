@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter @Setter
 @AllArgsConstructor
 @Builder
@@ -25,8 +27,13 @@ public class PartsDto {
     private String location;
     private Long cost;
     private Double weight;
+    private List<String> codes; // 대체 부품 코드 (includeCodes=true 일 때만 채움)
 
     public static PartsDto of(Parts p) {
+        return of(p, null);
+    }
+
+    public static PartsDto of(Parts p, List<String> codes) {
         return PartsDto.builder()
                 .id(p.getId())
                 .name(p.getName())
@@ -43,6 +50,7 @@ public class PartsDto {
                 .location(p.getLocation())
                 .cost(p.getCost())
                 .weight(p.getWeight())
+                .codes(codes)
                 .build();
     }
 }
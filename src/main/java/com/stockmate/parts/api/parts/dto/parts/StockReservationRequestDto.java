@@ -0,0 +1,27 @@
+package com.stockmate.parts.api.parts.dto.parts;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservationRequestDto {
+    private Long orderId;
+    private Integer ttlSeconds; // 없으면 기본 TTL 적용
+    private List<ReservationItem> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReservationItem {
+        private Long partId;
+        private int amount;
+    }
+}
@@ -0,0 +1,36 @@
+package com.stockmate.parts.api.parts.dto.parts;
+
+import com.stockmate.parts.api.parts.entity.ReservationStatus;
+import com.stockmate.parts.api.parts.entity.StockReservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservationResponseDto {
+    private String reservationToken;
+    private Long orderId;
+    private ReservationStatus status;
+    private LocalDateTime expiresAt;
+    private List<StockReservationRequestDto.ReservationItem> items;
+
+    public static StockReservationResponseDto of(List<StockReservation> reservations) {
+        StockReservation first = reservations.get(0);
+        return StockReservationResponseDto.builder()
+                .reservationToken(first.getReservationToken())
+                .orderId(first.getOrderId())
+                .status(first.getStatus())
+                .expiresAt(first.getExpiresAt())
+                .items(reservations.stream()
+                        .map(r -> new StockReservationRequestDto.ReservationItem(r.getPartId(), r.getQuantity()))
+                        .toList())
+                .build();
+    }
+}
@@ -1,7 +1,5 @@
 package com.stockmate.parts.api.parts.dto.parts;
 
-import com.stockmate.parts.api.parts.entity.Parts;
-import com.stockmate.parts.api.parts.entity.StoreInventory;
 import lombok.*;
 
 import java.util.List;
@@ -26,24 +24,4 @@ public class StoreStockResponseDto {
     private Long cost;
     private Integer amount;
     private Integer limitAmount;
-
-    public static StoreStockResponseDto of(Parts p, StoreInventory si) {
-        return StoreStockResponseDto.builder()
-                .id(p.getId())
-                .name(p.getName())
-                .price(p.getPrice())
-                .image(p.getImage())
-                .trim(p.getTrim())
-                .model(p.getModel())
-                .category(p.getCategory())
-                .korName(p.getKorName())
-                .engName(p.getEngName())
-                .categoryName(p.getCategoryName())
-                .code(p.getCode())
-                .location(p.getLocation())
-                .cost(p.getCost())
-                .amount(si != null ? si.getAmount() : null)
-                .limitAmount(si != null ? si.getLimitAmount() : null)
-                .build();
-    }
 }
@@ -1,7 +1,5 @@
 package com.stockmate.parts.api.parts.dto.store;
 
-import com.stockmate.parts.api.parts.entity.Parts;
-import com.stockmate.parts.api.parts.entity.StoreInventory;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,24 +24,4 @@ public class StorePartsDto {
     private Integer amount;
     private Integer limitAmount;
     private Boolean isLack;
-
-    public static StorePartsDto of(Parts p, StoreInventory si, Boolean isLack) {
-        return StorePartsDto.builder()
-                .id(p.getId())
-                .name(p.getName())
-                .price(p.getPrice())
-                .image(p.getImage())
-                .image(p.getImage())
-                .trim(p.getTrim())
-                .model(p.getModel())
-                .category(p.getCategory())
-                .korName(p.getKorName())
-                .engName(p.getEngName())
-                .categoryName(p.getCategoryName())
-                .stock(p.getAmount())
-                .amount(si.getAmount())
-                .limitAmount(si.getLimitAmount())
-                .isLack(isLack)
-                .build();
-    }
 }
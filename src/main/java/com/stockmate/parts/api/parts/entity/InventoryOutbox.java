@@ -0,0 +1,51 @@
+package com.stockmate.parts.api.parts.entity;
+
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변경 이벤트 outbox
+ * 재고 변경과 같은 트랜잭션에서 기록되고, InventoryOutboxRelay 가 Kafka 로 발행한 뒤 publishedAt 을 채운다.
+ */
+@Entity
+@Table(name = "inventory_outbox", indexes = {
+        @Index(name = "idx_inventory_outbox_unpublished", columnList = "published_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId; // 0 = 본사
+
+    @Column(name = "part_id", nullable = false)
+    private Long partId;
+
+    @Column(nullable = false)
+    private Integer amount; // 변경 후 수량
+
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private MovementType movementType;
+
+    @Column(length = 64)
+    private String reference;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
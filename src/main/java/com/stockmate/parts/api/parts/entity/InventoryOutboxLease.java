@@ -0,0 +1,29 @@
+package com.stockmate.parts.api.parts.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 릴레이 실행권 (인스턴스 간 공유)
+ * 행은 InventoryOutboxRelayLease 가 JdbcTemplate 으로만 선점/갱신한다. (locked_until 이 지나면 다른 인스턴스가 가져감)
+ */
+@Entity
+@Table(name = "inventory_outbox_lease")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryOutboxLease {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner; // 보유 인스턴스 ID
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -1,13 +1,20 @@
 package com.stockmate.parts.api.parts.entity;
 
+import com.stockmate.parts.common.config.HibernateCacheConfig;
 import com.stockmate.parts.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
 @Entity
 @Table(name = "parts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PARTS_REGION)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,8 +40,16 @@ public class Parts extends BaseTimeEntity {
             joinColumns = @JoinColumn(name = "part_id")
     )
     @Column(name = "code")
+    @BatchSize(size = 100) // 지연 로딩 시 부품별 N+1 대신 100건 단위 IN 조회
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PARTS_CODES_REGION)
     private List<String> code_;
     private String location;
     private Long cost;
     private Double weight;
+
+    // 캐시된 amount 로 인한 갱신 유실 방지 (다른 인스턴스의 캐시가 낡았으면 낙관적 락 실패)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,8 @@
+package com.stockmate.parts.api.parts.entity;
+
+public enum ReservationStatus {
+    HELD,       // 가용 재고에서 빠져 있는 상태
+    CONFIRMED,  // 실제 재고 차감 완료
+    RELEASED,   // 주문 취소 등으로 해제
+    EXPIRED     // TTL 만료로 자동 해제
+}
@@ -0,0 +1,43 @@
+package com.stockmate.parts.api.parts.entity;
+
+import com.stockmate.parts.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 본사 재고 임시 확보 (주문 확정 전 soft hold, 부품 1건당 1행)
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        @Index(name = "idx_stock_reservation_token", columnList = "reservation_token"),
+        @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReservation extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reservation_token", nullable = false, length = 36)
+    private String reservationToken; // 한 주문의 확보 건을 묶는 키
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "part_id", nullable = false)
+    private Long partId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -3,6 +3,7 @@ package com.stockmate.parts.api.parts.entity;
 import com.stockmate.parts.common.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -26,4 +27,10 @@ public class StoreInventory extends BaseTimeEntity {
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
+
+    // 동시 출고/입고 시 갱신 유실 방지 (충돌 시 OptimisticRetryExecutor 가 재시도)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
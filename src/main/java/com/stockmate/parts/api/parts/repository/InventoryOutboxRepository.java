@@ -0,0 +1,41 @@
+package com.stockmate.parts.api.parts.repository;
+
+import com.stockmate.parts.api.parts.entity.InventoryOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface InventoryOutboxRepository extends JpaRepository<InventoryOutbox, Long> {
+
+    // 미발행 이벤트 (기록 순서대로)
+    @Query("""
+    select o
+    from InventoryOutbox o
+    where o.publishedAt is null
+    order by o.id asc
+    """)
+    List<InventoryOutbox> findUnpublished(Pageable pageable);
+
+    @Modifying
+    @Query("""
+    update InventoryOutbox o
+    set o.publishedAt = :publishedAt
+    where o.id in :ids
+    """)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 보관 기간이 지난 발행 완료 이벤트 정리
+    @Modifying
+    @Query("""
+    delete from InventoryOutbox o
+    where o.publishedAt is not null
+        and o.publishedAt < :before
+    """)
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,22 @@
 package com.stockmate.parts.api.parts.repository;
 
 import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.common.config.HibernateCacheConfig;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PartsRepository extends JpaRepository<Parts, Long> {
     // categoryName + model로 검색, 없으면 전체 검색
@@ -30,6 +39,10 @@ public interface PartsRepository extends JpaRepository<Parts, Long> {
     Page<Parts> findByAmountLessThanEqual(Integer amount, Pageable pageable);
 
     // 카테고리별 재고 갯수
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.PARTS_QUERY_REGION)
+    })
     @Query("""
     select p.categoryName, count(p)
     from Parts p
@@ -38,6 +51,10 @@ public interface PartsRepository extends JpaRepository<Parts, Long> {
     List<Object[]> categoryAmount();
 
     // 창고 구역별 부품 조회
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.PARTS_QUERY_REGION)
+    })
     @Query("""
     select p
     from Parts p
@@ -60,4 +77,47 @@ public interface PartsRepository extends JpaRepository<Parts, Long> {
     ORDER BY SUBSTRING(p.location, 1, 1)
     """)
     List<Object[]> getWarehouseInventoryRatio();
+
+    // 부품 상세 조회 (대체 코드 컬렉션까지 한 번에 fetch join)
+    @EntityGraph(attributePaths = "code_")
+    @Query("""
+    select distinct p
+    from Parts p
+    where p.id in :ids
+    """)
+    List<Parts> findAllWithCodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 페이지 단위 대체 코드 조회 (페이지 크기와 무관하게 쿼리 1회)
+    @Query("""
+    select p.id, c
+    from Parts p
+    join p.code_ c
+    where p.id in :ids
+    """)
+    List<Object[]> findCodesByPartIds(@Param("ids") Collection<Long> ids);
+
+    // 재고 판단/차감용 조회 (JPQL 은 항상 DB 에서 읽음, findById 는 2차 캐시에서 오래된 재고를 돌려줄 수 있음)
+    @Query("""
+    select p
+    from Parts p
+    where p.id = :id
+    """)
+    Optional<Parts> findStockById(@Param("id") Long id);
+
+    @Query("""
+    select p
+    from Parts p
+    where p.id in :ids
+    """)
+    List<Parts> findAllStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 배치 재고 차감용 행 잠금 (id 순으로 잠가 배치 간 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+    select p
+    from Parts p
+    where p.id in :ids
+    order by p.id
+    """)
+    List<Parts> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
 }
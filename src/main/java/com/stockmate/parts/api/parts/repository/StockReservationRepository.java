@@ -0,0 +1,29 @@
+package com.stockmate.parts.api.parts.repository;
+
+import com.stockmate.parts.api.parts.entity.ReservationStatus;
+import com.stockmate.parts.api.parts.entity.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByReservationToken(String reservationToken);
+
+    // 기동 시 메모리 타이밍 휠 복원용
+    List<StockReservation> findByStatus(ReservationStatus status);
+
+    // 상태 일괄 변경 (HELD 인 행만 - 이미 확정/해제된 건은 건드리지 않음)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update StockReservation r
+    set r.status = :status
+    where r.reservationToken in :tokens
+        and r.status = com.stockmate.parts.api.parts.entity.ReservationStatus.HELD
+    """)
+    int updateHeldStatusByTokens(@Param("tokens") Collection<String> tokens, @Param("status") ReservationStatus status);
+}
@@ -1,28 +1,51 @@
 package com.stockmate.parts.api.parts.repository;
 
-import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.dto.parts.StoreStockResponseDto;
+import com.stockmate.parts.api.parts.dto.store.StorePartsDto;
 import com.stockmate.parts.api.parts.entity.StoreInventory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<StoreInventory, Long> {
-    // 본사 -> 지점 부품 검색
-    @Query("""
-        select p, si
+    // 본사 -> 지점 부품 검색 (필요한 컬럼만 DTO로 직접 조회)
+    @Query(value = """
+        select new com.stockmate.parts.api.parts.dto.parts.StoreStockResponseDto(
+            p.id, p.name, p.price, p.image, p.trim, p.model, p.category,
+            p.korName, p.engName, p.categoryName, p.code, p.location, p.cost,
+            si.amount, si.limitAmount
+        )
         from StoreInventory si
         join si.part p
         where si.userId = :storeId
+    """, countQuery = """
+        select count(si)
+        from StoreInventory si
+        where si.userId = :storeId
     """)
-    Page<Object[]> findByUserId(Long storeId, Pageable pageable);
+    Page<StoreStockResponseDto> findByUserId(Long storeId, Pageable pageable);
 
     // 지점 부품 검색
-    @Query("""
-        select p, si, CASE WHEN si.amount < si.limitAmount Then true ELSE false END
+    @Query(value = """
+        select new com.stockmate.parts.api.parts.dto.store.StorePartsDto(
+            p.id, p.name, p.price, p.image, p.trim, p.model, p.category,
+            p.korName, p.engName, p.categoryName, p.amount,
+            si.amount, si.limitAmount,
+            CASE WHEN si.amount < si.limitAmount Then true ELSE false END
+        )
+        from StoreInventory si
+        join si.part p
+        where si.userId = :userId
+            and (:categoryNames is null or p.categoryName in :categoryNames)
+            and (:trims is null or p.trim in :trims)
+            and (:models is null or p.model in :models)
+    """, countQuery = """
+        select count(si)
         from StoreInventory si
         join si.part p
         where si.userId = :userId
@@ -30,7 +53,7 @@ public interface StoreRepository extends JpaRepository<StoreInventory, Long> {
             and (:trims is null or p.trim in :trims)
             and (:models is null or p.model in :models)
     """)
-    Page<Object[]> searchParts(
+    Page<StorePartsDto> searchParts(
             Long userId,
             List<String> categoryNames,
             List<String> trims,
@@ -39,15 +62,27 @@ public interface StoreRepository extends JpaRepository<StoreInventory, Long> {
     );
 
     // 카테고리별 부족 재고 조회
-    @Query("""
-        select p, si, CASE WHEN si.amount < si.limitAmount Then true ELSE false END
+    @Query(value = """
+        select new com.stockmate.parts.api.parts.dto.store.StorePartsDto(
+            p.id, p.name, p.price, p.image, p.trim, p.model, p.category,
+            p.korName, p.engName, p.categoryName, p.amount,
+            si.amount, si.limitAmount,
+            CASE WHEN si.amount < si.limitAmount Then true ELSE false END
+        )
+        from StoreInventory si
+        join si.part p
+        where si.userId = :userId
+            and si.amount < si.limitAmount
+            and (:categoryName is null or :categoryName = '' or p.categoryName = :categoryName)
+    """, countQuery = """
+        select count(si)
         from StoreInventory si
         join si.part p
         where si.userId = :userId
             and si.amount < si.limitAmount
             and (:categoryName is null or :categoryName = '' or p.categoryName = :categoryName)
     """)
-    Page<Object[]> findUnderLimitByCategory(
+    Page<StorePartsDto> findUnderLimitByCategory(
             Long userId,
             String categoryName,
             Pageable pageable
@@ -65,14 +100,25 @@ public interface StoreRepository extends JpaRepository<StoreInventory, Long> {
     List<Object[]> countLackPartsByCategory(Long userId);
 
     // 부품명으로 검색
-    @Query("""
-        select p, si, CASE WHEN si.amount < si.limitAmount Then true ELSE false END
+    @Query(value = """
+        select new com.stockmate.parts.api.parts.dto.store.StorePartsDto(
+            p.id, p.name, p.price, p.image, p.trim, p.model, p.category,
+            p.korName, p.engName, p.categoryName, p.amount,
+            si.amount, si.limitAmount,
+            CASE WHEN si.amount < si.limitAmount Then true ELSE false END
+        )
+        from StoreInventory si
+        join si.part p
+        where si.userId = :userId
+            and (:name is null or :name = '' or p.korName like concat('%', :name, '%'))
+    """, countQuery = """
+        select count(si)
         from StoreInventory si
         join si.part p
         where si.userId = :userId
             and (:name is null or :name = '' or p.korName like concat('%', :name, '%'))
     """)
-    Page<Object[]> findByName(
+    Page<StorePartsDto> findByName(
             Long userId,
             String name,
             Pageable pageable
@@ -81,6 +127,15 @@ public interface StoreRepository extends JpaRepository<StoreInventory, Long> {
     // 최소 필요 수량 변경
     Optional<StoreInventory> findStoreInventoryByUserIdAndPartId(Long userId, Long partId);
 
+    // 출고 대상 재고 일괄 조회 (부품까지 한 번에 fetch join)
+    @Query("""
+        SELECT si
+        FROM StoreInventory si
+        JOIN FETCH si.part p
+        WHERE si.userId = :userId AND p.id IN :partIds
+    """)
+    List<StoreInventory> findAllWithPartByUserIdAndPartIdIn(Long userId, Collection<Long> partIds);
+
     // 가맹점 ID와 부품 코드로 재고 조회
     @Query("""
         SELECT si
@@ -99,6 +154,15 @@ public interface StoreRepository extends JpaRepository<StoreInventory, Long> {
     """)
     Page<StoreInventory> findByPartId(@org.springframework.data.repository.query.Param("partId") Long partId, Pageable pageable);
 
+    // 분석 스냅샷용 컬럼 조회 (id 기준 키셋 페이지네이션, 엔티티 미생성)
+    @Query("""
+        SELECT si.id, si.part.id, si.userId, si.amount, si.limitAmount
+        FROM StoreInventory si
+        WHERE si.id > :lastId
+        ORDER BY si.id ASC
+    """)
+    List<Object[]> findSnapshotColumns(Long lastId, Pageable pageable);
+
 //    // 특정 부품이 부족재고인 지점 개수
 //    @Query("""
 //        select count(si) from StoreInventory si
@@ -0,0 +1,39 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.parts.entity.InventoryOutbox;
+import com.stockmate.parts.api.parts.repository.InventoryOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변경 이벤트 outbox 기록
+ * 호출 측 트랜잭션에 참여하므로 재고 변경이 롤백되면 이벤트도 남지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryEventOutbox {
+
+    private final InventoryOutboxRepository inventoryOutboxRepository;
+
+    @Value("${parts.events.enabled:true}")
+    private boolean enabled;
+
+    public void append(MovementType type, long storeId, long partId, int delta, int amountAfter, String reference) {
+        if (!enabled || delta == 0) {
+            return;
+        }
+        inventoryOutboxRepository.save(InventoryOutbox.builder()
+                .storeId(storeId)
+                .partId(partId)
+                .amount(amountAfter)
+                .delta(delta)
+                .movementType(type)
+                .reference(reference)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,124 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.parts.dto.InventoryChangedEvent;
+import com.stockmate.parts.api.parts.entity.InventoryOutbox;
+import com.stockmate.parts.api.parts.repository.InventoryOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox → Kafka 발행 릴레이
+ *
+ * 미발행 이벤트를 순서대로 읽어 한 번에 send 한 뒤(프로듀서 배치/linger 로 묶임) 결과를 기다리고,
+ * 앞에서부터 연속으로 성공한 이벤트까지만 발행 완료로 표시한다.
+ * 실패 이후 이벤트는 다음 주기에 다시 보내므로 같은 키의 순서가 뒤집히지 않는다. (at-least-once, eventId 로 중복 제거)
+ * 여러 인스턴스 중 실행권(InventoryOutboxRelayLease)을 가진 한 인스턴스만 발행한다.
+ */
+@Component
+@Slf4j
+public class InventoryOutboxRelay {
+
+    private final InventoryOutboxRepository inventoryOutboxRepository;
+    private final InventoryOutboxRelayLease relayLease;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${parts.events.enabled:true}")
+    private boolean enabled;
+
+    @Value("${parts.events.inventory-topic:parts.inventory-changed}")
+    private String topic;
+
+    @Value("${parts.events.relay-batch-size:500}")
+    private int batchSize;
+
+    @Value("${parts.events.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${parts.events.retention-days:3}")
+    private int retentionDays;
+
+    public InventoryOutboxRelay(InventoryOutboxRepository inventoryOutboxRepository,
+                                InventoryOutboxRelayLease relayLease,
+                                KafkaTemplate<String, Object> kafkaTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.inventoryOutboxRepository = inventoryOutboxRepository;
+        this.relayLease = relayLease;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${parts.events.relay-interval-ms:500}")
+    public void relay() {
+        if (!enabled || !relayLease.tryAcquire()) {
+            return; // 다른 인스턴스가 발행 중
+        }
+        // 밀린 이벤트가 있으면 실행권을 연장하며 바로 다음 배치 처리
+        while (relayBatch() == batchSize) {
+            if (!relayLease.tryAcquire()) {
+                log.warn("[InventoryOutboxRelay] ⚠️ 릴레이 실행권 상실 - 발행 중단");
+                return;
+            }
+        }
+    }
+
+    // 한 배치 발행 (전부 성공 시 건수, 중간에 실패하면 -1)
+    int relayBatch() {
+        List<InventoryOutbox> pending = inventoryOutboxRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(pending.size());
+        for (InventoryOutbox outbox : pending) {
+            futures.add(kafkaTemplate.send(topic,
+                    InventoryChangedEvent.keyOf(outbox.getStoreId(), outbox.getPartId()),
+                    InventoryChangedEvent.of(outbox)));
+        }
+
+        List<Long> published = new ArrayList<>(pending.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                published.add(pending.get(i).getId());
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                log.warn("[InventoryOutboxRelay] ⚠️ 이벤트 발행 실패 - 다음 주기에 재시도 | eventId={}, error={}",
+                        pending.get(i).getId(), e.getMessage());
+                break;
+            }
+        }
+
+        if (!published.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    inventoryOutboxRepository.markPublished(published, LocalDateTime.now()));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[InventoryOutboxRelay] 재고 이벤트 발행 | pending={}, published={}", pending.size(), published.size());
+        }
+        return published.size() == pending.size() ? published.size() : -1;
+    }
+
+    // 발행 완료 이벤트 정리 (매일 새벽)
+    @Scheduled(cron = "${parts.events.cleanup-cron:0 30 4 * * *}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+                inventoryOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("[InventoryOutboxRelay] 🧹 발행 완료 이벤트 정리 | deleted={}", deleted);
+    }
+}
@@ -0,0 +1,65 @@
+package com.stockmate.parts.api.parts.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * outbox 릴레이 실행권 (클러스터 락)
+ *
+ * 모든 인스턴스가 같은 주기로 릴레이를 돌리므로, 실행권을 가진 한 인스턴스만 발행하게 한다.
+ * 미발행 이벤트를 나눠 가지면 같은 키의 이벤트가 서로 다른 인스턴스에서 동시에 나가 순서가 뒤집힐 수 있어
+ * 행 단위 선점 대신 릴레이 전체에 lease 를 건다.
+ * - 보유 인스턴스는 배치마다 lease 를 연장하고, 죽으면 lease-ms 뒤에 다른 인스턴스가 이어받는다
+ * - lease-ms 는 한 배치 발행 시간보다 충분히 길어야 한다 (짧으면 이어받은 인스턴스와 잠시 겹쳐 중복 발행)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InventoryOutboxRelayLease {
+
+    static final String NAME = "inventory-outbox-relay";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${parts.events.relay-lease-ms:30000}")
+    private long leaseMs = 30_000;
+
+    // 실행권 획득 또는 연장 (보유 중이거나 만료된 lease 만 가져올 수 있음)
+    public boolean tryAcquire() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plusNanos(leaseMs * 1_000_000));
+        int updated = jdbcTemplate.update("""
+                update inventory_outbox_lease
+                set owner = ?, locked_until = ?
+                where name = ? and (owner = ? or locked_until < ?)
+                """, owner, lockedUntil, NAME, owner, Timestamp.valueOf(now));
+        if (updated == 1) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("insert into inventory_outbox_lease (name, owner, locked_until) values (?, ?, ?)",
+                    NAME, owner, lockedUntil);
+            log.info("[InventoryOutboxRelayLease] 릴레이 실행권 획득 | owner={}", owner);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false; // 다른 인스턴스가 보유 중
+        }
+    }
+
+    // 종료 시 실행권 반납 (다음 인스턴스가 lease 만료를 기다리지 않도록)
+    @PreDestroy
+    public void release() {
+        jdbcTemplate.update("delete from inventory_outbox_lease where name = ? and owner = ?", NAME, owner);
+    }
+}
@@ -0,0 +1,90 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.parts.dto.parts.PartsCacheStatsDto;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.common.config.HibernateCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부품 카탈로그 2차 캐시 관리
+ *
+ * Hibernate 를 거치지 않는 변경(벌크/네이티브 업데이트, 외부 배치 등) 후에는
+ * 반드시 여기서 명시적으로 무효화해야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartsCacheService {
+
+    private static final String CODES_ROLE = Parts.class.getName() + ".code_";
+    private static final List<String> REGIONS = List.of(
+            HibernateCacheConfig.PARTS_REGION,
+            HibernateCacheConfig.PARTS_CODES_REGION,
+            HibernateCacheConfig.PARTS_QUERY_REGION
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 특정 부품 캐시 무효화 (엔티티 + 대체 코드 + 카탈로그 쿼리 결과)
+    public void evictPart(Long partId) {
+        Cache cache = sessionFactory().getCache();
+        cache.evictEntityData(Parts.class, partId);
+        cache.evictCollectionData(CODES_ROLE, partId);
+        cache.evictQueryRegion(HibernateCacheConfig.PARTS_QUERY_REGION);
+        log.info("[PartsCacheService] 🧹 부품 캐시 무효화 | partId={}", partId);
+    }
+
+    // 부품 카탈로그 캐시 전체 무효화
+    public void evictAll() {
+        Cache cache = sessionFactory().getCache();
+        cache.evictEntityData(Parts.class);
+        cache.evictCollectionData(CODES_ROLE);
+        cache.evictQueryRegion(HibernateCacheConfig.PARTS_QUERY_REGION);
+        log.info("[PartsCacheService] 🧹 부품 캐시 전체 무효화");
+    }
+
+    // 캐시 통계 조회 (hibernate.generate_statistics 가 꺼져 있으면 0 으로 집계됨)
+    public PartsCacheStatsDto getStatistics() {
+        SessionFactory sessionFactory = sessionFactory();
+        Statistics statistics = sessionFactory.getStatistics();
+
+        List<PartsCacheStatsDto.RegionStats> regions = new ArrayList<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            regions.add(PartsCacheStatsDto.RegionStats.builder()
+                    .region(region)
+                    .hitCount(regionStatistics.getHitCount())
+                    .missCount(regionStatistics.getMissCount())
+                    .putCount(regionStatistics.getPutCount())
+                    .elementCountInMemory(regionStatistics.getElementCountInMemory())
+                    .build());
+        }
+
+        return PartsCacheStatsDto.builder()
+                .secondLevelCacheEnabled(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled())
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .secondLevelCacheHitCount(statistics.getSecondLevelCacheHitCount())
+                .secondLevelCacheMissCount(statistics.getSecondLevelCacheMissCount())
+                .queryCacheHitCount(statistics.getQueryCacheHitCount())
+                .queryCacheMissCount(statistics.getQueryCacheMissCount())
+                .regions(regions)
+                .build();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
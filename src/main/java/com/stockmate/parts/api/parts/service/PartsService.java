@@ -1,5 +1,8 @@
 package com.stockmate.parts.api.parts.service;
 
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
 import com.stockmate.parts.api.parts.dto.common.CategoryAmountDto;
 import com.stockmate.parts.api.parts.dto.common.PageResponseDto;
 import com.stockmate.parts.api.parts.dto.parts.*;
@@ -8,6 +11,7 @@ import com.stockmate.parts.api.parts.entity.StoreInventory;
 import com.stockmate.parts.api.parts.repository.PartsRepository;
 import com.stockmate.parts.api.parts.repository.StoreRepository;
 import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.logging.LogSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,12 +34,23 @@ public class PartsService {
     private final PartsRepository partsRepository;
     private final StoreRepository storeRepository;
     private final com.stockmate.parts.api.parts.service.UserService userService;
+    private final StockReservationService stockReservationService;
+    private final InventoryLedgerWriter inventoryLedgerWriter;
+    private final InventoryEventOutbox inventoryEventOutbox;
+    private final LogSampler itemLogSampler;
 
     // 상세 부품 조회
     public List<PartsDto> getPartDetail(List<Long> partIds) {
-        log.info("[부품 상세 조회 요청] partId = {}", partIds);
+        return getPartDetail(partIds, false);
+    }
+
+    public List<PartsDto> getPartDetail(List<Long> partIds, boolean includeCodes) {
+        log.info("[부품 상세 조회 요청] partId = {}, includeCodes = {}", partIds, includeCodes);
 
-        List<Parts> parts = partsRepository.findAllById(partIds);
+        // 대체 코드가 필요할 때만 컬렉션을 함께 fetch (부품별 추가 쿼리 방지)
+        List<Parts> parts = includeCodes
+                ? partsRepository.findAllWithCodesByIdIn(partIds)
+                : partsRepository.findAllById(partIds);
 
         if (parts.size() != partIds.size()) {
             List<Long> foundIds = parts.stream()
@@ -48,7 +64,7 @@ public class PartsService {
         }
 
         List<PartsDto> response = parts.stream()
-                .map(PartsDto::of)
+                .map(p -> includeCodes ? PartsDto.of(p, p.getCode_() == null ? List.of() : new ArrayList<>(p.getCode_())) : PartsDto.of(p))
                 .toList();
 
         log.info("[부품 조회 성공] response size : {}", response.size());
@@ -57,12 +73,15 @@ public class PartsService {
 
     // 전체 부품 조회
     public PageResponseDto<PartsDto> getAllParts(int page, int size) {
+        return getAllParts(page, size, false);
+    }
+
+    public PageResponseDto<PartsDto> getAllParts(int page, int size, boolean includeCodes) {
         if (page < 0 || size <= 0)
             throw new BadRequestException("페이지 번호나 사이즈가 유효하지 않습니다.");
         Pageable pageable = PageRequest.of(page, size);
         Page<Parts> result = partsRepository.findAll(pageable);
-        Page<PartsDto> mapped = result.map(PartsDto::of);
-        return PageResponseDto.from(mapped);
+        return PageResponseDto.from(mapPartsPage(result, includeCodes));
     }
 
     // 본사 -> 지점 부품 조회
@@ -70,36 +89,58 @@ public class PartsService {
         if (page < 0 || size <= 0)
             throw new BadRequestException("페이지 번호나 사이즈가 유효하지 않습니다.");
         Pageable pageable = PageRequest.of(page, size);
-        Page<Object[]> result = storeRepository.findByUserId(storeId, pageable);
-
-        Page<StoreStockResponseDto> mapped = result.map(row -> {
-            Parts p = (Parts) row[0];
-            StoreInventory si = (StoreInventory) row[1];
-            return StoreStockResponseDto.of(p, si);
-        });
-        return PageResponseDto.from(mapped);
+        Page<StoreStockResponseDto> result = storeRepository.findByUserId(storeId, pageable);
+        return PageResponseDto.from(result);
     }
 
     // 차 분류, 모델명, 카테고리명 부품 조회
     public PageResponseDto<PartsDto> getModelCategory(
             List<String> categoryName, List<String> trim, List<String> model, int page, int size
+    ) {
+        return getModelCategory(categoryName, trim, model, page, size, false);
+    }
+
+    public PageResponseDto<PartsDto> getModelCategory(
+            List<String> categoryName, List<String> trim, List<String> model, int page, int size,
+            boolean includeCodes
     ) {
         if (page < 0 || size <= 0)
             throw new BadRequestException("페이지 번호나 사이즈가 유효하지 않습니다.");
         Pageable pageable = PageRequest.of(page, size);
         Page<Parts> result = partsRepository.findByCategoryAndModel(categoryName, trim, model, pageable);
-        Page<PartsDto> mapped = result.map(PartsDto::of);
-        return PageResponseDto.from(mapped);
+        return PageResponseDto.from(mapPartsPage(result, includeCodes));
     }
 
     // 부족 재고 조회
     public PageResponseDto<PartsDto> getLackStock(
             int amount, int page, int size
+    ) {
+        return getLackStock(amount, page, size, false);
+    }
+
+    public PageResponseDto<PartsDto> getLackStock(
+            int amount, int page, int size, boolean includeCodes
     ) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Parts> result = partsRepository.findByAmountLessThanEqual(amount, pageable);
-        Page<PartsDto> mapped = result.map(PartsDto::of);
-        return PageResponseDto.from(mapped);
+        return PageResponseDto.from(mapPartsPage(result, includeCodes));
+    }
+
+    // 부품 페이지 -> DTO 변환 (대체 코드는 페이지 전체를 한 번의 IN 쿼리로 조회)
+    private Page<PartsDto> mapPartsPage(Page<Parts> result, boolean includeCodes) {
+        if (!includeCodes || result.isEmpty()) {
+            return result.map(PartsDto::of);
+        }
+
+        List<Long> ids = result.getContent().stream()
+                .map(Parts::getId)
+                .toList();
+        Map<Long, List<String>> codesByPartId = new HashMap<>();
+        for (Object[] row : partsRepository.findCodesByPartIds(ids)) {
+            codesByPartId.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        return result.map(p -> PartsDto.of(p, codesByPartId.getOrDefault(p.getId(), List.of())));
     }
 
     // 발주 가능 여부
@@ -108,9 +149,9 @@ public class PartsService {
         List<OrderCheckDto> orders = new ArrayList<>();
         int totalAmount = 0;
 
-        for (OrderCheckReqDto req : requests) {
-            log.debug(">> 요청 데이터: partId={}, amount={}", req.getPartId(), req.getAmount());
+        int unavailableCount = 0;
 
+        for (OrderCheckReqDto req : requests) {
             // 유효성 검사
             if (req.getPartId() == null || req.getPartId() <= 0) {
                 log.error("[checkStock] 잘못된 부품 ID 입력: {}", req.getPartId());
@@ -122,22 +163,29 @@ public class PartsService {
             }
 
             // 재고 조회
-            Parts part = partsRepository.findById(req.getPartId())
+            Parts part = partsRepository.findStockById(req.getPartId())
                     .orElseThrow(() -> {
                         log.error("[checkStock] 존재하지 않는 부품 ID: {}", req.getPartId());
                         return new BadRequestException("존재하지 않는 부품 ID입니다.");
                     });
 
-            Integer stock = part.getAmount();
-            boolean canOrder = stock != null && stock >= req.getAmount();
+            // 가용 재고(ATP) = 실재고 - 다른 주문이 확보 중인 수량
+            int stock = Math.max((part.getAmount() != null ? part.getAmount() : 0)
+                    - stockReservationService.heldQuantity(part.getId()), 0);
+            boolean canOrder = stock >= req.getAmount();
             totalAmount += req.getAmount() * Integer.parseInt(String.valueOf(part.getPrice()));
-            log.info("[checkStock] partId={}, stock={}, requested={}, canOrder={}",
-                    req.getPartId(), stock, req.getAmount(), canOrder);
+            if (!canOrder) {
+                unavailableCount++;
+            }
+            if (log.isDebugEnabled() && itemLogSampler.sample()) {
+                log.debug("[checkStock] partId={}, stock={}, requested={}, canOrder={}",
+                        req.getPartId(), stock, req.getAmount(), canOrder);
+            }
 
             orders.add(OrderCheckDto.builder()
                     .partId(req.getPartId())
                     .requestedAmount(req.getAmount())
-                    .availableStock(stock != null ? stock : 0)
+                    .availableStock(stock)
                     .canOrder(canOrder)
                     .categoryName(part.getCategoryName())
                     .name(part.getName())
@@ -148,7 +196,8 @@ public class PartsService {
                     .build());
         }
 
-        log.info("<== [checkStock] 발주 가능 여부 확인 완료 | 결과 개수: {}", orders.size());
+        log.info("<== [checkStock] 발주 가능 여부 확인 완료 | 결과 개수: {}, 주문 불가: {}, 총액: {}",
+                orders.size(), unavailableCount, totalAmount);
 
         return OrderCheckResponseDto.builder()
                 .orderList(orders)
@@ -193,33 +242,44 @@ public class PartsService {
     @Transactional
     public void deductStockApi(com.stockmate.parts.api.parts.dto.parts.StockDeductionRequestDto requestDto) {
         log.info("API 재고 차감 시작 - Order ID: {}, Order Number: {}", requestDto.getOrderId(), requestDto.getOrderNumber());
+        int totalDeducted = 0;
 
         for (com.stockmate.parts.api.parts.dto.parts.StockDeductionRequestDto.StockDeductionItem item : requestDto.getItems()) {
-            Parts part = partsRepository.findById(item.getPartId())
+            Parts part = partsRepository.findStockById(item.getPartId())
                     .orElseThrow(() -> {
                         log.error("부품을 찾을 수 없음 - Part ID: {}", item.getPartId());
                         return new BadRequestException("부품을 찾을 수 없습니다. Part ID: " + item.getPartId());
                     });
 
-            // 재고 확인
-            if (part.getAmount() < item.getAmount()) {
-                log.warn("재고 부족 - Part ID: {}, 현재 재고: {}, 요청 수량: {}",
-                        item.getPartId(), part.getAmount(), item.getAmount());
+            // 가용 재고(ATP) 확인 - 다른 주문이 확보 중인 수량은 차감할 수 없음
+            int current = part.getAmount() != null ? part.getAmount() : 0;
+            int available = current - stockReservationService.heldQuantity(part.getId());
+            if (available < item.getAmount()) {
+                log.warn("가용 재고 부족 - Part ID: {}, 현재 재고: {}, 가용 재고: {}, 요청 수량: {}",
+                        item.getPartId(), current, available, item.getAmount());
                 throw new BadRequestException(String.format(
-                        "재고가 부족합니다. Part ID: %d, 현재 재고: %d, 요청 수량: %d",
-                        item.getPartId(), part.getAmount(), item.getAmount()));
+                        "가용 재고가 부족합니다. Part ID: %d, 가용 재고: %d, 요청 수량: %d",
+                        item.getPartId(), Math.max(available, 0), item.getAmount()));
             }
 
             // 재고 차감
-            int newAmount = part.getAmount() - item.getAmount();
+            int newAmount = current - item.getAmount();
             part.setAmount(newAmount);
             partsRepository.save(part);
-
-            log.info("재고 차감 성공 - Part ID: {}, 차감 수량: {}, 남은 재고: {}",
-                    item.getPartId(), item.getAmount(), newAmount);
+            inventoryLedgerWriter.record(MovementType.DEDUCT, InventoryMovement.HQ_STORE_ID, part.getId(),
+                    -item.getAmount(), "order:" + requestDto.getOrderId());
+            inventoryEventOutbox.append(MovementType.DEDUCT, InventoryMovement.HQ_STORE_ID, part.getId(),
+                    -item.getAmount(), newAmount, "order:" + requestDto.getOrderId());
+
+            totalDeducted += item.getAmount();
+            if (log.isDebugEnabled() && itemLogSampler.sample()) {
+                log.debug("재고 차감 성공 - Part ID: {}, 차감 수량: {}, 남은 재고: {}",
+                        item.getPartId(), item.getAmount(), newAmount);
+            }
         }
 
-        log.info("API 재고 차감 완료 - Order ID: {}", requestDto.getOrderId());
+        log.info("API 재고 차감 완료 - Order ID: {}, 품목 수: {}, 총 차감 수량: {}",
+                requestDto.getOrderId(), requestDto.getItems().size(), totalDeducted);
     }
 
     // 부품 ID로 본사 및 가맹점별 재고 조회
@@ -227,7 +287,7 @@ public class PartsService {
         log.info("[PartsService] 🔍 부품 분포 조회 시작 - Part ID: {}, Page: {}, Size: {}", partId, page, size);
 
         // 1. 부품 조회 (본사 보유 수량)
-        Parts part = partsRepository.findById(partId)
+        Parts part = partsRepository.findStockById(partId)
                 .orElseThrow(() -> {
                     log.error("[PartsService] ❌ 부품을 찾을 수 없음 - Part ID: {}", partId);
                     return new BadRequestException(com.stockmate.parts.common.response.ErrorStatus.PART_NOT_FOUND_EXCEPTION.getMessage());
@@ -0,0 +1,141 @@
+package com.stockmate.parts.api.parts.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * 재고 확보(hold) 만료 관리용 해시드 타이밍 휠
+ *
+ * 만료 시각을 tick 단위 슬롯에 넣어 두고, 매 tick 마다 해당 슬롯만 확인한다.
+ * (확보 건수와 무관하게 advance 비용은 지난 tick 의 슬롯 크기에 비례)
+ * 부품별 확보 수량 합계도 함께 유지해 가용 재고(ATP) 계산 시 DB 를 보지 않는다.
+ *
+ * 모든 변경은 이 객체의 모니터로 직렬화된다. (메모리 연산만 하므로 임계 구역이 짧음)
+ */
+public class ReservationTimingWheel {
+
+    private final long tickMillis;
+    private final List<List<Hold>> slots;
+    private final Map<String, Hold> holds = new HashMap<>();
+    private final Map<Long, Integer> heldByPart = new HashMap<>();
+    private long lastTick;
+
+    public ReservationTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        this.tickMillis = Math.max(tickMillis, 1);
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.lastTick = nowMillis / this.tickMillis;
+    }
+
+    /**
+     * 가용 재고 확인 후 확보 등록 (확인과 등록이 원자적)
+     *
+     * @param stockOf 부품별 현재 실재고 조회 함수
+     * @return 확보 실패한 부품 ID (성공 시 null)
+     */
+    public synchronized Long tryHold(String token, Map<Long, Integer> quantities, long expiresAtMillis,
+                                     ToIntFunction<Long> stockOf) {
+        if (holds.containsKey(token)) {
+            throw new IllegalStateException("이미 등록된 확보 토큰입니다: " + token);
+        }
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            int available = stockOf.applyAsInt(entry.getKey()) - heldByPart.getOrDefault(entry.getKey(), 0);
+            if (available < entry.getValue()) {
+                return entry.getKey();
+            }
+        }
+        put(token, quantities, expiresAtMillis);
+        return null;
+    }
+
+    // 가용 재고 확인 없이 등록 (기동 시 DB 복원용)
+    public synchronized void restore(String token, Map<Long, Integer> quantities, long expiresAtMillis) {
+        if (!holds.containsKey(token)) {
+            put(token, quantities, expiresAtMillis);
+        }
+    }
+
+    // 확정/해제 시 제거 (이미 만료됐거나 없으면 null)
+    public synchronized Map<Long, Integer> remove(String token) {
+        Hold hold = holds.remove(token);
+        if (hold == null) {
+            return null;
+        }
+        release(hold);
+        return hold.quantities;
+    }
+
+    /**
+     * 현재 시각까지 지난 tick 의 슬롯을 돌며 만료된 확보를 제거
+     *
+     * @return 만료된 확보 토큰 목록
+     */
+    public synchronized List<String> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick <= lastTick) {
+            return Collections.emptyList();
+        }
+        // 휠 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+        long from = Math.max(lastTick + 1, nowTick - slots.size() + 1);
+        List<String> expired = new ArrayList<>();
+        for (long tick = from; tick <= nowTick; tick++) {
+            List<Hold> slot = slots.get((int) (tick % slots.size()));
+            slot.removeIf(hold -> {
+                if (hold.removed) {
+                    return true; // 확정/해제로 이미 빠진 건 정리
+                }
+                if (hold.deadlineTick > nowTick) {
+                    return false; // 다음 바퀴에 만료
+                }
+                holds.remove(hold.token);
+                release(hold);
+                expired.add(hold.token);
+                return true;
+            });
+        }
+        lastTick = nowTick;
+        return expired;
+    }
+
+    public synchronized int heldQuantity(Long partId) {
+        return heldByPart.getOrDefault(partId, 0);
+    }
+
+    public synchronized int size() {
+        return holds.size();
+    }
+
+    private void put(String token, Map<Long, Integer> quantities, long expiresAtMillis) {
+        // 만료 시각이 속한 tick 이 끝난 뒤 처리되도록 올림
+        long deadlineTick = Math.max((expiresAtMillis + tickMillis - 1) / tickMillis, lastTick + 1);
+        Hold hold = new Hold(token, Map.copyOf(quantities), deadlineTick);
+        holds.put(token, hold);
+        slots.get((int) (deadlineTick % slots.size())).add(hold);
+        quantities.forEach((partId, quantity) -> heldByPart.merge(partId, quantity, Integer::sum));
+    }
+
+    private void release(Hold hold) {
+        hold.removed = true;
+        hold.quantities.forEach((partId, quantity) ->
+                heldByPart.computeIfPresent(partId, (id, held) -> held - quantity > 0 ? held - quantity : null));
+    }
+
+    private static final class Hold {
+        private final String token;
+        private final Map<Long, Integer> quantities;
+        private final long deadlineTick;
+        private boolean removed;
+
+        private Hold(String token, Map<Long, Integer> quantities, long deadlineTick) {
+            this.token = token;
+            this.quantities = quantities;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
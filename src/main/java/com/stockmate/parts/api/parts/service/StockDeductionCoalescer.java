@@ -0,0 +1,376 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
+import com.stockmate.parts.api.parts.dto.parts.StockDeductionRequestDto;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.ConflictException;
+import com.stockmate.parts.common.exception.InternalServerException;
+import com.stockmate.parts.common.exception.ServiceUnavailableException;
+import com.stockmate.parts.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 본사 재고 차감 요청 병합기 (partId 기준 스트라이프)
+ *
+ * 주문 승인 폭주 시 인기 부품 행 잠금을 요청마다 따로 잡지 않도록,
+ * 같은 스트라이프에 window-ms 동안 모인 주문을 한 트랜잭션에서 처리한다.
+ * - 주문은 가장 작은 partId 의 스트라이프에 배정 (주문 단위 원자성 유지)
+ * - 배치 내 부품 행은 id 순으로 PESSIMISTIC_WRITE 잠금 후 도착 순서대로 주문별 판정 (가용 재고 = 실재고 - 확보 수량)
+ * - 재고가 부족한 주문만 실패 처리되고, 나머지 주문은 같은 커밋으로 반영
+ * - 배치 커밋 자체가 실패하면 주문을 하나씩 다시 처리해 한 주문의 오류가 다른 주문을 실패시키지 않게 한다
+ * - 호출자는 각자 자기 주문의 성공/실패를 그대로 받는다
+ * - 스트라이프 대기열은 max-pending 으로 제한하고, 가득 차거나 종료 중이면 받지 않는다 (503)
+ */
+@Component
+@Slf4j
+public class StockDeductionCoalescer {
+
+    private final PartsRepository partsRepository;
+    private final InventoryLedgerWriter inventoryLedgerWriter;
+    private final InventoryEventOutbox inventoryEventOutbox;
+    private final StockReservationService stockReservationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${parts.deduction.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${parts.deduction.coalescing.stripes:16}")
+    private int stripeCount;
+
+    @Value("${parts.deduction.coalescing.window-ms:5}")
+    private long windowMs;
+
+    @Value("${parts.deduction.coalescing.max-batch:64}")
+    private int maxBatch;
+
+    @Value("${parts.deduction.coalescing.timeout-ms:10000}")
+    private long timeoutMs;
+
+    @Value("${parts.deduction.coalescing.max-pending:1024}")
+    private int maxPending; // 스트라이프당 대기 요청 상한
+
+    private Stripe[] stripes;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean stopped;
+
+    public StockDeductionCoalescer(PartsRepository partsRepository, InventoryLedgerWriter inventoryLedgerWriter,
+                                   InventoryEventOutbox inventoryEventOutbox,
+                                   StockReservationService stockReservationService,
+                                   PlatformTransactionManager transactionManager) {
+        this.partsRepository = partsRepository;
+        this.inventoryLedgerWriter = inventoryLedgerWriter;
+        this.inventoryEventOutbox = inventoryEventOutbox;
+        this.stockReservationService = stockReservationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        // 배치 트랜잭션이 무기한 걸리지 않도록 상한
+        transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+        int count = Math.max(stripeCount, 1);
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(i);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(Math.min(count, 4), runnable -> {
+            Thread thread = new Thread(runnable, "stock-coalescer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("[StockDeductionCoalescer] 시작 | enabled={}, stripes={}, window={}ms, maxBatch={}, maxPending={}",
+                enabled, count, windowMs, maxBatch, maxPending);
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 배치에 들어가지 못한 요청은 반영되지 않았으므로 대기 중인 호출자를 모두 503 으로 끝냄
+        for (Stripe stripe : stripes) {
+            stripe.failPending();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재고 차감 (동기) - 배치 결과를 최대 timeout-ms 동안 기다린 뒤 자기 주문의 결과를 반환/예외로 전달
+     *
+     * 기한 안에 결과가 없으면
+     * - 아직 배치에 들어가지 않은 요청은 대기열에서 빼고 503 (반영되지 않음이 확실)
+     * - 이미 배치로 처리 중인 요청은 결과 미확정 409 (반영 여부는 원장의 order:{주문 ID} 기록으로 확인)
+     */
+    public void deduct(StockDeductionRequestDto request) {
+        Stripe stripe = stripeFor(request);
+        PendingDeduction deduction = stripe.enqueue(request);
+        try {
+            deduction.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalServerException("재고 차감 처리 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            throw abandon(stripe, deduction, "대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw abandon(stripe, deduction, "대기 중단");
+        }
+    }
+
+    // 결과를 기다리지 않고 돌아가는 요청: 대기열에 남아 있으면 빼서 미반영(503), 처리 중이면 결과 미확정(409)
+    private RuntimeException abandon(Stripe stripe, PendingDeduction deduction, String reason) {
+        Long orderId = deduction.request().getOrderId();
+        if (stripe.cancel(deduction)) {
+            log.warn("[StockDeductionCoalescer] ⏳ 차감 {} - 처리 전 대기열에서 제거 | Order ID: {}", reason, orderId);
+            return new ServiceUnavailableException(ErrorStatus.STOCK_DEDUCTION_BUSY_EXCEPTION.getMessage());
+        }
+        log.error("[StockDeductionCoalescer] ❌ 차감 {} - 배치 처리 중, 결과 미확정 | Order ID: {}", reason, orderId);
+        return new ConflictException(ErrorStatus.STOCK_DEDUCTION_IN_DOUBT_EXCEPTION.getMessage());
+    }
+
+    private Stripe stripeFor(StockDeductionRequestDto request) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new BadRequestException("차감할 부품이 없습니다.");
+        }
+        long stripeKey = Long.MAX_VALUE;
+        for (StockDeductionRequestDto.StockDeductionItem item : request.getItems()) {
+            if (item.getPartId() == null || item.getAmount() <= 0) {
+                throw new BadRequestException("유효하지 않은 차감 요청입니다. Part ID: " + item.getPartId());
+            }
+            stripeKey = Math.min(stripeKey, item.getPartId());
+        }
+        return stripes[stripeIndex(stripeKey)];
+    }
+
+    private int stripeIndex(long partId) {
+        long mixed = partId * 0x9E3779B97F4A7C15L; // 연속 ID 가 한 스트라이프에 몰리지 않도록 섞음
+        return (int) Math.floorMod(mixed ^ (mixed >>> 32), (long) stripes.length);
+    }
+
+    private record PendingDeduction(StockDeductionRequestDto request, CompletableFuture<Void> result) {
+    }
+
+    private final class Stripe {
+        private final int index;
+        private final Object lock = new Object();
+        private List<PendingDeduction> pending = new ArrayList<>();
+        private boolean flushScheduled; // 예약/실행 중인 flush 는 스트라이프당 하나
+
+        private Stripe(int index) {
+            this.index = index;
+        }
+
+        PendingDeduction enqueue(StockDeductionRequestDto request) {
+            PendingDeduction deduction = new PendingDeduction(request, new CompletableFuture<>());
+            boolean schedule;
+            synchronized (lock) {
+                if (stopped || pending.size() >= maxPending) {
+                    log.warn("[StockDeductionCoalescer] ❌ 대기열 포화/종료 중 - 요청 거절 | stripe={}, pending={}, stopped={}",
+                            index, pending.size(), stopped);
+                    throw new ServiceUnavailableException(ErrorStatus.STOCK_DEDUCTION_BUSY_EXCEPTION.getMessage());
+                }
+                pending.add(deduction);
+                schedule = !flushScheduled;
+                flushScheduled = true;
+            }
+            if (schedule) {
+                try {
+                    scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    // 종료 중이라 flush 를 예약할 수 없음 → 대기 요청은 처리되지 않으므로 모두 503
+                    failPending();
+                    throw new ServiceUnavailableException(ErrorStatus.STOCK_DEDUCTION_BUSY_EXCEPTION.getMessage());
+                }
+            }
+            return deduction;
+        }
+
+        // 아직 배치에 들어가지 않았으면 대기열에서 제거 (true = 반영되지 않음이 확실)
+        boolean cancel(PendingDeduction deduction) {
+            synchronized (lock) {
+                return pending.removeIf(candidate -> candidate == deduction);
+            }
+        }
+
+        void failPending() {
+            List<PendingDeduction> abandoned;
+            synchronized (lock) {
+                abandoned = pending;
+                pending = new ArrayList<>();
+                flushScheduled = false;
+            }
+            for (PendingDeduction deduction : abandoned) {
+                deduction.result().completeExceptionally(
+                        new ServiceUnavailableException(ErrorStatus.STOCK_DEDUCTION_BUSY_EXCEPTION.getMessage()));
+            }
+        }
+
+        // 대기 중인 요청이 없어질 때까지 max-batch 단위로 처리
+        private void flush() {
+            boolean drained = false;
+            try {
+                while (true) {
+                    List<PendingDeduction> batch;
+                    synchronized (lock) {
+                        if (pending.isEmpty()) {
+                            flushScheduled = false;
+                            drained = true;
+                            return;
+                        }
+                        if (pending.size() <= maxBatch) {
+                            batch = pending;
+                            pending = new ArrayList<>();
+                        } else {
+                            batch = new ArrayList<>(pending.subList(0, maxBatch));
+                            pending = new ArrayList<>(pending.subList(maxBatch, pending.size()));
+                        }
+                    }
+                    try {
+                        process(index, batch);
+                    } catch (Throwable t) {
+                        // process 밖으로 샌 오류 (Error 등) → 커밋 여부를 알 수 없으므로 남은 주문은 결과 미확정
+                        log.error("[StockDeductionCoalescer] ❌ 배치 처리 중 예상치 못한 오류 | stripe={}, orders={}",
+                                index, batch.size(), t);
+                        for (PendingDeduction deduction : batch) {
+                            deduction.result().completeExceptionally(
+                                    new ConflictException(ErrorStatus.STOCK_DEDUCTION_IN_DOUBT_EXCEPTION.getMessage()));
+                        }
+                    }
+                }
+            } finally {
+                if (!drained) {
+                    // 비정상 종료 시에도 다음 요청이 flush 를 다시 예약할 수 있게 함
+                    synchronized (lock) {
+                        flushScheduled = false;
+                    }
+                }
+            }
+        }
+    }
+
+    private void process(int stripeIndex, List<PendingDeduction> batch) {
+        List<RuntimeException> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> applyBatch(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // 어느 주문 때문에 커밋이 깨졌는지 모르므로 주문마다 별도 트랜잭션으로 다시 처리
+                log.warn("[StockDeductionCoalescer] ⚠️ 배치 커밋 실패 - 주문별 재처리 | stripe={}, orders={}, error={}",
+                        stripeIndex, batch.size(), e.getMessage());
+                for (PendingDeduction deduction : batch) {
+                    process(stripeIndex, List.of(deduction));
+                }
+                return;
+            }
+            log.error("[StockDeductionCoalescer] ❌ 차감 실패 | stripe={}, Order ID: {}, error={}",
+                    stripeIndex, batch.get(0).request().getOrderId(), e.getMessage(), e);
+            batch.get(0).result().completeExceptionally(e);
+            return;
+        }
+
+        int failed = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            RuntimeException outcome = outcomes.get(i);
+            if (outcome == null) {
+                batch.get(i).result().complete(null);
+            } else {
+                failed++;
+                batch.get(i).result().completeExceptionally(outcome);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[StockDeductionCoalescer] 배치 차감 커밋 | stripe={}, orders={}, failed={}",
+                    stripeIndex, batch.size(), failed);
+        }
+    }
+
+    // 한 트랜잭션 안에서 배치 전체 판정/반영 (주문별 결과: null = 성공)
+    private List<RuntimeException> applyBatch(List<PendingDeduction> batch) {
+        TreeSet<Long> partIds = new TreeSet<>();
+        for (PendingDeduction deduction : batch) {
+            for (StockDeductionRequestDto.StockDeductionItem item : deduction.request().getItems()) {
+                partIds.add(item.getPartId());
+            }
+        }
+        Map<Long, Parts> parts = partsRepository.findAllForUpdateByIdIn(partIds).stream()
+                .collect(Collectors.toMap(Parts::getId, Function.identity()));
+
+        List<RuntimeException> outcomes = new ArrayList<>(batch.size());
+        for (PendingDeduction deduction : batch) {
+            outcomes.add(applyOrder(deduction.request(), parts));
+        }
+        return outcomes;
+    }
+
+    // 주문 하나를 전부 반영하거나 전혀 반영하지 않음
+    private RuntimeException applyOrder(StockDeductionRequestDto request, Map<Long, Parts> parts) {
+        Map<Long, Integer> required = new LinkedHashMap<>();
+        for (StockDeductionRequestDto.StockDeductionItem item : request.getItems()) {
+            required.merge(item.getPartId(), item.getAmount(), Integer::sum);
+        }
+
+        for (Map.Entry<Long, Integer> entry : required.entrySet()) {
+            Parts part = parts.get(entry.getKey());
+            if (part == null) {
+                log.error("부품을 찾을 수 없음 - Part ID: {}", entry.getKey());
+                return new BadRequestException("부품을 찾을 수 없습니다. Part ID: " + entry.getKey());
+            }
+            int current = part.getAmount() != null ? part.getAmount() : 0;
+            int available = current - stockReservationService.heldQuantity(entry.getKey());
+            if (available < entry.getValue()) {
+                log.warn("가용 재고 부족 - Part ID: {}, 현재 재고: {}, 가용 재고: {}, 요청 수량: {}",
+                        entry.getKey(), current, available, entry.getValue());
+                return new BadRequestException(String.format(
+                        "가용 재고가 부족합니다. Part ID: %d, 가용 재고: %d, 요청 수량: %d",
+                        entry.getKey(), Math.max(available, 0), entry.getValue()));
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : required.entrySet()) {
+            Parts part = parts.get(entry.getKey());
+            int current = part.getAmount() != null ? part.getAmount() : 0;
+            part.setAmount(current - entry.getValue());
+            inventoryLedgerWriter.record(MovementType.DEDUCT, InventoryMovement.HQ_STORE_ID, entry.getKey(),
+                    -entry.getValue(), "order:" + request.getOrderId());
+            inventoryEventOutbox.append(MovementType.DEDUCT, InventoryMovement.HQ_STORE_ID, entry.getKey(),
+                    -entry.getValue(), part.getAmount(), "order:" + request.getOrderId());
+        }
+        return null;
+    }
+}
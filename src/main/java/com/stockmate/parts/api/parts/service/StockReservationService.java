@@ -0,0 +1,267 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
+import com.stockmate.parts.api.parts.dto.parts.StockReservationRequestDto;
+import com.stockmate.parts.api.parts.dto.parts.StockReservationResponseDto;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.entity.ReservationStatus;
+import com.stockmate.parts.api.parts.entity.StockReservation;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.api.parts.repository.StockReservationRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.ConflictException;
+import com.stockmate.parts.common.exception.NotFoundException;
+import com.stockmate.parts.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 본사 재고 확보(soft hold) 서비스
+ *
+ * 주문 확정 전 일정 시간 동안 재고를 확보해 두고, 확정(confirm) 시 실제 차감하거나 해제(release)한다.
+ * 확보 내역은 stock_reservation 테이블에 기록하고, 활성 확보 수량은 메모리 타이밍 휠에서 관리한다.
+ * 가용 재고(ATP) = Parts.amount - 활성 확보 수량 이므로, 확보/조회 시 행 잠금을 잡지 않는다.
+ *
+ * 타이밍 휠은 인스턴스 로컬이다. 여러 인스턴스가 동시에 같은 부품을 확보하면 초과 확보될 수 있으며,
+ * 이 경우에도 확정 시 실재고를 잠금 후 다시 확인하므로 재고가 음수가 되지는 않는다.
+ */
+@Service
+@Slf4j
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final PartsRepository partsRepository;
+    private final InventoryLedgerWriter inventoryLedgerWriter;
+    private final InventoryEventOutbox inventoryEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${parts.reservation.default-ttl-seconds:600}")
+    private int defaultTtlSeconds;
+
+    @Value("${parts.reservation.max-ttl-seconds:3600}")
+    private int maxTtlSeconds;
+
+    @Value("${parts.reservation.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${parts.reservation.wheel-size:512}")
+    private int wheelSize;
+
+    private ReservationTimingWheel wheel;
+
+    public StockReservationService(StockReservationRepository stockReservationRepository,
+                                   PartsRepository partsRepository,
+                                   InventoryLedgerWriter inventoryLedgerWriter,
+                                   InventoryEventOutbox inventoryEventOutbox,
+                                   PlatformTransactionManager transactionManager) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.partsRepository = partsRepository;
+        this.inventoryLedgerWriter = inventoryLedgerWriter;
+        this.inventoryEventOutbox = inventoryEventOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void initWheel() {
+        wheel = new ReservationTimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    // 기동 시 DB 의 활성 확보 내역을 휠에 복원 (이미 지난 건은 다음 tick 에 만료 처리)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHolds() {
+        Map<String, List<StockReservation>> byToken = stockReservationRepository.findByStatus(ReservationStatus.HELD)
+                .stream()
+                .collect(Collectors.groupingBy(StockReservation::getReservationToken));
+        byToken.forEach((token, rows) -> wheel.restore(token, quantities(rows), toMillis(rows.get(0).getExpiresAt())));
+        log.info("[StockReservationService] 🔄 활성 재고 확보 복원 | reservations={}", byToken.size());
+    }
+
+    // 가용 재고 계산용 활성 확보 수량
+    public int heldQuantity(Long partId) {
+        return wheel.heldQuantity(partId);
+    }
+
+    public StockReservationResponseDto reserve(StockReservationRequestDto request) {
+        log.info("[StockReservationService] 📦 재고 확보 요청 | orderId={}, items={}",
+                request.getOrderId(), request.getItems() == null ? 0 : request.getItems().size());
+
+        Map<Long, Integer> quantities = validateItems(request.getItems());
+        int ttlSeconds = request.getTtlSeconds() == null ? defaultTtlSeconds : request.getTtlSeconds();
+        if (ttlSeconds <= 0 || ttlSeconds > maxTtlSeconds) {
+            throw new BadRequestException("확보 유지 시간은 1초 이상 " + maxTtlSeconds + "초 이하여야 합니다.");
+        }
+
+        // 실재고는 캐시를 거치지 않고 조회 (잠금 없음)
+        Map<Long, Parts> parts = partsRepository.findAllStockByIdIn(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Parts::getId, Function.identity()));
+        for (Long partId : quantities.keySet()) {
+            if (!parts.containsKey(partId)) {
+                throw new BadRequestException("부품을 찾을 수 없습니다. Part ID: " + partId);
+            }
+        }
+
+        String token = UUID.randomUUID().toString();
+        long expiresAtMillis = System.currentTimeMillis() + ttlSeconds * 1000L;
+        Long shortPartId = wheel.tryHold(token, quantities, expiresAtMillis, partId -> {
+            Integer amount = parts.get(partId).getAmount();
+            return amount == null ? 0 : amount;
+        });
+        if (shortPartId != null) {
+            int amount = parts.get(shortPartId).getAmount() == null ? 0 : parts.get(shortPartId).getAmount();
+            log.warn("[StockReservationService] ❌ 가용 재고 부족 | partId={}, stock={}, held={}, requested={}",
+                    shortPartId, amount, wheel.heldQuantity(shortPartId), quantities.get(shortPartId));
+            throw new BadRequestException(String.format(
+                    "가용 재고가 부족합니다. Part ID: %d, 가용 재고: %d, 요청 수량: %d",
+                    shortPartId, Math.max(amount - wheel.heldQuantity(shortPartId), 0), quantities.get(shortPartId)));
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
+        List<StockReservation> rows = new ArrayList<>(quantities.size());
+        quantities.forEach((partId, quantity) -> rows.add(StockReservation.builder()
+                .reservationToken(token)
+                .orderId(request.getOrderId())
+                .partId(partId)
+                .quantity(quantity)
+                .status(ReservationStatus.HELD)
+                .expiresAt(expiresAt)
+                .build()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> stockReservationRepository.saveAll(rows));
+        } catch (RuntimeException e) {
+            wheel.remove(token); // 기록 실패 시 메모리 확보도 되돌림
+            throw e;
+        }
+
+        log.info("[StockReservationService] ✅ 재고 확보 완료 | token={}, orderId={}, expiresAt={}",
+                token, request.getOrderId(), expiresAt);
+        return StockReservationResponseDto.of(rows);
+    }
+
+    /**
+     * 확보 확정 - 실재고 차감 (확보 상태 변경과 차감이 한 트랜잭션)
+     * 이미 확정된 건을 다시 확정하면 차감 없이 현재 상태를 반환한다.
+     */
+    public StockReservationResponseDto confirm(String token) {
+        StockReservationResponseDto response = transactionTemplate.execute(status -> {
+            List<StockReservation> rows = findRows(token);
+            if (rows.get(0).getStatus() == ReservationStatus.CONFIRMED) {
+                return StockReservationResponseDto.of(rows);
+            }
+            // HELD 인 경우에만 상태가 바뀌므로 만료 처리와 동시에 들어와도 한쪽만 성공
+            if (stockReservationRepository.updateHeldStatusByTokens(List.of(token), ReservationStatus.CONFIRMED) == 0) {
+                throw new ConflictException(ErrorStatus.RESERVATION_NOT_HELD_EXCEPTION.getMessage());
+            }
+
+            Map<Long, Integer> quantities = quantities(rows);
+            Map<Long, Parts> parts = partsRepository.findAllForUpdateByIdIn(quantities.keySet()).stream()
+                    .collect(Collectors.toMap(Parts::getId, Function.identity()));
+            quantities.forEach((partId, quantity) -> {
+                Parts part = parts.get(partId);
+                int current = part == null || part.getAmount() == null ? 0 : part.getAmount();
+                if (current < quantity) {
+                    // 확보 없이 차감된 주문 등으로 실재고가 줄어든 경우
+                    throw new BadRequestException(String.format(
+                            "재고가 부족합니다. Part ID: %d, 현재 재고: %d, 요청 수량: %d", partId, current, quantity));
+                }
+                part.setAmount(current - quantity);
+                inventoryLedgerWriter.record(MovementType.DEDUCT, InventoryMovement.HQ_STORE_ID, partId,
+                        -quantity, "reservation:" + token);
+                inventoryEventOutbox.append(MovementType.DEDUCT, InventoryMovement.HQ_STORE_ID, partId,
+                        -quantity, part.getAmount(), "reservation:" + token);
+            });
+            return StockReservationResponseDto.of(findRows(token));
+        });
+
+        // 커밋 후 메모리 확보 제거 (그 사이에는 가용 재고가 보수적으로 계산됨)
+        wheel.remove(token);
+        log.info("[StockReservationService] ✅ 재고 확보 확정 | token={}", token);
+        return response;
+    }
+
+    // 확보 해제 - 이미 해제/만료된 건은 그대로 현재 상태 반환
+    public StockReservationResponseDto release(String token) {
+        StockReservationResponseDto response = transactionTemplate.execute(status -> {
+            List<StockReservation> rows = findRows(token);
+            if (rows.get(0).getStatus() == ReservationStatus.CONFIRMED) {
+                throw new ConflictException("이미 확정된 재고 확보는 해제할 수 없습니다.");
+            }
+            stockReservationRepository.updateHeldStatusByTokens(List.of(token), ReservationStatus.RELEASED);
+            return StockReservationResponseDto.of(findRows(token));
+        });
+
+        wheel.remove(token);
+        log.info("[StockReservationService] ↩️ 재고 확보 해제 | token={}, status={}", token, response.getStatus());
+        return response;
+    }
+
+    public StockReservationResponseDto getReservation(String token) {
+        return StockReservationResponseDto.of(findRows(token));
+    }
+
+    // 만료된 확보 정리 (tick 주기)
+    @Scheduled(fixedDelayString = "${parts.reservation.tick-ms:1000}")
+    public void expireHolds() {
+        List<String> expired = wheel.advance(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+        Integer updated = transactionTemplate.execute(status ->
+                stockReservationRepository.updateHeldStatusByTokens(expired, ReservationStatus.EXPIRED));
+        log.info("[StockReservationService] ⏰ 재고 확보 만료 | reservations={}, rows={}", expired.size(), updated);
+    }
+
+    private List<StockReservation> findRows(String token) {
+        List<StockReservation> rows = stockReservationRepository.findByReservationToken(token);
+        if (rows.isEmpty()) {
+            throw new NotFoundException(ErrorStatus.RESERVATION_NOT_FOUND_EXCEPTION.getMessage());
+        }
+        return rows;
+    }
+
+    private static Map<Long, Integer> validateItems(List<StockReservationRequestDto.ReservationItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("확보할 부품이 없습니다.");
+        }
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (StockReservationRequestDto.ReservationItem item : items) {
+            if (item.getPartId() == null || item.getPartId() <= 0) {
+                throw new BadRequestException("유효하지 않은 부품 ID입니다.");
+            }
+            if (item.getAmount() <= 0) {
+                throw new BadRequestException("요청 수량은 0보다 커야 합니다.");
+            }
+            quantities.merge(item.getPartId(), item.getAmount(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private static Map<Long, Integer> quantities(List<StockReservation> rows) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        rows.forEach(row -> quantities.merge(row.getPartId(), row.getQuantity(), Integer::sum));
+        return quantities;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,124 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
+import com.stockmate.parts.api.parts.dto.store.ReleasedItemDTO;
+import com.stockmate.parts.api.parts.dto.store.StockReleaseRequestDTO;
+import com.stockmate.parts.api.parts.entity.StoreInventory;
+import com.stockmate.parts.api.parts.repository.StoreRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가맹점 출고 차감 (요청 품목 수와 무관하게 조회 1회 + batch update 1회)
+ *
+ * 1. 요청 부품의 재고를 부품과 함께 fetch join 으로 한 번에 조회
+ * 2. 같은 부품이 여러 번 요청되면 합산해 메모리에서 전부 검증 (하나라도 실패하면 아무것도 차감하지 않음)
+ * 3. 읽은 version 과 수량을 조건으로 한 update 를 batch 로 실행
+ *    → 그 사이 다른 요청이 먼저 바꿨으면 갱신 건수가 0 이 되고, OptimisticLockingFailureException 으로
+ *      OptimisticRetryExecutor 가 트랜잭션 단위로 다시 시도한다.
+ * 호출하는 쪽 트랜잭션 안에서 실행해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreReleaseEngine {
+
+    private static final String RELEASE_SQL = """
+            update store_inventory
+               set amount = amount - ?, version = version + 1, updated_at = ?
+             where id = ? and version = ? and amount >= ?
+            """;
+
+    private final StoreRepository storeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final InventoryLedgerWriter inventoryLedgerWriter;
+    private final InventoryEventOutbox inventoryEventOutbox;
+
+    public List<ReleasedItemDTO> release(Long memberId, List<StockReleaseRequestDTO.StockReleaseItem> items) {
+        // 1. 부품별 요청 수량 합산 (요청 순서 유지)
+        Map<Long, Integer> requested = new LinkedHashMap<>();
+        for (StockReleaseRequestDTO.StockReleaseItem item : items) {
+            requested.merge(item.getPartId(), item.getQuantity(), Integer::sum);
+        }
+
+        Map<Long, StoreInventory> inventories = new LinkedHashMap<>();
+        for (StoreInventory inventory : storeRepository.findAllWithPartByUserIdAndPartIdIn(memberId, requested.keySet())) {
+            inventories.put(inventory.getPart().getId(), inventory);
+        }
+
+        // 2. 메모리 검증
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            Long partId = entry.getKey();
+            StoreInventory inventory = inventories.get(partId);
+            if (inventory == null) {
+                log.error("[StoreReleaseEngine] ❌ 가맹점에 해당 부품 재고가 없음 - Member ID: {}, Part ID: {}", memberId, partId);
+                throw new BadRequestException(String.format("가맹점에 해당 부품 재고가 없습니다. Part ID: %d", partId));
+            }
+            int currentAmount = inventory.getAmount() != null ? inventory.getAmount() : 0;
+            if (currentAmount < entry.getValue()) {
+                log.error("[StoreReleaseEngine] ❌ 재고 부족 - Part ID: {}, 현재 재고: {}, 요청 수량: {}",
+                        partId, currentAmount, entry.getValue());
+                throw new BadRequestException(String.format(
+                        "재고가 부족합니다. Part ID: %d, 현재 재고: %d, 요청 수량: %d",
+                        partId, currentAmount, entry.getValue()));
+            }
+        }
+
+        // 3. 조건부 batch update
+        List<Object[]> batchArgs = new ArrayList<>(requested.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            StoreInventory inventory = inventories.get(entry.getKey());
+            batchArgs.add(new Object[]{entry.getValue(), now, inventory.getId(), inventory.getVersion(), entry.getValue()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(RELEASE_SQL, batchArgs);
+        for (int count : updated) {
+            if (count == 0) {
+                throw new OptimisticLockingFailureException("출고 중 다른 요청이 재고를 먼저 변경했습니다. memberId=" + memberId);
+            }
+        }
+
+        // 영속성 컨텍스트의 재고 엔티티는 이제 DB 와 다르므로 분리 (같은 트랜잭션에서 다시 읽으면 새로 조회)
+        inventories.values().forEach(entityManager::detach);
+
+        // 4. 원장/이벤트 기록 및 결과 (요청 품목 순서대로, 남은 재고는 품목별 누적 차감 기준)
+        Map<Long, Integer> remaining = new LinkedHashMap<>();
+        inventories.forEach((partId, inventory) -> remaining.put(partId, inventory.getAmount() != null ? inventory.getAmount() : 0));
+        List<ReleasedItemDTO> releasedItems = new ArrayList<>(items.size());
+        for (StockReleaseRequestDTO.StockReleaseItem item : items) {
+            Long partId = item.getPartId();
+            int quantity = item.getQuantity();
+            int newAmount = remaining.merge(partId, -quantity, Integer::sum);
+            StoreInventory inventory = inventories.get(partId);
+
+            inventoryLedgerWriter.record(MovementType.RELEASE, memberId, partId, -quantity, null);
+            inventoryEventOutbox.append(MovementType.RELEASE, memberId, partId, -quantity, newAmount, null);
+
+            releasedItems.add(ReleasedItemDTO.builder()
+                    .partId(partId)
+                    .partCode(inventory.getPart().getCode())
+                    .partName(inventory.getPart().getKorName())
+                    .releasedQuantity(quantity)
+                    .remainingQuantity(newAmount)
+                    .build());
+        }
+
+        log.info("[StoreReleaseEngine] ✅ 출고 차감 완료 - 가맹점 ID: {}, 요청 품목: {}, 부품 종류: {}",
+                memberId, items.size(), requested.size());
+        return releasedItems;
+    }
+}
@@ -1,5 +1,7 @@
 package com.stockmate.parts.api.parts.service;
 
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
 import com.stockmate.parts.api.parts.dto.common.PageResponseDto;
 import com.stockmate.parts.api.parts.dto.common.CategoryAmountDto;
 import com.stockmate.parts.api.parts.dto.store.ReleasedItemDTO;
@@ -10,6 +12,8 @@ import com.stockmate.parts.api.parts.entity.StoreInventory;
 import com.stockmate.parts.api.parts.repository.StoreRepository;
 import com.stockmate.parts.api.parts.repository.PartsRepository;
 import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.logging.LogSampler;
+import com.stockmate.parts.common.transaction.OptimisticRetryExecutor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +33,11 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final PartsRepository partsRepository;
     private final WebClient webClient;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final InventoryLedgerWriter inventoryLedgerWriter;
+    private final InventoryEventOutbox inventoryEventOutbox;
+    private final StoreReleaseEngine storeReleaseEngine;
+    private final LogSampler itemLogSampler;
 
     @Value("${information.server.url}")
     private String informationServerUrl;
@@ -51,19 +60,12 @@ public class StoreService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Object[]> result = storeRepository.searchParts(userId, categoryName, trim, model, pageable);
+        Page<StorePartsDto> result = storeRepository.searchParts(userId, categoryName, trim, model, pageable);
         log.info("[StoreService] ✅ 검색 결과 조회 완료 | totalElements={}, totalPages={}",
                 result.getTotalElements(), result.getTotalPages());
 
-        Page<StorePartsDto> mapped = result.map(row -> {
-            Parts part = (Parts) row[0];
-            StoreInventory storeInventory = (StoreInventory) row[1];
-            Boolean isLack = row[2] == null ? false : (Boolean) row[2];
-            return StorePartsDto.of(part, storeInventory, isLack);
-        });
-
         log.info("[StoreService] 🏁 searchParts() 종료");
-        return PageResponseDto.from(mapped);
+        return PageResponseDto.from(result);
     }
 
     // 카테고리별 부족 재고 조회
@@ -82,16 +84,10 @@ public class StoreService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Object[]> result = storeRepository.findUnderLimitByCategory(userId, categoryName, pageable);
-        Page<StorePartsDto> mapped = result.map(row -> {
-            Parts part = (Parts) row[0];
-            StoreInventory storeInventory = (StoreInventory) row[1];
-            Boolean isLack = row[2] != null && (Boolean) row[2];
-            return StorePartsDto.of(part, storeInventory, isLack);
-        });
+        Page<StorePartsDto> result = storeRepository.findUnderLimitByCategory(userId, categoryName, pageable);
 
         log.info("[StoreService] 🏁 getUnderLimit() 종료");
-        return PageResponseDto.from(mapped);
+        return PageResponseDto.from(result);
     }
 
     // 카테고리별 부족 제품 갯수
@@ -127,20 +123,13 @@ public class StoreService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Object[]> result = storeRepository.findByName(userId, name, pageable);
+        Page<StorePartsDto> result = storeRepository.findByName(userId, name, pageable);
         log.info("[StoreService] ✅ JPQL 조회 완료 | totalElements={}, totalPages={}",
                 result.getTotalElements(), result.getTotalPages());
 
-        Page<StorePartsDto> mapped = result.map(row -> {
-            Parts part = (Parts) row[0];
-            StoreInventory storeInventory = (StoreInventory) row[1];
-            Boolean isLack = row[2] != null && (Boolean) row[2];
-            return StorePartsDto.of(part, storeInventory, isLack);
-        });
-
-        log.info("[StoreService] 🏁 findByName() 종료 | mappedSize={}", mapped.getContent().size());
+        log.info("[StoreService] 🏁 findByName() 종료 | mappedSize={}", result.getContent().size());
 
-        return PageResponseDto.from(mapped);
+        return PageResponseDto.from(result);
     }
 
     // 최소 필요 수량 변경
@@ -211,17 +200,20 @@ public class StoreService {
 //    private String blankToNull(String s) { return (s == null || s.isBlank()) ? null : s; }
 //    private long nullToZero(Long v) { return v == null ? 0L : v; }
 
-    // 가맹점 부품 재고 등록/수정 API
-    @Transactional
+    // 가맹점 부품 재고 등록/수정 API (버전 충돌 시 트랜잭션 단위 재시도)
     public void updateStoreInventory(Long memberId, List<com.stockmate.parts.api.parts.dto.StoreInventoryItemDTO> items) {
         log.info("[StoreService] 가맹점 부품 재고 업데이트 시작 - 가맹점 ID: {}, 아이템 수: {}", memberId, items.size());
 
+        optimisticRetryExecutor.run("updateStoreInventory", () -> applyInventoryUpdate(memberId, items));
+
+        log.info("[StoreService] ✅ 가맹점 부품 재고 업데이트 완료 - 가맹점 ID: {}", memberId);
+    }
+
+    private void applyInventoryUpdate(Long memberId, List<com.stockmate.parts.api.parts.dto.StoreInventoryItemDTO> items) {
         for (com.stockmate.parts.api.parts.dto.StoreInventoryItemDTO item : items) {
             Long partId = item.getPartId();
             int quantity = item.getQuantity();
 
-            log.info("[StoreService] 부품 재고 추가 - Part ID: {}, Quantity: {}", partId, quantity);
-
             Parts part = partsRepository.findById(partId)
                     .orElseThrow(() -> {
                         log.error("[StoreService] ❌ 부품을 찾을 수 없음 - Part ID: {}", partId);
@@ -238,70 +230,30 @@ public class StoreService {
 
             storeInventory.setAmount((storeInventory.getAmount() != null ? storeInventory.getAmount() : 0) + quantity);
             storeRepository.save(storeInventory);
+            inventoryLedgerWriter.record(MovementType.RECEIVE, memberId, partId, quantity, null);
+            inventoryEventOutbox.append(MovementType.RECEIVE, memberId, partId, quantity, storeInventory.getAmount(), null);
 
-            log.info("[StoreService] ✅ 부품 재고 추가 완료 - Part ID: {}, 추가 수량: {}, 현재 재고: {}",
-                    partId, quantity, storeInventory.getAmount());
+            if (log.isDebugEnabled() && itemLogSampler.sample()) {
+                log.debug("[StoreService] ✅ 부품 재고 추가 완료 - Part ID: {}, 추가 수량: {}, 현재 재고: {}",
+                        partId, quantity, storeInventory.getAmount());
+            }
         }
-
-        log.info("[StoreService] ✅ 가맹점 부품 재고 업데이트 완료 - 가맹점 ID: {}", memberId);
     }
 
-    // 가맹점 부품 출고 처리 API
-    @Transactional
+    // 가맹점 부품 출고 처리 API (버전 충돌 시 트랜잭션 단위 재시도)
     public void releaseStock(StockReleaseRequestDTO requestDTO, Long requesterMemberId) {
         log.info("[StoreService] 🚚 가맹점 부품 출고 처리 시작 - 가맹점 ID: {}, 출고 아이템 수: {}", 
                 requesterMemberId, requestDTO.getItems().size());
 
         Long memberId = requesterMemberId;
-        List<ReleasedItemDTO> releasedItems = new java.util.ArrayList<>();
-
-        for (com.stockmate.parts.api.parts.dto.store.StockReleaseRequestDTO.StockReleaseItem item : requestDTO.getItems()) {
-            Long partId = item.getPartId();
-            int quantity = item.getQuantity();
-
-            log.info("[StoreService] 부품 출고 처리 - Part ID: {}, Quantity: {}", partId, quantity);
-
-            // 1. 가맹점 ID + 부품 ID로 직접 재고 조회
-            StoreInventory storeInventory = storeRepository.findStoreInventoryByUserIdAndPartId(memberId, partId)
-                    .orElseThrow(() -> {
-                        log.error("[StoreService] ❌ 가맹점에 해당 부품 재고가 없음 - Member ID: {}, Part ID: {}", 
-                                memberId, partId);
-                        return new BadRequestException(String.format(
-                                "가맹점에 해당 부품 재고가 없습니다. Part ID: %d", partId));
-                    });
-
-            // 2. 재고 확인
-            int currentAmount = storeInventory.getAmount() != null ? storeInventory.getAmount() : 0;
-            if (currentAmount < quantity) {
-                log.error("[StoreService] ❌ 재고 부족 - Part ID: {}, 현재 재고: {}, 요청 수량: {}", 
-                        partId, currentAmount, quantity);
-                throw new BadRequestException(String.format(
-                        "재고가 부족합니다. Part ID: %d, 현재 재고: %d, 요청 수량: %d", 
-                        partId, currentAmount, quantity));
-            }
-
-            // 3. 재고 차감
-            int newAmount = currentAmount - quantity;
-            storeInventory.setAmount(newAmount);
-            storeRepository.save(storeInventory);
-
-            log.info("[StoreService] ✅ 부품 출고 완료 - Part ID: {}, 출고 수량: {}, 남은 재고: {}", 
-                    partId, quantity, newAmount);
-
-            // 4. 출고 결과 추가
-            releasedItems.add(com.stockmate.parts.api.parts.dto.store.ReleasedItemDTO.builder()
-                    .partId(storeInventory.getPart().getId())
-                    .partCode(storeInventory.getPart().getCode())
-                    .partName(storeInventory.getPart().getKorName())
-                    .releasedQuantity(quantity)
-                    .remainingQuantity(newAmount)
-                    .build());
-        }
+        // 시도마다 최신 재고를 다시 읽어 일괄 검증/차감 (StoreReleaseEngine)
+        List<ReleasedItemDTO> releasedItems = optimisticRetryExecutor.execute("releaseStock",
+                () -> storeReleaseEngine.release(memberId, requestDTO.getItems()));
 
         log.info("[StoreService] 🏁 가맹점 부품 출고 처리 완료 - 가맹점 ID: {}, 출고 부품 종류 수: {}", 
                 memberId, releasedItems.size());
 
-        // Information 서버에 출고 히스토리 등록
+        // Information 서버에 출고 히스토리 등록 (커밋 이후, 재시도와 무관하게 1회)
         registerReleaseHistory(memberId, releasedItems);
     }
 
@@ -0,0 +1,91 @@
+package com.stockmate.parts.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 인스턴스 로컬 캐시)
+ *
+ * - parts / parts.codes: 부품 카탈로그 엔티티 및 대체 코드 컬렉션
+ * - parts.query: 파라미터 조합이 제한된 카탈로그 조회 쿼리 결과
+ * 엔티티 캐시는 TTL 을 두어 다른 인스턴스에서 변경된 값도 일정 시간 내 반영되도록 한다.
+ */
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+
+    public static final String PARTS_REGION = "parts";
+    public static final String PARTS_CODES_REGION = "parts.codes";
+    public static final String PARTS_QUERY_REGION = "parts.query";
+
+    @Value("${parts.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${parts.cache.max-entries:20000}")
+    private long maxEntries;
+
+    @Value("${parts.cache.query-max-entries:500}")
+    private long queryMaxEntries;
+
+    @Value("${parts.cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${parts.cache.statistics:true}")
+    private boolean statistics;
+
+    @Bean
+    public HibernatePropertiesCustomizer partsSecondLevelCacheCustomizer() {
+        return properties -> {
+            if (!enabled) {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                log.info("[HibernateCacheConfig] 2차 캐시 비활성화");
+                return;
+            }
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, createCacheManager());
+            // update-timestamps 등 미리 만들지 않은 리전은 기본 설정(만료 없음)으로 생성
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            if (statistics) {
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+            log.info("[HibernateCacheConfig] 2차 캐시 활성화 | maxEntries={}, queryMaxEntries={}, ttl={}m",
+                    maxEntries, queryMaxEntries, ttlMinutes);
+        };
+    }
+
+    private CacheManager createCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        createRegion(cacheManager, PARTS_REGION, maxEntries);
+        createRegion(cacheManager, PARTS_CODES_REGION, maxEntries);
+        createRegion(cacheManager, PARTS_QUERY_REGION, queryMaxEntries);
+        return cacheManager;
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maximumSize) {
+        if (cacheManager.getCache(region) != null) {
+            return; // 같은 JVM 에서 컨텍스트가 다시 뜨는 경우 (테스트 등)
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,13 @@
+package com.stockmate.parts.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 메트릭 설정
+ * application.yml 은 배포 시 시크릿으로 덮어쓰므로 노출/백분위 기본값은 별도 파일로 관리한다.
+ */
+@Configuration
+@PropertySource("classpath:observability.properties")
+public class MetricsConfig {
+}
@@ -1,23 +1,35 @@
 package com.stockmate.parts.common.config.kafka;
 
+import com.stockmate.parts.common.kafka.CompactEventDeserializer;
+import com.stockmate.parts.common.kafka.CompactEventSerializer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.mapping.DefaultJackson2JavaTypeMapper;
 import org.springframework.kafka.support.mapping.Jackson2JavaTypeMapper;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -25,17 +37,65 @@ import java.util.Map;
 @Slf4j
 public class KafkaConfig {
 
+    public static final String RETRY_TOPIC_SUFFIX = "-retry";
+    public static final String DLT_SUFFIX = "-dlt";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${parts.kafka.profile:throughput}")
+    private String profileName;
+
+    @Value("${parts.kafka.listener.concurrency:3}")
+    private int listenerConcurrency;
+
+    @Value("${parts.kafka.compact.enabled-types:}")
+    private String compactEnabledTypes; // 바이너리로 보낼 이벤트 (기본 없음 = 전부 JSON, 소비 측이 CompactEventDeserializer 로 바뀐 타입만 추가)
+
+    @Value("${parts.kafka.retry.max-attempts:4}")
+    private int retryMaxAttempts; // 최초 처리 포함
+
+    @Value("${parts.kafka.retry.initial-interval-ms:1000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${parts.kafka.retry.multiplier:3.0}")
+    private double retryMultiplier;
+
+    @Value("${parts.kafka.retry.max-interval-ms:60000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${parts.kafka.retry.topic-partitions:3}")
+    private int retryTopicPartitions;
+
+    @Value("${parts.kafka.retry.topic-replication:1}")
+    private short retryTopicReplication;
+
+    @Value("${parts.kafka.retry.exclude-topics:}")
+    private String retryExcludeTopics; // 배치 리스너 토픽 (재시도 토픽 미지원 → 블로킹 재시도 후 DLT)
+
+    private final Environment environment;
+
+    public KafkaConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     // Producer Configuration
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
+        KafkaTuningProfile profile = KafkaTuningProfile.from(profileName);
+        Map<String, Object> configProps = new HashMap<>(profile.producerProperties());
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, CompactEventSerializer.class);
+        configProps.put(CompactEventSerializer.ENABLED_TYPES, compactEnabledTypes);
+        override(configProps, ProducerConfig.LINGER_MS_CONFIG, "parts.kafka.producer.linger-ms", Integer.class);
+        override(configProps, ProducerConfig.BATCH_SIZE_CONFIG, "parts.kafka.producer.batch-size", Integer.class);
+        override(configProps, ProducerConfig.COMPRESSION_TYPE_CONFIG, "parts.kafka.producer.compression-type", String.class);
+        override(configProps, ProducerConfig.BUFFER_MEMORY_CONFIG, "parts.kafka.producer.buffer-memory", Long.class);
 
+        log.info("Kafka Producer 설정 - profile: {}, linger.ms: {}, batch.size: {}, compression: {}, compact: {}", profile,
+                configProps.get(ProducerConfig.LINGER_MS_CONFIG), configProps.get(ProducerConfig.BATCH_SIZE_CONFIG),
+                configProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG), compactEnabledTypes);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -48,13 +108,17 @@ public class KafkaConfig {
     // Consumer Configuration
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
-        Map<String, Object> props = new HashMap<>();
+        Map<String, Object> props = new HashMap<>(KafkaTuningProfile.from(profileName).consumerProperties());
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "parts-service-group");
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, CompactEventDeserializer.class.getName());
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        override(props, ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "parts.kafka.consumer.max-poll-records", Integer.class);
+        override(props, ConsumerConfig.FETCH_MIN_BYTES_CONFIG, "parts.kafka.consumer.fetch-min-bytes", Integer.class);
+        override(props, ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, "parts.kafka.consumer.fetch-max-wait-ms", Integer.class);
+        override(props, ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, "parts.kafka.consumer.max-partition-fetch-bytes", Integer.class);
 
         log.info("Kafka Consumer Factory 설정 완료 - Bootstrap Servers: {}", bootstrapServers);
         return new DefaultKafkaConsumerFactory<>(props);
@@ -64,17 +128,98 @@ public class KafkaConfig {
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(listenerConcurrency);
         factory.getContainerProperties().setAckMode(org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(errorHandler());
+
+        log.info("Kafka Listener Container Factory 설정 완료 - concurrency: {}", listenerConcurrency);
+        return factory;
+    }
 
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
+    // 배치 리스너용 (@KafkaListener(containerFactory = "batchKafkaListenerContainerFactory"), List<ConsumerRecord> 수신)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(listenerConcurrency);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(errorHandler());
+
+        log.info("Kafka Batch Listener Container Factory 설정 완료 - concurrency: {}", listenerConcurrency);
+        return factory;
+    }
+
+    /**
+     * 논블로킹 재시도 (단건 리스너)
+     * 실패한 메시지는 {topic}-retry-0, -1, ... 토픽으로 넘겨 지수 간격으로 재시도하고, 마지막까지 실패하면 {topic}-dlt 로 보낸다.
+     * 원래 파티션은 멈추지 않고 다음 메시지를 계속 처리한다. 역직렬화 실패 등 재시도해도 소용없는 예외는 바로 DLT 로 간다.
+     */
+    @Bean
+    public RetryTopicConfiguration retryTopicConfiguration(KafkaTemplate<String, Object> kafkaTemplate) {
+        List<String> excludeTopics = splitTopics(retryExcludeTopics);
+        RetryTopicConfigurationBuilder builder = RetryTopicConfigurationBuilder.newInstance()
+                .exponentialBackoff(retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs)
+                .maxAttempts(retryMaxAttempts)
+                .retryTopicSuffix(RETRY_TOPIC_SUFFIX)
+                .dltSuffix(DLT_SUFFIX)
+                .setTopicSuffixingStrategy(TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE)
+                .autoCreateTopicsWith(retryTopicPartitions, retryTopicReplication)
+                .listenerFactory("kafkaListenerContainerFactory");
+        if (!excludeTopics.isEmpty()) {
+            builder.excludeTopics(excludeTopics);
+        }
+
+        log.info("Kafka Retry Topic 설정 - maxAttempts: {}, backoff: {}ms x{} (max {}ms), exclude: {}",
+                retryMaxAttempts, retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs, excludeTopics);
+        return builder.create(kafkaTemplate);
+    }
+
+    /**
+     * 재시도 토픽에서 제외된 토픽의 DLT ({topic}-dlt, 재시도 토픽용 DLT 와 같은 이름 규칙)
+     * 재시도 토픽 쪽 DLT 는 autoCreateTopicsWith 로 만들어지지만 블로킹 경로는 만들어 주는 곳이 없어,
+     * 브로커 자동 생성이 꺼져 있으면 DLT 발행이 실패한다.
+     */
+    @Bean
+    public KafkaAdmin.NewTopics blockingDeadLetterTopics() {
+        return new KafkaAdmin.NewTopics(splitTopics(retryExcludeTopics).stream()
+                .map(topic -> TopicBuilder.name(topic + DLT_SUFFIX)
+                        .partitions(retryTopicPartitions)
+                        .replicas(retryTopicReplication)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    // 블로킹 재시도 후 {topic}-dlt 로 발행 (원본 헤더 유지 + kafka_dlt-* 헤더에 원래 토픽/오프셋/예외 기록)
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, Object> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
                 (record, exception) -> {
-                    log.error("Kafka 메시지 처리 실패 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
+                    log.error("Kafka 메시지 DLT 이동 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
                             record.topic(), record.partition(), record.offset(), exception.getMessage());
-                },
-                new org.springframework.util.backoff.FixedBackOff(1000L, 3)
-        ));
+                    return new TopicPartition(record.topic() + DLT_SUFFIX, -1); // 파티션은 키 기준으로 선택
+                });
+    }
 
-        log.info("Kafka Listener Container Factory 설정 완료");
-        return factory;
+    // 재시도 토픽에서 제외된 리스너(배치 리스너 등)용, 짧게 지수 재시도 후 DLT
+    private DefaultErrorHandler errorHandler() {
+        ExponentialBackOff backOff = new ExponentialBackOff(200L, 2.0);
+        backOff.setMaxElapsedTime(2_000L);
+        return new DefaultErrorHandler(deadLetterPublishingRecoverer(kafkaTemplate()), backOff);
+    }
+
+    private static List<String> splitTopics(String topics) {
+        return Arrays.stream(topics.split(","))
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .toList();
+    }
+
+    // 프로파일 기본값을 개별 프로퍼티로 덮어쓰기 (설정이 없으면 그대로)
+    private <T> void override(Map<String, Object> props, String kafkaKey, String propertyKey, Class<T> type) {
+        T value = environment.getProperty(propertyKey, type);
+        if (value != null) {
+            props.put(kafkaKey, value);
+        }
     }
-}
\ No newline at end of file
+}
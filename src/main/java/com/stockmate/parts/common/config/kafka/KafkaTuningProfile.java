@@ -0,0 +1,66 @@
+package com.stockmate.parts.common.config.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Kafka 프로듀서/컨슈머 튜닝 프로파일 (parts.kafka.profile)
+ *
+ * - THROUGHPUT: linger/배치/압축으로 요청 수를 줄이고, 한 번에 많이 가져온다 (재고 이벤트 릴레이, 일괄 처리)
+ * - LATENCY: 모으지 않고 바로 보내고, 적게 자주 가져온다 (주문 승인처럼 응답 대기 중인 흐름)
+ * 개별 값은 parts.kafka.producer.* / parts.kafka.consumer.* 로 덮어쓸 수 있다. (KafkaConfig 참고)
+ */
+public enum KafkaTuningProfile {
+
+    THROUGHPUT(20, 131_072, "lz4", 1_000, 65_536, 100, 2_097_152),
+    LATENCY(0, 16_384, "none", 100, 1, 10, 1_048_576);
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+    private final int maxPollRecords;
+    private final int fetchMinBytes;
+    private final int fetchMaxWaitMs;
+    private final int maxPartitionFetchBytes;
+
+    KafkaTuningProfile(int lingerMs, int batchSize, String compressionType,
+                       int maxPollRecords, int fetchMinBytes, int fetchMaxWaitMs, int maxPartitionFetchBytes) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.maxPollRecords = maxPollRecords;
+        this.fetchMinBytes = fetchMinBytes;
+        this.fetchMaxWaitMs = fetchMaxWaitMs;
+        this.maxPartitionFetchBytes = maxPartitionFetchBytes;
+    }
+
+    public static KafkaTuningProfile from(String name) {
+        return name == null || name.isBlank() ? THROUGHPUT : valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    // 멱등 프로듀서 공통 설정 + 프로파일별 배치 설정
+    public Map<String, Object> producerProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5); // 멱등 프로듀서가 순서를 보장하는 최대값
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120_000);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return props;
+    }
+
+    public Map<String, Object> consumerProperties() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        props.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, maxPartitionFetchBytes);
+        return props;
+    }
+}
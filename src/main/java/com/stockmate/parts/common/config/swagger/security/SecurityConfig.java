@@ -1,6 +1,7 @@
 package com.stockmate.parts.common.config.swagger.security;
 
 import com.stockmate.parts.common.config.swagger.filter.JwtHeaderFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,11 +40,14 @@ public class SecurityConfig {
 
                 // 모든 요청은 인증되어야 함 (필터에서 인증 객체를 만들어주므로)
                 .authorizeHttpRequests(authz -> authz
+                        // SSE(경로 스트리밍) 완료 시 비동기 디스패치 - 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api-doc", "/health", "/v3/api-docs/**",
                                 "/swagger-resources/**","/swagger-ui/**",
-                                "/h2-console/**", "/v3/api-docs"
-                        ).permitAll() // 스웨거, H2, healthCheck 허가
+                                "/h2-console/**", "/v3/api-docs",
+                                "/actuator/health", "/actuator/prometheus"
+                        ).permitAll() // 스웨거, H2, healthCheck, 메트릭 수집 허가
                         .requestMatchers(
                                 "/api/v1/parts/health-check", "/api/v1/parts/check", "/api/v1/parts/detail", "/api/v1/store/inventory/update", "/api/v1/parts/deduct-stock"
                         ).permitAll()
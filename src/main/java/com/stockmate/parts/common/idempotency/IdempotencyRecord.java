@@ -0,0 +1,44 @@
+package com.stockmate.parts.common.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 중복 요청 방지 키 (모든 인스턴스가 공유)
+ * 행은 IdempotencyStore 가 JdbcTemplate 으로만 선점/갱신/삭제한다. (PK 중복 = 다른 요청이 이미 선점)
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    public enum Status {
+        IN_PROGRESS, // 첫 요청 처리 중 (또는 처리 후 결과 저장 전 중단)
+        COMPLETED,   // 처리 완료, response 에 첫 응답 저장
+        IN_DOUBT     // 반영 여부를 알 수 없는 실패
+    }
+
+    @Id
+    @Column(name = "store_key", length = 200)
+    private String storeKey; // scope:key
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint; // 요청 본문 SHA-256 (hex)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(length = 4000)
+    private String response; // 첫 응답 JSON (응답 DTO 는 수백 바이트)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,247 @@
+package com.stockmate.parts.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.ConflictException;
+import com.stockmate.parts.common.exception.InternalServerException;
+import com.stockmate.parts.common.exception.NotFoundException;
+import com.stockmate.parts.common.exception.ServiceUnavailableException;
+import com.stockmate.parts.common.exception.UnauthorizedException;
+import com.stockmate.parts.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 재고 변경 요청 중복 제거 저장소 (DB 공유, TTL 만료)
+ *
+ * (scope, key) 별로 첫 요청의 결과만 idempotency_record 에 남겨 두고, 같은 키로 다시 들어온 요청에는
+ * 재고를 건드리지 않고 저장된 결과를 그대로 돌려준다. 키는 DB 에 있으므로 재요청이 다른 인스턴스(ECS 태스크)로 가도 같다.
+ * - 키 선점은 PK insert (중복 키 = 다른 요청이 선점), 첫 요청이 처리 중이면 뒤따른 요청은 결과를 폴링한다 (wait-ms 초과 시 409)
+ * - 같은 키에 다른 요청 본문이 오면 재사용하지 않고 400 (본문 SHA-256 비교)
+ * - 롤백이 확실한 실패(검증 거절, 대기열 포화 503, 낙관적 락 재시도 소진, 락 충돌)는 키를 지워 같은 키로 다시 처리할 수 있게 한다
+ * - 타임아웃/인프라 오류처럼 반영 여부를 알 수 없는 실패는 IN_DOUBT 로 남겨 두고, 같은 키 재요청에 409 를 돌려준다
+ * - 처리 후 결과 저장 전에 인스턴스가 죽으면 키는 IN_PROGRESS 로 남아 TTL 까지 409 (다시 차감하지 않는 쪽을 택함)
+ * - 키가 없으면 기존과 동일하게 매번 처리
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    // ConflictException 중 롤백 여부를 알 수 없는 실패 (나머지 409 는 트랜잭션 안에서 던져져 롤백됨)
+    private static final Set<String> IN_DOUBT_MESSAGES = Set.of(
+            ErrorStatus.STOCK_DEDUCTION_IN_DOUBT_EXCEPTION.getMessage(),
+            ErrorStatus.IDEMPOTENT_REQUEST_IN_DOUBT_EXCEPTION.getMessage());
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${parts.idempotency.ttl-minutes:60}")
+    private long ttlMinutes = 60;
+
+    @Value("${parts.idempotency.wait-ms:10000}")
+    private long waitMs = 10_000;
+
+    @Value("${parts.idempotency.poll-interval-ms:50}")
+    private long pollIntervalMs = 50;
+
+    /**
+     * @param request 요청 본문 (같은 키의 재요청이 같은 본문인지 비교하는 데 사용)
+     * @param responseType 저장된 첫 응답을 복원할 타입 (응답이 없으면 Void.class)
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String storeKey = scope + ':' + key;
+        String fingerprint = fingerprint(request);
+        long deadline = System.currentTimeMillis() + waitMs;
+        while (true) {
+            if (claim(storeKey, fingerprint)) {
+                return run(storeKey, scope, key, action);
+            }
+            IdempotencyRecord record = find(storeKey);
+            if (record == null) {
+                continue; // 첫 요청이 롤백되어 키가 풀림 → 다시 선점
+            }
+            if (!record.getFingerprint().equals(fingerprint)) {
+                log.warn("[IdempotencyStore] ❌ 같은 키에 다른 요청 본문 | scope={}, key={}", scope, key);
+                throw new BadRequestException(ErrorStatus.IDEMPOTENCY_KEY_REUSED_EXCEPTION.getMessage());
+            }
+            switch (record.getStatus()) {
+                case COMPLETED -> {
+                    log.info("[IdempotencyStore] 🔁 중복 요청 - 첫 응답 재사용 | scope={}, key={}", scope, key);
+                    return readResponse(record.getResponse(), responseType);
+                }
+                case IN_DOUBT -> throw new ConflictException(ErrorStatus.IDEMPOTENT_REQUEST_IN_DOUBT_EXCEPTION.getMessage());
+                case IN_PROGRESS -> {
+                    if (System.currentTimeMillis() >= deadline) {
+                        log.warn("[IdempotencyStore] ⏳ 첫 요청 처리 대기 시간 초과 | scope={}, key={}", scope, key);
+                        throw new ConflictException(ErrorStatus.IDEMPOTENT_REQUEST_IN_PROGRESS_EXCEPTION.getMessage());
+                    }
+                    sleep(pollIntervalMs);
+                }
+            }
+        }
+    }
+
+    private <T> T run(String storeKey, String scope, String key, Supplier<T> action) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            if (isRolledBack(e)) {
+                // 재고 변경이 롤백된 것이 확실 → 같은 키로 다시 처리할 수 있게 잊음
+                release(storeKey);
+            } else {
+                // 반영 여부를 알 수 없음 → 키를 남겨 같은 키 재요청이 다시 차감하지 않도록 함 (TTL 까지 결과 미확정)
+                log.warn("[IdempotencyStore] ⚠️ 처리 실패 - 결과 미확정으로 키 유지 | scope={}, key={}, error={}",
+                        scope, key, e.getMessage());
+                updateStatus(storeKey, IdempotencyRecord.Status.IN_DOUBT, null);
+            }
+            throw e;
+        }
+        complete(storeKey, result);
+        return result;
+    }
+
+    private void release(String storeKey) {
+        try {
+            jdbcTemplate.update("delete from idempotency_record where store_key = ?", storeKey);
+        } catch (DataAccessException e) {
+            // 키 삭제 실패 시 재요청은 TTL 까지 409 (원래 예외를 그대로 전달)
+            log.error("[IdempotencyStore] ❌ 키 해제 실패 | storeKey={}, error={}", storeKey, e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안에서 거절되어 롤백이 끝난 실패
+    private static boolean isRolledBack(RuntimeException e) {
+        if (e instanceof BadRequestException || e instanceof NotFoundException || e instanceof UnauthorizedException
+                || e instanceof ServiceUnavailableException) {
+            return true; // 검증 거절, 대기열 포화로 받지 않은 요청
+        }
+        if (e instanceof ConflictException) {
+            return !IN_DOUBT_MESSAGES.contains(e.getMessage());
+        }
+        return e instanceof ConcurrencyFailureException; // 낙관적 락 충돌, 락 대기 초과/데드락 (문장 실행 중 실패)
+    }
+
+    // 키 선점 (만료된 키가 남아 있으면 지우고 한 번 더 시도)
+    private boolean claim(String storeKey, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jdbcTemplate.update("""
+                        insert into idempotency_record (store_key, fingerprint, status, expires_at)
+                        values (?, ?, ?, ?)
+                        """, storeKey, fingerprint, IdempotencyRecord.Status.IN_PROGRESS.name(),
+                        Timestamp.valueOf(now.plusMinutes(ttlMinutes)));
+                return true;
+            } catch (DuplicateKeyException e) {
+                int expired = jdbcTemplate.update(
+                        "delete from idempotency_record where store_key = ? and expires_at < ?",
+                        storeKey, Timestamp.valueOf(now));
+                if (expired == 0) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private IdempotencyRecord find(String storeKey) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(
+                "select store_key, fingerprint, status, response, expires_at from idempotency_record where store_key = ?",
+                (rs, rowNum) -> IdempotencyRecord.builder()
+                        .storeKey(rs.getString("store_key"))
+                        .fingerprint(rs.getString("fingerprint"))
+                        .status(IdempotencyRecord.Status.valueOf(rs.getString("status")))
+                        .response(rs.getString("response"))
+                        .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                        .build(),
+                storeKey);
+        return records.isEmpty() ? null : records.get(0);
+    }
+
+    private void updateStatus(String storeKey, IdempotencyRecord.Status status, String response) {
+        try {
+            jdbcTemplate.update("update idempotency_record set status = ?, response = ? where store_key = ?",
+                    status.name(), response, storeKey);
+        } catch (DataAccessException e) {
+            // 저장 실패 시 키는 IN_PROGRESS 로 남아 재요청은 409 (다시 처리하지 않음)
+            log.error("[IdempotencyStore] ❌ 처리 결과 저장 실패 | storeKey={}, status={}, error={}",
+                    storeKey, status, e.getMessage());
+        }
+    }
+
+    // 만료 키 정리 (주기 실행, 여러 인스턴스가 동시에 실행해도 같은 결과)
+    @Scheduled(fixedDelayString = "${parts.idempotency.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        int removed = jdbcTemplate.update("delete from idempotency_record where expires_at < ?",
+                Timestamp.valueOf(LocalDateTime.now()));
+        if (removed > 0 && log.isDebugEnabled()) {
+            log.debug("[IdempotencyStore] 만료 키 정리 | removed={}", removed);
+        }
+    }
+
+    // 요청 본문 JSON 의 SHA-256
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new InternalServerException("요청 본문을 처리하지 못했습니다.");
+        }
+    }
+
+    // 처리 완료 기록 (이미 반영된 요청이므로 실패해도 응답은 그대로 돌려줌, 키는 IN_PROGRESS 로 남음)
+    private void complete(String storeKey, Object response) {
+        try {
+            updateStatus(storeKey, IdempotencyRecord.Status.COMPLETED, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            log.error("[IdempotencyStore] ❌ 응답 직렬화 실패 | storeKey={}, error={}", storeKey, e.getMessage());
+        }
+    }
+
+    private <T> T readResponse(String response, Class<T> responseType) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(response.getBytes(StandardCharsets.UTF_8), responseType);
+        } catch (IOException e) {
+            throw new InternalServerException("저장된 응답을 읽지 못했습니다.");
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorStatus.IDEMPOTENT_REQUEST_IN_PROGRESS_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.stockmate.parts.common.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// BinaryWriter 로 기록한 값을 같은 순서로 읽는다
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readUnsignedVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("잘못된 varint 인코딩입니다.");
+    }
+
+    public long readVarLong() {
+        long raw = readUnsignedVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readVarInt() {
+        return toInt(readVarLong());
+    }
+
+    public Long readNullableLong() {
+        long raw = readUnsignedVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        raw -= 1;
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Integer readNullableInt() {
+        Long value = readNullableLong();
+        return value == null ? null : toInt(value);
+    }
+
+    public String readString() {
+        long raw = readUnsignedVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        int length = checkLength(raw - 1, 1);
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * 컬렉션 크기 (null 허용) - 원소 하나가 최소 minBytesPerElement 바이트이므로
+     * 남은 바이트로 담을 수 없는 크기는 손상된 데이터로 본다. (할당 전에 검사)
+     */
+    public Integer readNullableCount(int minBytesPerElement) {
+        Long count = readNullableLong();
+        return count == null ? null : checkLength(count, minBytesPerElement);
+    }
+
+    public LocalDateTime readDateTime() {
+        Long epochSecond = readNullableLong();
+        if (epochSecond == null) {
+            return null;
+        }
+        long nanos = readUnsignedVarLong();
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, toInt(nanos), ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new SerializationException("잘못된 시각 값입니다. (epochSecond=" + epochSecond + ", nanos=" + nanos + ")");
+        }
+    }
+
+    // 길이/개수는 음수이거나 남은 바이트로 담을 수 없으면 손상된 데이터로 본다
+    private int checkLength(long length, int minBytesPerElement) {
+        long remaining = buffer.length - position;
+        if (length < 0 || length > remaining / minBytesPerElement) {
+            throw new SerializationException(
+                    "길이가 남은 데이터보다 큽니다. (position=" + position + ", length=" + length + ", remaining=" + remaining + ")");
+        }
+        return (int) length;
+    }
+
+    // int 범위를 넘는 값은 잘라내지 않고 손상된 데이터로 본다
+    private static int toInt(long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new SerializationException("int 범위를 벗어난 값입니다. (value=" + value + ")");
+        }
+        return (int) value;
+    }
+
+    private void require(int length) {
+        if (length < 0 || length > buffer.length - position) {
+            throw new SerializationException("이벤트 데이터가 잘렸습니다. (position=" + position + ", length=" + length + ")");
+        }
+    }
+}
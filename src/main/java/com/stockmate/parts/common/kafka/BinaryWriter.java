@@ -0,0 +1,141 @@
+package com.stockmate.parts.common.kafka;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 컴팩트 이벤트 인코더 (varint + zigzag, 길이 접두 UTF-8)
+ *
+ * 내부 버퍼는 reset() 후 재사용되므로 스레드마다 하나씩 두고 쓴다. (CompactEventSerializer 참고)
+ * nullable 숫자는 0 = null, 그 외 zigzag(v) + 1 로 기록한다. (Long.MIN_VALUE 는 지원하지 않음)
+ */
+public final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public BinaryWriter reset() {
+        position = 0;
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeVarInt(int value) {
+        writeVarLong(value);
+    }
+
+    public void writeNullableLong(Long value) {
+        if (value == null) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE 는 인코딩할 수 없습니다.");
+        }
+        writeUnsignedVarLong(((value << 1) ^ (value >> 63)) + 1);
+    }
+
+    public void writeNullableInt(Integer value) {
+        writeNullableLong(value == null ? null : value.longValue());
+    }
+
+    // 길이 + 1 접두 (0 = null), 중간 byte[] 할당 없이 버퍼에 바로 인코딩
+    public void writeString(String value) {
+        if (value == null) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        int length = utf8Length(value);
+        writeUnsignedVarLong(length + 1L);
+        ensureCapacity(length);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = (byte) '?'; // 짝이 없는 surrogate (String.getBytes 와 동일하게 치환)
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    // epoch 초(UTC 기준 로컬 시각) + 나노초
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeNullableLong(null);
+            return;
+        }
+        writeNullableLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeUnsignedVarLong(value.getNano());
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
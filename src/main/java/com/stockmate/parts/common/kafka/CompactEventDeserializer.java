@@ -0,0 +1,63 @@
+package com.stockmate.parts.common.kafka;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * CompactEventSerializer 짝 (첫 바이트가 MAGIC 이면 바이너리, 아니면 JsonDeserializer 로 위임)
+ *
+ * JSON 은 '{', '[', '"' 등으로 시작하므로 MAGIC(0xC5) 와 겹치지 않는다.
+ * 롤링 배포 중 JSON / 바이너리 메시지가 섞여 들어와도 그대로 처리된다.
+ */
+public class CompactEventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (isCompact(data)) {
+            return decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (isCompact(data)) {
+            return decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    static boolean isCompact(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == CompactEventSerializer.MAGIC;
+    }
+
+    static Object decode(byte[] data) {
+        BinaryReader reader = new BinaryReader(data, 1);
+        EventCodec<?> codec = EventCodecs.forTypeId(reader.readByte());
+        int version = reader.readByte();
+        EventCodecs.checkVersion(codec, version);
+        try {
+            return codec.read(reader, version);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new SerializationException("컴팩트 이벤트 역직렬화 실패: " + codec.type().getSimpleName(), e);
+        }
+    }
+}
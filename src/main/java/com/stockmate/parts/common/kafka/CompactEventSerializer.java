@@ -0,0 +1,88 @@
+package com.stockmate.parts.common.kafka;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴팩트 바이너리 이벤트 직렬화 (프레임: MAGIC | typeId | version | body)
+ *
+ * ENABLED_TYPES 에 포함된 이벤트만 바이너리로 보내고 나머지는 기존 JsonSerializer 로 보낸다.
+ * 다른 서비스가 JSON 으로 소비하는 토픽은 소비 측이 CompactEventDeserializer 로 바뀐 뒤에 타입을 추가한다.
+ */
+public class CompactEventSerializer implements Serializer<Object> {
+
+    public static final byte MAGIC = (byte) 0xC5;
+    public static final String ENABLED_TYPES = "parts.compact.enabled-types"; // 클래스 단순명 (콤마 구분, * = 전체)
+
+    // 직렬화 버퍼는 스레드별로 재사용 (프로듀서 send 는 호출 스레드에서 직렬화)
+    private static final ThreadLocal<BinaryWriter> WRITERS = ThreadLocal.withInitial(() -> new BinaryWriter(256));
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    // 기본값: 없음 (전부 JSON) - 이 서비스가 발행하는 토픽은 다른 서비스가 소비하므로 소비 측 전환 후 타입별로 켠다
+    private Set<String> enabledTypes = Set.of();
+    private boolean allEnabled;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+        Object value = configs.get(ENABLED_TYPES);
+        if (value != null) {
+            Set<String> types = new HashSet<>();
+            Arrays.stream(value.toString().split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .forEach(types::add);
+            allEnabled = types.contains("*");
+            enabledTypes = types;
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] raw) {
+            return raw; // DLT 로 넘기는 역직렬화 실패 원본 / DLT 재처리 시 원본 바이트 그대로
+        }
+        EventCodec<Object> codec = compactCodec(data);
+        if (codec == null) {
+            return headers == null ? jsonSerializer.serialize(topic, data) : jsonSerializer.serialize(topic, headers, data);
+        }
+        return encode(codec, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventCodec<Object> compactCodec(Object data) {
+        EventCodec<Object> codec = (EventCodec<Object>) EventCodecs.forClass(data.getClass());
+        if (codec == null || !(allEnabled || enabledTypes.contains(data.getClass().getSimpleName()))) {
+            return null;
+        }
+        return codec;
+    }
+
+    static byte[] encode(EventCodec<Object> codec, Object data) {
+        BinaryWriter writer = WRITERS.get().reset();
+        writer.writeByte(MAGIC);
+        writer.writeByte(codec.typeId());
+        writer.writeByte(codec.version());
+        codec.write(data, writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,20 @@
+package com.stockmate.parts.common.kafka;
+
+/**
+ * 이벤트 타입별 컴팩트 인코딩 규칙
+ *
+ * typeId 는 한 번 배정하면 바꾸지 않는다. 필드를 추가할 때는 version 을 올리고
+ * read() 에서 이전 version 을 계속 읽을 수 있게 분기한다. (필드는 항상 끝에만 추가)
+ */
+public interface EventCodec<T> {
+
+    int typeId();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T event, BinaryWriter writer);
+
+    T read(BinaryReader reader, int version);
+}
@@ -0,0 +1,151 @@
+package com.stockmate.parts.common.kafka;
+
+import com.stockmate.parts.api.parts.dto.InventoryChangedEvent;
+import com.stockmate.parts.api.parts.dto.ReceivingProcessRequestEvent;
+import com.stockmate.parts.api.parts.dto.ReceivingProcessSuccessEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴팩트 직렬화를 지원하는 이벤트 목록 (typeId 고정)
+ *
+ * ReceivingProcessFailedEvent 는 data 가 임의 객체라 JSON 으로만 보낸다.
+ */
+public final class EventCodecs {
+
+    public static final int INVENTORY_CHANGED = 1;
+    public static final int RECEIVING_REQUEST = 2;
+    public static final int RECEIVING_SUCCESS = 3;
+
+    private static final EventCodec<?>[] BY_TYPE_ID = new EventCodec<?>[4];
+    private static final Map<Class<?>, EventCodec<?>> BY_CLASS;
+
+    static {
+        List<EventCodec<?>> codecs = List.of(
+                new InventoryChangedCodec(), new ReceivingRequestCodec(), new ReceivingSuccessCodec());
+        for (EventCodec<?> codec : codecs) {
+            BY_TYPE_ID[codec.typeId()] = codec;
+        }
+        BY_CLASS = Map.of(
+                InventoryChangedEvent.class, BY_TYPE_ID[INVENTORY_CHANGED],
+                ReceivingProcessRequestEvent.class, BY_TYPE_ID[RECEIVING_REQUEST],
+                ReceivingProcessSuccessEvent.class, BY_TYPE_ID[RECEIVING_SUCCESS]);
+    }
+
+    private EventCodecs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> EventCodec<T> forClass(Class<T> type) {
+        return (EventCodec<T>) BY_CLASS.get(type);
+    }
+
+    public static EventCodec<?> forTypeId(int typeId) {
+        if (typeId <= 0 || typeId >= BY_TYPE_ID.length || BY_TYPE_ID[typeId] == null) {
+            throw new SerializationException("알 수 없는 이벤트 타입입니다. typeId=" + typeId);
+        }
+        return BY_TYPE_ID[typeId];
+    }
+
+    static void checkVersion(EventCodec<?> codec, int version) {
+        if (version < 1 || version > codec.version()) {
+            throw new SerializationException("지원하지 않는 이벤트 버전입니다. type=" + codec.type().getSimpleName()
+                    + ", version=" + version + ", supported<=" + codec.version());
+        }
+    }
+
+    static final class InventoryChangedCodec implements EventCodec<InventoryChangedEvent> {
+        public int typeId() { return INVENTORY_CHANGED; }
+        public int version() { return 1; }
+        public Class<InventoryChangedEvent> type() { return InventoryChangedEvent.class; }
+
+        public void write(InventoryChangedEvent event, BinaryWriter writer) {
+            writer.writeNullableLong(event.getEventId());
+            writer.writeNullableLong(event.getStoreId());
+            writer.writeNullableLong(event.getPartId());
+            writer.writeNullableInt(event.getAmount());
+            writer.writeNullableInt(event.getDelta());
+            writer.writeString(event.getType());
+            writer.writeString(event.getReference());
+            writer.writeDateTime(event.getOccurredAt());
+        }
+
+        public InventoryChangedEvent read(BinaryReader reader, int version) {
+            return InventoryChangedEvent.builder()
+                    .eventId(reader.readNullableLong())
+                    .storeId(reader.readNullableLong())
+                    .partId(reader.readNullableLong())
+                    .amount(reader.readNullableInt())
+                    .delta(reader.readNullableInt())
+                    .type(reader.readString())
+                    .reference(reader.readString())
+                    .occurredAt(reader.readDateTime())
+                    .build();
+        }
+    }
+
+    static final class ReceivingRequestCodec implements EventCodec<ReceivingProcessRequestEvent> {
+        public int typeId() { return RECEIVING_REQUEST; }
+        public int version() { return 1; }
+        public Class<ReceivingProcessRequestEvent> type() { return ReceivingProcessRequestEvent.class; }
+
+        public void write(ReceivingProcessRequestEvent event, BinaryWriter writer) {
+            writer.writeNullableLong(event.getOrderId());
+            writer.writeString(event.getOrderNumber());
+            writer.writeString(event.getApprovalAttemptId());
+            writer.writeNullableLong(event.getMemberId());
+            List<ReceivingProcessRequestEvent.ReceivingItemDTO> items = event.getItems();
+            if (items == null) {
+                writer.writeNullableInt(null);
+                return;
+            }
+            writer.writeNullableInt(items.size());
+            for (ReceivingProcessRequestEvent.ReceivingItemDTO item : items) {
+                writer.writeNullableLong(item.getPartId());
+                writer.writeVarInt(item.getQuantity());
+            }
+        }
+
+        public ReceivingProcessRequestEvent read(BinaryReader reader, int version) {
+            ReceivingProcessRequestEvent.ReceivingProcessRequestEventBuilder builder = ReceivingProcessRequestEvent.builder()
+                    .orderId(reader.readNullableLong())
+                    .orderNumber(reader.readString())
+                    .approvalAttemptId(reader.readString())
+                    .memberId(reader.readNullableLong());
+            Integer size = reader.readNullableCount(2); // 품목 하나 = partId + 수량, 최소 2바이트
+            if (size != null) {
+                List<ReceivingProcessRequestEvent.ReceivingItemDTO> items = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    items.add(new ReceivingProcessRequestEvent.ReceivingItemDTO(reader.readNullableLong(), reader.readVarInt()));
+                }
+                builder.items(items);
+            }
+            return builder.build();
+        }
+    }
+
+    static final class ReceivingSuccessCodec implements EventCodec<ReceivingProcessSuccessEvent> {
+        public int typeId() { return RECEIVING_SUCCESS; }
+        public int version() { return 1; }
+        public Class<ReceivingProcessSuccessEvent> type() { return ReceivingProcessSuccessEvent.class; }
+
+        public void write(ReceivingProcessSuccessEvent event, BinaryWriter writer) {
+            writer.writeNullableLong(event.getOrderId());
+            writer.writeString(event.getOrderNumber());
+            writer.writeString(event.getApprovalAttemptId());
+            writer.writeString(event.getMessage());
+        }
+
+        public ReceivingProcessSuccessEvent read(BinaryReader reader, int version) {
+            return ReceivingProcessSuccessEvent.builder()
+                    .orderId(reader.readNullableLong())
+                    .orderNumber(reader.readString())
+                    .approvalAttemptId(reader.readString())
+                    .message(reader.readString())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.stockmate.parts.common.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 항목 단위(부품 라인별) 로그 샘플러
+ *
+ * 요청 단위 요약은 INFO 로 남기고, 항목 단위 로그는 DEBUG 가 켜져 있을 때 N건 중 1건만 남긴다.
+ * 사용 시 반드시 레벨 체크를 먼저 해서 비활성 시 인자 배열/박싱이 생기지 않도록 한다.
+ * <pre>
+ * if (log.isDebugEnabled() &amp;&amp; itemLogSampler.sample()) {
+ *     log.debug(...);
+ * }
+ * </pre>
+ */
+@Component
+public class LogSampler {
+
+    // 1 이면 전 항목 기록
+    @Value("${parts.log.item-sample-every:100}")
+    private int every = 100;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    public boolean sample() {
+        return every <= 1 || counter.getAndIncrement() % every == 0;
+    }
+}
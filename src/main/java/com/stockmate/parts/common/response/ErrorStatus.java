@@ -18,6 +18,7 @@ public enum ErrorStatus {
     MISSING_REFRESH_TOKEN_EXCEPTION(HttpStatus.BAD_REQUEST,"리프레시 토큰이 입력되지 않았습니다."),
     UNAUTHORIZED_REFRESH_TOKEN_EXCEPTION(HttpStatus.BAD_REQUEST,"유효하지 않은 리프레시 토큰 입니다."),
     NEED_ADMIN_ROLE_EXCEPTION(HttpStatus.BAD_REQUEST,"관리자 권한이 필요합니다."),
+    IDEMPOTENCY_KEY_REUSED_EXCEPTION(HttpStatus.BAD_REQUEST, "같은 Idempotency-Key 로 다른 요청 본문이 전달되었습니다. 새 키로 요청해주세요."),
 
     /**
      * 401 UNAUTHORIZED
@@ -32,6 +33,16 @@ public enum ErrorStatus {
 
     NOT_LOGIN_EXCEPTION(HttpStatus.NOT_FOUND,"로그인이 필요합니다."),
     USER_NOTFOUND_EXCEPTION(HttpStatus.NOT_FOUND,"해당 사용자를 찾을 수 없습니다."),
+    RESERVATION_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "재고 확보 내역을 찾을 수 없습니다."),
+
+    /**
+     * 409 CONFLICT
+     */
+    STOCK_CONCURRENT_UPDATE_EXCEPTION(HttpStatus.CONFLICT, "동시에 재고 변경 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    RESERVATION_NOT_HELD_EXCEPTION(HttpStatus.CONFLICT, "이미 만료되었거나 해제된 재고 확보입니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS_EXCEPTION(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENT_REQUEST_IN_DOUBT_EXCEPTION(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 이전 요청 결과를 확정하지 못했습니다. 반영 여부를 확인한 뒤 새 키로 요청해주세요."),
+    STOCK_DEDUCTION_IN_DOUBT_EXCEPTION(HttpStatus.CONFLICT, "재고 차감 결과를 확정하지 못했습니다. 재고 원장 이력에서 주문 반영 여부를 확인해주세요."),
 
     /**
      * 500 SERVER_ERROR
@@ -41,6 +52,12 @@ public enum ErrorStatus {
     RESPONSE_DATA_NOT_MATCH_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "외부 서버 응답이 올바르지 않습니다."),
     PART_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "부품을 찾을 수 없습니다."),
 
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    STOCK_DEDUCTION_BUSY_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "재고 차감 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    NAVIGATION_STREAM_BUSY_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "경로 계산 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     ;
 
     private final HttpStatus httpStatus;
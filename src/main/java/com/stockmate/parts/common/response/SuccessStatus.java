@@ -61,6 +61,34 @@ public enum SuccessStatus {
     // 네비게이션 관련
     NAVIGATION_OPTIMAL_ROUTE_SUCCESS(HttpStatus.OK, "최적 경로 계산 성공"),
     NAVIGATION_ALGORITHM_COMPARISON_SUCCESS(HttpStatus.OK, "알고리즘 비교 성공"),
+    NAVIGATION_CAPACITATED_ROUTE_SUCCESS(HttpStatus.OK, "카트 용량 기반 경로 계산 성공"),
+    NAVIGATION_PRECEDENCE_ROUTE_SUCCESS(HttpStatus.OK, "선후 제약 경로 계산 성공"),
+    NAVIGATION_COST_MODEL_SUCCESS(HttpStatus.OK, "경로 비용 모델 조회 성공"),
+    NAVIGATION_COST_MODEL_CALIBRATE_SUCCESS(HttpStatus.OK, "경로 비용 모델 보정 성공"),
+    NAVIGATION_COST_MODEL_RESET_SUCCESS(HttpStatus.OK, "경로 비용 모델 보정 해제 성공"),
+
+    // 재고 분석 관련
+    ANALYTICS_PART_SHORTAGE_SUCCESS(HttpStatus.OK, "부품별 부족 가맹점 집계 성공"),
+    ANALYTICS_STORE_SHORTAGE_SUCCESS(HttpStatus.OK, "가맹점별 부족 부품 집계 성공"),
+    ANALYTICS_SNAPSHOT_REFRESH_SUCCESS(HttpStatus.OK, "재고 스냅샷 갱신 성공"),
+
+    // 부품 캐시 관련
+    PARTS_CACHE_STATS_SUCCESS(HttpStatus.OK, "부품 캐시 통계 조회 성공"),
+    PARTS_CACHE_EVICT_SUCCESS(HttpStatus.OK, "부품 캐시 무효화 성공"),
+
+    // 재고 확보 관련
+    STOCK_RESERVATION_CREATE_SUCCESS(HttpStatus.CREATED, "재고 확보 성공"),
+    STOCK_RESERVATION_GET_SUCCESS(HttpStatus.OK, "재고 확보 조회 성공"),
+    STOCK_RESERVATION_CONFIRM_SUCCESS(HttpStatus.OK, "재고 확보 확정 성공"),
+    STOCK_RESERVATION_RELEASE_SUCCESS(HttpStatus.OK, "재고 확보 해제 성공"),
+
+    // 재고 원장 관련
+    LEDGER_STOCK_AT_SUCCESS(HttpStatus.OK, "시점 재고 조회 성공"),
+    LEDGER_MOVEMENTS_SUCCESS(HttpStatus.OK, "재고 변동 이력 조회 성공"),
+    LEDGER_SNAPSHOT_SUCCESS(HttpStatus.OK, "원장 스냅샷 생성 성공"),
+
+    // Kafka DLT 관련
+    DEAD_LETTER_REPLAY_SUCCESS(HttpStatus.OK, "DLT 메시지 재처리 성공"),
 
     ;
 
@@ -0,0 +1,92 @@
+package com.stockmate.parts.common.transaction;
+
+import com.stockmate.parts.common.exception.ConflictException;
+import com.stockmate.parts.common.response.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션 단위 재시도
+ *
+ * 시도마다 새 트랜잭션을 열어 최신 값을 다시 읽고 변경한다.
+ * 재시도 간격은 지수 백오프 + full jitter (동시에 충돌한 요청끼리 다시 부딪히지 않도록)
+ * 최대 시도 횟수를 넘기면 409 CONFLICT 로 응답한다.
+ */
+@Component
+@Slf4j
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${parts.optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${parts.optimistic-retry.base-backoff-ms:5}")
+    private long baseBackoffMs;
+
+    @Value("${parts.optimistic-retry.max-backoff-ms:100}")
+    private long maxBackoffMs;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        // 바깥 트랜잭션이 있으면 충돌이 바깥 커밋 시점에 나므로 여기서 재시도할 수 없음
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("[OptimisticRetryExecutor] ❌ 재시도 한도 초과 | operation={}, attempts={}", operation, attempt);
+                    throw new ConflictException(ErrorStatus.STOCK_CONCURRENT_UPDATE_EXCEPTION.getMessage());
+                }
+                long backoffMs = backoffMs(attempt);
+                if (log.isDebugEnabled()) {
+                    log.debug("[OptimisticRetryExecutor] 버전 충돌 재시도 | operation={}, attempt={}, backoff={}ms",
+                            operation, attempt, backoffMs);
+                }
+                sleep(backoffMs);
+                attempt++;
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // base × 2^(attempt-1) 상한 내에서 균등 랜덤
+    private long backoffMs(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorStatus.STOCK_CONCURRENT_UPDATE_EXCEPTION.getMessage());
+        }
+    }
+}
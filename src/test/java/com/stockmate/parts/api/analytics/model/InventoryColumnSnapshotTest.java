@@ -0,0 +1,91 @@
+package com.stockmate.parts.api.analytics.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InventoryColumnSnapshot 테스트")
+class InventoryColumnSnapshotTest {
+
+    private InventoryColumnSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        // 부품 10: 가맹점 1(부족), 2(충분), 3(부족)
+        // 부품 20: 가맹점 1(충분), 2(limit 없음)
+        // 부품 30: 가맹점 3(경계값 - amount == limit)
+        snapshot = InventoryColumnSnapshot.builder(2)
+                .add(20L, 1L, 50, 10)
+                .add(10L, 3L, 0, 5)
+                .add(10L, 1L, 3, 10)
+                .add(30L, 3L, 7, 7)
+                .add(10L, 2L, 40, 20)
+                .add(20L, 2L, 15, null)
+                .build(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("사전 인코딩 테스트")
+    void dictionaryEncoding() {
+        // then
+        assertThat(snapshot.rowCount()).isEqualTo(6);
+        assertThat(snapshot.partCount()).isEqualTo(3);
+        assertThat(snapshot.storeCount()).isEqualTo(3);
+        assertThat(snapshot.partIdAt(0)).isEqualTo(10L);
+        assertThat(snapshot.partIdAt(2)).isEqualTo(30L);
+        assertThat(snapshot.storeIdAt(1)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("부품별 집계 테스트")
+    void rollupByPart() {
+        // when
+        InventoryColumnSnapshot.Rollup rollup = snapshot.rollupByPart();
+
+        // then
+        assertThat(rollup.totalAmount()).containsExactly(43L, 65L, 7L);
+        assertThat(rollup.rowCount()).containsExactly(3, 2, 1);
+        assertThat(rollup.shortCount()).containsExactly(2, 0, 0);
+        assertThat(rollup.shortageQuantity()).containsExactly(12L, 0L, 0L); // (10-3) + (5-0)
+    }
+
+    @Test
+    @DisplayName("가맹점별 집계 테스트")
+    void rollupByStore() {
+        // when
+        InventoryColumnSnapshot.Rollup rollup = snapshot.rollupByStore();
+
+        // then
+        assertThat(rollup.totalAmount()).containsExactly(53L, 55L, 7L);
+        assertThat(rollup.rowCount()).containsExactly(2, 2, 2);
+        assertThat(rollup.shortCount()).containsExactly(1, 0, 1);
+        assertThat(rollup.shortageQuantity()).containsExactly(7L, 0L, 5L);
+    }
+
+    @Test
+    @DisplayName("부족 가맹점 수 상위 조회 테스트")
+    void topByShortCount() {
+        // when
+        int[] top = snapshot.rollupByStore().topByShortCount(1, 10);
+
+        // then - 부족 수 동률이면 부족 수량 내림차순
+        assertThat(top).containsExactly(0, 2);
+        assertThat(snapshot.rollupByPart().topByShortCount(1, 10)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("빈 스냅샷 테스트")
+    void emptySnapshot() {
+        // when
+        InventoryColumnSnapshot empty = InventoryColumnSnapshot.builder(0).build(LocalDateTime.now());
+
+        // then
+        assertThat(empty.rowCount()).isZero();
+        assertThat(empty.rollupByPart().size()).isZero();
+        assertThat(empty.rollupByStore().topByShortCount(0, 10)).isEmpty();
+    }
+}
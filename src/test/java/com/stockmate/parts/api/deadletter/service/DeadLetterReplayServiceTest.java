@@ -0,0 +1,92 @@
+package com.stockmate.parts.api.deadletter.service;
+
+import com.stockmate.parts.common.exception.BadRequestException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DeadLetterReplayService 테스트")
+class DeadLetterReplayServiceTest {
+
+    @Test
+    @DisplayName("재시도 토픽을 거친 메시지는 처음 기록된 원래 토픽으로 재발행한다")
+    void originalTopicFromFirstHeader() {
+        // given
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, bytes("parts.receiving-request"));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, bytes("parts.receiving-request-retry-2"));
+        ConsumerRecord<String, byte[]> record = record(headers);
+
+        // when
+        String target = DeadLetterReplayService.originalTopic(record, "parts.receiving-request-dlt");
+
+        // then
+        assertThat(target).isEqualTo("parts.receiving-request");
+    }
+
+    @Test
+    @DisplayName("원래 토픽 헤더가 없으면 DLT 접미사를 떼어 낸 토픽으로 보낸다")
+    void originalTopicFallback() {
+        // when
+        String target = DeadLetterReplayService.originalTopic(record(new RecordHeaders()), "parts.inventory-changed-dlt");
+
+        // then
+        assertThat(target).isEqualTo("parts.inventory-changed");
+    }
+
+    @Test
+    @DisplayName("재발행 헤더는 원본 헤더를 유지하고 DLT/재시도 헤더만 제거한다")
+    void replayHeadersKeepOriginals() {
+        // given
+        RecordHeaders source = new RecordHeaders();
+        source.add("__TypeId__", bytes("com.stockmate.parts.api.parts.dto.ReceivingProcessRequestEvent"));
+        source.add("traceparent", bytes("00-abc-def-01"));
+        source.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, bytes("parts.receiving-request"));
+        source.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, bytes("boom"));
+        source.add("retry_topic-attempts", new byte[]{0, 0, 0, 3});
+
+        // when
+        Headers headers = DeadLetterReplayService.replayHeaders(source);
+
+        // then
+        assertThat(Arrays.stream(headers.toArray()).map(Header::key))
+                .containsExactly("__TypeId__", "traceparent");
+    }
+
+    @Test
+    @DisplayName("DLT 접미사가 없는 토픽이나 허용 범위를 벗어난 건수는 거부한다")
+    void rejectsInvalidRequest() {
+        // given
+        DeadLetterReplayService service = new DeadLetterReplayService(null, null);
+        ReflectionTestUtils.setField(service, "maxRecordsLimit", 1000);
+
+        // when & then
+        assertThatThrownBy(() -> service.replay("parts.inventory-changed", 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.replay("parts.inventory-changed-dlt", 0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.replay("parts.inventory-changed-dlt", 1001))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(RecordHeaders headers) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("any-dlt", 0, 0L, "key", bytes("{}"));
+        headers.forEach(record.headers()::add);
+        return record;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,166 @@
+package com.stockmate.parts.api.ledger.service;
+
+import com.stockmate.parts.api.ledger.dto.LedgerStockResponseDto;
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.repository.InventoryLedgerSnapshotRepository;
+import com.stockmate.parts.api.ledger.repository.InventoryMovementRepository;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.entity.StoreInventory;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.api.parts.repository.StoreRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({InventoryLedgerService.class, InventoryLedgerWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 원장 기록/스냅샷이 실제로 커밋되어야 함
+@ActiveProfiles("test")
+@DisplayName("InventoryLedgerService 원장 스냅샷/시점 조회 테스트")
+class InventoryLedgerServiceTest {
+
+    private static final long STORE_ID = 21L;
+
+    @Autowired
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Autowired
+    private InventoryLedgerWriter inventoryLedgerWriter;
+
+    @Autowired
+    private PartsRepository partsRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private InventoryLedgerSnapshotRepository inventoryLedgerSnapshotRepository;
+
+    private Long partId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(inventoryLedgerService, "snapshotLagSeconds", 0L);
+        Parts part = new Parts();
+        part.setName("원장부품");
+        part.setAmount(100);
+        partId = partsRepository.save(part).getId();
+
+        storeRepository.save(StoreInventory.builder()
+                .part(part)
+                .userId(STORE_ID)
+                .amount(10)
+                .limitAmount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryLedgerSnapshotRepository.deleteAll();
+        inventoryMovementRepository.deleteAll();
+        storeRepository.deleteAll();
+        partsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기준 스냅샷 이후 원장을 replay 해 과거 시점 재고를 계산한다")
+    void stockAtReplaysTailAfterSnapshot() throws Exception {
+        // given
+        inventoryLedgerService.takeSnapshot(); // 기준 스냅샷 (가맹점 10)
+        Thread.sleep(5);
+        inventoryLedgerWriter.record(MovementType.RECEIVE, STORE_ID, partId, 5, null);
+        inventoryLedgerWriter.record(MovementType.RELEASE, STORE_ID, partId, -3, null);
+        Thread.sleep(5);
+        LocalDateTime middle = LocalDateTime.now();
+        Thread.sleep(5);
+        inventoryLedgerWriter.record(MovementType.RELEASE, STORE_ID, partId, -4, null);
+
+        // when
+        LedgerStockResponseDto atMiddle = inventoryLedgerService.getStockAt(STORE_ID, partId, middle);
+        LedgerStockResponseDto current = inventoryLedgerService.getStockAt(STORE_ID, partId, null);
+
+        // then
+        assertThat(atMiddle.getAmount()).isEqualTo(12);
+        assertThat(atMiddle.getReplayedMovements()).isEqualTo(2);
+        assertThat(current.getAmount()).isEqualTo(8);
+        assertThat(current.getReplayedMovements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("새 스냅샷은 변경된 키만 남기고 이후 조회는 새 스냅샷부터 replay 한다")
+    void incrementalSnapshotShortensReplay() throws Exception {
+        // given
+        inventoryLedgerService.takeSnapshot();
+        Thread.sleep(5);
+        inventoryLedgerWriter.record(MovementType.DEDUCT, 0L, partId, -30, "order:1");
+        inventoryLedgerWriter.record(MovementType.DEDUCT, 0L, partId, -20, "order:2");
+        long snapshotsBefore = inventoryLedgerSnapshotRepository.count();
+
+        // when
+        Thread.sleep(5);
+        inventoryLedgerService.takeSnapshot();
+        Thread.sleep(5);
+        LedgerStockResponseDto hq = inventoryLedgerService.getStockAt(0L, partId, null);
+
+        // then
+        assertThat(inventoryLedgerSnapshotRepository.count()).isEqualTo(snapshotsBefore + 1);
+        assertThat(hq.getAmount()).isEqualTo(50);
+        assertThat(hq.getReplayedMovements()).isZero();
+    }
+
+    @Test
+    @DisplayName("워터마크는 안전 지연 이전 원장까지만 반영하고 이후 원장은 조회 시 replay 한다")
+    void snapshotExcludesMovementsWithinLag() throws Exception {
+        // given
+        inventoryLedgerService.takeSnapshot();
+        Thread.sleep(5);
+        inventoryLedgerWriter.record(MovementType.RECEIVE, STORE_ID, partId, 5, null);
+        long snapshotsBefore = inventoryLedgerSnapshotRepository.count();
+
+        // when
+        ReflectionTestUtils.setField(inventoryLedgerService, "snapshotLagSeconds", 60L);
+        inventoryLedgerService.takeSnapshot();
+        LedgerStockResponseDto current = inventoryLedgerService.getStockAt(STORE_ID, partId, null);
+
+        // then
+        assertThat(inventoryLedgerSnapshotRepository.count()).isEqualTo(snapshotsBefore);
+        assertThat(current.getAmount()).isEqualTo(15);
+        assertThat(current.getReplayedMovements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기준 스냅샷 이후 생긴 키는 0 에서 시작하고, 기준 스냅샷 이전 시점은 조회할 수 없다")
+    void keyCreatedAfterSnapshotStartsFromZero() throws Exception {
+        // given
+        LocalDateTime beforeLedger = LocalDateTime.now().minusMinutes(1);
+        inventoryLedgerService.takeSnapshot();
+        Thread.sleep(5);
+        inventoryLedgerWriter.record(MovementType.RECEIVE, STORE_ID + 1, partId, 7, null);
+
+        // when
+        LedgerStockResponseDto newKey = inventoryLedgerService.getStockAt(STORE_ID + 1, partId, null);
+
+        // then
+        assertThat(newKey.getAmount()).isEqualTo(7);
+        assertThat(newKey.getSnapshotAt()).isNull();
+        assertThatThrownBy(() -> inventoryLedgerService.getStockAt(STORE_ID, partId, beforeLedger))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
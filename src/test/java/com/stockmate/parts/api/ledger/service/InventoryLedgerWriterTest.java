@@ -0,0 +1,80 @@
+package com.stockmate.parts.api.ledger.service;
+
+import com.stockmate.parts.api.ledger.entity.InventoryMovement;
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.ledger.repository.InventoryMovementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(InventoryLedgerWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 호출 측 트랜잭션의 커밋/롤백을 직접 제어
+@ActiveProfiles("test")
+@DisplayName("InventoryLedgerWriter 트랜잭션 기록 테스트")
+class InventoryLedgerWriterTest {
+
+    private static final long STORE_ID = 31L;
+    private static final long PART_ID = 9L;
+
+    @Autowired
+    private InventoryLedgerWriter inventoryLedgerWriter;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        inventoryMovementRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("원장 행은 재고 변경 트랜잭션과 함께 커밋된다")
+    void recordsCommitWithCallerTransaction() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            inventoryLedgerWriter.record(MovementType.RECEIVE, STORE_ID, PART_ID, 5, null);
+            inventoryLedgerWriter.record(MovementType.RELEASE, STORE_ID, PART_ID, -2, null);
+            assertThat(inventoryMovementRepository.count()).isZero(); // 커밋 직전에 한 번에 기록
+        });
+
+        // then
+        assertThat(inventoryMovementRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고 변경 트랜잭션이 롤백되면 원장 행도 남지 않는다")
+    void rollbackDiscardsRecords() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            inventoryLedgerWriter.record(MovementType.DEDUCT, 0L, PART_ID, -3, "order:1");
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                inventoryLedgerWriter.record(MovementType.DEDUCT, 0L, PART_ID, -4, "order:2"));
+
+        // then
+        assertThat(inventoryMovementRepository.findAll())
+                .extracting(InventoryMovement::getReference)
+                .containsExactly("order:2");
+    }
+}
@@ -0,0 +1,77 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AisleDynamicProgrammingAlgorithm 테스트")
+class AisleDynamicProgrammingAlgorithmTest extends AnytimeAlgorithmContractTest {
+
+    private final AisleDynamicProgrammingAlgorithm algorithm = new AisleDynamicProgrammingAlgorithm();
+
+    @Test
+    @DisplayName("같은 통로의 부품은 한 번의 순회로 좌표 순서대로 방문한다")
+    void sweepsSingleCorridor() {
+        // given
+        List<Position> locations = List.of(Position.parse("A30"), Position.parse("A2"), Position.parse("A15"));
+
+        // when
+        List<Position> path = algorithm.findOptimalPath(Position.start(), Position.end(), locations);
+
+        // then
+        assertThat(path).containsExactly(Position.start(),
+                Position.parse("A2"), Position.parse("A15"), Position.parse("A30"), Position.end());
+    }
+
+    @Test
+    @DisplayName("소량에서는 Held-Karp 최적해보다 짧아지지 않는다")
+    void neverBeatsExactSolution() {
+        // given
+        Random random = new Random(42);
+        HeldKarpAlgorithm heldKarp = new HeldKarpAlgorithm();
+
+        for (int round = 0; round < 100; round++) {
+            List<Position> locations = randomPicks(random, 2 + random.nextInt(7));
+
+            // when
+            List<Position> path = algorithm.findOptimalPath(Position.start(), Position.end(), locations);
+            List<Position> exact = heldKarp.findOptimalPath(Position.start(), Position.end(), locations);
+
+            // then
+            assertValidRoute(path, locations);
+            assertThat(distance(path)).isGreaterThanOrEqualTo(distance(exact));
+        }
+    }
+
+    @Test
+    @DisplayName("대량(200개)에서도 모든 부품을 한 번씩 방문하고 2-opt 보다 길지 않다")
+    void handlesLargePickList() {
+        // given
+        Random random = new Random(7);
+        List<Position> locations = randomPicks(random, 200);
+        TwoOptAlgorithm twoOpt = new TwoOptAlgorithm(new NearestNeighborAlgorithm());
+
+        // when
+        List<Position> path = algorithm.findOptimalPath(Position.start(), Position.end(), locations);
+
+        // then
+        assertValidRoute(path, locations);
+        assertThat(distance(path))
+                .isLessThanOrEqualTo(distance(twoOpt.findOptimalPath(Position.start(), Position.end(), locations)));
+    }
+
+    @Override
+    protected AnytimePathOptimizationAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    @Override
+    protected int reportingPickCount() {
+        return 120;
+    }
+}
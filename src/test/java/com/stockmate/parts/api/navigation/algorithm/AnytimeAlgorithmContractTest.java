@@ -0,0 +1,82 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AnytimePathOptimizationAlgorithm 공통 계약 테스트 (구현별 테스트가 상속)
+ * - 개선 경로는 거리가 줄어드는 순서로 전달되고, 마지막 전달 경로가 최종 경로다
+ */
+abstract class AnytimeAlgorithmContractTest {
+
+    protected abstract AnytimePathOptimizationAlgorithm algorithm();
+
+    // 개선 경로 전달을 확인할 부품 수 (구현의 권장 범위 안)
+    protected abstract int reportingPickCount();
+
+    @Test
+    @DisplayName("부품이 없으면 출발지와 도착지만 반환한다")
+    void emptyLocations() {
+        // when
+        List<Position> path = algorithm().findOptimalPath(Position.start(), Position.end(), List.of());
+
+        // then
+        assertThat(path).containsExactly(Position.start(), Position.end());
+    }
+
+    @Test
+    @DisplayName("개선 경로를 거리가 줄어드는 순서로 전달하고 마지막 전달 경로가 최종 경로다")
+    void reportsImprovingRoutes() {
+        // given
+        List<Position> locations = randomPicks(new Random(11), reportingPickCount());
+        List<List<Position>> reported = new ArrayList<>();
+        List<Integer> distances = new ArrayList<>();
+
+        // when
+        List<Position> path = algorithm().findOptimalPath(Position.start(), Position.end(), locations,
+                (route, totalDistance) -> {
+                    reported.add(route);
+                    distances.add(totalDistance);
+                });
+
+        // then
+        assertThat(reported).isNotEmpty();
+        reported.forEach(route -> assertValidRoute(route, locations));
+        for (int i = 1; i < distances.size(); i++) {
+            assertThat(distances.get(i)).isLessThan(distances.get(i - 1));
+        }
+        assertThat(reported.get(reported.size() - 1)).containsExactlyElementsOf(path);
+        assertThat(distances.get(distances.size() - 1)).isEqualTo(distance(path));
+    }
+
+    protected static List<Position> randomPicks(Random random, int count) {
+        Set<Position> picks = new LinkedHashSet<>();
+        while (picks.size() < count) {
+            picks.add(Position.of(random.nextInt(Position.LINE_COUNT), random.nextInt(Position.POSITIONS_PER_LINE), null));
+        }
+        return new ArrayList<>(picks);
+    }
+
+    protected static void assertValidRoute(List<Position> path, List<Position> locations) {
+        assertThat(path.get(0)).isEqualTo(Position.start());
+        assertThat(path.get(path.size() - 1)).isEqualTo(Position.end());
+        assertThat(path.subList(1, path.size() - 1)).containsExactlyInAnyOrderElementsOf(locations);
+    }
+
+    protected static int distance(List<Position> path) {
+        int total = 0;
+        for (int i = 0; i < path.size() - 1; i++) {
+            total += path.get(i).manhattanDistance(path.get(i + 1));
+        }
+        return total;
+    }
+}
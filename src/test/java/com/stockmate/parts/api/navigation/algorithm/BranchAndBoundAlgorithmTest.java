@@ -0,0 +1,104 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BranchAndBoundAlgorithm 테스트")
+class BranchAndBoundAlgorithmTest extends AnytimeAlgorithmContractTest {
+
+    private final BranchAndBoundAlgorithm algorithm = new BranchAndBoundAlgorithm(new TwoOptAlgorithm(new NearestNeighborAlgorithm()));
+    private final HeldKarpAlgorithm heldKarp = new HeldKarpAlgorithm();
+
+    @Test
+    @DisplayName("Held-Karp 와 같은 최적 거리를 찾는다")
+    void matchesHeldKarp() {
+        // given
+        Random random = new Random(42);
+
+        for (int round = 0; round < 100; round++) {
+            List<Position> locations = randomPicks(random, 1 + random.nextInt(14));
+
+            // when
+            List<Position> path = algorithm.findOptimalPath(Position.start(), Position.end(), locations);
+
+            // then
+            assertValidRoute(path, locations);
+            assertThat(distance(path))
+                    .isEqualTo(distance(heldKarp.findOptimalPath(Position.start(), Position.end(), locations)));
+        }
+    }
+
+    @Test
+    @DisplayName("싱글톤 빈을 여러 스레드에서 동시에 호출해도 각자 최적해를 얻는다")
+    void concurrentCallsDoNotShareState() throws Exception {
+        // given
+        Random random = new Random(7);
+        List<List<Position>> instances = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            List<Position> locations = randomPicks(random, 12);
+            instances.add(locations);
+            expected.add(distance(heldKarp.findOptimalPath(Position.start(), Position.end(), locations)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<List<Position>>> futures = new ArrayList<>();
+            for (List<Position> locations : instances) {
+                futures.add(executor.submit(() -> algorithm.findOptimalPath(Position.start(), Position.end(), locations)));
+            }
+
+            // then
+            for (int i = 0; i < instances.size(); i++) {
+                List<Position> path = futures.get(i).get();
+                assertValidRoute(path, instances.get(i));
+                assertThat(distance(path)).isEqualTo(expected.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 현재까지의 최선해(초기 2-opt 이하)를 반환한다")
+    void returnsIncumbentWhenBudgetExceeded() {
+        // given
+        ReflectionTestUtils.setField(algorithm, "timeBudgetMs", 0L);
+        ReflectionTestUtils.setField(algorithm, "initialNodeBudget", 1L);
+        List<Position> locations = randomPicks(new Random(3), 25);
+        TwoOptAlgorithm twoOpt = new TwoOptAlgorithm(new NearestNeighborAlgorithm());
+
+        // when
+        long startNanos = System.nanoTime();
+        List<Position> path = algorithm.findOptimalPath(Position.start(), Position.end(), locations);
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+        // then
+        assertValidRoute(path, locations);
+        assertThat(distance(path))
+                .isLessThanOrEqualTo(distance(twoOpt.findOptimalPath(Position.start(), Position.end(), locations)));
+        assertThat(elapsedMs).isLessThan(1_000);
+    }
+
+    @Override
+    protected AnytimePathOptimizationAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    @Override
+    protected int reportingPickCount() {
+        return 20;
+    }
+}
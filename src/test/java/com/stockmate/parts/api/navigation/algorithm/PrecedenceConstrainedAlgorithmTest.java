@@ -0,0 +1,156 @@
+package com.stockmate.parts.api.navigation.algorithm;
+
+import com.stockmate.parts.api.navigation.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PrecedenceConstrainedAlgorithm 테스트")
+class PrecedenceConstrainedAlgorithmTest {
+
+    private final PrecedenceConstrainedAlgorithm algorithm = new PrecedenceConstrainedAlgorithm(new AisleDynamicProgrammingAlgorithm());
+
+    @Test
+    @DisplayName("작은 입력에서 제약을 지키는 경로 중 최단 거리를 찾는다")
+    void matchesBruteForce() {
+        // given
+        Random random = new Random(17);
+
+        for (int round = 0; round < 100; round++) {
+            List<Position> locations = randomPicks(random, 1 + random.nextInt(8));
+            int[] ranks = randomRanks(random, locations.size(), 3);
+
+            // when
+            int[] order = algorithm.solveOrder(Position.start(), Position.end(), locations, ranks);
+
+            // then
+            assertPermutation(order, locations.size());
+            assertRanksNonDecreasing(order, ranks);
+            assertThat(distance(locations, order)).isEqualTo(bruteForce(locations, ranks));
+        }
+    }
+
+    @Test
+    @DisplayName("큰 입력에서도 그룹 순서를 지키고 모든 위치를 한 번씩 방문한다")
+    void respectsPrecedenceOnLargeInstances() {
+        // given
+        Random random = new Random(23);
+        List<Position> locations = randomPicks(random, 150);
+        int[] ranks = randomRanks(random, locations.size(), 3);
+
+        // when
+        int[] order = algorithm.solveOrder(Position.start(), Position.end(), locations, ranks);
+
+        // then
+        assertPermutation(order, locations.size());
+        assertRanksNonDecreasing(order, ranks);
+    }
+
+    @Test
+    @DisplayName("같은 위치가 서로 다른 그룹에 있으면 그룹마다 따로 방문한다")
+    void visitsSharedSlotOncePerGroup() {
+        // given
+        List<Position> locations = List.of(Position.parse("A1"), Position.parse("E39"), Position.parse("A1"));
+        int[] ranks = {0, 0, 1};
+
+        // when
+        List<Position> path = algorithm.findOptimalPath(Position.start(), Position.end(), locations, ranks);
+
+        // then
+        assertThat(path).hasSize(5);
+        assertThat(path.get(path.size() - 2)).isEqualTo(Position.parse("A1"));
+    }
+
+    @Test
+    @DisplayName("위치 수와 순위 수가 다르면 예외")
+    void rejectsMismatchedRanks() {
+        // given
+        List<Position> locations = List.of(Position.parse("A1"), Position.parse("B2"));
+
+        // when & then
+        assertThatThrownBy(() -> algorithm.solveOrder(Position.start(), Position.end(), locations, new int[]{0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Position> randomPicks(Random random, int count) {
+        Set<Position> picks = new LinkedHashSet<>();
+        while (picks.size() < count) {
+            picks.add(Position.of(random.nextInt(Position.LINE_COUNT), random.nextInt(Position.POSITIONS_PER_LINE), null));
+        }
+        return new ArrayList<>(picks);
+    }
+
+    private static int[] randomRanks(Random random, int count, int groups) {
+        int[] ranks = new int[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = random.nextInt(groups);
+        }
+        return ranks;
+    }
+
+    private static void assertPermutation(int[] order, int size) {
+        assertThat(order).hasSize(size);
+        boolean[] seen = new boolean[size];
+        for (int index : order) {
+            assertThat(seen[index]).isFalse();
+            seen[index] = true;
+        }
+    }
+
+    private static void assertRanksNonDecreasing(int[] order, int[] ranks) {
+        for (int i = 1; i < order.length; i++) {
+            assertThat(ranks[order[i]]).isGreaterThanOrEqualTo(ranks[order[i - 1]]);
+        }
+    }
+
+    private static int distance(List<Position> locations, int[] order) {
+        Position previous = Position.start();
+        int total = 0;
+        for (int index : order) {
+            total += previous.manhattanDistance(locations.get(index));
+            previous = locations.get(index);
+        }
+        return total + previous.manhattanDistance(Position.end());
+    }
+
+    // 모든 순열 중 순위가 줄지 않는 것의 최단 거리
+    private static int bruteForce(List<Position> locations, int[] ranks) {
+        int[] order = new int[locations.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        return permute(locations, ranks, order, 0);
+    }
+
+    private static int permute(List<Position> locations, int[] ranks, int[] order, int depth) {
+        if (depth == order.length) {
+            for (int i = 1; i < order.length; i++) {
+                if (ranks[order[i]] < ranks[order[i - 1]]) {
+                    return Integer.MAX_VALUE;
+                }
+            }
+            return distance(locations, order);
+        }
+        int best = Integer.MAX_VALUE;
+        for (int i = depth; i < order.length; i++) {
+            swap(order, depth, i);
+            best = Math.min(best, permute(locations, ranks, order, depth + 1));
+            swap(order, depth, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
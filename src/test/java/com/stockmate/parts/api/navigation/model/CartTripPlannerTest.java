@@ -0,0 +1,143 @@
+package com.stockmate.parts.api.navigation.model;
+
+import com.stockmate.parts.api.navigation.algorithm.AisleDynamicProgrammingAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CartTripPlanner 테스트")
+class CartTripPlannerTest {
+
+    private static final double CAPACITY = 25.0;
+
+    @Test
+    @DisplayName("한도 안에 모두 실리면 한 번의 트립으로 처리한다")
+    void singleTrip() {
+        // given
+        List<Position> positions = positions("A1", "E39", "A2", "E38");
+
+        // when
+        CartTripPlanner.Plan plan = CartTripPlanner.plan(positions, new double[]{0.1, 0.1, 0.1, 0.1}, 1.0, tour(positions));
+
+        // then
+        assertThat(plan.trips()).hasSize(1);
+        assertThat(plan.trips().get(0)).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(plan.lowerBound()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트립 수가 같으면 경로상 가까운 항목끼리 묶는다")
+    void groupsNearbyItems() {
+        // given - 무게만 보면 (A1, E39), (A2, E38) 로 묶일 수 있음
+        List<Position> positions = positions("A1", "E39", "A2", "E38");
+
+        // when
+        CartTripPlanner.Plan plan = CartTripPlanner.plan(positions, new double[]{0.5, 0.5, 0.5, 0.5}, 1.0, tour(positions));
+
+        // then
+        assertThat(plan.trips()).hasSize(2);
+        assertThat(plan.trips().get(0)).containsExactlyInAnyOrder(0, 2);
+        assertThat(plan.trips().get(1)).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    @DisplayName("경로 순서로 자르면 트립이 늘어나는 경우 무게 기준 배정(FFD)을 쓴다")
+    void fallsBackToFirstFitDecreasing() {
+        // given - 경로 순서대로 자르면 0.6 | 0.6 0.4 | 0.4 로 3회
+        List<Position> positions = positions("A1", "A2", "A3", "A4");
+
+        // when
+        CartTripPlanner.Plan plan = CartTripPlanner.plan(positions, new double[]{0.6, 0.6, 0.4, 0.4}, 1.0, tour(positions));
+
+        // then
+        assertThat(plan.trips()).hasSize(2);
+        assertThat(plan.lowerBound()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모든 항목을 정확히 한 번 배정하고 트립 무게는 한도 이하, 트립 수는 FFD 이하")
+    void randomInstancesRespectCapacity() {
+        // given
+        Random random = new Random(5);
+
+        for (int round = 0; round < 100; round++) {
+            int count = 5 + random.nextInt(60);
+            List<Position> positions = new ArrayList<>();
+            double[] weights = new double[count];
+            PickList pickList = new PickList();
+            for (int i = 0; i < count; i++) {
+                Position position = Position.of(random.nextInt(Position.LINE_COUNT),
+                        random.nextInt(Position.POSITIONS_PER_LINE), 1 + random.nextInt(Position.MAX_SHELF));
+                positions.add(position);
+                weights[i] = 0.5 + random.nextInt(200) / 10.0;
+                pickList.add(position, (long) i, "부품" + i, "SMO-1");
+            }
+            List<Position> tour = new AisleDynamicProgrammingAlgorithm()
+                    .findOptimalPath(Position.start(), Position.end(), pickList.stops());
+
+            // when
+            CartTripPlanner.Plan plan = CartTripPlanner.plan(positions, weights, CAPACITY, tour);
+
+            // then
+            int[] assigned = new int[count];
+            for (List<Integer> trip : plan.trips()) {
+                double load = 0;
+                for (int index : trip) {
+                    assigned[index]++;
+                    load += weights[index];
+                }
+                assertThat(load).isLessThanOrEqualTo(CAPACITY + 1e-9);
+            }
+            assertThat(assigned).containsOnly(1);
+            assertThat(plan.trips().size())
+                    .isGreaterThanOrEqualTo(plan.lowerBound())
+                    .isLessThanOrEqualTo(CartTripPlanner.firstFitDecreasing(weights, CAPACITY).size());
+        }
+    }
+
+    @Test
+    @DisplayName("정차 시간을 반영하면 같은 칸의 부품을 두 트립으로 나누지 않는다")
+    void keepsSameSlotTogetherWithStopCost() {
+        // given - 거리만 보면 (A6, B3-3), (B3-4) 로 B3 에 두 번 정차
+        List<Position> positions = positions("A6-4", "B3-3", "B3-4");
+        double[] weights = {0.6, 0.4, 0.4};
+        RouteCostModel costModel = new RouteCostModel(10, 1.5, 6, 8, new double[]{0, 0, 0, 0});
+
+        // when
+        CartTripPlanner.Plan distanceOnly = CartTripPlanner.plan(positions, weights, 1.0, tour(positions));
+        CartTripPlanner.Plan withStopCost = CartTripPlanner.plan(positions, weights, 1.0, tour(positions), costModel);
+
+        // then
+        assertThat(distanceOnly.trips()).containsExactly(List.of(0, 1), List.of(2));
+        assertThat(withStopCost.trips()).containsExactly(List.of(0), List.of(1, 2));
+    }
+
+    @Test
+    @DisplayName("한도보다 무거운 항목은 예외")
+    void rejectsOverweightItem() {
+        // given
+        List<Position> positions = positions("A1");
+
+        // when & then
+        assertThatThrownBy(() -> CartTripPlanner.plan(positions, new double[]{2.0}, 1.0, tour(positions)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Position> positions(String... locations) {
+        List<Position> positions = new ArrayList<>();
+        for (String location : locations) {
+            positions.add(Position.parse(location));
+        }
+        return positions;
+    }
+
+    private static List<Position> tour(List<Position> positions) {
+        return new AisleDynamicProgrammingAlgorithm().findOptimalPath(Position.start(), Position.end(), positions);
+    }
+}
@@ -0,0 +1,43 @@
+package com.stockmate.parts.api.navigation.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PickList 테스트")
+class PickListTest {
+
+    @Test
+    @DisplayName("같은 칸의 부품은 층/주문이 달라도 하나의 정차 지점으로 묶이고 모두 보관된다")
+    void groupsBySlot() {
+        // given
+        PickList pickList = new PickList();
+
+        // when
+        pickList.add(Position.parse("A16-2"), 1L, "브레이크 패드", "SMO-1");
+        pickList.add(Position.parse("B3-1"), 2L, "오일 필터", "SMO-1");
+        pickList.add(Position.parse("A16-4"), 3L, "에어 필터", "SMO-2");
+        pickList.add(Position.parse("a16-2"), 1L, "브레이크 패드", "SMO-3");
+
+        // then
+        assertThat(pickList.stops()).containsExactly(Position.parse("A16-2"), Position.parse("B3-1"));
+        assertThat(pickList.itemCount()).isEqualTo(4);
+        assertThat(pickList.itemsAt(Position.parse("A16")))
+                .extracting(PickList.PickItem::orderNumber)
+                .containsExactly("SMO-1", "SMO-2", "SMO-3");
+        assertThat(pickList.itemsAt(Position.parse("A16-2")).get(1).position()).isSameAs(Position.parse("A16-4"));
+    }
+
+    @Test
+    @DisplayName("부품이 없는 칸은 빈 목록")
+    void emptySlot() {
+        // given
+        PickList pickList = new PickList();
+        pickList.add(Position.parse("C1"), 1L, "부품", "SMO-1");
+
+        // then
+        assertThat(pickList.itemsAt(Position.parse("C2"))).isEmpty();
+        assertThat(pickList.itemsAt(Position.end())).isEmpty();
+    }
+}
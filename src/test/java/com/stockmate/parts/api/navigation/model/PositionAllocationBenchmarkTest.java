@@ -0,0 +1,185 @@
+package com.stockmate.parts.api.navigation.model;
+
+import ch.qos.logback.classic.Level;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거리 계산 로그 가드 전/후 할당량 비교, 위치 파싱 할당량 측정
+ * 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DisplayName("Position 거리 계산 할당량 벤치마크")
+class PositionAllocationBenchmarkTest {
+
+    // 가드 없이 인자를 넘기던 기존 방식 재현용 로거
+    private static final Logger legacyLog = LoggerFactory.getLogger("benchmark.legacy-distance");
+    private static final int ROUNDS = 200;
+
+    @Test
+    @DisplayName("DEBUG 비활성 시 가드된 거리 계산은 호출당 할당이 없다")
+    void guardedDistanceDoesNotAllocate(TestReporter testReporter) throws Exception {
+        // given
+        setLevel(Position.class.getName(), Level.INFO);
+        setLevel(legacyLog.getName(), Level.INFO);
+        List<Position> positions = warehouseGrid();
+        long calls = (long) ROUNDS * positions.size() * positions.size();
+        for (int i = 0; i < 5; i++) { // 워밍업 (JIT)
+            guardedRound(positions);
+            legacyRound(positions);
+        }
+
+        // when
+        Measurement guarded = measure("guarded", () -> {
+            int sum = 0;
+            for (int r = 0; r < ROUNDS; r++) sum += guardedRound(positions);
+            return sum;
+        });
+        Measurement legacy = measure("legacy", () -> {
+            int sum = 0;
+            for (int r = 0; r < ROUNDS; r++) sum += legacyRound(positions);
+            return sum;
+        });
+
+        // then
+        testReporter.publishEntry(guarded.name(), guarded + ", calls=" + calls);
+        testReporter.publishEntry(legacy.name(), legacy + ", calls=" + calls);
+        assertThat(guarded.checksum()).isEqualTo(legacy.checksum());
+        assertThat((double) guarded.threadAllocatedBytes() / calls).as("calls=%d, %s", calls, guarded).isLessThan(1.0);
+        assertThat(guarded.threadAllocatedBytes()).as("%s / %s", guarded, legacy)
+                .isLessThanOrEqualTo(legacy.threadAllocatedBytes());
+    }
+
+    @Test
+    @DisplayName("parse 는 정규 인스턴스를 돌려주며 호출당 할당이 없다")
+    void parseDoesNotAllocate(TestReporter testReporter) throws Exception {
+        // given
+        List<String> locations = new ArrayList<>();
+        for (Position position : warehouseGrid()) {
+            locations.add(position.getOriginalLocation());
+        }
+        locations.add(" a16-2 ");
+        long calls = (long) ROUNDS * 50 * locations.size();
+        for (int i = 0; i < 5; i++) { // 워밍업 (JIT)
+            parseRound(locations, 50);
+        }
+
+        // when
+        Measurement parse = measure("parse", () -> {
+            int sum = 0;
+            for (int r = 0; r < ROUNDS; r++) sum += parseRound(locations, 50);
+            return sum;
+        });
+
+        // then
+        testReporter.publishEntry(parse.name(), parse + ", calls=" + calls);
+        assertThat((double) parse.threadAllocatedBytes() / calls).as("calls=%d, %s", calls, parse).isLessThan(1.0);
+    }
+
+    private static int parseRound(List<String> locations, int repeat) {
+        int sum = 0;
+        for (int r = 0; r < repeat; r++) {
+            for (String location : locations) {
+                sum += Position.parse(location).getOrdinal();
+            }
+        }
+        return sum;
+    }
+
+    private static int guardedRound(List<Position> positions) {
+        int sum = 0;
+        for (Position a : positions) {
+            for (Position b : positions) {
+                sum += a.manhattanDistance(b);
+            }
+        }
+        return sum;
+    }
+
+    // 변경 전 manhattanDistance 처럼 레벨 확인 없이 다중 인자 debug 호출
+    private static int legacyRound(List<Position> positions) {
+        int sum = 0;
+        for (Position a : positions) {
+            for (Position b : positions) {
+                int distance = a.manhattanDistance(b);
+                legacyLog.debug("다른 라인, 다른 블록, 다른 줄: {} → {}, 기본={}, 라인={}, 최종={}",
+                        a.getOriginalLocation(), b.getOriginalLocation(), distance + 1000, a.getLine() * 5, distance);
+                sum += distance;
+            }
+        }
+        return sum;
+    }
+
+    // 스레드 할당 바이트 + JFR 할당 샘플(가중치 합) 동시 측정
+    private static Measurement measure(String name, IntSupplier workload) throws Exception {
+        Path file = Files.createTempFile("position-alloc-" + name, ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "10000/s");
+            recording.start();
+            long before = threadAllocatedBytes();
+            int checksum = workload.getAsInt();
+            long allocated = threadAllocatedBytes() - before;
+            recording.stop();
+            recording.dump(file);
+
+            long sampledWeight = 0;
+            String threadName = Thread.currentThread().getName();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getThread() != null && threadName.equals(event.getThread().getJavaName())) {
+                    sampledWeight += event.getLong("weight");
+                }
+            }
+            return new Measurement(name, checksum, allocated, sampledWeight);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<Position> warehouseGrid() {
+        List<Position> positions = new ArrayList<>();
+        positions.add(Position.parse("문"));
+        for (char line = 'A'; line <= 'E'; line++) {
+            for (int slot = 0; slot < 40; slot += 3) {
+                positions.add(Position.parse(line + String.valueOf(slot) + "-1"));
+            }
+        }
+        positions.add(Position.parse("포장대"));
+        return positions;
+    }
+
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+
+    private static void setLevel(String loggerName, Level level) {
+        if (LoggerFactory.getLogger(loggerName) instanceof ch.qos.logback.classic.Logger logger) {
+            logger.setLevel(level);
+        }
+    }
+
+    private record Measurement(String name, int checksum, long threadAllocatedBytes, long jfrSampledBytes) {
+        @Override
+        public String toString() {
+            return String.format("%-7s threadAllocated=%,dB, jfrSampled=%,dB", name, threadAllocatedBytes, jfrSampledBytes);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.stockmate.parts.api.navigation.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Position 파싱 테스트")
+class PositionTest {
+
+    @Test
+    @DisplayName("같은 위치는 입력 형태와 무관하게 같은 정규 인스턴스를 반환한다")
+    void parseReturnsCanonicalInstance() {
+        // when
+        Position canonical = Position.parse("A16-2");
+
+        // then
+        assertThat(Position.parse(" a16-2 ")).isSameAs(canonical);
+        assertThat(Position.parse("A016-2")).isSameAs(canonical);
+        assertThat(Position.of(0, 16, 2)).isSameAs(canonical);
+        assertThat(Position.byOrdinal(canonical.getOrdinal())).isSameAs(canonical);
+        assertThat(canonical.getOriginalLocation()).isEqualTo("A16-2");
+        assertThat(canonical.toSimpleString()).isEqualTo("A16");
+    }
+
+    @Test
+    @DisplayName("좌표는 블록/줄 규칙대로 계산된다")
+    void coordinates() {
+        // when
+        Position a16 = Position.parse("A16");
+        Position e39 = Position.parse("E39-4");
+
+        // then
+        assertThat(a16.getX()).isEqualTo(7);
+        assertThat(a16.getY()).isEqualTo(1);
+        assertThat(a16.getBlockNumber()).isEqualTo(1);
+        assertThat(a16.getShelf()).isNull();
+        assertThat(e39.getLine()).isEqualTo(4);
+        assertThat(e39.getX()).isEqualTo(22);
+        assertThat(e39.getShelf()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("층만 다른 위치는 ordinal 은 다르고 slotId 는 같다")
+    void shelvesShareSlot() {
+        // when
+        Position shelf1 = Position.parse("C7-1");
+        Position shelf3 = Position.parse("C7-3");
+
+        // then
+        assertThat(shelf1).isNotEqualTo(shelf3);
+        assertThat(shelf1.isSameSlot(shelf3)).isTrue();
+        assertThat(shelf1.manhattanDistance(shelf3)).isZero();
+    }
+
+    @Test
+    @DisplayName("문/포장대 별칭은 시작/종료 인스턴스를 반환한다")
+    void startAndEndAliases() {
+        // then
+        assertThat(Position.parse("문")).isSameAs(Position.start());
+        assertThat(Position.parse("DOOR")).isSameAs(Position.start());
+        assertThat(Position.parse("포장대")).isSameAs(Position.end());
+        assertThat(Position.parse(" packing ")).isSameAs(Position.end());
+        assertThat(Position.start().isStart()).isTrue();
+        assertThat(Position.end().getSlotId()).isEqualTo(Position.END_SLOT);
+    }
+
+    @Test
+    @DisplayName("ordinal 과 slotId 는 범위 안에서 겹치지 않는다")
+    void ordinalsAreDense() {
+        // given
+        Set<Integer> ordinals = new HashSet<>();
+
+        // when
+        for (int ordinal = 0; ordinal < Position.ORDINAL_COUNT; ordinal++) {
+            ordinals.add(Position.byOrdinal(ordinal).getOrdinal());
+        }
+
+        // then
+        assertThat(ordinals).hasSize(Position.ORDINAL_COUNT);
+        assertThat(Position.parse("E39").getSlotId()).isLessThan(Position.START_SLOT);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식은 IllegalArgumentException")
+    void invalidFormats() {
+        // then
+        for (String invalid : new String[]{"", "  ", "F1", "A", "A40", "A1-5", "A1-", "A1-2-3", "A1x", "A1234"}) {
+            assertThatThrownBy(() -> Position.parse(invalid))
+                    .as(invalid)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> Position.parse(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,145 @@
+package com.stockmate.parts.api.navigation.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RouteCostModel 테스트")
+class RouteCostModelTest {
+
+    private static final RouteCostModel MODEL = new RouteCostModel(10, 1.5, 4, 7, new double[]{2, 0.5, 1, 3});
+
+    @Test
+    @DisplayName("정차 지점 처리 시간 = 정차 시간 + 부품별 (피킹 시간 + 선반 층 추가 시간)")
+    void stopSecondsIncludesShelfLevel() {
+        // given
+        PickList pickList = new PickList();
+        pickList.add(Position.parse("A3-1"), 1L, "부품1", "SMO-1");
+        pickList.add(Position.parse("A3-4"), 2L, "부품2", "SMO-1");
+        pickList.add(Position.parse("A3"), 3L, "부품3", "SMO-2");
+
+        // when
+        double seconds = MODEL.stopSeconds(pickList.itemsAt(Position.parse("A3")));
+
+        // then
+        assertThat(seconds).isEqualTo(4 + (7 + 2) + (7 + 3) + 7);
+        assertThat(MODEL.stopSeconds(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("피킹 기록은 연속된 같은 칸을 한 번의 정차로 보고 문 → 포장대 거리를 계산한다")
+    void observationFromPicks() {
+        // given
+        List<Position> picks = List.of(Position.parse("A1-1"), Position.parse("A1-3"), Position.parse("B5"));
+
+        // when
+        RouteCostModel.Observation observation = RouteCostModel.Observation.of(picks, 60);
+
+        // then
+        assertThat(observation.stops()).isEqualTo(2);
+        assertThat(observation.distance()).isEqualTo(Position.start().manhattanDistance(Position.parse("A1"))
+                + Position.parse("A1").manhattanDistance(Position.parse("B5"))
+                + Position.parse("B5").manhattanDistance(Position.end()));
+        assertThat(observation.partsByShelf()).containsExactly(1, 1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("오차 없는 기록으로 보정하면 원래 계수를 찾는다")
+    void fitRecoversCoefficients() {
+        // given
+        List<RouteCostModel.Observation> observations = randomObservations(new Random(3), 200, MODEL);
+
+        // when
+        RouteCostModel fitted = RouteCostModel.fit(observations);
+
+        // then
+        assertThat(fitted.getFixedSeconds()).isCloseTo(10, within(1e-6));
+        assertThat(fitted.getSecondsPerUnitDistance()).isCloseTo(1.5, within(1e-6));
+        assertThat(fitted.getSecondsPerStop()).isCloseTo(4, within(1e-6));
+        assertThat(fitted.getSecondsPerPart()).isCloseTo(7, within(1e-6));
+        for (int shelf = 1; shelf <= Position.MAX_SHELF; shelf++) {
+            assertThat(fitted.getShelfSeconds(shelf)).isCloseTo(MODEL.getShelfSeconds(shelf), within(1e-6));
+        }
+        assertThat(fitted.rootMeanSquaredError(observations)).isCloseTo(0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("최소제곱 해가 음수인 계수는 0으로 두고 나머지로 다시 맞춘다")
+    void fitKeepsCoefficientsNonNegative() {
+        // given - 거리가 길수록 시간이 짧아지는 기록
+        List<RouteCostModel.Observation> observations = new ArrayList<>();
+        for (RouteCostModel.Observation observation : randomObservations(new Random(5), 50, MODEL)) {
+            observations.add(new RouteCostModel.Observation(observation.distance(), observation.stops(),
+                    observation.partsByShelf(), Math.max(0, 500 - 2.0 * observation.distance())));
+        }
+
+        // when
+        RouteCostModel fitted = RouteCostModel.fit(observations);
+
+        // then
+        assertThat(fitted.getSecondsPerUnitDistance()).isZero();
+        assertThat(fitted.getFixedSeconds()).isGreaterThanOrEqualTo(0);
+        assertThat(fitted.getSecondsPerStop()).isGreaterThanOrEqualTo(0);
+        assertThat(fitted.getSecondsPerPart()).isGreaterThanOrEqualTo(0);
+        for (int shelf = 1; shelf <= Position.MAX_SHELF; shelf++) {
+            assertThat(fitted.getShelfSeconds(shelf)).isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 부품에 층이 있어도 (부품 수 = 층별 합) 예측은 정확하다")
+    void fitHandlesCollinearShelfCounts() {
+        // given
+        Random random = new Random(9);
+        List<RouteCostModel.Observation> observations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<Position> picks = new ArrayList<>();
+            int count = 1 + random.nextInt(12);
+            for (int j = 0; j < count; j++) {
+                picks.add(Position.of(random.nextInt(Position.LINE_COUNT), random.nextInt(Position.POSITIONS_PER_LINE),
+                        1 + random.nextInt(Position.MAX_SHELF)));
+            }
+            observations.add(RouteCostModel.Observation.of(picks, MODEL.predict(RouteCostModel.Observation.of(picks, 0))));
+        }
+
+        // when
+        RouteCostModel fitted = RouteCostModel.fit(observations);
+
+        // then
+        assertThat(fitted.rootMeanSquaredError(observations)).isCloseTo(0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("기록이 너무 적으면 예외")
+    void rejectsTooFewObservations() {
+        // given
+        List<RouteCostModel.Observation> observations = randomObservations(new Random(1), RouteCostModel.MIN_OBSERVATIONS - 1, MODEL);
+
+        // when & then
+        assertThatThrownBy(() -> RouteCostModel.fit(observations))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 층 미지정 위치를 섞은 임의 피킹 기록 (소요 시간 = truth 예측값)
+    private static List<RouteCostModel.Observation> randomObservations(Random random, int count, RouteCostModel truth) {
+        List<RouteCostModel.Observation> observations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Position> picks = new ArrayList<>();
+            int picksCount = 1 + random.nextInt(15);
+            for (int j = 0; j < picksCount; j++) {
+                int shelf = random.nextInt(Position.MAX_SHELF + 1);
+                picks.add(Position.of(random.nextInt(Position.LINE_COUNT), random.nextInt(Position.POSITIONS_PER_LINE),
+                        shelf == 0 ? null : shelf));
+            }
+            observations.add(RouteCostModel.Observation.of(picks, truth.predict(RouteCostModel.Observation.of(picks, 0))));
+        }
+        return observations;
+    }
+}
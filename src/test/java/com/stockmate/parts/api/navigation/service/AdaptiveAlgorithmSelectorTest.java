@@ -0,0 +1,120 @@
+package com.stockmate.parts.api.navigation.service;
+
+import com.stockmate.parts.api.navigation.algorithm.AisleDynamicProgrammingAlgorithm;
+import com.stockmate.parts.api.navigation.algorithm.HeldKarpAlgorithm;
+import com.stockmate.parts.api.navigation.algorithm.NearestNeighborAlgorithm;
+import com.stockmate.parts.api.navigation.algorithm.PathOptimizationAlgorithm;
+import com.stockmate.parts.api.navigation.model.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveAlgorithmSelector 테스트")
+class AdaptiveAlgorithmSelectorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AdaptiveAlgorithmSelector selector = new AdaptiveAlgorithmSelector();
+    private final PathOptimizationAlgorithm nearestNeighbor = new NearestNeighborAlgorithm();
+    private final PathOptimizationAlgorithm aisleDp = new AisleDynamicProgrammingAlgorithm();
+    private final PathOptimizationAlgorithm heldKarp = new HeldKarpAlgorithm();
+    private final List<PathOptimizationAlgorithm> candidates = List.of(nearestNeighbor, aisleDp, heldKarp);
+    private final AdaptiveAlgorithmSelector.Features features = new AdaptiveAlgorithmSelector.Features(6, 2, 2);
+
+    @Test
+    @DisplayName("입력 특징은 정차 지점이 걸친 블록 수와 라인 수다")
+    void featuresFromLocations() {
+        // given
+        List<Position> locations = List.of(Position.parse("A1"), Position.parse("A15"), Position.parse("C3"));
+
+        // when
+        AdaptiveAlgorithmSelector.Features of = AdaptiveAlgorithmSelector.Features.of(locations);
+
+        // then
+        assertThat(of.stopCount()).isEqualTo(3);
+        assertThat(of.blockSpread()).isEqualTo(2);
+        assertThat(of.lineSpread()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("평가 표본이 부족하면 추천하지 않는다 (전체 평가)")
+    void noRecommendationWithoutSamples() {
+        // given
+        recordEvaluations(features, 4);
+
+        // when & then
+        assertThat(selector.recommend(features, candidates)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목표 갭 이하인 알고리즘 중 가장 빠른 것을 고른다")
+    void picksFastestWithinTargetGap() {
+        // given - NN 1ms/갭 20%, Aisle DP 3ms/갭 0.5%, Held-Karp 20ms/갭 0%
+        recordEvaluations(features, 5);
+
+        // when & then
+        assertThat(selector.recommend(features, candidates)).contains(aisleDp);
+    }
+
+    @Test
+    @DisplayName("목표 갭을 만족하는 알고리즘이 없으면 갭이 가장 작은 것을 고른다")
+    void fallsBackToSmallestGap() {
+        // given - 목표 0.1% 에 NN(20%), Aisle DP(0.5%) 모두 미달
+        ReflectionTestUtils.setField(selector, "targetGap", 0.001);
+        recordEvaluations(features, 5);
+
+        // when & then
+        assertThat(selector.recommend(features, List.of(nearestNeighbor, aisleDp))).contains(aisleDp);
+    }
+
+    @Test
+    @DisplayName("같은 블록/라인 분포 표본이 없으면 정차 지점 수 구간 통계를 쓴다")
+    void backsOffToSizeBucket() {
+        // given
+        recordEvaluations(features, 5);
+        AdaptiveAlgorithmSelector.Features unseen = new AdaptiveAlgorithmSelector.Features(7, 4, 5);
+
+        // when & then
+        assertThat(selector.recommend(unseen, candidates)).contains(aisleDp);
+        assertThat(selector.recommend(new AdaptiveAlgorithmSelector.Features(30, 2, 2), candidates)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단독 실행이 실패하면 다음 요청부터 다른 알고리즘을 고른다")
+    void failureMovesSelectionAway() {
+        // given
+        recordEvaluations(features, 5);
+
+        // when
+        selector.recordFailure(features, aisleDp);
+
+        // then
+        assertThat(selector.recommend(features, candidates)).contains(heldKarp);
+    }
+
+    @Test
+    @DisplayName("탐색 비율이 1이면 항상 전체 평가, 0이면 학습 결과를 쓴다")
+    void explorationRate() {
+        // given
+        recordEvaluations(features, 5);
+
+        // when & then
+        ReflectionTestUtils.setField(selector, "explorationRate", 1.0);
+        assertThat(selector.select(features, candidates)).isEmpty();
+        ReflectionTestUtils.setField(selector, "explorationRate", 0.0);
+        assertThat(selector.select(features, candidates)).contains(aisleDp);
+    }
+
+    private void recordEvaluations(AdaptiveAlgorithmSelector.Features target, int count) {
+        for (int i = 0; i < count; i++) {
+            selector.recordEvaluation(target, List.of(
+                    new AdaptiveAlgorithmSelector.Run(nearestNeighbor, 1200, MILLIS),
+                    new AdaptiveAlgorithmSelector.Run(aisleDp, 1005, 3 * MILLIS),
+                    new AdaptiveAlgorithmSelector.Run(heldKarp, 1000, 20 * MILLIS)));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.stockmate.parts.api.parts.repository;
 
 import com.stockmate.parts.api.parts.entity.Parts;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +19,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @DisplayName("PartsRepository 테스트")
 class PartsRepositoryTest {
@@ -24,6 +27,9 @@ class PartsRepositoryTest {
     @Autowired
     private PartsRepository partsRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Parts testPart1;
     private Parts testPart2;
 
@@ -281,5 +287,65 @@ class PartsRepositoryTest {
         assertThat(firstPage.getTotalPages()).isEqualTo(2);
         assertThat(secondPage.getContent()).hasSize(5);
     }
-}
 
+    @Test
+    @DisplayName("대체 코드 지연 로딩은 페이지 크기와 무관하게 쿼리 수가 고정된다")
+    void codesBatchFetchQueryCount() {
+        // given
+        savePartsWithCodes(40);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        long smallPageQueries = countQueriesTouchingCodes(statistics, 5);
+        long largePageQueries = countQueriesTouchingCodes(statistics, 40);
+
+        // then - 페이지 조회 + count 조회 + 코드 일괄 조회
+        assertThat(smallPageQueries).isEqualTo(3);
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @DisplayName("대체 코드 일괄 조회 및 엔티티 그래프 조회 테스트")
+    void findCodesByPartIds() {
+        // given
+        List<Long> ids = savePartsWithCodes(3);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<Object[]> codeRows = partsRepository.findCodesByPartIds(ids);
+        List<Parts> withCodes = partsRepository.findAllWithCodesByIdIn(ids);
+        withCodes.forEach(p -> p.getCode_().size());
+
+        // then
+        assertThat(codeRows).hasSize(6);
+        assertThat(withCodes).hasSize(3);
+        assertThat(withCodes.get(0).getCode_()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private List<Long> savePartsWithCodes(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Parts part = new Parts();
+            part.setName("코드부품" + i);
+            part.setPrice(10000L);
+            part.setAmount(10);
+            part.setCategoryName("엔진부품");
+            part.setCode("PART-" + i);
+            part.setCode_(new ArrayList<>(List.of("ALT-" + i + "-1", "ALT-" + i + "-2")));
+            ids.add(partsRepository.save(part).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private long countQueriesTouchingCodes(Statistics statistics, int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+        Page<Parts> page = partsRepository.findAll(PageRequest.of(0, pageSize));
+        page.getContent().forEach(p -> p.getCode_().size());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,140 @@
+package com.stockmate.parts.api.parts.repository;
+
+import com.stockmate.parts.api.parts.dto.parts.StoreStockResponseDto;
+import com.stockmate.parts.api.parts.dto.store.StorePartsDto;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.entity.StoreInventory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("StoreRepository DTO 프로젝션 테스트")
+class StoreRepositoryTest {
+
+    private static final long STORE_ID = 7L;
+    private static final int PART_COUNT = 200;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PART_COUNT; i++) {
+            Parts part = new Parts();
+            part.setName("부품" + i);
+            part.setKorName("필터" + i);
+            part.setPrice(10000L + i);
+            part.setCost(5000L);
+            part.setAmount(100);
+            part.setCategory(1);
+            part.setCategoryName("엔진부품");
+            part.setTrim("터보");
+            part.setModel("소나타");
+            part.setCode("PART-" + i);
+            part.setLocation("A1-" + i);
+            entityManager.persist(part);
+
+            entityManager.persist(StoreInventory.builder()
+                    .part(part)
+                    .userId(STORE_ID)
+                    .amount(i % 2 == 0 ? 1 : 20) // 짝수 부품만 부족
+                    .limitAmount(10)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("지점 부품 검색은 엔티티 없이 DTO로 바로 조회된다")
+    void searchPartsProjection() {
+        // when
+        Page<StorePartsDto> result = storeRepository.searchParts(
+                STORE_ID, List.of("엔진부품"), List.of("터보"), List.of("소나타"), PageRequest.of(0, 50));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(PART_COUNT);
+        assertThat(result.getContent()).hasSize(50);
+        assertThat(result.getContent().get(0).getLimitAmount()).isEqualTo(10);
+        assertThat(result.getContent()).allMatch(dto -> dto.getIsLack() == (dto.getAmount() < dto.getLimitAmount()));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("부족 재고 조회는 부족한 행만 반환하고 count 쿼리도 일치한다")
+    void findUnderLimitProjection() {
+        // when
+        Page<StorePartsDto> result = storeRepository.findUnderLimitByCategory(STORE_ID, "엔진부품", PageRequest.of(0, 30));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(PART_COUNT / 2);
+        assertThat(result.getContent()).allMatch(StorePartsDto::getIsLack);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DTO 프로젝션은 엔티티 조회 대비 영속성 컨텍스트 적재와 할당량이 적다")
+    void projectionVersusEntityFetch() {
+        // given - 기존 방식 (Parts, StoreInventory 엔티티를 함께 조회)
+        String entityQuery = "select p, si from StoreInventory si join si.part p where si.userId = :storeId";
+        for (int i = 0; i < 5; i++) { // 워밍업
+            entityManager.createQuery(entityQuery, Object[].class).setParameter("storeId", STORE_ID).getResultList();
+            entityManager.clear();
+            storeRepository.findByUserId(STORE_ID, PageRequest.of(0, PART_COUNT));
+            entityManager.clear();
+        }
+        statistics.clear();
+
+        // when
+        long entityBytes = allocatedBytes();
+        List<Object[]> entityRows = entityManager.createQuery(entityQuery, Object[].class)
+                .setParameter("storeId", STORE_ID)
+                .getResultList();
+        entityBytes = allocatedBytes() - entityBytes;
+        long entityLoads = statistics.getEntityLoadCount();
+        entityManager.clear();
+        statistics.clear();
+
+        long projectionBytes = allocatedBytes();
+        Page<StoreStockResponseDto> projected = storeRepository.findByUserId(STORE_ID, PageRequest.of(0, PART_COUNT));
+        projectionBytes = allocatedBytes() - projectionBytes;
+        long projectionLoads = statistics.getEntityLoadCount();
+
+        // then
+        assertThat(projected.getContent()).hasSize(entityRows.size());
+        assertThat(entityLoads).isGreaterThanOrEqualTo(PART_COUNT); // Parts 는 2차 캐시 적중 시 로드 횟수에서 빠짐
+        assertThat(projectionLoads).isZero();
+        assertThat(projectionBytes).isLessThanOrEqualTo(entityBytes); // 엔티티 조회는 스냅샷/영속성 컨텍스트 엔트리를 추가로 할당
+    }
+
+    // 현재 스레드가 할당한 누적 바이트 (HotSpot 전용, 미지원이면 0)
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+}
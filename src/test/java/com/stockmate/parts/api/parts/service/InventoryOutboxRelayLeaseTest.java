@@ -0,0 +1,75 @@
+package com.stockmate.parts.api.parts.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 실행권 선점이 실제로 커밋되어 다른 인스턴스에 보여야 함
+@ActiveProfiles("test")
+@DisplayName("InventoryOutboxRelayLease 테스트")
+class InventoryOutboxRelayLeaseTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from inventory_outbox_lease");
+    }
+
+    @Test
+    @DisplayName("실행권은 한 인스턴스만 가지며, 보유 인스턴스는 계속 연장할 수 있다")
+    void onlyOneInstanceHoldsLease() {
+        // given
+        InventoryOutboxRelayLease first = newLease(30_000);
+        InventoryOutboxRelayLease second = newLease(30_000);
+
+        // when
+        boolean firstAcquired = first.tryAcquire();
+        boolean secondAcquired = second.tryAcquire();
+        boolean firstRenewed = first.tryAcquire();
+
+        // then
+        assertThat(firstAcquired).isTrue();
+        assertThat(secondAcquired).isFalse();
+        assertThat(firstRenewed).isTrue();
+    }
+
+    @Test
+    @DisplayName("보유 인스턴스의 lease 가 만료되거나 반납되면 다른 인스턴스가 이어받는다")
+    void expiredOrReleasedLeaseIsTakenOver() throws InterruptedException {
+        // given
+        InventoryOutboxRelayLease first = newLease(10);
+        InventoryOutboxRelayLease second = newLease(30_000);
+        InventoryOutboxRelayLease third = newLease(30_000);
+        first.tryAcquire();
+        Thread.sleep(50);
+
+        // when
+        boolean takenOverAfterExpiry = second.tryAcquire();
+        boolean firstAfterTakeover = first.tryAcquire();
+        second.release();
+        boolean takenOverAfterRelease = third.tryAcquire();
+
+        // then
+        assertThat(takenOverAfterExpiry).isTrue();
+        assertThat(firstAfterTakeover).isFalse();
+        assertThat(takenOverAfterRelease).isTrue();
+    }
+
+    private InventoryOutboxRelayLease newLease(long leaseMs) {
+        InventoryOutboxRelayLease lease = new InventoryOutboxRelayLease(jdbcTemplate);
+        ReflectionTestUtils.setField(lease, "leaseMs", leaseMs);
+        return lease;
+    }
+}
@@ -0,0 +1,146 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.entity.MovementType;
+import com.stockmate.parts.api.parts.entity.InventoryOutbox;
+import com.stockmate.parts.api.parts.repository.InventoryOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryOutboxRelay 테스트")
+class InventoryOutboxRelayTest {
+
+    @Mock
+    private InventoryOutboxRepository inventoryOutboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private InventoryOutboxRelayLease relayLease;
+
+    private InventoryOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new InventoryOutboxRelay(inventoryOutboxRepository, relayLease, kafkaTemplate, new NoOpTransactionManager());
+        ReflectionTestUtils.setField(relay, "enabled", true);
+        ReflectionTestUtils.setField(relay, "topic", "parts.inventory-changed");
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("본사/가맹점 이벤트를 각각 partId, userId:partId 키로 발행하고 발행 완료 처리한다")
+    void publishesWithKeys() {
+        // given
+        given(relayLease.tryAcquire()).willReturn(true);
+        given(inventoryOutboxRepository.findUnpublished(any())).willReturn(List.of(outbox(1L, 0L), outbox(2L, 7L)));
+        given(kafkaTemplate.send(anyString(), anyString(), any())).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(kafkaTemplate).send(eq("parts.inventory-changed"), eq("100"), any());
+        verify(kafkaTemplate).send(eq("parts.inventory-changed"), eq("7:100"), any());
+        verify(inventoryOutboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+    }
+
+    @Test
+    @DisplayName("중간 이벤트 발행이 실패하면 그 앞까지만 발행 완료로 표시한다")
+    void marksOnlySuccessfulPrefix() {
+        // given
+        given(relayLease.tryAcquire()).willReturn(true);
+        given(inventoryOutboxRepository.findUnpublished(any()))
+                .willReturn(List.of(outbox(1L, 0L), outbox(2L, 0L), outbox(3L, 0L)));
+        CompletableFuture<SendResult<String, Object>> failed = CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+        given(kafkaTemplate.send(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null), failed, CompletableFuture.completedFuture(null));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(inventoryOutboxRepository).markPublished(eq(List.of(1L)), any());
+        verify(inventoryOutboxRepository, times(1)).findUnpublished(any());
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트가 없으면 발행하지 않는다")
+    void nothingToPublish() {
+        // given
+        given(relayLease.tryAcquire()).willReturn(true);
+        given(inventoryOutboxRepository.findUnpublished(any())).willReturn(List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        verifyNoInteractions(kafkaTemplate);
+        verify(inventoryOutboxRepository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행권을 가지고 있으면 미발행 이벤트를 읽지도 발행하지도 않는다")
+    void skipsWithoutLease() {
+        // given
+        given(relayLease.tryAcquire()).willReturn(false);
+
+        // when
+        relay.relay();
+
+        // then
+        verifyNoInteractions(inventoryOutboxRepository, kafkaTemplate);
+    }
+
+    private static InventoryOutbox outbox(Long id, Long storeId) {
+        return InventoryOutbox.builder()
+                .id(id)
+                .storeId(storeId)
+                .partId(100L)
+                .amount(10)
+                .delta(-1)
+                .movementType(MovementType.DEDUCT)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    // TransactionTemplate 용 더미 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, org.springframework.transaction.TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.stockmate.parts.api.parts.service;
 
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
 import com.stockmate.parts.api.parts.dto.parts.*;
 import com.stockmate.parts.api.parts.entity.Parts;
 import com.stockmate.parts.api.parts.repository.PartsRepository;
 import com.stockmate.parts.api.parts.repository.StoreRepository;
 import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.logging.LogSampler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,18 @@ class PartsServiceSimpleTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private InventoryLedgerWriter inventoryLedgerWriter;
+
+    @Mock
+    private InventoryEventOutbox inventoryEventOutbox;
+
+    @Mock
+    private LogSampler itemLogSampler;
+
     @InjectMocks
     private PartsService partsService;
 
@@ -98,7 +112,7 @@ class PartsServiceSimpleTest {
         // given
         OrderCheckReqDto request = new OrderCheckReqDto(1L, 50);
 
-        given(partsRepository.findById(1L)).willReturn(Optional.of(testPart));
+        given(partsRepository.findStockById(1L)).willReturn(Optional.of(testPart));
 
         // when
         OrderCheckResponseDto response = partsService.checkStock(List.of(request));
@@ -110,7 +124,7 @@ class PartsServiceSimpleTest {
         assertThat(response.getOrderList().get(0).getAvailableStock()).isEqualTo(100);
         assertThat(response.getTotalPrice()).isEqualTo(2500000); // 50 * 50000
 
-        verify(partsRepository).findById(1L);
+        verify(partsRepository).findStockById(1L);
     }
 
     @Test
@@ -120,7 +134,7 @@ class PartsServiceSimpleTest {
         testPart.setAmount(30); // 재고 부족
         OrderCheckReqDto request = new OrderCheckReqDto(1L, 50); // 요청 수량이 재고보다 많음
 
-        given(partsRepository.findById(1L)).willReturn(Optional.of(testPart));
+        given(partsRepository.findStockById(1L)).willReturn(Optional.of(testPart));
 
         // when
         OrderCheckResponseDto response = partsService.checkStock(List.of(request));
@@ -131,7 +145,46 @@ class PartsServiceSimpleTest {
         assertThat(response.getOrderList().get(0).getCanOrder()).isFalse();
         assertThat(response.getOrderList().get(0).getAvailableStock()).isEqualTo(30);
 
-        verify(partsRepository).findById(1L);
+        verify(partsRepository).findStockById(1L);
+    }
+
+    @Test
+    @DisplayName("발주 가능 여부 확인 실패 테스트 - 다른 주문이 확보한 수량은 가용 재고에서 제외")
+    void checkStock_Fail_HeldByReservation() {
+        // given
+        OrderCheckReqDto request = new OrderCheckReqDto(1L, 50);
+
+        given(partsRepository.findStockById(1L)).willReturn(Optional.of(testPart));
+        given(stockReservationService.heldQuantity(1L)).willReturn(70);
+
+        // when
+        OrderCheckResponseDto response = partsService.checkStock(List.of(request));
+
+        // then
+        assertThat(response.getOrderList().get(0).getCanOrder()).isFalse();
+        assertThat(response.getOrderList().get(0).getAvailableStock()).isEqualTo(30); // 100 - 70
+    }
+
+    @Test
+    @DisplayName("재고 차감 실패 테스트 - 다른 주문이 확보한 재고는 차감할 수 없다")
+    void deductStockApi_Fail_HeldByReservation() {
+        // given
+        StockDeductionRequestDto request = StockDeductionRequestDto.builder()
+                .orderId(10L)
+                .orderNumber("SO-10")
+                .items(List.of(new StockDeductionRequestDto.StockDeductionItem(1L, 50)))
+                .build();
+
+        given(partsRepository.findStockById(1L)).willReturn(Optional.of(testPart));
+        given(stockReservationService.heldQuantity(1L)).willReturn(70);
+
+        // when & then
+        assertThatThrownBy(() -> partsService.deductStockApi(request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("가용 재고가 부족합니다");
+
+        assertThat(testPart.getAmount()).isEqualTo(100);
+        verify(inventoryLedgerWriter, never()).record(any(), anyLong(), anyLong(), anyInt(), any());
     }
 
     @Test
@@ -145,7 +198,7 @@ class PartsServiceSimpleTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("유효하지 않은 부품 ID");
 
-        verify(partsRepository, never()).findById(any());
+        verify(partsRepository, never()).findStockById(any());
     }
 
     @Test
@@ -159,7 +212,7 @@ class PartsServiceSimpleTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("요청 수량은 0보다 커야 합니다");
 
-        verify(partsRepository, never()).findById(any());
+        verify(partsRepository, never()).findStockById(any());
     }
 
     @Test
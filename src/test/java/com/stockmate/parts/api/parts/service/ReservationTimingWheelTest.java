@@ -0,0 +1,74 @@
+package com.stockmate.parts.api.parts.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReservationTimingWheel 테스트")
+class ReservationTimingWheelTest {
+
+    private static final long TICK = 100L;
+
+    @Test
+    @DisplayName("가용 재고를 넘는 확보는 거절되고 확보 수량은 부품별로 합산된다")
+    void tryHoldRespectsAvailableToPromise() {
+        // given
+        ReservationTimingWheel wheel = new ReservationTimingWheel(TICK, 16, 0L);
+
+        // when
+        Long first = wheel.tryHold("a", Map.of(1L, 6), 1_000L, partId -> 10);
+        Long second = wheel.tryHold("b", Map.of(1L, 5), 1_000L, partId -> 10);
+        Long third = wheel.tryHold("c", Map.of(1L, 4), 1_000L, partId -> 10);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isEqualTo(1L);
+        assertThat(third).isNull();
+        assertThat(wheel.heldQuantity(1L)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 확보만 advance 에서 빠진다")
+    void advanceExpiresOnlyDueHolds() {
+        // given
+        ReservationTimingWheel wheel = new ReservationTimingWheel(TICK, 8, 0L);
+        wheel.restore("soon", Map.of(1L, 3), 250L);
+        wheel.restore("later", Map.of(1L, 2), 2_050L); // 휠 한 바퀴(800ms) 이상 뒤
+
+        // when
+        List<String> beforeDue = wheel.advance(200L);
+        List<String> firstDue = wheel.advance(1_000L);
+        int heldAfterFirst = wheel.heldQuantity(1L);
+        List<String> secondDue = wheel.advance(2_100L);
+
+        // then
+        assertThat(beforeDue).isEmpty();
+        assertThat(firstDue).containsExactly("soon");
+        assertThat(heldAfterFirst).isEqualTo(2);
+        assertThat(secondDue).containsExactly("later");
+        assertThat(wheel.heldQuantity(1L)).isZero();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("확정/해제로 제거된 확보는 만료 대상에서 빠진다")
+    void removedHoldIsNotExpired() {
+        // given
+        ReservationTimingWheel wheel = new ReservationTimingWheel(TICK, 8, 0L);
+        wheel.restore("a", Map.of(1L, 3, 2L, 1), 300L);
+
+        // when
+        Map<Long, Integer> removed = wheel.remove("a");
+        List<String> expired = wheel.advance(1_000L);
+
+        // then
+        assertThat(removed).containsEntry(1L, 3).containsEntry(2L, 1);
+        assertThat(expired).isEmpty();
+        assertThat(wheel.heldQuantity(1L)).isZero();
+        assertThat(wheel.remove("a")).isNull();
+    }
+}
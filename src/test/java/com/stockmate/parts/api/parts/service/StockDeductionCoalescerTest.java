@@ -0,0 +1,179 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
+import com.stockmate.parts.api.parts.dto.parts.StockDeductionRequestDto;
+import com.stockmate.parts.api.parts.dto.parts.StockReservationRequestDto;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.api.parts.repository.StockReservationRepository;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@DataJpaTest(properties = "parts.deduction.coalescing.window-ms=10")
+@Import({StockDeductionCoalescer.class, StockReservationService.class, InventoryLedgerWriter.class, InventoryEventOutbox.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 배치 트랜잭션이 실제로 커밋되어야 함
+@ActiveProfiles("test")
+@DisplayName("StockDeductionCoalescer 동시 차감 테스트")
+class StockDeductionCoalescerTest {
+
+    private static final int INITIAL_AMOUNT = 30;
+
+    @Autowired
+    private StockDeductionCoalescer stockDeductionCoalescer;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private PartsRepository partsRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    private Long hotPartId;
+    private Long otherPartId;
+
+    @BeforeEach
+    void setUp() {
+        hotPartId = partsRepository.save(part("인기부품", INITIAL_AMOUNT)).getId();
+        otherPartId = partsRepository.save(part("일반부품", 100)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAll();
+        partsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 부품에 몰린 동시 차감은 재고만큼만 성공하고 나머지는 각자 실패를 받는다")
+    void concurrentDeductionsOnHotPart() throws Exception {
+        // given
+        int orders = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // when
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            long orderId = i;
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                try {
+                    stockDeductionCoalescer.deduct(request(orderId, hotPartId, 1));
+                    return true;
+                } catch (BadRequestException e) {
+                    return false;
+                }
+            }));
+        }
+        startGate.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        pool.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(INITIAL_AMOUNT);
+        assertThat(partsRepository.findById(hotPartId).orElseThrow().getAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 부품 주문은 하나라도 부족하면 전체가 반영되지 않는다")
+    void multiItemOrderIsAtomic() {
+        // given
+        StockDeductionRequestDto request = StockDeductionRequestDto.builder()
+                .orderId(1L)
+                .orderNumber("SO-1")
+                .items(List.of(
+                        new StockDeductionRequestDto.StockDeductionItem(otherPartId, 10),
+                        new StockDeductionRequestDto.StockDeductionItem(hotPartId, INITIAL_AMOUNT + 1)))
+                .build();
+
+        // when
+        Throwable thrown = catchThrowable(() -> stockDeductionCoalescer.deduct(request));
+
+        // then
+        assertThat(thrown).isInstanceOf(BadRequestException.class);
+        assertThat(partsRepository.findById(otherPartId).orElseThrow().getAmount()).isEqualTo(100);
+        assertThat(partsRepository.findById(hotPartId).orElseThrow().getAmount()).isEqualTo(INITIAL_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("다른 주문이 확보 중인 재고는 차감할 수 없다")
+    void deductionCannotConsumeHeldStock() {
+        // given - 30개 중 25개를 다른 주문이 확보
+        String token = stockReservationService.reserve(StockReservationRequestDto.builder()
+                .orderId(100L)
+                .items(List.of(new StockReservationRequestDto.ReservationItem(hotPartId, 25)))
+                .build()).getReservationToken();
+
+        // when
+        Throwable thrown = catchThrowable(() -> stockDeductionCoalescer.deduct(request(1L, hotPartId, 10)));
+        stockDeductionCoalescer.deduct(request(2L, hotPartId, 5));
+
+        // then
+        assertThat(thrown).isInstanceOf(BadRequestException.class).hasMessageContaining("가용 재고가 부족합니다");
+        assertThat(partsRepository.findById(hotPartId).orElseThrow().getAmount()).isEqualTo(INITIAL_AMOUNT - 5);
+        stockReservationService.release(token);
+    }
+
+    @Test
+    @DisplayName("스트라이프 대기열이 가득 차면 차감하지 않고 503 으로 거절한다")
+    void rejectsWhenStripeQueueIsFull() {
+        // given
+        ReflectionTestUtils.setField(stockDeductionCoalescer, "maxPending", 0);
+
+        // when
+        Throwable thrown;
+        try {
+            thrown = catchThrowable(() -> stockDeductionCoalescer.deduct(request(1L, hotPartId, 1)));
+        } finally {
+            ReflectionTestUtils.setField(stockDeductionCoalescer, "maxPending", 1024);
+        }
+
+        // then
+        assertThat(thrown).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(partsRepository.findById(hotPartId).orElseThrow().getAmount()).isEqualTo(INITIAL_AMOUNT);
+    }
+
+    private static StockDeductionRequestDto request(long orderId, Long partId, int amount) {
+        return StockDeductionRequestDto.builder()
+                .orderId(orderId)
+                .orderNumber("SO-" + orderId)
+                .items(List.of(new StockDeductionRequestDto.StockDeductionItem(partId, amount)))
+                .build();
+    }
+
+    private static Parts part(String name, int amount) {
+        Parts part = new Parts();
+        part.setName(name);
+        part.setAmount(amount);
+        return part;
+    }
+}
@@ -0,0 +1,166 @@
+package com.stockmate.parts.api.parts.service;
+
+import com.stockmate.parts.api.ledger.service.InventoryLedgerWriter;
+import com.stockmate.parts.api.parts.dto.store.ReleasedItemDTO;
+import com.stockmate.parts.api.parts.dto.store.StockReleaseRequestDTO;
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.entity.StoreInventory;
+import com.stockmate.parts.common.exception.BadRequestException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({StoreReleaseEngine.class, InventoryLedgerWriter.class, InventoryEventOutbox.class})
+@ActiveProfiles("test")
+@DisplayName("StoreReleaseEngine 일괄 출고 테스트")
+class StoreReleaseEngineTest {
+
+    private static final long STORE_ID = 7L;
+    private static final int PART_COUNT = 50;
+
+    @Autowired
+    private StoreReleaseEngine storeReleaseEngine;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> partIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PART_COUNT; i++) {
+            Parts part = new Parts();
+            part.setName("부품" + i);
+            part.setKorName("필터" + i);
+            part.setPrice(10000L);
+            part.setCost(5000L);
+            part.setAmount(100);
+            part.setCategory(1);
+            part.setCategoryName("엔진부품");
+            part.setCode("PART-" + i);
+            entityManager.persist(part);
+            partIds.add(part.getId());
+
+            entityManager.persist(StoreInventory.builder()
+                    .part(part)
+                    .userId(STORE_ID)
+                    .amount(10)
+                    .limitAmount(1)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("품목 수와 무관하게 조회 1회로 검증하고 부품 지연 로딩 없이 차감한다")
+    void releaseManyItemsWithSingleQuery() {
+        // given
+        List<StockReleaseRequestDTO.StockReleaseItem> items = new ArrayList<>();
+        for (Long partId : partIds) {
+            items.add(new StockReleaseRequestDTO.StockReleaseItem(partId, 3));
+        }
+
+        // when
+        List<ReleasedItemDTO> released = storeReleaseEngine.release(STORE_ID, items);
+
+        // then
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(released).hasSize(PART_COUNT);
+        assertThat(released).allMatch(item -> item.getRemainingQuantity() == 7 && item.getPartCode() != null);
+        assertThat(amountOf(partIds.get(0))).isEqualTo(7);
+        assertThat(amountOf(partIds.get(PART_COUNT - 1))).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 부품이 여러 번 요청되면 합산해 검증하고 품목별 남은 재고를 누적 차감으로 돌려준다")
+    void duplicatePartsAreAggregated() {
+        // given
+        Long partId = partIds.get(0);
+        List<StockReleaseRequestDTO.StockReleaseItem> items = List.of(
+                new StockReleaseRequestDTO.StockReleaseItem(partId, 4),
+                new StockReleaseRequestDTO.StockReleaseItem(partId, 5));
+
+        // when
+        List<ReleasedItemDTO> released = storeReleaseEngine.release(STORE_ID, items);
+
+        // then
+        assertThat(released).extracting(ReleasedItemDTO::getRemainingQuantity).containsExactly(6, 1);
+        assertThat(amountOf(partId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하나라도 재고가 부족하면 아무 품목도 차감하지 않는다")
+    void insufficientStockReleasesNothing() {
+        // given
+        List<StockReleaseRequestDTO.StockReleaseItem> items = List.of(
+                new StockReleaseRequestDTO.StockReleaseItem(partIds.get(0), 3),
+                new StockReleaseRequestDTO.StockReleaseItem(partIds.get(1), 6),
+                new StockReleaseRequestDTO.StockReleaseItem(partIds.get(1), 6));
+
+        // when & then
+        assertThatThrownBy(() -> storeReleaseEngine.release(STORE_ID, items))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("재고가 부족합니다");
+        assertThat(amountOf(partIds.get(0))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("가맹점에 없는 부품이 포함되면 BadRequestException")
+    void missingInventory() {
+        // given
+        List<StockReleaseRequestDTO.StockReleaseItem> items = List.of(
+                new StockReleaseRequestDTO.StockReleaseItem(partIds.get(0), 1),
+                new StockReleaseRequestDTO.StockReleaseItem(-1L, 1));
+
+        // when & then
+        assertThatThrownBy(() -> storeReleaseEngine.release(STORE_ID, items))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("재고가 없습니다");
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 요청이 먼저 변경했으면 OptimisticLockingFailureException (재시도 대상)")
+    void concurrentChangeIsDetected() {
+        // given - 영속성 컨텍스트에 이전 version 을 올려 둔 뒤 다른 트랜잭션이 변경한 상황 재현
+        Long partId = partIds.get(0);
+        entityManager.createQuery("select si from StoreInventory si where si.part.id = :partId", StoreInventory.class)
+                .setParameter("partId", partId)
+                .getSingleResult();
+        jdbcTemplate.update("update store_inventory set amount = amount - 1, version = version + 1 where part_id = ?", partId);
+
+        // when & then
+        assertThatThrownBy(() -> storeReleaseEngine.release(STORE_ID,
+                List.of(new StockReleaseRequestDTO.StockReleaseItem(partId, 1))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    private int amountOf(Long partId) {
+        return jdbcTemplate.queryForObject(
+                "select amount from store_inventory where part_id = ? and user_id = ?", Integer.class, partId, STORE_ID);
+    }
+}
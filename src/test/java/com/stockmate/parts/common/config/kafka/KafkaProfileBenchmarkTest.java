@@ -0,0 +1,147 @@
+package com.stockmate.parts.common.config.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 튜닝 프로파일별 처리량/지연 비교 (임베디드 브로커)
+ * 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DisplayName("Kafka 튜닝 프로파일 벤치마크")
+class KafkaProfileBenchmarkTest {
+
+    private static final int MESSAGES = 50_000;
+    private static final int LATENCY_SAMPLES = 300;
+    private static final int PARTITIONS = 3;
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS,
+                "bench-throughput", "bench-latency", "bench-latency-probe-throughput", "bench-latency-probe-latency");
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("LATENCY 프로파일의 단건 동기 전송 지연이 THROUGHPUT 프로파일보다 짧다")
+    void compareProfiles(TestReporter testReporter) {
+        // given
+        byte[] payload = samplePayload();
+
+        // when
+        Result throughput = run(KafkaTuningProfile.THROUGHPUT, "bench-throughput", payload);
+        Result latency = run(KafkaTuningProfile.LATENCY, "bench-latency", payload);
+
+        // then
+        testReporter.publishEntry(throughput.profile().name(), throughput.toString());
+        testReporter.publishEntry(latency.profile().name(), latency.toString());
+        assertThat(throughput.consumed()).isEqualTo(MESSAGES);
+        assertThat(latency.consumed()).isEqualTo(MESSAGES);
+        // LATENCY 는 linger 0 이라 단건 동기 전송이 THROUGHPUT(linger 20ms) 보다 빨라야 함
+        assertThat(latency.sendP50Micros())
+                .as("%s / %s", throughput, latency)
+                .isLessThan(throughput.sendP50Micros());
+    }
+
+    private Result run(KafkaTuningProfile profile, String topic, byte[] payload) {
+        Map<String, Object> producerProps = new HashMap<>(profile.producerProperties());
+        producerProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        long produceNanos;
+        double p50Micros;
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(producerProps)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                producer.send(new ProducerRecord<>(topic, String.valueOf(i % 2_000), payload));
+            }
+            producer.flush();
+            produceNanos = System.nanoTime() - start;
+
+            // 단건 동기 전송 지연 (주문 승인처럼 응답을 기다리는 흐름)
+            String probeTopic = "bench-latency-probe-" + profile.name().toLowerCase();
+            long[] samples = new long[LATENCY_SAMPLES];
+            for (int i = 0; i < LATENCY_SAMPLES; i++) {
+                long sendStart = System.nanoTime();
+                producer.send(new ProducerRecord<>(probeTopic, "probe", payload)).get(10, TimeUnit.SECONDS);
+                samples[i] = System.nanoTime() - sendStart;
+            }
+            Arrays.sort(samples);
+            p50Micros = samples[LATENCY_SAMPLES / 2] / 1_000.0;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        Map<String, Object> consumerProps = new HashMap<>(profile.consumerProperties());
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, "bench-" + profile.name());
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        int consumed = 0;
+        long consumeNanos;
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps)) {
+            consumer.subscribe(List.of(topic));
+            long start = System.nanoTime();
+            long deadline = start + TimeUnit.SECONDS.toNanos(60);
+            while (consumed < MESSAGES && System.nanoTime() < deadline) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(200));
+                consumed += records.count();
+            }
+            consumeNanos = System.nanoTime() - start;
+        }
+
+        return new Result(profile, consumed,
+                MESSAGES * 1e9 / produceNanos, consumed * 1e9 / consumeNanos, p50Micros);
+    }
+
+    // 재고 변경 이벤트 크기의 JSON
+    private static byte[] samplePayload() {
+        return """
+                {"eventId":123456,"storeId":42,"partId":1024,"amount":37,"delta":-3,"type":"RELEASE",\
+                "reference":"order:98765","occurredAt":"2025-01-01T12:34:56.789"}""".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Result(KafkaTuningProfile profile, int consumed,
+                          double produceRate, double consumeRate, double sendP50Micros) {
+        @Override
+        public String toString() {
+            return String.format("%-10s produce=%,.0f msg/s, consume=%,.0f msg/s, sync send p50=%,.0fμs",
+                    profile, produceRate, consumeRate, sendP50Micros);
+        }
+    }
+}
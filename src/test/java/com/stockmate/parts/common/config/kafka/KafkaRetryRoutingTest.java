@@ -0,0 +1,202 @@
+package com.stockmate.parts.common.config.kafka;
+
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 재시도 토픽 / DLT 라우팅 (임베디드 브로커)
+ * 브로커 자동 토픽 생성을 꺼서, 재시도/DLT 토픽을 설정에서 직접 선언하지 않으면 실패하게 한다.
+ */
+@SpringJUnitConfig({KafkaConfig.class, KafkaRetryRoutingTest.TestConfig.class})
+@EmbeddedKafka(partitions = 1,
+        topics = {KafkaRetryRoutingTest.RETRY_TOPIC, KafkaRetryRoutingTest.BLOCKING_TOPIC},
+        brokerProperties = "auto.create.topics.enable=false")
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "parts.kafka.listener.concurrency=1",
+        "parts.kafka.retry.max-attempts=3",
+        "parts.kafka.retry.initial-interval-ms=500",
+        "parts.kafka.retry.multiplier=2.0",
+        "parts.kafka.retry.max-interval-ms=1000",
+        "parts.kafka.retry.topic-partitions=1",
+        "parts.kafka.retry.exclude-topics=" + KafkaRetryRoutingTest.BLOCKING_TOPIC
+})
+@DisplayName("Kafka 재시도/DLT 라우팅 테스트")
+class KafkaRetryRoutingTest {
+
+    static final String RETRY_TOPIC = "routing-test";
+    static final String BLOCKING_TOPIC = "blocking-routing-test";
+    private static final String POISON_KEY = "poison";
+    private static final List<String> HEALTHY_KEYS = List.of("ok-1", "ok-2", "ok-3");
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @BeforeEach
+    void waitForAssignment() {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("한 키만 계속 실패하면 재시도 토픽을 거쳐 DLT 로 가고, 그동안 같은 파티션의 정상 메시지는 막히지 않는다")
+    void failingRecordGoesThroughRetryTopicsToDlt() throws Exception {
+        // given - 같은 파티션에 실패 메시지를 먼저, 정상 메시지를 뒤에
+        send(RETRY_TOPIC, POISON_KEY);
+        for (String key : HEALTHY_KEYS) {
+            send(RETRY_TOPIC, key);
+        }
+
+        // when
+        ConsumerRecord<String, byte[]> dead = readSingle(RETRY_TOPIC + KafkaConfig.DLT_SUFFIX);
+
+        // then - 최초 + 재시도 토픽 2개에서 처리 시도
+        List<String> attempts = listener.topicsOf(RETRY_TOPIC, POISON_KEY);
+        assertThat(dead.key()).isEqualTo(POISON_KEY);
+        assertThat(attempts).hasSize(3);
+        assertThat(attempts.get(0)).isEqualTo(RETRY_TOPIC);
+        assertThat(attempts.subList(1, 3)).allMatch(topic -> topic.startsWith(RETRY_TOPIC + KafkaConfig.RETRY_TOPIC_SUFFIX));
+        // 정상 메시지는 첫 재시도보다 먼저 처리됨 (실패 메시지 재시도를 기다리지 않음)
+        List<String> events = listener.events(RETRY_TOPIC);
+        int firstRetry = events.indexOf(attempts.get(1) + ":" + POISON_KEY);
+        for (String key : HEALTHY_KEYS) {
+            assertThat(events.indexOf(RETRY_TOPIC + ":" + key)).isBetween(0, firstRetry);
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 토픽에서 제외된 토픽은 블로킹 재시도 후 선언된 DLT 로 보내고 다음 메시지를 처리한다")
+    void excludedTopicFallsBackToBlockingRetryAndDlt() throws Exception {
+        // given
+        send(BLOCKING_TOPIC, POISON_KEY);
+        send(BLOCKING_TOPIC, HEALTHY_KEYS.get(0));
+
+        // when
+        ConsumerRecord<String, byte[]> dead = readSingle(BLOCKING_TOPIC + KafkaConfig.DLT_SUFFIX);
+
+        // then
+        assertThat(dead.key()).isEqualTo(POISON_KEY);
+        assertThat(listener.topicsOf(BLOCKING_TOPIC, POISON_KEY)).hasSizeGreaterThan(1).containsOnly(BLOCKING_TOPIC);
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> listener.events(BLOCKING_TOPIC).contains(BLOCKING_TOPIC + ":" + HEALTHY_KEYS.get(0)));
+    }
+
+    private void send(String topic, String key) throws Exception {
+        kafkaTemplate.send(topic, key, "payload-" + key).get(10, TimeUnit.SECONDS);
+    }
+
+    private ConsumerRecord<String, byte[]> readSingle(String topic) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("routing-test-verifier-" + topic, "false", broker);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<String, byte[]>(props).createConsumer()) {
+            return KafkaTestUtils.getSingleRecord(consumer, topic, Duration.ofSeconds(30));
+        }
+    }
+
+    // 키가 poison 이면 항상 실패하는 리스너, 처리 시도를 "토픽:키" 순서대로 기록
+    static class RecordingListener {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @KafkaListener(topics = RETRY_TOPIC, groupId = "routing-test")
+        void onRetryTopic(ConsumerRecord<String, Object> record, Acknowledgment ack) {
+            handle(record, ack);
+        }
+
+        @KafkaListener(topics = BLOCKING_TOPIC, groupId = "blocking-routing-test")
+        void onBlockingTopic(ConsumerRecord<String, Object> record, Acknowledgment ack) {
+            handle(record, ack);
+        }
+
+        private void handle(ConsumerRecord<String, Object> record, Acknowledgment ack) {
+            events.add(record.topic() + ":" + record.key());
+            if (POISON_KEY.equals(record.key())) {
+                throw new IllegalStateException("처리 실패 - " + record.key());
+            }
+            ack.acknowledge();
+        }
+
+        List<String> events(String topicPrefix) {
+            synchronized (events) {
+                return events.stream().filter(event -> event.startsWith(topicPrefix)).toList();
+            }
+        }
+
+        List<String> topicsOf(String topicPrefix, String key) {
+            return events(topicPrefix).stream()
+                    .filter(event -> event.endsWith(":" + key))
+                    .map(event -> event.substring(0, event.length() - key.length() - 1))
+                    .toList();
+        }
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        // 스프링 부트 자동 설정 대신 (NewTopic 빈으로 재시도/DLT 토픽 생성)
+        @Bean
+        KafkaAdmin kafkaAdmin(@Value("${spring.embedded.kafka.brokers}") String brokers) {
+            return new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, brokers));
+        }
+
+        // 재시도 토픽 지연 처리용
+        @Bean
+        TaskScheduler taskScheduler() {
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.setPoolSize(2);
+            return scheduler;
+        }
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
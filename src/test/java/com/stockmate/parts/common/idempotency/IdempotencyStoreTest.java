@@ -0,0 +1,231 @@
+package com.stockmate.parts.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.parts.common.exception.BadRequestException;
+import com.stockmate.parts.common.exception.ConflictException;
+import com.stockmate.parts.common.exception.InternalServerException;
+import com.stockmate.parts.common.response.ErrorStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 키 선점이 실제로 커밋되어 다른 스레드/인스턴스에 보여야 함
+@ActiveProfiles("test")
+@DisplayName("IdempotencyStore 테스트")
+class IdempotencyStoreTest {
+
+    private static final Map<String, Object> BODY = Map.of("orderId", 7L, "amount", 3);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = newStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from idempotency_record");
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 작업을 다시 실행하지 않고 첫 응답을 반환한다")
+    void duplicateReturnsFirstResponse() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        String first = idempotencyStore.execute("deduct-stock", "key-1", BODY, String.class, () -> "응답-" + executions.incrementAndGet());
+        String second = idempotencyStore.execute("deduct-stock", "key-1", BODY, String.class, () -> "응답-" + executions.incrementAndGet());
+        String otherScope = idempotencyStore.execute("store-release:1", "key-1", BODY, String.class, () -> "응답-" + executions.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo(first).isEqualTo("응답-1");
+        assertThat(otherScope).isEqualTo("응답-2");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 요청은 한 번만 처리되고 모두 같은 결과를 받는다")
+    void concurrentDuplicatesExecuteOnce() throws Exception {
+        // given
+        int threads = 16;
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // when
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                return idempotencyStore.execute("deduct-stock", "order-7", BODY, Integer.class, () -> {
+                    sleep(50);
+                    return executions.incrementAndGet();
+                });
+            }));
+        }
+        startGate.countDown();
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(results).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 재시도할 수 있다")
+    void failureIsNotCached() {
+        // when
+        assertThatThrownBy(() -> idempotencyStore.execute("deduct-stock", "key-2", BODY, String.class, () -> {
+            throw new BadRequestException("재고가 부족합니다.");
+        })).isInstanceOf(BadRequestException.class);
+        String retried = idempotencyStore.execute("deduct-stock", "key-2", BODY, String.class, () -> "성공");
+
+        // then
+        assertThat(retried).isEqualTo("성공");
+    }
+
+    @Test
+    @DisplayName("반영 여부를 알 수 없는 실패는 키를 남겨 같은 키 재요청이 다시 실행되지 않는다")
+    void inDoubtFailureKeepsKey() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        assertThatThrownBy(() -> idempotencyStore.execute("deduct-stock", "key-4", BODY, Integer.class, () -> {
+            executions.incrementAndGet();
+            throw new InternalServerException("재고 차감 처리 중 오류가 발생했습니다.");
+        })).isInstanceOf(InternalServerException.class);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.execute("deduct-stock", "key-4", BODY, Integer.class, executions::incrementAndGet))
+                .isInstanceOf(ConflictException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 요청 본문이 오면 첫 응답을 재사용하지 않고 거절한다")
+    void differentBodyIsRejected() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyStore.execute("deduct-stock", "key-5", BODY, Integer.class, executions::incrementAndGet);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.execute("deduct-stock", "key-5",
+                Map.of("orderId", 7L, "amount", 4), Integer.class, executions::incrementAndGet))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백이 확실한 실패(낙관적 락 재시도 소진, 락 충돌)는 키를 풀어 같은 키로 재시도할 수 있다")
+    void rolledBackFailureReleasesKey() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.execute("store-release:1", "key-6", BODY, String.class, () -> {
+            throw new ConflictException(ErrorStatus.STOCK_CONCURRENT_UPDATE_EXCEPTION.getMessage());
+        })).isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> idempotencyStore.execute("store-release:1", "key-7", BODY, String.class, () -> {
+            throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        // when
+        String conflictRetried = idempotencyStore.execute("store-release:1", "key-6", BODY, String.class, () -> "성공");
+        String lockRetried = idempotencyStore.execute("store-release:1", "key-7", BODY, String.class, () -> "성공");
+
+        // then
+        assertThat(conflictRetried).isEqualTo("성공");
+        assertThat(lockRetried).isEqualTo("성공");
+    }
+
+    @Test
+    @DisplayName("차감 결과 미확정(409) 실패는 롤백으로 보지 않고 키를 유지한다")
+    void inDoubtConflictKeepsKey() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.execute("deduct-stock", "key-8", BODY, String.class, () -> {
+            throw new ConflictException(ErrorStatus.STOCK_DEDUCTION_IN_DOUBT_EXCEPTION.getMessage());
+        })).isInstanceOf(ConflictException.class);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.execute("deduct-stock", "key-8", BODY, String.class, () -> "성공"))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage(ErrorStatus.IDEMPOTENT_REQUEST_IN_DOUBT_EXCEPTION.getMessage());
+    }
+
+    @Test
+    @DisplayName("키는 DB 에 있으므로 다른 인스턴스로 간 재요청도 첫 응답을 받는다")
+    void keyIsSharedAcrossInstances() {
+        // given
+        IdempotencyStore otherInstance = newStore();
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyStore.execute("deduct-stock", "key-9", BODY, Integer.class, executions::incrementAndGet);
+
+        // when
+        Integer replayed = otherInstance.execute("deduct-stock", "key-9", BODY, Integer.class, executions::incrementAndGet);
+
+        // then
+        assertThat(replayed).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 키는 정리되고 다시 처리된다")
+    void expiredKeyIsEvicted() {
+        // given
+        ReflectionTestUtils.setField(idempotencyStore, "ttlMinutes", 0L);
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyStore.execute("deduct-stock", "key-3", BODY, Integer.class, executions::incrementAndGet);
+        sleep(5);
+
+        // when
+        idempotencyStore.evictExpired();
+        idempotencyStore.execute("deduct-stock", "key-3", BODY, Integer.class, executions::incrementAndGet);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private IdempotencyStore newStore() {
+        IdempotencyStore store = new IdempotencyStore(new ObjectMapper(), jdbcTemplate);
+        ReflectionTestUtils.setField(store, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(store, "waitMs", 5000L);
+        ReflectionTestUtils.setField(store, "pollIntervalMs", 10L);
+        return store;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.stockmate.parts.common.kafka;
+
+import com.stockmate.parts.api.parts.dto.InventoryChangedEvent;
+import com.stockmate.parts.api.parts.dto.ReceivingProcessRequestEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON(타입 헤더) 대비 컴팩트 바이너리 페이로드 크기 / 직렬화·역직렬화 비용 비교
+ * 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DisplayName("컴팩트 이벤트 직렬화 벤치마크")
+class CompactEventSerializationBenchmarkTest {
+
+    private static final String TOPIC = "bench";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("재고 변경 이벤트: 바이너리가 JSON 보다 작고 빠르다")
+    void inventoryChangedEvent(TestReporter testReporter) {
+        InventoryChangedEvent event = InventoryChangedEvent.builder()
+                .eventId(1_234_567L).storeId(42L).partId(98_765L).amount(120).delta(-3)
+                .type("DEDUCT").reference("SO-20240501-00017")
+                .occurredAt(LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000))
+                .build();
+
+        Result json = run("json", jsonSerializer(), jsonDeserializer(), event);
+        Result compact = run("compact", compactSerializer(), compactDeserializer(), event);
+        testReporter.publishEntry(json.name(), json.toString());
+        testReporter.publishEntry(compact.name(), compact.toString());
+        assertThat(compact.payloadBytes()).as("%s / %s", json, compact).isLessThan(json.payloadBytes() / 2);
+        assertThat(compact.serNanos() + compact.deNanos()).as("%s / %s", json, compact)
+                .isLessThan(json.serNanos() + json.deNanos());
+    }
+
+    @Test
+    @DisplayName("입고 요청 이벤트 (품목 50개): 바이너리가 JSON 보다 작고 빠르다")
+    void receivingRequestEvent(TestReporter testReporter) {
+        List<ReceivingProcessRequestEvent.ReceivingItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            items.add(new ReceivingProcessRequestEvent.ReceivingItemDTO(10_000L + i * 17, 1 + i % 9));
+        }
+        ReceivingProcessRequestEvent event = ReceivingProcessRequestEvent.builder()
+                .orderId(77_001L).orderNumber("SO-20240501-00017")
+                .approvalAttemptId("3f1c9a2e-8b7d-4f21-9c1a-2d5e6f7a8b9c").memberId(42L)
+                .items(items)
+                .build();
+
+        Result json = run("json", jsonSerializer(), jsonDeserializer(), event);
+        Result compact = run("compact", compactSerializer(), compactDeserializer(), event);
+        testReporter.publishEntry(json.name(), json.toString());
+        testReporter.publishEntry(compact.name(), compact.toString());
+        assertThat(compact.payloadBytes()).as("%s / %s", json, compact).isLessThan(json.payloadBytes() / 2);
+        assertThat(compact.serNanos() + compact.deNanos()).as("%s / %s", json, compact)
+                .isLessThan(json.serNanos() + json.deNanos());
+    }
+
+    private static Result run(String name, Serializer<Object> serializer, Deserializer<Object> deserializer, Object event) {
+        // JSON 은 타입 헤더를 함께 보내므로 헤더 크기도 페이로드에 포함
+        RecordHeaders sampleHeaders = new RecordHeaders();
+        byte[] sample = serializer.serialize(TOPIC, sampleHeaders, event);
+        int headerBytes = 0;
+        for (var header : sampleHeaders) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP; i++) { // 워밍업 (JIT)
+            RecordHeaders headers = new RecordHeaders();
+            checksum += deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, headers, event)).hashCode() & 1;
+        }
+
+        RecordHeaders[] headers = new RecordHeaders[ITERATIONS];
+        byte[][] encoded = new byte[ITERATIONS][];
+        long allocatedBefore = threadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            headers[i] = new RecordHeaders();
+            encoded[i] = serializer.serialize(TOPIC, headers[i], event);
+        }
+        long serNanos = System.nanoTime() - start;
+        long serAllocated = threadAllocatedBytes() - allocatedBefore;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += deserializer.deserialize(TOPIC, headers[i], encoded[i]).hashCode() & 1;
+        }
+        long deNanos = System.nanoTime() - start;
+
+        assertThat(checksum).isGreaterThanOrEqualTo(0);
+        return new Result(name, sample.length + headerBytes, serNanos / ITERATIONS, deNanos / ITERATIONS,
+                serAllocated / ITERATIONS);
+    }
+
+    private static Serializer<Object> jsonSerializer() {
+        JsonSerializer<Object> serializer = new JsonSerializer<>();
+        serializer.configure(Map.of(), false);
+        return serializer;
+    }
+
+    private static Deserializer<Object> jsonDeserializer() {
+        JsonDeserializer<Object> deserializer = new JsonDeserializer<>();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        return deserializer;
+    }
+
+    private static Serializer<Object> compactSerializer() {
+        CompactEventSerializer serializer = new CompactEventSerializer();
+        serializer.configure(Map.of(CompactEventSerializer.ENABLED_TYPES, "*"), false);
+        return serializer;
+    }
+
+    private static Deserializer<Object> compactDeserializer() {
+        CompactEventDeserializer deserializer = new CompactEventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+        return deserializer;
+    }
+
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+
+    private record Result(String name, int payloadBytes, long serNanos, long deNanos, long serAllocatedBytes) {
+        @Override
+        public String toString() {
+            return String.format("%-7s payload=%,dB (헤더 포함), ser=%,dns/op, de=%,dns/op, serAlloc=%,dB/op",
+                    name, payloadBytes, serNanos, deNanos, serAllocatedBytes);
+        }
+    }
+}
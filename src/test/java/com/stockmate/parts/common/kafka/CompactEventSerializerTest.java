@@ -0,0 +1,205 @@
+package com.stockmate.parts.common.kafka;
+
+import com.stockmate.parts.api.parts.dto.InventoryChangedEvent;
+import com.stockmate.parts.api.parts.dto.ReceivingProcessFailedEvent;
+import com.stockmate.parts.api.parts.dto.ReceivingProcessRequestEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactEventSerializer 테스트")
+class CompactEventSerializerTest {
+
+    private static final String TOPIC = "parts.inventory-changed";
+
+    private CompactEventSerializer serializer;
+    private CompactEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new CompactEventSerializer();
+        serializer.configure(Map.of(CompactEventSerializer.ENABLED_TYPES, InventoryChangedEvent.class.getSimpleName()), false);
+        deserializer = new CompactEventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+    }
+
+    @Test
+    @DisplayName("재고 변경 이벤트는 바이너리로 직렬화되고 그대로 복원된다")
+    void inventoryChangedRoundTrip() {
+        // given
+        InventoryChangedEvent event = InventoryChangedEvent.builder()
+                .eventId(123_456L).storeId(0L).partId(987L).amount(12).delta(-3)
+                .type("DEDUCT").reference("주문-2024-0001 🚚")
+                .occurredAt(LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_000_000))
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] bytes = serializer.serialize(TOPIC, headers, event);
+        InventoryChangedEvent decoded = (InventoryChangedEvent) deserializer.deserialize(TOPIC, headers, bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactEventSerializer.MAGIC);
+        assertThat(headers.toArray()).isEmpty(); // JSON 타입 헤더를 붙이지 않는다
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("null 필드도 보존된다")
+    void nullFieldsRoundTrip() {
+        // given
+        InventoryChangedEvent event = InventoryChangedEvent.builder().partId(1L).delta(-1).build();
+
+        // when
+        Object decoded = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event));
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("활성화하지 않은 타입은 JSON 으로 보내고 역직렬화기가 JSON 으로 복원한다")
+    void disabledTypeFallsBackToJson() {
+        // given
+        ReceivingProcessRequestEvent event = ReceivingProcessRequestEvent.builder()
+                .orderId(1L).orderNumber("SO-1").approvalAttemptId("attempt-1").memberId(7L)
+                .items(List.of(new ReceivingProcessRequestEvent.ReceivingItemDTO(10L, 2)))
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] bytes = serializer.serialize(TOPIC, headers, event);
+        Object decoded = deserializer.deserialize(TOPIC, headers, bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("타입을 설정하지 않으면 재고 변경 이벤트도 JSON 으로 보낸다")
+    void defaultIsJson() {
+        // given
+        CompactEventSerializer defaultSerializer = new CompactEventSerializer();
+        defaultSerializer.configure(Map.of(), false);
+        InventoryChangedEvent event = InventoryChangedEvent.builder().partId(1L).delta(-1).build();
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] bytes = defaultSerializer.serialize(TOPIC, headers, event);
+
+        // then
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(deserializer.deserialize(TOPIC, headers, bytes)).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("전체 활성화 시 입고 요청 이벤트도 바이너리로 보내고 코덱이 없는 타입은 JSON 을 유지한다")
+    void allEnabled() {
+        // given
+        serializer.configure(Map.of(CompactEventSerializer.ENABLED_TYPES, "*"), false);
+        ReceivingProcessRequestEvent request = ReceivingProcessRequestEvent.builder()
+                .orderId(1L).orderNumber("SO-1").memberId(7L)
+                .items(List.of(new ReceivingProcessRequestEvent.ReceivingItemDTO(10L, 2),
+                        new ReceivingProcessRequestEvent.ReceivingItemDTO(11L, 5)))
+                .build();
+        ReceivingProcessFailedEvent failed = ReceivingProcessFailedEvent.builder()
+                .orderId(1L).errorMessage("재고 부족").build();
+
+        // when
+        byte[] requestBytes = serializer.serialize(TOPIC, new RecordHeaders(), request);
+        byte[] failedBytes = serializer.serialize(TOPIC, new RecordHeaders(), failed);
+
+        // then
+        assertThat(requestBytes[0]).isEqualTo(CompactEventSerializer.MAGIC);
+        assertThat(deserializer.deserialize(TOPIC, requestBytes)).usingRecursiveComparison().isEqualTo(request);
+        assertThat(failedBytes[0]).isEqualTo((byte) '{');
+    }
+
+    @Test
+    @DisplayName("지원 버전보다 높은 버전이나 잘린 데이터는 SerializationException")
+    void rejectsUnknownVersionAndTruncated() {
+        // given
+        byte[] bytes = serializer.serialize(TOPIC, InventoryChangedEvent.builder().partId(1L).type("DEDUCT").build());
+        byte[] futureVersion = bytes.clone();
+        futureVersion[2] = 99;
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        // when & then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, futureVersion))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("varint 는 음수/경계값을 그대로 복원한다")
+    void varintBoundaries() {
+        // given
+        BinaryWriter writer = new BinaryWriter(4);
+        long[] values = {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        // when
+        for (long value : values) {
+            writer.writeVarLong(value);
+        }
+        writer.writeNullableLong(Long.MAX_VALUE);
+        writer.writeNullableLong(-5L);
+        writer.writeNullableLong(null);
+        BinaryReader reader = new BinaryReader(writer.toByteArray(), 0);
+
+        // then
+        for (long value : values) {
+            assertThat(reader.readVarLong()).isEqualTo(value);
+        }
+        assertThat(reader.readNullableLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(reader.readNullableLong()).isEqualTo(-5L);
+        assertThat(reader.readNullableLong()).isNull();
+    }
+
+    @Test
+    @DisplayName("int 필드에 int 범위를 넘는 값이 오면 잘라내지 않고 SerializationException")
+    void rejectsIntOverflow() {
+        // given
+        BinaryWriter writer = new BinaryWriter(16);
+        writer.writeNullableLong(Integer.MAX_VALUE + 1L);
+        writer.writeVarLong(Integer.MIN_VALUE - 1L);
+        BinaryReader reader = new BinaryReader(writer.toByteArray(), 0);
+
+        // when & then
+        assertThatThrownBy(reader::readNullableInt).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(reader::readVarInt).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("문자열 길이/품목 개수가 남은 바이트보다 크면 할당하지 않고 SerializationException")
+    void rejectsLengthsBeyondRemainingBytes() {
+        // given - 길이만 크고 본문이 없는 문자열
+        BinaryWriter string = new BinaryWriter(16);
+        string.writeUnsignedVarLong(Integer.MAX_VALUE + 10L);
+        // given - 품목 개수만 크고 품목이 없는 입고 요청
+        BinaryWriter request = new BinaryWriter(16);
+        request.writeNullableLong(1L);
+        request.writeString("SO-1");
+        request.writeString(null);
+        request.writeNullableLong(null);
+        request.writeNullableInt(Integer.MAX_VALUE);
+
+        // when & then
+        assertThatThrownBy(() -> new BinaryReader(string.toByteArray(), 0).readString())
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> new EventCodecs.ReceivingRequestCodec().read(new BinaryReader(request.toByteArray(), 0), 1))
+                .isInstanceOf(SerializationException.class);
+    }
+}
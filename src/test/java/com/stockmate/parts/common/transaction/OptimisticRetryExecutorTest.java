@@ -0,0 +1,123 @@
+package com.stockmate.parts.common.transaction;
+
+import com.stockmate.parts.api.parts.entity.Parts;
+import com.stockmate.parts.api.parts.entity.StoreInventory;
+import com.stockmate.parts.api.parts.repository.PartsRepository;
+import com.stockmate.parts.api.parts.repository.StoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "parts.optimistic-retry.max-attempts=" + OptimisticRetryExecutorTest.MAX_ATTEMPTS)
+@Import(OptimisticRetryExecutor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드별 실제 커밋이 필요
+@ActiveProfiles("test")
+@DisplayName("OptimisticRetryExecutor 동시성 테스트")
+class OptimisticRetryExecutorTest {
+
+    private static final long STORE_ID = 11L;
+    private static final int INITIAL_AMOUNT = 10_000;
+    static final int MAX_ATTEMPTS = 100;
+
+    @Autowired
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private PartsRepository partsRepository;
+
+    private Long partId;
+
+    @BeforeEach
+    void setUp() {
+        Parts part = new Parts();
+        part.setName("경합부품");
+        part.setAmount(0);
+        partId = partsRepository.save(part).getId();
+
+        storeRepository.save(StoreInventory.builder()
+                .part(part)
+                .userId(STORE_ID)
+                .amount(INITIAL_AMOUNT)
+                .limitAmount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeRepository.deleteAll();
+        partsRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 행을 여러 스레드가 동시에 출고해도 갱신 유실 없이 합계가 맞는다")
+    void concurrentReleaseOnSameRow(TestReporter testReporter) throws Exception {
+        // given
+        int threads = 8;
+        int releasesPerThread = 25;
+        int quantity = 3;
+        AtomicInteger attempts = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                for (int i = 0; i < releasesPerThread; i++) {
+                    optimisticRetryExecutor.run("release-test", () -> {
+                        attempts.incrementAndGet();
+                        StoreInventory inventory = storeRepository
+                                .findStoreInventoryByUserIdAndPartId(STORE_ID, partId)
+                                .orElseThrow();
+                        inventory.setAmount(inventory.getAmount() - quantity);
+                    });
+                }
+                return null;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        pool.shutdown();
+
+        // then
+        int releases = threads * releasesPerThread;
+        // 경합 처리량은 환경마다 달라 검증하지 않고 리포트로만 남김
+        testReporter.publishEntry(Map.of(
+                "releases", String.valueOf(releases),
+                "retries", String.valueOf(attempts.get() - releases),
+                "elapsedMs", String.valueOf(elapsedMs),
+                "throughputPerSec", String.format("%.1f", releases * 1000.0 / elapsedMs)));
+        StoreInventory result = storeRepository.findStoreInventoryByUserIdAndPartId(STORE_ID, partId).orElseThrow();
+        assertThat(result.getAmount()).isEqualTo(INITIAL_AMOUNT - releases * quantity);
+        assertThat(result.getVersion()).isEqualTo((long) releases);
+        assertThat(attempts.get()).isBetween(releases, releases * MAX_ATTEMPTS); // 모든 출고가 재시도 한도 안에서 성공
+    }
+}